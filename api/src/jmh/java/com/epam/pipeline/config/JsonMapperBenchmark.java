@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.config;
+
+import com.epam.pipeline.entity.configuration.PipeConfValueVO;
+import com.epam.pipeline.entity.pipeline.PipelineRun;
+import com.epam.pipeline.entity.pipeline.RunInstance;
+import com.epam.pipeline.entity.pipeline.TaskStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Measures {@link JsonMapper} conversions of a {@link PipelineRun} with {@link #parameters} run parameters
+ * to JSON and conversions of run parameters between their map and string representations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JsonMapperBenchmark {
+
+    @Param({"10", "100"})
+    private int parameters;
+
+    private ObjectMapper mapper;
+    private PipelineRun run;
+    private Map<String, PipeConfValueVO> runParameters;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        mapper = new JsonMapper();
+        runParameters = IntStream.range(0, parameters)
+                .boxed()
+                .collect(Collectors.toMap(i -> "param_" + i, i -> new PipeConfValueVO("value_" + i, "string"),
+                    (first, second) -> first, LinkedHashMap::new));
+        run = new PipelineRun();
+        run.setId(1L);
+        run.setPipelineName("pipeline");
+        run.setVersion("draft-1a2b3c4d");
+        run.setStartDate(new Date());
+        run.setStatus(TaskStatus.RUNNING);
+        run.setPodId("pipeline-1");
+        run.setOwner("USER");
+        run.setDockerImage("registry:443/library/centos:latest");
+        run.setActualCmd("sleep infinity");
+        run.setPricePerHour(new BigDecimal("0.1"));
+        final RunInstance instance = new RunInstance();
+        instance.setNodeType("m5.large");
+        instance.setNodeDisk(50);
+        instance.setSpot(true);
+        run.setInstance(instance);
+        run.setTags(IntStream.range(0, parameters / 5)
+                .boxed()
+                .collect(Collectors.toMap(i -> "tag_" + i, i -> "value_" + i)));
+        run.convertParamsToString(runParameters);
+        run.parseParameters();
+    }
+
+    @Benchmark
+    public String serializeRun() throws JsonProcessingException {
+        return mapper.writeValueAsString(run);
+    }
+
+    @Benchmark
+    public PipelineRun convertRunParameters() {
+        final PipelineRun converted = new PipelineRun();
+        converted.convertParamsToString(runParameters);
+        converted.parseParameters();
+        return converted;
+    }
+}
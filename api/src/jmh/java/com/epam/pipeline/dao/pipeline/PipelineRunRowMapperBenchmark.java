@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.dao.pipeline;
+
+import com.epam.pipeline.config.JsonMapper;
+import com.epam.pipeline.dao.pipeline.PipelineRunDao.PipelineRunParameters;
+import com.epam.pipeline.entity.pipeline.CommitStatus;
+import com.epam.pipeline.entity.pipeline.PipelineRun;
+import com.epam.pipeline.entity.pipeline.TaskStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Measures {@link PipelineRunParameters#parsePipelineRun(ResultSet)} on an in-memory run row
+ * with {@link #parameters} run parameters and {@link #tags} run tags.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PipelineRunRowMapperBenchmark {
+
+    @Param({"10", "100"})
+    private int parameters;
+
+    @Param({"0", "20"})
+    private int tags;
+
+    private ResultSet resultSet;
+
+    @Setup
+    public void setUp() {
+        new JsonMapper().init();
+        final Timestamp now = new Timestamp(System.currentTimeMillis());
+        final Map<String, Object> row = new HashMap<>();
+        row.put(PipelineRunParameters.RUN_ID.name(), 1L);
+        row.put(PipelineRunParameters.PIPELINE_ID.name(), 2L);
+        row.put(PipelineRunParameters.PIPELINE_NAME.name(), "pipeline");
+        row.put(PipelineRunParameters.VERSION.name(), "draft-1a2b3c4d");
+        row.put(PipelineRunParameters.START_DATE.name(), now);
+        row.put(PipelineRunParameters.NODE_START_DATE.name(), now);
+        row.put(PipelineRunParameters.PARAMETERS.name(), IntStream.range(0, parameters)
+                .mapToObj(i -> String.format("param_%d=value_%d=string", i, i))
+                .collect(Collectors.joining(PipelineRun.PARAM_DELIMITER)));
+        row.put(PipelineRunParameters.STATUS.name(), TaskStatus.RUNNING.getId());
+        row.put(PipelineRunParameters.COMMIT_STATUS.name(), CommitStatus.NOT_COMMITTED.getId());
+        row.put(PipelineRunParameters.LAST_CHANGE_COMMIT_TIME.name(), now);
+        row.put(PipelineRunParameters.TERMINATING.name(), false);
+        row.put(PipelineRunParameters.POD_ID.name(), "pipeline-1");
+        row.put(PipelineRunParameters.POD_IP.name(), "10.0.0.1");
+        row.put(PipelineRunParameters.OWNER.name(), "USER");
+        row.put(PipelineRunParameters.CONFIG_NAME.name(), "default");
+        row.put(PipelineRunParameters.NODE_COUNT.name(), 0);
+        row.put(PipelineRunParameters.EXEC_PREFERENCES.name(), "{\"environment\":\"CLOUD_PLATFORM\"}");
+        row.put(PipelineRunParameters.DOCKER_IMAGE.name(), "registry:443/library/centos:latest");
+        row.put(PipelineRunParameters.ACTUAL_DOCKER_IMAGE.name(), "registry:443/library/centos:latest");
+        row.put(PipelineRunParameters.PLATFORM.name(), "linux");
+        row.put(PipelineRunParameters.CMD_TEMPLATE.name(), "sleep infinity");
+        row.put(PipelineRunParameters.ACTUAL_CMD.name(), "sleep infinity");
+        row.put(PipelineRunParameters.SENSITIVE.name(), false);
+        row.put(PipelineRunParameters.KUBE_SERVICE_ENABLED.name(), false);
+        row.put(PipelineRunParameters.NODE_DISK.name(), 50);
+        row.put(PipelineRunParameters.NODE_REAL_DISK.name(), 70);
+        row.put(PipelineRunParameters.NODE_ID.name(), "i-0123456789");
+        row.put(PipelineRunParameters.NODE_IP.name(), "10.0.0.2");
+        row.put(PipelineRunParameters.NODE_TYPE.name(), "m5.large");
+        row.put(PipelineRunParameters.NODE_IMAGE.name(), "ami-0123456789");
+        row.put(PipelineRunParameters.NODE_NAME.name(), "ip-10-0-0-2");
+        row.put(PipelineRunParameters.NODE_CLOUD_REGION.name(), 1L);
+        row.put(PipelineRunParameters.NODE_CLOUD_PROVIDER.name(), "AWS");
+        row.put(PipelineRunParameters.NODE_PLATFORM.name(), "linux");
+        row.put(PipelineRunParameters.IS_SPOT.name(), true);
+        row.put(PipelineRunParameters.TIMEOUT.name(), 0L);
+        row.put(PipelineRunParameters.POD_STATUS.name(), "Running");
+        row.put(PipelineRunParameters.PRETTY_URL.name(), "{\"domain\":\"\",\"path\":\"run\"}");
+        row.put(PipelineRunParameters.PRICE_PER_HOUR.name(), new BigDecimal("0.1"));
+        row.put(PipelineRunParameters.COMPUTE_PRICE_PER_HOUR.name(), new BigDecimal("0.09"));
+        row.put(PipelineRunParameters.DISK_PRICE_PER_HOUR.name(), new BigDecimal("0.01"));
+        row.put(PipelineRunParameters.CLUSTER_PRICE.name(), BigDecimal.ZERO);
+        if (tags > 0) {
+            row.put(PipelineRunParameters.TAGS.name(), IntStream.range(0, tags)
+                    .mapToObj(i -> String.format("\"tag_%d\":\"value_%d\"", i, i))
+                    .collect(Collectors.joining(",", "{", "}")));
+        }
+        resultSet = ResultSetStub.of(row);
+    }
+
+    @Benchmark
+    public PipelineRun parsePipelineRun() throws SQLException {
+        return PipelineRunParameters.parsePipelineRun(resultSet);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.dao.pipeline;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.util.Map;
+
+/**
+ * In-memory stand-in of a single row {@link ResultSet}.
+ * Supports getters by column label and {@link ResultSet#wasNull()}.
+ */
+final class ResultSetStub implements InvocationHandler {
+
+    private final Map<String, Object> row;
+    private boolean lastNull;
+
+    private ResultSetStub(final Map<String, Object> row) {
+        this.row = row;
+    }
+
+    static ResultSet of(final Map<String, Object> row) {
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(),
+                new Class<?>[]{ResultSet.class}, new ResultSetStub(row));
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args) {
+        if ("wasNull".equals(method.getName())) {
+            return lastNull;
+        }
+        if (method.getName().startsWith("get") && args != null && args.length == 1 && args[0] instanceof String) {
+            final Object value = row.get(args[0]);
+            lastNull = value == null;
+            return value == null ? defaultValue(method.getReturnType()) : value;
+        }
+        throw new UnsupportedOperationException(method.getName());
+    }
+
+    private static Object defaultValue(final Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        return null;
+    }
+}
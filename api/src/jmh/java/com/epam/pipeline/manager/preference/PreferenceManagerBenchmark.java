@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.manager.preference;
+
+import com.epam.pipeline.common.MessageHelper;
+import com.epam.pipeline.config.JsonMapper;
+import com.epam.pipeline.dao.preference.PreferenceDao;
+import com.epam.pipeline.entity.preference.Preference;
+import com.epam.pipeline.entity.utils.DefaultSystemParameter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Measures {@link PreferenceManager#getPreference(AbstractSystemPreference)} for a primitive and an object
+ * preference and {@link AbstractSystemPreference#parse(String)} of an object preference alone.
+ * Preferences are served from memory the same way they are served from the preferences cache.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PreferenceManagerBenchmark {
+
+    @Param({"10", "100"})
+    private int systemParameters;
+
+    private PreferenceManager preferenceManager;
+    private String systemParametersValue;
+
+    @Setup
+    public void setUp() {
+        new JsonMapper().init();
+        systemParametersValue = JsonMapper.convertDataToJsonStringForQuery(IntStream.range(0, systemParameters)
+                .mapToObj(this::systemParameter)
+                .collect(Collectors.toList()));
+
+        final Map<String, Preference> preferences = new HashMap<>();
+        final Preference parametersPreference = SystemPreferences.LAUNCH_SYSTEM_PARAMETERS.toPreference();
+        parametersPreference.setValue(systemParametersValue);
+        preferences.put(parametersPreference.getName(), parametersPreference);
+        final Preference scheduledPreference = SystemPreferences.LAUNCH_MAX_SCHEDULED_NUMBER.toPreference();
+        preferences.put(scheduledPreference.getName(), scheduledPreference);
+
+        final ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename("messages");
+        messageSource.setDefaultEncoding("UTF-8");
+
+        preferenceManager = new PreferenceManager();
+        ReflectionTestUtils.setField(preferenceManager, "preferenceDao", new InMemoryPreferenceDao(preferences));
+        ReflectionTestUtils.setField(preferenceManager, "messageHelper", new MessageHelper(messageSource));
+    }
+
+    @Benchmark
+    public Integer getIntPreference() {
+        return preferenceManager.getPreference(SystemPreferences.LAUNCH_MAX_SCHEDULED_NUMBER);
+    }
+
+    @Benchmark
+    public List<DefaultSystemParameter> getObjectPreference() {
+        return preferenceManager.getPreference(SystemPreferences.LAUNCH_SYSTEM_PARAMETERS);
+    }
+
+    @Benchmark
+    public List<DefaultSystemParameter> parseObjectPreference() {
+        return SystemPreferences.LAUNCH_SYSTEM_PARAMETERS.parse(systemParametersValue);
+    }
+
+    private DefaultSystemParameter systemParameter(final int index) {
+        final DefaultSystemParameter parameter = new DefaultSystemParameter();
+        parameter.setName("CP_PARAMETER_" + index);
+        parameter.setDescription("Synthetic system parameter #" + index);
+        parameter.setDefaultValue(String.valueOf(index));
+        return parameter;
+    }
+
+    private static final class InMemoryPreferenceDao extends PreferenceDao {
+
+        private final Map<String, Preference> preferences;
+
+        private InMemoryPreferenceDao(final Map<String, Preference> preferences) {
+            this.preferences = preferences;
+        }
+
+        @Override
+        public Preference loadPreferenceByName(final String name) {
+            return preferences.get(name);
+        }
+    }
+}
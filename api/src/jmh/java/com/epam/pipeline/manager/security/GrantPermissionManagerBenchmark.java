@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.manager.security;
+
+import com.epam.pipeline.common.MessageHelper;
+import com.epam.pipeline.entity.AbstractSecuredEntity;
+import com.epam.pipeline.entity.pipeline.Folder;
+import com.epam.pipeline.entity.pipeline.Pipeline;
+import com.epam.pipeline.entity.security.acl.AclSid;
+import com.epam.pipeline.security.acl.AclPermission;
+import com.epam.pipeline.security.acl.DisabledAclCache;
+import com.epam.pipeline.security.acl.JdbcMutableAclServiceImpl;
+import com.epam.pipeline.security.acl.PermissionGrantingStrategyImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.acls.domain.AclImpl;
+import org.springframework.security.acls.domain.ConsoleAuditLogger;
+import org.springframework.security.acls.domain.GrantedAuthoritySid;
+import org.springframework.security.acls.domain.ObjectIdentityImpl;
+import org.springframework.security.acls.domain.PrincipalSid;
+import org.springframework.security.acls.model.Acl;
+import org.springframework.security.acls.model.ObjectIdentity;
+import org.springframework.security.acls.model.PermissionGrantingStrategy;
+import org.springframework.security.acls.model.Sid;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures {@link GrantPermissionManager#filterTree(AclSid, com.epam.pipeline.entity.AbstractHierarchicalEntity,
+ * org.springframework.security.acls.model.Permission)} on a generated folder tree.
+ * ACLs are served from memory the same way they are served from the ACL cache,
+ * every entity has ACL entries for random groups and inherits entries of its parent folder.
+ * {@link #copyTree()} is a baseline, since each filtering is applied to a fresh copy of the tree.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class GrantPermissionManagerBenchmark {
+
+    private static final String OWNER = "OWNER";
+    private static final String GROUP_PREFIX = "ROLE_GROUP_";
+
+    @Param({"3"})
+    private int depth;
+
+    @Param({"5"})
+    private int folders;
+
+    @Param({"10"})
+    private int pipelines;
+
+    @Param({"20"})
+    private int groups;
+
+    private final Map<ObjectIdentity, Acl> acls = new HashMap<>();
+    private final AtomicLong ids = new AtomicLong();
+    private Random random;
+    private PermissionGrantingStrategy grantingStrategy;
+    private GrantPermissionManager permissionManager;
+    private Folder tree;
+    private AclSid sid;
+
+    @Setup
+    public void setUp() {
+        random = new Random(depth * folders * pipelines);
+        grantingStrategy = new PermissionGrantingStrategyImpl(new ConsoleAuditLogger());
+        tree = folder(0, null);
+        sid = new AclSid(GROUP_PREFIX + 0, false);
+
+        final ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename("messages");
+        messageSource.setDefaultEncoding("UTF-8");
+        final MessageHelper messageHelper = new MessageHelper(messageSource);
+
+        final JdbcMutableAclServiceImpl aclService = new JdbcMutableAclServiceImpl(new DriverManagerDataSource(),
+            (objects, sids) -> Collections.singletonMap(objects.get(0), acls.get(objects.get(0))),
+            new DisabledAclCache());
+        ReflectionTestUtils.setField(aclService, "messageHelper", messageHelper);
+
+        permissionManager = new GrantPermissionManager();
+        permissionManager.setAclService(aclService);
+        permissionManager.setPermissionsService(new PermissionsService());
+        permissionManager.setMessageHelper(messageHelper);
+    }
+
+    @Benchmark
+    public Folder copyTree() {
+        return tree.copy();
+    }
+
+    @Benchmark
+    public Folder filterTree() {
+        final Folder copy = tree.copy();
+        permissionManager.filterTree(sid, copy, AclPermission.READ);
+        return copy;
+    }
+
+    private Folder folder(final int level, final Acl parentAcl) {
+        final Folder folder = new Folder(ids.incrementAndGet());
+        folder.setOwner(OWNER);
+        final Acl acl = register(folder, parentAcl);
+        for (int i = 0; i < pipelines; i++) {
+            final Pipeline pipeline = new Pipeline(ids.incrementAndGet());
+            pipeline.setOwner(OWNER);
+            register(pipeline, acl);
+            folder.getPipelines().add(pipeline);
+        }
+        if (level < depth) {
+            for (int i = 0; i < folders; i++) {
+                folder.getChildFolders().add(folder(level + 1, acl));
+            }
+        }
+        return folder;
+    }
+
+    private Acl register(final AbstractSecuredEntity entity, final Acl parentAcl) {
+        final ObjectIdentity identity = new ObjectIdentityImpl(entity);
+        final AclImpl acl = new AclImpl(identity, entity.getId(), (a, changeType) -> { }, grantingStrategy,
+                parentAcl, null, true, new PrincipalSid(OWNER));
+        for (int i = 0; i < groups; i++) {
+            if (random.nextInt(3) == 0) {
+                final Sid group = new GrantedAuthoritySid(GROUP_PREFIX + i);
+                acl.insertAce(acl.getEntries().size(),
+                        random.nextBoolean() ? AclPermission.READ : AclPermission.NO_READ, group, true);
+            }
+        }
+        acls.put(identity, acl);
+        return acl;
+    }
+}
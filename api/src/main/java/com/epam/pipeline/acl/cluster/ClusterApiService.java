@@ -20,6 +20,7 @@ import java.io.InputStream;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import com.epam.pipeline.controller.vo.FilterNodesVO;
 import com.epam.pipeline.entity.cluster.AllowedInstanceAndPriceTypes;
@@ -141,6 +142,11 @@ public class ClusterApiService {
         return nodeDiskManager.loadByNodeId(name);
     }
 
+    @PreAuthorize(ADMIN_ONLY)
+    public Map<String, List<NodeDisk>> loadNodesDisks(final List<String> names) {
+        return nodeDiskManager.loadByNodeIds(names);
+    }
+
     public String buildEdgeExternalUrl(final String region) {
         return edgeServiceManager.buildEdgeExternalUrl(region);
     }
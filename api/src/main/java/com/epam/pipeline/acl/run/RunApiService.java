@@ -235,6 +235,14 @@ public class RunApiService {
         return runManager.loadRunsActivityStats(start, end, archive);
     }
 
+    @PreAuthorize(ADMIN_ONLY)
+    @AclMask
+    public List<PipelineRun> loadRunsActivityStats(final LocalDateTime start, final LocalDateTime end,
+                                                   final boolean archive, final Long fromId,
+                                                   final Integer pageSize) {
+        return runManager.loadRunsActivityStats(start, end, archive, fromId, pageSize);
+    }
+
     @AclFilter
     @AclMaskPage
     public PagedResult<List<PipelineRun>> searchPipelineRuns(PagingRunFilterVO filter, boolean loadStorageLinks) {
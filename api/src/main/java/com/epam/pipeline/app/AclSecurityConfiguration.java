@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 EPAM Systems, Inc. (https://www.epam.com/)
+ * Copyright 2017-2026 EPAM Systems, Inc. (https://www.epam.com/)
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,7 @@ package com.epam.pipeline.app;
 
 
 import com.epam.pipeline.entity.user.DefaultRoles;
+import com.epam.pipeline.manager.scheduling.SchedulerMetrics;
 import com.epam.pipeline.security.acl.JdbcMutableAclServiceImpl;
 import com.epam.pipeline.security.acl.LookupStrategyImpl;
 import com.epam.pipeline.security.acl.PermissionGrantingStrategyImpl;
@@ -115,8 +116,8 @@ public class AclSecurityConfiguration extends GlobalMethodSecurityConfiguration
 
     @Bean
     @ConditionalOnProperty(name = "security.acl.cache.refresh", havingValue = TRUE)
-    public AclRefreshService aclRefreshService() {
-        return new AclRefreshService(lookupStrategy(), aclCache());
+    public AclRefreshService aclRefreshService(final SchedulerMetrics schedulerMetrics) {
+        return new AclRefreshService(lookupStrategy(), aclCache(), schedulerMetrics);
     }
 
     @Bean
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 EPAM Systems, Inc. (https://www.epam.com/)
+ * Copyright 2017-2026 EPAM Systems, Inc. (https://www.epam.com/)
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,8 @@ import net.javacrumbs.shedlock.core.LockProvider;
 import net.javacrumbs.shedlock.provider.jdbctemplate.JdbcTemplateLockProvider;
 import net.javacrumbs.shedlock.spring.annotation.EnableSchedulerLock;
 import com.epam.pipeline.manager.scheduling.AutowiringSpringBeanJobFactory;
+import com.epam.pipeline.manager.scheduling.MeteredLockProvider;
+import com.epam.pipeline.manager.scheduling.SchedulerMetrics;
 import org.quartz.impl.StdSchedulerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -198,8 +200,8 @@ public class AppConfiguration implements SchedulingConfigurer {
     }
 
     @Bean(name = "lockProvider")
-    public LockProvider lockProvider(DataSource dataSource) {
-        return new JdbcTemplateLockProvider(dataSource);
+    public LockProvider lockProvider(final DataSource dataSource, final SchedulerMetrics schedulerMetrics) {
+        return new MeteredLockProvider(new JdbcTemplateLockProvider(dataSource), schedulerMetrics);
     }
 
     @Bean
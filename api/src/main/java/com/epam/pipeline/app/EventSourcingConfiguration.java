@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2023 EPAM Systems, Inc. (https://www.epam.com/)
+ * Copyright 2017-2026 EPAM Systems, Inc. (https://www.epam.com/)
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
  * You may obtain a copy of the License at
@@ -15,7 +15,9 @@
 
 package com.epam.pipeline.app;
 
+import com.epam.pipeline.eventsourcing.ConsumerGroupMetrics;
 import com.epam.pipeline.eventsourcing.EventEngine;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
@@ -47,4 +49,10 @@ public class EventSourcingConfiguration {
         return new EventEngine(redisHost, redisPort, schedulerThreads, redissonThreads, redissonNettyThreads);
     }
 
+    @Bean
+    public ConsumerGroupMetrics consumerGroupMetrics(final EventEngine eventSourcingEngine,
+                                                     final MeterRegistry meterRegistry) {
+        return new ConsumerGroupMetrics(eventSourcingEngine::getEnabledConsumerGroupStats, meterRegistry);
+    }
+
 }
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.aspect.scheduling;
+
+import com.epam.pipeline.manager.scheduling.SchedulerMetrics;
+import lombok.RequiredArgsConstructor;
+import net.javacrumbs.shedlock.core.SchedulerLock;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Measures cycles of {@link SchedulerLock} guarded jobs. The aspect wraps both the ShedLock interceptor
+ * and {@link com.epam.pipeline.aspect.cluster.ScheduledTasksSynchronizationAspect}, so cycles skipped
+ * by the lock or on a non master host are not reported as executed.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.LOWEST_PRECEDENCE - 2)
+public class SchedulerMetricsAspect {
+
+    private final SchedulerMetrics schedulerMetrics;
+
+    @Around("@annotation(lock)")
+    public Object measureCycle(final ProceedingJoinPoint joinPoint, final SchedulerLock lock) throws Throwable {
+        final String method = joinPoint.getSignature().getDeclaringType().getSimpleName()
+                + "_" + joinPoint.getSignature().getName();
+        return schedulerMetrics.measure(lock.name(), method, joinPoint::proceed);
+    }
+}
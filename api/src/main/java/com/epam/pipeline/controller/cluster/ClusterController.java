@@ -57,6 +57,7 @@ import java.io.InputStream;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import javax.servlet.http.HttpServletResponse;
 
 @Controller
@@ -301,6 +302,17 @@ public class ClusterController extends AbstractRestController {
         return Result.success(clusterApiService.loadNodeDisks(name));
     }
 
+    @PostMapping("/cluster/node/disks")
+    @ResponseBody
+    @ApiOperation(
+        value = "Returns disks of the given nodes.",
+        notes = "Returns disks of the given nodes grouped by node id. Nodes without disks are omitted.",
+        produces = MediaType.APPLICATION_JSON_VALUE)
+    @ApiResponses(@ApiResponse(code = HTTP_STATUS_OK, message = API_STATUS_DESCRIPTION))
+    public Result<Map<String, List<NodeDisk>>> loadNodesDisks(@RequestBody final List<String> names) {
+        return Result.success(clusterApiService.loadNodesDisks(names));
+    }
+
     @PostMapping("/cluster/dnsrecord")
     @ResponseBody
     @ApiOperation(
@@ -520,7 +520,9 @@ public class PipelineRunController extends AbstractRestController {
     @ApiOperation(
         value = "Load runs with its activity statuses.",
         notes = "Load runs with its activity statuses. " +
-                "Only runs that possibly could cause spending for described period will be returned.",
+                "Only runs that possibly could cause spending for described period will be returned. " +
+                "If pageSize is specified runs are returned ordered by id and limited to the page size, " +
+                "the next page can be requested with fromId set to the id of the last returned run.",
         produces = MediaType.APPLICATION_JSON_VALUE)
     @ApiResponses(value = {@ApiResponse(code = HTTP_STATUS_OK, message = API_STATUS_DESCRIPTION)})
     public Result<List<PipelineRun>> loadRunsActivityStats(
@@ -528,8 +530,13 @@ public class PipelineRunController extends AbstractRestController {
         final LocalDateTime start,
         @RequestParam(value = "to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
         final LocalDateTime end,
-        @RequestParam(defaultValue = "false", required = false) final boolean archive) {
-        return Result.success(runApiService.loadRunsActivityStats(start, end, archive));
+        @RequestParam(defaultValue = "false", required = false) final boolean archive,
+        @RequestParam(required = false) final Long fromId,
+        @RequestParam(required = false) final Integer pageSize) {
+        if (pageSize == null) {
+            return Result.success(runApiService.loadRunsActivityStats(start, end, archive));
+        }
+        return Result.success(runApiService.loadRunsActivityStats(start, end, archive, fromId, pageSize));
     }
 
     @PostMapping(value = "/run/cmd")
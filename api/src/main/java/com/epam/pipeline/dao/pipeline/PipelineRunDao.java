@@ -87,6 +87,9 @@ public class PipelineRunDao extends DryRunJdbcDaoSupport {
     private static final String LIST_PARAMETER = "list";
     private static final String LIMIT = "LIMIT";
     private static final String OFFSET = "OFFSET";
+    private static final String FROM_ID = "FROM_ID";
+    private static final String ACTIVE_RUNS_PAGE_QUERY = "SELECT * FROM (%s) AS active_runs "
+            + "WHERE active_runs.run_id > :FROM_ID ORDER BY active_runs.run_id LIMIT :LIMIT";
     private static final int CLAUSE_LENGTH = 200;
 
     @Autowired
@@ -198,6 +201,18 @@ public class PipelineRunDao extends DryRunJdbcDaoSupport {
     @Transactional(propagation = Propagation.REQUIRED)
     public List<PipelineRun> loadPipelineRunsActiveInPeriod(final LocalDateTime start, final LocalDateTime end,
                                                             final boolean archive) {
+        return loadPipelineRunsActiveInPeriod(start, end, archive, null, null);
+    }
+
+    /**
+     * Loads runs that possibly were active in the given period ordered by run id.
+     * If page size is specified only runs with ids greater than {@code fromId} are returned,
+     * which allows to iterate over a large period with a cursor instead of loading it at once.
+     */
+    @Transactional(propagation = Propagation.REQUIRED)
+    public List<PipelineRun> loadPipelineRunsActiveInPeriod(final LocalDateTime start, final LocalDateTime end,
+                                                            final boolean archive, final Long fromId,
+                                                            final Integer pageSize) {
         final MapSqlParameterSource params = new MapSqlParameterSource();
         params.addValue("PERIOD_START", start);
         params.addValue("PERIOD_END", end);
@@ -209,8 +224,14 @@ public class PipelineRunDao extends DryRunJdbcDaoSupport {
         final String query = archive
                 ? loadAllRunsPossiblyActiveInPeriodWithArchiveQuery
                 : loadAllRunsPossiblyActiveInPeriodQuery;
+        if (pageSize == null) {
+            return addServiceUrls(getNamedParameterJdbcTemplate()
+                    .query(query, params, PipelineRunParameters.getRowMapper()));
+        }
+        params.addValue(FROM_ID, Optional.ofNullable(fromId).orElse(0L));
+        params.addValue(LIMIT, pageSize);
         return addServiceUrls(getNamedParameterJdbcTemplate()
-                .query(query, params, PipelineRunParameters.getRowMapper()));
+                .query(String.format(ACTIVE_RUNS_PAGE_QUERY, query), params, PipelineRunParameters.getRowMapper()));
     }
 
     public String loadSshPassword(Long id) {
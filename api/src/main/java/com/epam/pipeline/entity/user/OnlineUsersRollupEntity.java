@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.entity.user;
+
+import com.epam.pipeline.entity.utils.BitSetConverter;
+import com.epam.pipeline.entity.utils.TimestampConverter;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.Convert;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+
+/**
+ * Hourly or daily aggregate of {@link OnlineUsersEntity} snapshots. Users which were online during
+ * the period are stored as a bitmap indexed by user id.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "online_users_rollup", schema = "pipeline")
+public class OnlineUsersRollupEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    private ChronoUnit period;
+
+    @Convert(converter = TimestampConverter.class)
+    private LocalDateTime periodStart;
+
+    @Convert(converter = BitSetConverter.class)
+    private BitSet userIds = new BitSet();
+
+    /**
+     * Median of non-zero hourly online users counts, is filled for daily rollups only.
+     */
+    private Integer activeUsersMedian;
+}
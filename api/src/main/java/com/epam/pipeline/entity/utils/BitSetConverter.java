@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.entity.utils;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+import java.util.BitSet;
+
+/**
+ * Stores {@link BitSet} as its little-endian byte representation.
+ */
+@Converter
+public class BitSetConverter implements AttributeConverter<BitSet, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(final BitSet attribute) {
+        if (attribute == null) {
+            return null;
+        }
+        return attribute.toByteArray();
+    }
+
+    @Override
+    public BitSet convertToEntityAttribute(final byte[] dbData) {
+        if (dbData == null) {
+            return new BitSet();
+        }
+        return BitSet.valueOf(dbData);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.eventsourcing;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Publishes lag and pending events of the consumer groups of enabled event handlers, see {@link ConsumerGroupStats}.
+ * Gauges of the groups which handlers are disabled report no value.
+ */
+@RequiredArgsConstructor
+public class ConsumerGroupMetrics {
+
+    private static final String GROUP_LAG = "event.sourcing.group.lag";
+    private static final String GROUP_PENDING = "event.sourcing.group.pending";
+    private static final String STREAM_TAG = "stream";
+    private static final String GROUP_TAG = "group";
+
+    private final Supplier<List<ConsumerGroupStats>> groupStats;
+    private final MeterRegistry registry;
+    private final Map<Tags, AtomicReference<ConsumerGroupStats>> groups = new ConcurrentHashMap<>();
+
+    @Scheduled(fixedDelayString = "${event.sourcing.group.metrics.delay:60000}")
+    public void refresh() {
+        final Set<Tags> refreshed = new HashSet<>();
+        groupStats.get().forEach(stats -> {
+            final Tags tags = Tags.of(STREAM_TAG, stats.getStream(), GROUP_TAG, stats.getGroup());
+            groups.computeIfAbsent(tags, this::register).set(stats);
+            refreshed.add(tags);
+        });
+        groups.forEach((tags, stats) -> {
+            if (!refreshed.contains(tags)) {
+                stats.set(null);
+            }
+        });
+    }
+
+    private AtomicReference<ConsumerGroupStats> register(final Tags tags) {
+        final AtomicReference<ConsumerGroupStats> stats = new AtomicReference<>();
+        Gauge.builder(GROUP_LAG, stats, value -> valueOf(value, ConsumerGroupStats::getLag))
+                .description("Events which were not delivered to a consumer group yet")
+                .tags(tags)
+                .register(registry);
+        Gauge.builder(GROUP_PENDING, stats, value -> valueOf(value, ConsumerGroupStats::getPending))
+                .description("Events delivered to a consumer group, but not acknowledged yet")
+                .tags(tags)
+                .register(registry);
+        return stats;
+    }
+
+    private static double valueOf(final AtomicReference<ConsumerGroupStats> value,
+                                  final ToLongFunction<ConsumerGroupStats> metric) {
+        final ConsumerGroupStats stats = value.get();
+        return stats == null ? Double.NaN : metric.applyAsLong(stats);
+    }
+}
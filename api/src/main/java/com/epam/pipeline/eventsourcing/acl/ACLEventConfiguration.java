@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2023 EPAM Systems, Inc. (https://www.epam.com/)
+ * Copyright 2017-2026 EPAM Systems, Inc. (https://www.epam.com/)
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
  * You may obtain a copy of the License at
@@ -15,29 +15,48 @@
 
 package com.epam.pipeline.eventsourcing.acl;
 
+import com.epam.pipeline.eventsourcing.BatchingProducerOptions;
 import com.epam.pipeline.eventsourcing.EventEngine;
+import com.epam.pipeline.eventsourcing.EventProducer;
 import com.epam.pipeline.eventsourcing.EventTopic;
 import com.epam.pipeline.eventsourcing.EventType;
 import com.epam.pipeline.manager.preference.PreferenceManager;
 import com.epam.pipeline.manager.preference.SystemPreferences;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.acls.model.AclCache;
 import org.springframework.security.acls.model.AclService;
 
+import java.time.Duration;
+
 @Configuration
 public class ACLEventConfiguration {
 
+    private static final String PRODUCER_METRIC_PREFIX = "event.sourcing.producer.";
+    private static final String TYPE_TAG = "type";
+
     @Autowired
     private PreferenceManager preferenceManager;
 
     @Autowired
     private String applicationId;
 
-    @Bean
-    public ACLUpdateEventProducer aclEventSourcingProducer(final EventEngine eventEngine) {
+    @Value("${event.sourcing.producer.batch.size:0}")
+    private int producerBatchSize;
+
+    @Value("${event.sourcing.producer.flush.interval:100}")
+    private long producerFlushInterval;
+
+    @Bean(destroyMethod = "close")
+    public ACLUpdateEventProducer aclEventSourcingProducer(final EventEngine eventEngine,
+                                                           final MeterRegistry meterRegistry) {
         final ACLUpdateEventProducer aclUpdateEventProducer = new ACLUpdateEventProducer();
+        registerProducerMetrics(meterRegistry, aclUpdateEventProducer);
 
         preferenceManager.getObservablePreference(SystemPreferences.SYSTEM_EVENT_SOURCING_CONFIG)
                 .subscribe(eventTopics -> reconfigureACLEventProducer(eventEngine, aclUpdateEventProducer));
@@ -62,6 +81,31 @@ public class ACLEventConfiguration {
         return aclUpdateEventHandler;
     }
 
+    private void registerProducerMetrics(final MeterRegistry meterRegistry,
+                                         final ACLUpdateEventProducer aclEventProducer) {
+        final String type = EventType.ACL.name();
+        FunctionCounter.builder(PRODUCER_METRIC_PREFIX + "published", aclEventProducer,
+                producer -> producer.getStats().getPublished())
+                .description("Events sent to the stream by a batching producer")
+                .tag(TYPE_TAG, type)
+                .register(meterRegistry);
+        FunctionCounter.builder(PRODUCER_METRIC_PREFIX + "failed", aclEventProducer,
+                producer -> producer.getStats().getFailed())
+                .description("Events which a batching producer failed to send to the stream")
+                .tag(TYPE_TAG, type)
+                .register(meterRegistry);
+        FunctionCounter.builder(PRODUCER_METRIC_PREFIX + "batches", aclEventProducer,
+                producer -> producer.getStats().getBatches())
+                .description("Pipelined batches sent by a batching producer")
+                .tag(TYPE_TAG, type)
+                .register(meterRegistry);
+        Gauge.builder(PRODUCER_METRIC_PREFIX + "buffered", aclEventProducer,
+                producer -> producer.getStats().getBuffered())
+                .description("Events waiting in a batching producer buffer")
+                .tag(TYPE_TAG, type)
+                .register(meterRegistry);
+    }
+
     private void reconfigureACLEventProducer(final EventEngine eventEngine,
                                              final ACLUpdateEventProducer aclEventProducer) {
 
@@ -71,18 +115,25 @@ public class ACLEventConfiguration {
 
         if (aclTopic != null) {
             if (aclTopic.isEnabled()) {
-                aclEventProducer.init(
-                    eventEngine.enableProducer(
-                            String.format("%s:%s", applicationId, ACLUpdateEventProducer.class.getSimpleName()),
-                            applicationId, EventType.ACL.name(), aclTopic.getStream()
-                    )
-                );
+                aclEventProducer.init(enableProducer(eventEngine, aclTopic));
             } else {
                 aclEventProducer.init(null);
             }
         }
     }
 
+    private EventProducer enableProducer(final EventEngine eventEngine, final EventTopic aclTopic) {
+        final String producerId = String.format("%s:%s", applicationId, ACLUpdateEventProducer.class.getSimpleName());
+        if (producerBatchSize > 0) {
+            return eventEngine.enableBatchingProducer(producerId, applicationId, EventType.ACL.name(),
+                    aclTopic.getStream(), BatchingProducerOptions.builder()
+                            .batchSize(producerBatchSize)
+                            .flushInterval(Duration.ofMillis(producerFlushInterval))
+                            .build());
+        }
+        return eventEngine.enableProducer(producerId, applicationId, EventType.ACL.name(), aclTopic.getStream());
+    }
+
     private void reconfigureACLEventHandler(final EventEngine eventEngine,
                                             final ACLUpdateEventHandler aclUpdateEventHandler) {
 
@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 EPAM Systems, Inc. (https://www.epam.com/)
+ * Copyright 2024-2026 EPAM Systems, Inc. (https://www.epam.com/)
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,8 @@
 package com.epam.pipeline.eventsourcing.acl;
 
 import com.epam.pipeline.entity.AbstractSecuredEntity;
+import com.epam.pipeline.eventsourcing.BatchingEventProducer;
+import com.epam.pipeline.eventsourcing.BatchingProducerStats;
 import com.epam.pipeline.eventsourcing.EventProducer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.util.ClassUtils;
@@ -26,19 +28,47 @@ import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 
 @Slf4j
-public class ACLUpdateEventProducer {
+public class ACLUpdateEventProducer implements AutoCloseable {
 
     protected static final String ACL_CLASS_FIELD = "aclClass";
     protected static final String ENTITY_ID_FIELD = "id";
 
     private final AtomicReference<EventProducer> inner;
+    private final AtomicReference<BatchingProducerStats> closedStats;
 
     public ACLUpdateEventProducer() {
         inner = new AtomicReference<>();
+        closedStats = new AtomicReference<>(BatchingProducerStats.builder().build());
     }
 
     public void init(final EventProducer producer) {
-        this.inner.set(producer);
+        final EventProducer previous = this.inner.getAndSet(producer);
+        if (previous instanceof BatchingEventProducer) {
+            final BatchingEventProducer batchingProducer = (BatchingEventProducer) previous;
+            batchingProducer.close();
+            closedStats.accumulateAndGet(batchingProducer.getStats(), ACLUpdateEventProducer::sum);
+        }
+    }
+
+    /**
+     * Returns throughput counters of all batching producers used by this producer,
+     * including the ones which were replaced on reconfiguration.
+     */
+    public BatchingProducerStats getStats() {
+        final EventProducer current = inner.get();
+        final BatchingProducerStats currentStats = current instanceof BatchingEventProducer
+                ? ((BatchingEventProducer) current).getStats()
+                : BatchingProducerStats.builder().build();
+        return sum(closedStats.get(), currentStats);
+    }
+
+    /**
+     * Sends buffered events and stops the current producer.
+     */
+    @Override
+    public void close() {
+        log.debug("Closing ACL update event producer...");
+        init(null);
     }
 
     public long put(final AbstractSecuredEntity entity) {
@@ -49,9 +79,20 @@ public class ACLUpdateEventProducer {
             data.put(ACL_CLASS_FIELD, typeClass.getName());
             data.put(ENTITY_ID_FIELD, entity.getId().toString());
             final long eventId = inner.get().put(data);
-            log.debug("Published ACL update event #{}", eventId);
+            if (eventId >= 0) {
+                log.debug("Published ACL update event #{}", eventId);
+            }
             return eventId;
         }
         return -1;
     }
+
+    private static BatchingProducerStats sum(final BatchingProducerStats first, final BatchingProducerStats second) {
+        return BatchingProducerStats.builder()
+                .published(first.getPublished() + second.getPublished())
+                .failed(first.getFailed() + second.getFailed())
+                .batches(first.getBatches() + second.getBatches())
+                .buffered(second.getBuffered())
+                .build();
+    }
 }
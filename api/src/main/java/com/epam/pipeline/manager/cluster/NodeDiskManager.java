@@ -11,8 +11,11 @@ import org.springframework.util.Assert;
 
 import javax.transaction.Transactional;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -47,6 +50,11 @@ public class NodeDiskManager {
         return nodeDiskDao.loadByNodeId(nodeId);
     }
 
+    public Map<String, List<NodeDisk>> loadByNodeIds(final Collection<String> nodeIds) {
+        return nodeDiskDao.loadByNodeIds(nodeIds).stream()
+                .collect(Collectors.groupingBy(NodeDisk::getNodeId));
+    }
+
     private void validateNodeId(final String nodeId) {
         Assert.notNull(nodeId, messageHelper.getMessage(MessageConstants.ERROR_DISK_NODE_MISSING));
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2019 EPAM Systems, Inc. (https://www.epam.com/)
+ * Copyright 2017-2026 EPAM Systems, Inc. (https://www.epam.com/)
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -41,6 +41,7 @@ import com.epam.pipeline.manager.pipeline.ToolManager;
 import com.epam.pipeline.manager.preference.PreferenceManager;
 import com.epam.pipeline.manager.preference.SystemPreferences;
 import com.epam.pipeline.manager.scheduling.AbstractSchedulingManager;
+import com.epam.pipeline.manager.scheduling.SchedulerMetrics;
 import com.epam.pipeline.utils.RunDurationUtils;
 import io.fabric8.kubernetes.api.model.ContainerStatus;
 import io.fabric8.kubernetes.api.model.Node;
@@ -128,6 +129,7 @@ public class PodMonitor extends AbstractSchedulingManager {
         private final CloudFacade cloudFacade;
         private final PreferenceManager preferenceManager;
         private final List<RunCleaner> cleaners;
+        private final SchedulerMetrics schedulerMetrics;
 
         @Autowired
         PodMonitorCore(final RunLogManager runLogManager,
@@ -142,6 +144,7 @@ public class PodMonitor extends AbstractSchedulingManager {
                        final CloudFacade cloudFacade,
                        final PreferenceManager preferenceManager,
                        final List<RunCleaner> cleaners,
+                       final SchedulerMetrics schedulerMetrics,
                        final @Value("${kube.namespace}") String kubeNamespace) {
             this.runLogManager = runLogManager;
             this.pipelineRunManager = pipelineRunManager;
@@ -156,6 +159,7 @@ public class PodMonitor extends AbstractSchedulingManager {
             this.preferenceManager = preferenceManager;
             this.kubeNamespace = kubeNamespace;
             this.cleaners = ListUtils.emptyIfNull(cleaners);
+            this.schedulerMetrics = schedulerMetrics;
         }
 
         /**
@@ -165,6 +169,7 @@ public class PodMonitor extends AbstractSchedulingManager {
         public void updateStatus() {
             LOGGER.debug(messageHelper.getMessage(MessageConstants.DEBUG_MONITOR_CHECK_RUNNING));
             List<PipelineRun> running = pipelineRunManager.loadRunningAndTerminatedPipelineRuns();
+            int failed = 0;
             for (PipelineRun run : running) {
                 if (!run.getExecutionPreferences().getEnvironment().isMonitored()) {
                     if (run.getStatus().isFinal()) {
@@ -220,9 +225,12 @@ public class PodMonitor extends AbstractSchedulingManager {
                     }
                     pipelineRunManager.updatePipelineStatus(run);
                 } catch (Exception e) {
+                    failed++;
                     LOGGER.error(e.getMessage(), e);
                 }
             }
+            schedulerMetrics.processed(running.size() - failed);
+            schedulerMetrics.failed(failed);
             LOGGER.debug(messageHelper.getMessage(MessageConstants.DEBUG_MONITOR_CHECK_FINISHED));
             LOGGER.debug("Hanging pods: {}", hangingPods);
         }
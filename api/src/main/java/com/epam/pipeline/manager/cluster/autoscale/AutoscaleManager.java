@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2022 EPAM Systems, Inc. (https://www.epam.com/)
+ * Copyright 2017-2026 EPAM Systems, Inc. (https://www.epam.com/)
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
  * You may obtain a copy of the License at
@@ -36,12 +36,12 @@ import com.epam.pipeline.manager.cluster.NodesManager;
 import com.epam.pipeline.manager.cluster.cleaner.RunCleaner;
 import com.epam.pipeline.manager.cluster.pool.NodePoolManager;
 import com.epam.pipeline.manager.metadata.MetadataManager;
-import com.epam.pipeline.manager.parallel.ParallelExecutorService;
 import com.epam.pipeline.manager.pipeline.PipelineRunManager;
 import com.epam.pipeline.manager.pipeline.RunRegionShiftHandler;
 import com.epam.pipeline.manager.preference.PreferenceManager;
 import com.epam.pipeline.manager.preference.SystemPreferences;
 import com.epam.pipeline.manager.scheduling.AbstractSchedulingManager;
+import com.epam.pipeline.manager.scheduling.SchedulerMetrics;
 import io.fabric8.kubernetes.api.model.Node;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodList;
@@ -73,6 +73,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
@@ -104,7 +105,7 @@ public class AutoscaleManager extends AbstractSchedulingManager {
         private static final String NODE_PENDING_TAG = "NODE_PENDING";
 
         private final PipelineRunManager pipelineRunManager;
-        private final ParallelExecutorService executorService;
+        private final NodeUpScheduler nodeUpScheduler;
         private final AutoscalerService autoscalerService;
         private final NodesManager nodesManager;
         private final KubernetesManager kubernetesManager;
@@ -118,6 +119,7 @@ public class AutoscaleManager extends AbstractSchedulingManager {
         private final PoolAutoscaler poolAutoscaler;
         private final RunRegionShiftHandler runRegionShiftHandler;
         private final MetadataManager metadataManager;
+        private final SchedulerMetrics schedulerMetrics;
         private final Set<Long> nodeUpTaskInProgress = ConcurrentHashMap.newKeySet();
         private final Map<Long, Integer> nodeUpAttempts = new ConcurrentHashMap<>();
         private final Map<Long, Integer> spotNodeUpAttempts = new ConcurrentHashMap<>();
@@ -126,7 +128,7 @@ public class AutoscaleManager extends AbstractSchedulingManager {
 
         @Autowired
         AutoscaleManagerCore(final PipelineRunManager pipelineRunManager,
-                             final ParallelExecutorService executorService,
+                             final NodeUpScheduler nodeUpScheduler,
                              final AutoscalerService autoscalerService,
                              final NodesManager nodesManager,
                              final KubernetesManager kubernetesManager,
@@ -139,9 +141,10 @@ public class AutoscaleManager extends AbstractSchedulingManager {
                              final List<RunCleaner> runCleaners,
                              final PoolAutoscaler poolAutoscaler,
                              final RunRegionShiftHandler runRegionShiftHandler,
-                             final MetadataManager metadataManager) {
+                             final MetadataManager metadataManager,
+                             final SchedulerMetrics schedulerMetrics) {
             this.pipelineRunManager = pipelineRunManager;
-            this.executorService = executorService;
+            this.nodeUpScheduler = nodeUpScheduler;
             this.autoscalerService = autoscalerService;
             this.nodesManager = nodesManager;
             this.kubernetesManager = kubernetesManager;
@@ -155,6 +158,7 @@ public class AutoscaleManager extends AbstractSchedulingManager {
             this.poolAutoscaler = poolAutoscaler;
             this.runRegionShiftHandler = runRegionShiftHandler;
             this.metadataManager = metadataManager;
+            this.schedulerMetrics = schedulerMetrics;
         }
 
         @SchedulerLock(name = "AutoscaleManager_runAutoscaling", lockAtMostForString = "PT10M")
@@ -182,6 +186,7 @@ public class AutoscaleManager extends AbstractSchedulingManager {
                 log.debug("Current retry queue size: {}.", nodeUpAttempts.size());
                 log.debug("Current pool instance queue: {}.", poolNodeUpTaskInProgress);
                 log.debug("Current lost runs queue: {}.", lostRunIds);
+                log.debug("Current nodeup scheduler queue: {}.", nodeUpScheduler.getQueuedTasks());
             } catch (KubernetesClientException e) {
                 log.error(e.getMessage(), e);
             }
@@ -196,7 +201,11 @@ public class AutoscaleManager extends AbstractSchedulingManager {
             Set<String> reassignedNodes = new HashSet<>();
             orderedPipelines.forEach(pod -> {
                 if (kubernetesManager.isPodUnscheduled(pod)) {
-                    processPod(pod, client, scheduledRuns, tasks, allPods, nodes, reassignedNodes);
+                    if (processPod(pod, client, scheduledRuns, tasks, allPods, nodes, reassignedNodes)) {
+                        schedulerMetrics.processed(1);
+                    } else {
+                        schedulerMetrics.failed(1);
+                    }
                 }
             });
             if (!tasks.isEmpty()) {
@@ -245,16 +254,21 @@ public class AutoscaleManager extends AbstractSchedulingManager {
                 return;
             }
             poolNodeUpTaskInProgress.merge(node.getId(), 1, (oldVal, newVal) -> oldVal + 1);
-            CompletableFuture.runAsync(
-                () -> {
-                    Instant start = Instant.now();
-                    String nodeId = AutoscaleContants.NODE_POOL_PREFIX + nodesManager.getNextFreeNodeId();
-                    cloudFacade.scaleUpPoolNode(nodeId, node);
-                    Instant end = Instant.now();
-                    poolNodeUpTaskInProgress.merge(node.getId(), 0, (oldVal, newVal) -> oldVal - 1);
-                    log.debug("Time to create {} : {} s.", node, Duration.between(start, end).getSeconds());
-                },
-                executorService.getExecutorService())
+            nodeUpScheduler.submit(NodeUpTask.builder()
+                    .poolId(node.getId())
+                    .priority(NodeUpPriority.POOL)
+                    .regionId(node.getRegionId())
+                    .instanceType(node.getInstanceType())
+                    .attempt(1)
+                    .action(() -> {
+                        Instant start = Instant.now();
+                        String nodeId = AutoscaleContants.NODE_POOL_PREFIX + nodesManager.getNextFreeNodeId();
+                        cloudFacade.scaleUpPoolNode(nodeId, node);
+                        Instant end = Instant.now();
+                        poolNodeUpTaskInProgress.merge(node.getId(), 0, (oldVal, newVal) -> oldVal - 1);
+                        log.debug("Time to create {} : {} s.", node, Duration.between(start, end).getSeconds());
+                    })
+                    .build())
                 .exceptionally(e -> {
                     log.error(e.getMessage(), e);
                     poolNodeUpTaskInProgress.merge(node.getId(), 0, (oldVal, newVal) -> oldVal - 1);
@@ -262,21 +276,21 @@ public class AutoscaleManager extends AbstractSchedulingManager {
                 });
         }
 
-        private void processPod(Pod pod, KubernetesClient client, Set<String> scheduledRuns,
-                                List<CompletableFuture<Void>> tasks, Set<String> allPods, Set<String> nodes,
-                                Set<String> reassignedNodes) {
+        private boolean processPod(Pod pod, KubernetesClient client, Set<String> scheduledRuns,
+                                   List<CompletableFuture<Void>> tasks, Set<String> allPods, Set<String> nodes,
+                                   Set<String> reassignedNodes) {
             log.debug("Found an unscheduled pod: {}.", pod.getMetadata().getName());
             Map<String, String> labels = pod.getMetadata().getLabels();
             String runId = labels.get(KubernetesConstants.RUN_ID_LABEL);
             long longId = Long.parseLong(runId);
             if (nodeUpTaskInProgress.contains(longId)) {
                 log.debug("Nodeup task for ID {} is already in progress.", runId);
-                return;
+                return true;
             }
             // Check whether node with required RunID is available
             if (nodes.contains(runId)) {
                 log.debug("Node with required ID {} already exists.", runId);
-                return;
+                return true;
             }
             //check max nodeup retry count
             int retryCount = nodeUpAttempts.getOrDefault(longId, 0); // TODO: should we lock here?
@@ -287,7 +301,7 @@ public class AutoscaleManager extends AbstractSchedulingManager {
                         retryCount, runId);
                 pipelineRunManager.updatePipelineStatusIfNotFinal(longId, TaskStatus.FAILURE);
                 removeNodeUpTask(longId);
-                return;
+                return true;
             }
 
             try {
@@ -300,7 +314,7 @@ public class AutoscaleManager extends AbstractSchedulingManager {
                     log.debug("Found {} instance for run ID {}.", instance.getNodeId(), runId);
                     unLabelPendingRun(run);
                     createNodeForRun(tasks, runId, requiredInstance);
-                    return;
+                    return true;
                 }
                 List<String> freeNodes =
                         nodes.stream().filter(nodeId -> !allPods.contains(nodeId)
@@ -311,11 +325,11 @@ public class AutoscaleManager extends AbstractSchedulingManager {
                 if (reassignHandler.tryReassignNode(client, scheduledRuns, reassignedNodes, runId,
                         longId, requiredInstance, freeNodes)) {
                     unLabelPendingRun(run);
-                    return;
+                    return true;
                 }
                 if (!hasClusterCapacity(client)) {
                     labelPendingRun(run);
-                    return;
+                    return true;
                 }
                 int currentClusterSize = getCurrentClusterSize(client);
                 Integer maxClusterSize = preferenceManager.getPreference(SystemPreferences.CLUSTER_MAX_SIZE);
@@ -338,18 +352,20 @@ public class AutoscaleManager extends AbstractSchedulingManager {
                         log.debug("Exceeded maximum cluster size {}.", currentClusterSize);
                         log.debug("Leaving pending run {}.", runId);
                         labelPendingRun(run);
-                        return;
+                        return true;
                     }
                 }
                 if (!hasFreeNodeUpThreads()) {
-                    return;
+                    return true;
                 }
                 scheduledRuns.add(runId);
                 unLabelPendingRun(run);
                 createNodeForRun(tasks, runId, requiredInstance);
+                return true;
             } catch (Exception e) {
                 log.error("Failed to create node for run {}.", runId);
                 log.error("An error during pod processing: {}" + e.getMessage(), e);
+                return false;
             }
         }
 
@@ -382,8 +398,9 @@ public class AutoscaleManager extends AbstractSchedulingManager {
 
         private boolean hasFreeNodeUpThreads() {
             final int maxNodeUpThreads = preferenceManager.getPreference(SystemPreferences.CLUSTER_NODEUP_MAX_THREADS);
+            final int nodeUpQueueSize = preferenceManager.getPreference(SystemPreferences.CLUSTER_NODEUP_QUEUE_SIZE);
             final int nodeUpTasks = nodeUpTaskInProgress.size() + getPoolNodeUpTasksCount();
-            if (nodeUpTasks >= maxNodeUpThreads) {
+            if (nodeUpTasks >= maxNodeUpThreads + nodeUpQueueSize) {
                 log.debug("Exceeded maximum node up tasks queue size {}.", nodeUpTasks);
                 return false;
             }
@@ -415,6 +432,7 @@ public class AutoscaleManager extends AbstractSchedulingManager {
                     lostRunIds.remove(runId);
                     if (run.getStatus().isFinal()) {
                         log.debug("Pipeline run {} is already in final status", runId);
+                        nodeUpScheduler.cancel(runId);
                         continue;
                     }
                     if (run.getStatus() == TaskStatus.PAUSED) {
@@ -519,7 +537,7 @@ public class AutoscaleManager extends AbstractSchedulingManager {
             }
             long longId = Long.parseLong(runId);
             addNodeUpTask(longId);
-            tasks.add(CompletableFuture.runAsync(() -> {
+            final Runnable nodeUp = () -> {
                 Instant start = Instant.now();
                 //save required instance
                 pipelineRunManager.updateRunInstance(longId, requiredInstance.getInstance());
@@ -534,7 +552,21 @@ public class AutoscaleManager extends AbstractSchedulingManager {
                 removeNodeUpTask(longId);
                 log.debug("Time to create a node for run {} : {} s.", runId,
                         Duration.between(start, end).getSeconds());
-            }, executorService.getExecutorService()).exceptionally(e -> {
+            };
+            final NodeUpTask task = NodeUpTask.builder()
+                    .runId(longId)
+                    .priority(pipelineRunManager.isRestartedRun(longId) ? NodeUpPriority.RERUN : NodeUpPriority.RUN)
+                    .regionId(requiredInstance.getInstance().getCloudRegionId())
+                    .instanceType(requiredInstance.getInstance().getNodeType())
+                    .attempt(nodeUpAttempts.getOrDefault(longId, 1))
+                    .action(nodeUp)
+                    .build();
+            tasks.add(nodeUpScheduler.submit(task).exceptionally(e -> {
+                if (e instanceof CancellationException) {
+                    log.debug("Nodeup task for run {} was cancelled.", runId);
+                    removeNodeUpTask(longId);
+                    return null;
+                }
                 log.error(e.getMessage(), e);
 
                 if (e.getCause() instanceof CmdExecutionException &&
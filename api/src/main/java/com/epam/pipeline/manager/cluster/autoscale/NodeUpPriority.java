@@ -0,0 +1,36 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.manager.cluster.autoscale;
+
+/**
+ * Priority classes of node up tasks. Tasks are dispatched in the order of declaration,
+ * tasks of the same class are dispatched in the order of submission.
+ */
+public enum NodeUpPriority {
+    /**
+     * Node up for a run which was restarted from another run, e.g. after a spot failure or a region shift.
+     */
+    RERUN,
+    /**
+     * Node up for a regular run.
+     */
+    RUN,
+    /**
+     * Node up for a node pool instance.
+     */
+    POOL
+}
@@ -0,0 +1,296 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.manager.cluster.autoscale;
+
+import com.epam.pipeline.manager.parallel.ParallelExecutorService;
+import com.epam.pipeline.manager.preference.PreferenceManager;
+import com.epam.pipeline.manager.preference.SystemPreferences;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.PublicMetrics;
+import org.springframework.boot.actuate.metrics.Metric;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Dispatches node up tasks to the node up thread pool.
+ *
+ * Unlike plain submission to {@link ParallelExecutorService} the scheduler keeps its own queue, so that:
+ * <ul>
+ *     <li>tasks are dispatched according to their {@link NodeUpPriority} rather than in FIFO order;</li>
+ *     <li>the number of simultaneous node ups per cloud region and per instance type can be capped;</li>
+ *     <li>queued tasks can be cancelled once their run is stopped;</li>
+ *     <li>queue size and queue waiting times are exposed as metrics.</li>
+ * </ul>
+ * No more than {@link SystemPreferences#CLUSTER_NODEUP_MAX_THREADS} tasks are dispatched at the same time.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NodeUpScheduler implements PublicMetrics {
+
+    private static final String METRIC_PREFIX = "cluster.nodeup.";
+    private static final Comparator<QueuedTask> TASK_ORDER = Comparator
+            .comparing((QueuedTask queued) -> queued.getTask().getPriority())
+            .thenComparingInt(queued -> queued.getTask().getAttempt())
+            .thenComparingLong(QueuedTask::getSequence);
+
+    private final PreferenceManager preferenceManager;
+    private final ParallelExecutorService executorService;
+
+    private final TreeSet<QueuedTask> queue = new TreeSet<>(TASK_ORDER);
+    private final Map<Long, Integer> activeTasksByRegion = new HashMap<>();
+    private final Map<String, Integer> activeTasksByInstanceType = new HashMap<>();
+    private int activeTasks;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<NodeUpPriority, PriorityStatistics> statistics = initStatistics();
+
+    /**
+     * Adds a node up task to the queue.
+     *
+     * @param task node up task
+     * @return future which is completed once the task action is finished, it completes exceptionally
+     * with {@link CompletionException} if the action fails and is cancelled if the task is cancelled
+     * before being dispatched
+     */
+    public CompletableFuture<Void> submit(final NodeUpTask task) {
+        final QueuedTask queued = new QueuedTask(task, sequence.incrementAndGet(), Instant.now());
+        synchronized (this) {
+            queue.add(queued);
+        }
+        statistics.get(task.getPriority()).submitted.incrementAndGet();
+        log.debug("Node up task {} was queued.", task);
+        dispatch();
+        return queued.getFuture();
+    }
+
+    /**
+     * Cancels all queued node up tasks of the given run. Already dispatched tasks are not affected.
+     *
+     * @param runId run id
+     * @return number of cancelled tasks
+     */
+    public int cancel(final Long runId) {
+        final List<QueuedTask> cancelled = new ArrayList<>();
+        synchronized (this) {
+            final Iterator<QueuedTask> iterator = queue.iterator();
+            while (iterator.hasNext()) {
+                final QueuedTask queued = iterator.next();
+                if (Objects.equals(queued.getTask().getRunId(), runId)) {
+                    iterator.remove();
+                    cancelled.add(queued);
+                }
+            }
+        }
+        cancelled.forEach(queued -> {
+            log.debug("Queued node up task {} was cancelled.", queued.getTask());
+            statistics.get(queued.getTask().getPriority()).cancelled.incrementAndGet();
+            queued.getFuture().cancel(false);
+        });
+        return cancelled.size();
+    }
+
+    /**
+     * @return queued node up tasks in the order of dispatching
+     */
+    public synchronized List<NodeUpTask> getQueuedTasks() {
+        return queue.stream()
+                .map(QueuedTask::getTask)
+                .collect(Collectors.toList());
+    }
+
+    public synchronized int getActiveTasksCount() {
+        return activeTasks;
+    }
+
+    @Override
+    public Collection<Metric<?>> metrics() {
+        final List<Metric<?>> metrics = new ArrayList<>();
+        final Map<NodeUpPriority, Long> queued;
+        synchronized (this) {
+            metrics.add(new Metric<>(METRIC_PREFIX + "active", activeTasks));
+            metrics.add(new Metric<>(METRIC_PREFIX + "queued", queue.size()));
+            queued = queue.stream()
+                    .collect(Collectors.groupingBy(queuedTask -> queuedTask.getTask().getPriority(),
+                        Collectors.counting()));
+        }
+        statistics.forEach((priority, stats) -> {
+            final String prefix = METRIC_PREFIX + priority.name().toLowerCase() + ".";
+            metrics.add(new Metric<>(prefix + "queued", queued.getOrDefault(priority, 0L)));
+            metrics.add(new Metric<>(prefix + "submitted", stats.submitted.get()));
+            metrics.add(new Metric<>(prefix + "dispatched", stats.dispatched.get()));
+            metrics.add(new Metric<>(prefix + "cancelled", stats.cancelled.get()));
+            metrics.add(new Metric<>(prefix + "sla.breached", stats.slaBreached.get()));
+            metrics.add(new Metric<>(prefix + "wait.time.total.ms", stats.totalWaitMs.get()));
+            metrics.add(new Metric<>(prefix + "wait.time.max.ms", stats.maxWaitMs.get()));
+        });
+        return metrics;
+    }
+
+    private void dispatch() {
+        while (true) {
+            final QueuedTask next;
+            synchronized (this) {
+                next = pollNext();
+                if (next == null) {
+                    return;
+                }
+                acquire(next.getTask());
+            }
+            start(next);
+        }
+    }
+
+    private QueuedTask pollNext() {
+        final int maxTasks = preferenceManager.getPreference(SystemPreferences.CLUSTER_NODEUP_MAX_THREADS);
+        if (activeTasks >= maxTasks) {
+            return null;
+        }
+        final int maxRegionTasks = preferenceManager.getPreference(
+                SystemPreferences.CLUSTER_NODEUP_MAX_THREADS_PER_REGION);
+        final int maxInstanceTypeTasks = preferenceManager.getPreference(
+                SystemPreferences.CLUSTER_NODEUP_MAX_THREADS_PER_INSTANCE_TYPE);
+        final Iterator<QueuedTask> iterator = queue.iterator();
+        while (iterator.hasNext()) {
+            final QueuedTask queued = iterator.next();
+            final NodeUpTask task = queued.getTask();
+            if (isBelowLimit(activeTasksByRegion, task.getRegionId(), maxRegionTasks)
+                    && isBelowLimit(activeTasksByInstanceType, task.getInstanceType(), maxInstanceTypeTasks)) {
+                iterator.remove();
+                return queued;
+            }
+        }
+        return null;
+    }
+
+    private <K> boolean isBelowLimit(final Map<K, Integer> active, final K key, final int limit) {
+        return limit <= 0 || key == null || active.getOrDefault(key, 0) < limit;
+    }
+
+    private void acquire(final NodeUpTask task) {
+        activeTasks++;
+        increment(activeTasksByRegion, task.getRegionId());
+        increment(activeTasksByInstanceType, task.getInstanceType());
+    }
+
+    private synchronized void release(final NodeUpTask task) {
+        activeTasks--;
+        decrement(activeTasksByRegion, task.getRegionId());
+        decrement(activeTasksByInstanceType, task.getInstanceType());
+    }
+
+    private <K> void increment(final Map<K, Integer> active, final K key) {
+        if (key != null) {
+            active.merge(key, 1, Integer::sum);
+        }
+    }
+
+    private <K> void decrement(final Map<K, Integer> active, final K key) {
+        if (key != null) {
+            active.computeIfPresent(key, (k, value) -> value > 1 ? value - 1 : null);
+        }
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void start(final QueuedTask queued) {
+        registerWaitTime(queued);
+        try {
+            executorService.getExecutorService().execute(() -> run(queued));
+        } catch (RuntimeException e) {
+            log.error("Failed to dispatch node up task {}.", queued.getTask());
+            release(queued.getTask());
+            queued.getFuture().completeExceptionally(new CompletionException(e));
+        }
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    private void run(final QueuedTask queued) {
+        Throwable error = null;
+        try {
+            queued.getTask().getAction().run();
+        } catch (Throwable e) {
+            error = e;
+        }
+        release(queued.getTask());
+        if (error == null) {
+            queued.getFuture().complete(null);
+        } else {
+            queued.getFuture().completeExceptionally(new CompletionException(error));
+        }
+        dispatch();
+    }
+
+    private void registerWaitTime(final QueuedTask queued) {
+        final NodeUpTask task = queued.getTask();
+        final long waitMs = Duration.between(queued.getQueuedAt(), Instant.now()).toMillis();
+        final PriorityStatistics stats = statistics.get(task.getPriority());
+        stats.dispatched.incrementAndGet();
+        stats.totalWaitMs.addAndGet(waitMs);
+        stats.maxWaitMs.accumulateAndGet(waitMs, Math::max);
+        final long slaMs = Duration.ofSeconds(preferenceManager.getPreference(
+                SystemPreferences.CLUSTER_NODEUP_QUEUE_SLA_SEC)).toMillis();
+        if (waitMs > slaMs) {
+            stats.slaBreached.incrementAndGet();
+            log.warn("Node up task {} has been waiting in queue for {} ms which exceeds {} ms.",
+                    task, waitMs, slaMs);
+        } else {
+            log.debug("Node up task {} has been waiting in queue for {} ms.", task, waitMs);
+        }
+    }
+
+    private static Map<NodeUpPriority, PriorityStatistics> initStatistics() {
+        final Map<NodeUpPriority, PriorityStatistics> statistics = new EnumMap<>(NodeUpPriority.class);
+        for (final NodeUpPriority priority : NodeUpPriority.values()) {
+            statistics.put(priority, new PriorityStatistics());
+        }
+        return statistics;
+    }
+
+    @lombok.Value
+    private static class QueuedTask {
+        NodeUpTask task;
+        long sequence;
+        Instant queuedAt;
+        CompletableFuture<Void> future = new CompletableFuture<>();
+    }
+
+    private static class PriorityStatistics {
+        private final AtomicLong submitted = new AtomicLong();
+        private final AtomicLong dispatched = new AtomicLong();
+        private final AtomicLong cancelled = new AtomicLong();
+        private final AtomicLong slaBreached = new AtomicLong();
+        private final AtomicLong totalWaitMs = new AtomicLong();
+        private final AtomicLong maxWaitMs = new AtomicLong();
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.manager.cluster.autoscale;
+
+import lombok.Builder;
+import lombok.ToString;
+import lombok.Value;
+
+/**
+ * Describes a single node up task submitted to {@link NodeUpScheduler}.
+ */
+@Value
+@Builder
+@ToString(exclude = "action")
+public class NodeUpTask {
+    /**
+     * Run the node is created for, {@code null} for pool nodes.
+     */
+    Long runId;
+    /**
+     * Pool the node is created for, {@code null} for run nodes.
+     */
+    Long poolId;
+    NodeUpPriority priority;
+    Long regionId;
+    String instanceType;
+    /**
+     * Node up attempt number starting with 1. Retried tasks are dispatched after the first attempts
+     * of the same priority class.
+     */
+    int attempt;
+    Runnable action;
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 EPAM Systems, Inc. (https://www.epam.com/)
+ * Copyright 2017-2026 EPAM Systems, Inc. (https://www.epam.com/)
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -73,6 +73,7 @@ import com.epam.pipeline.manager.cluster.InstanceOfferManager;
 import com.epam.pipeline.manager.notification.NotificationManager;
 import com.epam.pipeline.manager.pipeline.PipelineRunManager;
 import com.epam.pipeline.manager.scheduling.AbstractSchedulingManager;
+import com.epam.pipeline.manager.scheduling.SchedulerMetrics;
 
 import javax.annotation.PostConstruct;
 
@@ -133,6 +134,7 @@ public class ResourceMonitoringManager extends AbstractSchedulingManager {
         private final StopServerlessRunManager stopServerlessRunManager;
         private final InstanceOfferManager instanceOfferManager;
         private final NodesManager nodesManager;
+        private final SchedulerMetrics schedulerMetrics;
 
 
         @Autowired
@@ -145,7 +147,8 @@ public class ResourceMonitoringManager extends AbstractSchedulingManager {
                                       final StopServerlessRunManager stopServerlessRunManager,
                                       final InstanceOfferManager instanceOfferManager,
                                       final RunStatusManager runStatusManager,
-                                      final NodesManager nodesManager) {
+                                      final NodesManager nodesManager,
+                                      final SchedulerMetrics schedulerMetrics) {
             this.pipelineRunManager = pipelineRunManager;
             this.pipelineRunDockerOperationManager = pipelineRunDockerOperationManager;
             this.messageHelper = messageHelper;
@@ -156,6 +159,7 @@ public class ResourceMonitoringManager extends AbstractSchedulingManager {
             this.instanceOfferManager = instanceOfferManager;
             this.runStatusManager = runStatusManager;
             this.nodesManager = nodesManager;
+            this.schedulerMetrics = schedulerMetrics;
         }
 
         @Scheduled(cron = "0 0 0 ? * *")
@@ -168,13 +172,15 @@ public class ResourceMonitoringManager extends AbstractSchedulingManager {
         @SchedulerLock(name = "ResourceMonitoringManager_monitorResourceUsage", lockAtMostForString = "PT10M")
         public void monitorResourceUsage() {
             List<PipelineRun> runs = pipelineRunManager.loadRunningPipelineRuns();
-            processIdleRuns(runs);
-            processHighNetworkConsumingRuns(runs);
-            processOverloadedRuns(runs);
-            processStuckRuns(runs);
-            processPausingResumingRuns();
-            processServerlessRuns();
-            processLongPausedRuns();
+            schedulerMetrics.track(runs::size, () -> {
+                processIdleRuns(runs);
+                processHighNetworkConsumingRuns(runs);
+                processOverloadedRuns(runs);
+                processStuckRuns(runs);
+                processPausingResumingRuns();
+                processServerlessRuns();
+                processLongPausedRuns();
+            });
         }
 
         private void processPausingResumingRuns() {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2021 EPAM Systems, Inc. (https://www.epam.com/)
+ * Copyright 2017-2026 EPAM Systems, Inc. (https://www.epam.com/)
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -48,6 +48,7 @@ import com.epam.pipeline.manager.metadata.MetadataManager;
 import com.epam.pipeline.manager.notification.NotificationManager;
 import com.epam.pipeline.manager.preference.PreferenceManager;
 import com.epam.pipeline.manager.preference.SystemPreferences;
+import com.epam.pipeline.manager.scheduling.SchedulerMetrics;
 import com.epam.pipeline.manager.search.SearchManager;
 import com.fasterxml.jackson.core.type.TypeReference;
 import lombok.extern.slf4j.Slf4j;
@@ -99,6 +100,7 @@ public class NFSQuotasMonitor {
     private final Map<Long, NFSQuotaTrigger> latestTriggers;
     private final Map<Long, NFSQuotaNotificationEntry> notificationTriggers;
     private final Map<Long, NFSQuota> activeQuotas;
+    private final SchedulerMetrics schedulerMetrics;
 
     public NFSQuotasMonitor(final DataStorageManager dataStorageManager,
                             final SearchManager searchManager,
@@ -109,6 +111,7 @@ public class NFSQuotasMonitor {
                             final NotificationManager notificationManager,
                             final StorageQuotaTriggersManager triggersManager,
                             final PreferenceManager preferenceManager,
+                            final SchedulerMetrics schedulerMetrics,
                             final @Value("${data.storage.nfs.quota.metadata.key:fs_notifications}")
                                         String notificationsKey,
                             final @Value("${data.storage.nfs.quota.default.restrictive.status:READ_ONLY}")
@@ -131,6 +134,7 @@ public class NFSQuotasMonitor {
         this.latestTriggers = new HashMap<>();
         this.notificationTriggers = new HashMap<>();
         this.activeQuotas = new HashMap<>();
+        this.schedulerMetrics = schedulerMetrics;
     }
 
     @Scheduled(fixedDelayString = "${data.storage.nfs.quota.poll:60000}")
@@ -157,7 +161,9 @@ public class NFSQuotasMonitor {
             Optional.ofNullable(activeQuotas.get(storage.getId()))
                 .ifPresent(quota -> processActiveQuota(
                     quota, storage, dataStorageManager.resolveSizeMasks(storageSizeMasksMapping, storage)));
+            schedulerMetrics.processed(1);
         } catch (Exception e) {
+            schedulerMetrics.failed(1);
             log.error("An error occurred during processing quotas for storageId={}: {}",
                       storage.getId(), e.getMessage());
         }
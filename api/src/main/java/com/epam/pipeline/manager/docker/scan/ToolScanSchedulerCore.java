@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 EPAM Systems, Inc. (https://www.epam.com/)
+ * Copyright 2017-2026 EPAM Systems, Inc. (https://www.epam.com/)
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
  * You may obtain a copy of the License at
@@ -32,6 +32,7 @@ import com.epam.pipeline.manager.docker.ToolVersionManager;
 import com.epam.pipeline.manager.pipeline.ToolManager;
 import com.epam.pipeline.manager.preference.PreferenceManager;
 import com.epam.pipeline.manager.preference.SystemPreferences;
+import com.epam.pipeline.manager.scheduling.SchedulerMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.javacrumbs.shedlock.core.SchedulerLock;
@@ -66,6 +67,7 @@ class ToolScanSchedulerCore {
     private final DockerClientFactory dockerClientFactory;
     private final DockerRegistryManager dockerRegistryManager;
     private final PreferenceManager preferenceManager;
+    private final SchedulerMetrics schedulerMetrics;
     private final ExecutorService forceScanExecutor = Executors.newSingleThreadExecutor();
 
     @PreDestroy
@@ -114,15 +116,18 @@ class ToolScanSchedulerCore {
                             result.getLastLayerRef(), result.getDigest(), result.getVulnerabilitiesCount(),
                             result.getDefaultCmd(), result.getLayersCount(), result.isCudaAvailable());
                     updateToolVersion(tool, version, registry, dockerClient);
+                    schedulerMetrics.processed(1);
                 } catch (ToolScanExternalServiceException e) {
                     log.error(messageHelper.getMessage(MessageConstants.ERROR_TOOL_SCAN_FAILED,
                             tool.getImage(), version), e);
+                    schedulerMetrics.failed(1);
                     toolManager.updateToolVersionScanStatus(tool.getId(), ToolScanStatus.FAILED, new Date(),
                             version, null, null, new HashMap<>(), null, null);
                 }
             }
         } catch (Exception e) {
             log.error(messageHelper.getMessage(MessageConstants.ERROR_TOOL_SCAN_FAILED, tool.getImage()), e);
+            schedulerMetrics.failed(1);
             toolManager.updateToolVersionScanStatus(tool.getId(), ToolScanStatus.FAILED, new Date(),
                     "latest", null, null, new HashMap<>(), null, null);
         }
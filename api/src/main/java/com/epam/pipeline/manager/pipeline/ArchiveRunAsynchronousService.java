@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 EPAM Systems, Inc. (https://www.epam.com/)
+ * Copyright 2024-2026 EPAM Systems, Inc. (https://www.epam.com/)
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
  * You may obtain a copy of the License at
@@ -34,7 +34,8 @@ public class ArchiveRunAsynchronousService {
     @Async("backgroundJobsExecutor")
     public void archiveRunsAsynchronous(final Map<String, Date> ownersAndDates, final List<Long> terminalStates,
                                         final Integer runsChunkSize, final Integer ownersChunkSize,
-                                        final boolean dryRun) {
-        archiveRunCoreService.archiveRuns(ownersAndDates, terminalStates, runsChunkSize, ownersChunkSize, dryRun);
+                                        final boolean dryRun, final boolean scheduled) {
+        archiveRunCoreService.archiveRuns(ownersAndDates, terminalStates, runsChunkSize, ownersChunkSize, dryRun,
+                scheduled);
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 EPAM Systems, Inc. (https://www.epam.com/)
+ * Copyright 2024-2026 EPAM Systems, Inc. (https://www.epam.com/)
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
  * You may obtain a copy of the License at
@@ -24,6 +24,7 @@ import com.epam.pipeline.dao.pipeline.StopServerlessRunDao;
 import com.epam.pipeline.dao.run.RunServiceUrlDao;
 import com.epam.pipeline.entity.pipeline.PipelineRun;
 import com.epam.pipeline.entity.pipeline.run.RunStatus;
+import com.epam.pipeline.manager.scheduling.SchedulerMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
@@ -43,6 +44,8 @@ import java.util.stream.Collectors;
 @Slf4j
 @RequiredArgsConstructor
 public class ArchiveRunCoreService {
+    private static final String ARCHIVE_JOB = "ArchiveRunService_archiveRuns";
+
     private final ArchiveRunDao archiveRunDao;
     private final PipelineRunDao pipelineRunDao;
     private final RunLogDao runLogDao;
@@ -50,13 +53,33 @@ public class ArchiveRunCoreService {
     private final RunServiceUrlDao runServiceUrlDao;
     private final RunStatusDao runStatusDao;
     private final StopServerlessRunDao stopServerlessRunDao;
+    private final SchedulerMetrics schedulerMetrics;
 
+    /**
+     * Transfers runs of the specified owners to archive.
+     *
+     * @param scheduled whether archiving is triggered by the scheduled archive job, archived runs are
+     *                  reported to the job metrics only in this case and only if it is not a dry run
+     */
     @Transactional(propagation = Propagation.REQUIRED)
     public void archiveRuns(final Map<String, Date> ownersAndDates, final List<Long> terminalStates,
                             final Integer runsChunkSize, final Integer ownersChunkSize,
-                            final boolean dryRun) {
+                            final boolean dryRun, final boolean scheduled) {
         final AtomicInteger counter = new AtomicInteger();
+        if (scheduled && !dryRun) {
+            // runs are archived in a single transaction, so all of them are rolled back on failure
+            schedulerMetrics.track(ARCHIVE_JOB, counter::get, () -> archiveRunsByOwners(ownersAndDates,
+                    terminalStates, runsChunkSize, ownersChunkSize, counter, false));
+        } else {
+            archiveRunsByOwners(ownersAndDates, terminalStates, runsChunkSize, ownersChunkSize, counter, dryRun);
+        }
+
+        log.debug("Transferring runs to archive completed. Total archived runs count: '{}'", counter.get());
+    }
 
+    private void archiveRunsByOwners(final Map<String, Date> ownersAndDates, final List<Long> terminalStates,
+                                     final Integer runsChunkSize, final Integer ownersChunkSize,
+                                     final AtomicInteger counter, final boolean dryRun) {
         ListUtils.partition(Arrays.asList(ownersAndDates.keySet().toArray()), ownersChunkSize).forEach(chunk -> {
             final Map<String, Date> ownersAndDatesChunk = ownersAndDates.entrySet().stream()
                     .filter(entry -> chunk.contains(entry.getKey()))
@@ -65,8 +88,6 @@ public class ArchiveRunCoreService {
                     ownersAndDatesChunk.size(), ownersAndDates.size());
             archiveRunsChunk(ownersAndDatesChunk, terminalStates, runsChunkSize, counter, dryRun);
         });
-
-        log.debug("Transferring runs to archive completed. Total archived runs count: '{}'", counter.get());
     }
 
     private void archiveRunsChunk(final Map<String, Date> ownersAndDates, final List<Long> terminalStates,
@@ -101,9 +122,9 @@ public class ArchiveRunCoreService {
             final List<RunStatus> runStatuses = runStatusDao.loadRunStatus(runIds, false, dryRun);
             log.debug("Loaded '{}' run statuses to archive.", runStatuses.size());
 
+            counter.addAndGet(runIds.size());
             batchInsertToArchive(runsToArchive, runStatuses, dryRun);
             deleteRunsAndDependents(runIds, dryRun);
-            counter.addAndGet(runIds.size());
 
             offset = dryRun ? offset + masterRunsCount : 0;
             runsToArchive = fetchRunsToArchive(ownersAndDates, terminalStates, runsChunkSize, dryRun, offset);
@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 EPAM Systems, Inc. (https://www.epam.com/)
+ * Copyright 2024-2026 EPAM Systems, Inc. (https://www.epam.com/)
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
  * You may obtain a copy of the License at
@@ -75,7 +75,7 @@ public class ArchiveRunService {
                 ? findOwnersByUser(identifier, metadataKey, days)
                 : findOwnersByRole(identifier, metadataKey, days);
 
-        archiveRunsForOwners(ownersAndDates);
+        archiveRunsForOwners(ownersAndDates, false);
     }
 
     public void archiveRuns() {
@@ -83,10 +83,10 @@ public class ArchiveRunService {
 
         final Map<String, Date> ownersAndDates = findAllOwnersAndDates(metadataKey);
 
-        archiveRunsForOwners(ownersAndDates);
+        archiveRunsForOwners(ownersAndDates, true);
     }
 
-    private void archiveRunsForOwners(final Map<String, Date> ownersAndDates) {
+    private void archiveRunsForOwners(final Map<String, Date> ownersAndDates, final boolean scheduled) {
         if (MapUtils.isEmpty(ownersAndDates)) {
             log.debug("No run owners found to archive runs.");
             return;
@@ -104,7 +104,7 @@ public class ArchiveRunService {
         final boolean dryRun = preferenceManager.getPreference(SystemPreferences.SYSTEM_ARCHIVE_RUN_DRY_RUN_REGIME);
 
         archiveRunAsyncService.archiveRunsAsynchronous(ownersAndDates, terminalStates, runsChunkSize, ownersChunkSize,
-                dryRun);
+                dryRun, scheduled);
     }
 
     private Integer metadataToDays(final Map<String, PipeConfValue> metadata, final String key,
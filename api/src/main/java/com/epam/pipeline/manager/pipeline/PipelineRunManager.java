@@ -75,6 +75,7 @@ import com.epam.pipeline.manager.cloud.CloudFacade;
 import com.epam.pipeline.manager.cluster.InstanceOfferManager;
 import com.epam.pipeline.manager.cluster.KubernetesConstants;
 import com.epam.pipeline.manager.cluster.NodesManager;
+import com.epam.pipeline.manager.cluster.autoscale.NodeUpScheduler;
 import com.epam.pipeline.manager.cluster.pool.NodePoolManager;
 import com.epam.pipeline.manager.datastorage.DataStorageManager;
 import com.epam.pipeline.manager.docker.DockerRegistryManager;
@@ -211,6 +212,9 @@ public class PipelineRunManager {
     @Autowired
     private RestartRunManager restartRunManager;
 
+    @Autowired
+    private NodeUpScheduler nodeUpScheduler;
+
     @Autowired
     private RunStatusManager runStatusManager;
 
@@ -679,6 +683,7 @@ public class PipelineRunManager {
         }
         if (status.isFinal()) {
             tryRemoveInstanceTags(pipelineRun);
+            nodeUpScheduler.cancel(runId);
         }
         if (pipelineRun.getExecutionPreferences().getEnvironment() == ExecutionEnvironment.DTS
                 && status == TaskStatus.STOPPED) {
@@ -1117,7 +1122,29 @@ public class PipelineRunManager {
     @Transactional(propagation = Propagation.REQUIRED)
     public List<PipelineRun> loadRunsActivityStats(final LocalDateTime start, final LocalDateTime end,
                                                    final boolean archive) {
-        final List<PipelineRun> runs = pipelineRunDao.loadPipelineRunsActiveInPeriod(start, end, archive);
+        return withRunStatuses(pipelineRunDao.loadPipelineRunsActiveInPeriod(start, end, archive), archive);
+    }
+
+    /**
+     * Returns a page of runs, that possibly produced spending during the given period.
+     * Runs are ordered by id, the next page shall be requested with the id of the last run of the current one.
+     *
+     * @param start beginning of evaluating period
+     * @param end ending of evaluating period
+     * @param archive optional archived runs loading
+     * @param fromId exclusive lower bound of run ids, may be null to load the first page
+     * @param pageSize maximum number of runs to return
+     * @return run with statuses adjusted
+     */
+    @Transactional(propagation = Propagation.REQUIRED)
+    public List<PipelineRun> loadRunsActivityStats(final LocalDateTime start, final LocalDateTime end,
+                                                   final boolean archive, final Long fromId,
+                                                   final Integer pageSize) {
+        return withRunStatuses(
+                pipelineRunDao.loadPipelineRunsActiveInPeriod(start, end, archive, fromId, pageSize), archive);
+    }
+
+    private List<PipelineRun> withRunStatuses(final List<PipelineRun> runs, final boolean archive) {
         final List<Long> runIds = runs.stream()
             .map(BaseEntity::getId)
             .collect(Collectors.toList());
@@ -1197,6 +1224,15 @@ public class PipelineRunManager {
         return restartedRun;
     }
 
+    /**
+     * Checks whether run was created as a restart of another run
+     * @param runId {@link PipelineRun} id
+     * @return true if run is a restarted one
+     */
+    public boolean isRestartedRun(final Long runId) {
+        return restartRunManager.findRestartRunById(runId).isPresent();
+    }
+
     /**
      * Terminates paused run.
      *
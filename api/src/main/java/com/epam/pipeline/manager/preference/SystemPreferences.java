@@ -526,6 +526,27 @@ public class SystemPreferences {
                                                                                 5, CLUSTER_GROUP, isGreaterThan(0));
     public static final IntPreference CLUSTER_NODEUP_WAIT_SEC = new IntPreference("cluster.nodeup.wait.sec",
                                                                                 900, CLUSTER_GROUP, isGreaterThan(0));
+    /**
+     * Number of node up tasks which can wait in the queue in addition to
+     * {@link #CLUSTER_NODEUP_MAX_THREADS} dispatched ones.
+     */
+    public static final IntPreference CLUSTER_NODEUP_QUEUE_SIZE = new IntPreference("cluster.nodeup.queue.size",
+            0, CLUSTER_GROUP, isGreaterThanOrEquals(0));
+    /**
+     * Max number of simultaneous node up tasks in a single cloud region, 0 means no limit.
+     */
+    public static final IntPreference CLUSTER_NODEUP_MAX_THREADS_PER_REGION = new IntPreference(
+            "cluster.nodeup.max.threads.per.region", 0, CLUSTER_GROUP, isGreaterThanOrEquals(0));
+    /**
+     * Max number of simultaneous node up tasks of a single instance type, 0 means no limit.
+     */
+    public static final IntPreference CLUSTER_NODEUP_MAX_THREADS_PER_INSTANCE_TYPE = new IntPreference(
+            "cluster.nodeup.max.threads.per.instance.type", 0, CLUSTER_GROUP, isGreaterThanOrEquals(0));
+    /**
+     * Node up task queue waiting time after which a warning is reported and the SLA breach is counted.
+     */
+    public static final IntPreference CLUSTER_NODEUP_QUEUE_SLA_SEC = new IntPreference(
+            "cluster.nodeup.queue.sla.sec", 300, CLUSTER_GROUP, isGreaterThan(0));
     public static final IntPreference CLUSTER_SPOT_MAX_ATTEMPTS = new IntPreference("cluster.spot.max.attempts", 2,
                                                                                     CLUSTER_GROUP, isGreaterThan(0));
     public static final StringPreference CLOUD_DEFAULT_PROVIDER = new StringPreference(
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2022 EPAM Systems, Inc. (https://www.epam.com/)
+ * Copyright 2017-2026 EPAM Systems, Inc. (https://www.epam.com/)
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
  * You may obtain a copy of the License at
@@ -22,6 +22,7 @@ import com.epam.pipeline.dto.quota.QuotaUsage;
 import com.epam.pipeline.entity.utils.DateUtils;
 import com.epam.pipeline.manager.preference.PreferenceManager;
 import com.epam.pipeline.manager.preference.SystemPreferences;
+import com.epam.pipeline.manager.scheduling.SchedulerMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.javacrumbs.shedlock.core.SchedulerLock;
@@ -46,6 +47,7 @@ public class BillingQuotasMonitor {
     private final QuotaRequestService requestService;
     private final QuotaHandlerService quotaHandler;
     private final PreferenceManager preferenceManager;
+    private final SchedulerMetrics schedulerMetrics;
 
     @SchedulerLock(name = "BillingQuotasMonitor_checkQuotas", lockAtMostForString = "PT30M")
     public void checkQuotas() {
@@ -93,7 +95,9 @@ public class BillingQuotasMonitor {
             //ensure non-active actions are not applied
             ListUtils.emptyIfNull(actionsStatus.get(false))
                     .forEach(action -> quotaHandler.clearAction(quota, action));
+            schedulerMetrics.processed(1);
         } catch (Exception e) {
+            schedulerMetrics.failed(1);
             log.debug("An error occurred during quota processing " + quota, e);
         }
     }
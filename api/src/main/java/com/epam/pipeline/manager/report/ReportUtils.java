@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2022 EPAM Systems, Inc. (https://www.epam.com/)
+ * Copyright 2017-2026 EPAM Systems, Inc. (https://www.epam.com/)
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
  * You may obtain a copy of the License at
@@ -44,8 +44,8 @@ public interface ReportUtils {
         return targetDate.isBefore(intervalEnd) && !targetDate.isBefore(intervalStart);
     }
 
-    static <T> Integer calculateSampleMedian(final Function<T, Integer> getValueFunction,
-                                             final List<T> records) {
+    public static <T> Integer calculateSampleMedian(final Function<T, Integer> getValueFunction,
+                                                    final List<T> records) {
         final List<Integer> sampleWithNulls = records.stream()
                 .map(getValueFunction)
                 .filter(Objects::nonNull)
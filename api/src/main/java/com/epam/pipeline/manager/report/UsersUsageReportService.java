@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2022 EPAM Systems, Inc. (https://www.epam.com/)
+ * Copyright 2017-2026 EPAM Systems, Inc. (https://www.epam.com/)
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,32 +18,38 @@ package com.epam.pipeline.manager.report;
 
 import com.epam.pipeline.dto.report.UsersUsageInfo;
 import com.epam.pipeline.dto.report.UsersUsageReportFilterVO;
-import com.epam.pipeline.dto.user.OnlineUsers;
+import com.epam.pipeline.entity.user.OnlineUsersRollupEntity;
 import com.epam.pipeline.entity.user.PipelineUser;
 import com.epam.pipeline.entity.utils.DateUtils;
-import com.epam.pipeline.manager.user.OnlineUsersService;
+import com.epam.pipeline.manager.user.OnlineUsersRollupService;
 import com.epam.pipeline.manager.user.UserManager;
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 import org.apache.commons.collections4.CollectionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.HashSet;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import static com.epam.pipeline.manager.report.ReportUtils.buildTimeIntervals;
 import static com.epam.pipeline.manager.report.ReportUtils.calculateSampleMedian;
-import static com.epam.pipeline.manager.report.ReportUtils.dateInInterval;
 
+/**
+ * Builds users usage reports from hourly and daily online users rollups, see {@link OnlineUsersRollupService}.
+ */
 @Service
 @RequiredArgsConstructor
 public class UsersUsageReportService {
-    private final OnlineUsersService onlineUsersService;
+    private final OnlineUsersRollupService onlineUsersRollupService;
     private final UserManager userManager;
 
     public List<UsersUsageInfo> loadUsersUsage(final UsersUsageReportFilterVO filter) {
@@ -52,16 +58,15 @@ public class UsersUsageReportService {
                 : filter);
         final LocalDateTime start = preparedFilter.getFrom();
         final LocalDateTime end = preparedFilter.getTo();
-        final Set<Long> users = prepareUsers(filter);
-        final List<OnlineUsers> onlineUsers = onlineUsersService.getUsersByPeriod(start, end, users);
-        if (ChronoUnit.HOURS == filter.getInterval()) {
-            return calculateDayUsersUsageByHour(onlineUsers, start, end, users);
+        final BitSet users = prepareUsers(preparedFilter);
+        if (ChronoUnit.HOURS == preparedFilter.getInterval()) {
+            return calculateDayUsersUsageByHour(start, end, users);
         }
-        if (ChronoUnit.DAYS == filter.getInterval()) {
-            return buildMonthUsersUsage(onlineUsers, start, end, users);
+        if (ChronoUnit.DAYS == preparedFilter.getInterval()) {
+            return buildMonthUsersUsage(start, end, users);
         }
         throw new UnsupportedOperationException(String.format("Time interval '%s' is not supported for now",
-                filter.getInterval().name()));
+                preparedFilter.getInterval().name()));
     }
 
     private UsersUsageReportFilterVO prepareFilter(final UsersUsageReportFilterVO filter) {
@@ -82,74 +87,129 @@ public class UsersUsageReportService {
         return to.isAfter(now) ? now : to;
     }
 
-    private UsersUsageInfo buildHourUsersUsageInfo(final List<OnlineUsers> users, final LocalDateTime from,
-                                                   final Set<Long> filterUsers) {
-        final LocalDateTime to = from.plusHours(1);
-        final List<Long> usersInInterval = users.stream()
-                .filter(user -> dateInInterval(user.getLogDate(), from, to))
-                .flatMap(user -> user.getUserIds().stream())
-                .distinct()
-                .filter(userId -> CollectionUtils.isEmpty(filterUsers) || filterUsers.contains(userId))
+    private List<UsersUsageInfo> calculateDayUsersUsageByHour(final LocalDateTime from, final LocalDateTime to,
+                                                              final BitSet filterUsers) {
+        final Map<LocalDateTime, OnlineUsersRollupEntity> rollups = onlineUsersRollupService.load(
+                ChronoUnit.HOURS, from.truncatedTo(ChronoUnit.HOURS), to);
+        final Map<LocalDateTime, BitSet> usersByHour = buildTimeIntervals(from, to, ChronoUnit.HOURS).stream()
+                .collect(Collectors.toMap(interval -> interval,
+                    interval -> usersInPeriod(rollups.get(interval.truncatedTo(ChronoUnit.HOURS)), filterUsers),
+                    (first, second) -> second, LinkedHashMap::new));
+        final Map<Long, String> userNames = loadUserNames(usersByHour.values());
+        return usersByHour.entrySet().stream()
+                .map(hour -> UsersUsageInfo.builder()
+                        .activeUsers(toUserNames(hour.getValue(), userNames))
+                        .activeUsersCount(hour.getValue().cardinality())
+                        .periodStart(hour.getKey())
+                        .periodEnd(hour.getKey().plusHours(1))
+                        .build())
                 .collect(Collectors.toList());
-        final List<String> userNamesInInterval = userManager.loadUsersById(usersInInterval).stream()
-                .map(PipelineUser::getUserName)
+    }
+
+    private List<UsersUsageInfo> buildMonthUsersUsage(final LocalDateTime from, final LocalDateTime to,
+                                                      final BitSet filterUsers) {
+        final List<LocalDateTime> intervals = buildTimeIntervals(from, to, ChronoUnit.DAYS);
+        final Map<LocalDateTime, DailyUsage> usageByDay = Objects.isNull(filterUsers)
+                ? loadDailyUsage(intervals, from, to)
+                : calculateDailyUsage(intervals, from, to, filterUsers);
+        final Map<Long, String> userNames = loadUserNames(usageByDay.values().stream()
+                .map(DailyUsage::getUsers)
+                .collect(Collectors.toList()));
+        return usageByDay.entrySet().stream()
+                .map(day -> {
+                    final List<String> totalUsers = toUserNames(day.getValue().getUsers(), userNames);
+                    return UsersUsageInfo.builder()
+                            .totalUsers(totalUsers)
+                            .activeUsersCount(day.getValue().getActiveUsersMedian())
+                            .totalUsersCount(totalUsers.size())
+                            .periodStart(day.getKey())
+                            .periodEnd(day.getKey().plusDays(1))
+                            .build();
+                })
                 .collect(Collectors.toList());
-        return UsersUsageInfo.builder()
-                .activeUsers(userNamesInInterval)
-                .activeUsersCount(usersInInterval.size())
-                .periodStart(from)
-                .periodEnd(to)
-                .build();
     }
 
-    private List<UsersUsageInfo> calculateDayUsersUsageByHour(final List<OnlineUsers> users, final LocalDateTime from,
-                                                              final LocalDateTime to, final Set<Long> filterUsers) {
-        final List<LocalDateTime> intervals = buildTimeIntervals(from, to, ChronoUnit.HOURS);
+    private Map<LocalDateTime, DailyUsage> loadDailyUsage(final List<LocalDateTime> intervals,
+                                                          final LocalDateTime from, final LocalDateTime to) {
+        final Map<LocalDateTime, OnlineUsersRollupEntity> rollups = onlineUsersRollupService.load(
+                ChronoUnit.DAYS, from.truncatedTo(ChronoUnit.DAYS), to);
         return intervals.stream()
-                .map(interval -> buildHourUsersUsageInfo(users, interval, filterUsers))
-                .collect(Collectors.toList());
+                .collect(Collectors.toMap(interval -> interval, interval -> {
+                    final Optional<OnlineUsersRollupEntity> rollup = Optional.ofNullable(
+                            rollups.get(interval.truncatedTo(ChronoUnit.DAYS)));
+                    return new DailyUsage(usersInPeriod(rollup.orElse(null), null),
+                            rollup.map(OnlineUsersRollupEntity::getActiveUsersMedian).orElse(0));
+                }, (first, second) -> second, LinkedHashMap::new));
     }
 
-    private UsersUsageInfo calculateDailyUsersUsageInfo(final List<OnlineUsers> users, final LocalDateTime from,
-                                                        final Set<Long> filterUsers) {
-        final LocalDateTime to = from.plusDays(1);
-        final List<UsersUsageInfo> usersUsageByHour = calculateDayUsersUsageByHour(users, from, to, filterUsers);
-        final List<String> totalUsersInInterval = usersUsageByHour.stream()
-                .flatMap(usage -> usage.getActiveUsers().stream())
-                .distinct()
+    private Map<LocalDateTime, DailyUsage> calculateDailyUsage(final List<LocalDateTime> intervals,
+                                                               final LocalDateTime from, final LocalDateTime to,
+                                                               final BitSet filterUsers) {
+        final Map<LocalDateTime, OnlineUsersRollupEntity> rollups = onlineUsersRollupService.load(
+                ChronoUnit.HOURS, from.truncatedTo(ChronoUnit.DAYS), to);
+        return intervals.stream()
+                .collect(Collectors.toMap(interval -> interval, interval -> {
+                    final List<BitSet> usersByHour = buildTimeIntervals(interval, interval.plusDays(1),
+                            ChronoUnit.HOURS).stream()
+                            .map(hour -> usersInPeriod(rollups.get(hour.truncatedTo(ChronoUnit.HOURS)), filterUsers))
+                            .collect(Collectors.toList());
+                    final BitSet users = new BitSet();
+                    usersByHour.forEach(users::or);
+                    return new DailyUsage(users, calculateSampleMedian(BitSet::cardinality, usersByHour));
+                }, (first, second) -> second, LinkedHashMap::new));
+    }
+
+    private BitSet usersInPeriod(final OnlineUsersRollupEntity rollup, final BitSet filterUsers) {
+        final BitSet users = Optional.ofNullable(rollup)
+                .map(OnlineUsersRollupEntity::getUserIds)
+                .map(userIds -> (BitSet) userIds.clone())
+                .orElseGet(BitSet::new);
+        if (Objects.nonNull(filterUsers)) {
+            users.and(filterUsers);
+        }
+        return users;
+    }
+
+    private Map<Long, String> loadUserNames(final Collection<BitSet> users) {
+        final BitSet allUsers = new BitSet();
+        users.forEach(allUsers::or);
+        if (allUsers.isEmpty()) {
+            return new LinkedHashMap<>();
+        }
+        final List<Long> userIds = allUsers.stream()
+                .mapToObj(Long::valueOf)
                 .collect(Collectors.toList());
-        return UsersUsageInfo.builder()
-                .totalUsers(totalUsersInInterval)
-                .activeUsersCount(calculateSampleMedian(UsersUsageInfo::getActiveUsersCount, usersUsageByHour))
-                .totalUsersCount(totalUsersInInterval.size())
-                .periodStart(from)
-                .periodEnd(to)
-                .build();
+        return userManager.loadUsersById(userIds).stream()
+                .collect(Collectors.toMap(PipelineUser::getId, PipelineUser::getUserName,
+                    (first, second) -> first));
     }
 
-    private List<UsersUsageInfo> buildMonthUsersUsage(final List<OnlineUsers> users, final LocalDateTime from,
-                                                      final LocalDateTime to, final Set<Long> filterUsers) {
-        final List<LocalDateTime> intervals = buildTimeIntervals(from, to, ChronoUnit.DAYS);
-        return intervals.stream()
-                .map(interval -> calculateDailyUsersUsageInfo(users, interval, filterUsers))
+    private List<String> toUserNames(final BitSet users, final Map<Long, String> userNames) {
+        return users.stream()
+                .mapToObj(userId -> userNames.get((long) userId))
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
 
-    private Set<Long> prepareUsers(final UsersUsageReportFilterVO filter) {
+    private BitSet prepareUsers(final UsersUsageReportFilterVO filter) {
         if (CollectionUtils.isEmpty(filter.getRoles()) && CollectionUtils.isEmpty(filter.getUsers())) {
             return null;
         }
-        final Set<Long> users = new HashSet<>();
+        final BitSet users = new BitSet();
         if (CollectionUtils.isNotEmpty(filter.getRoles())) {
-            users.addAll(userManager.loadUsersByRoles(filter.getRoles()).stream()
-                    .map(PipelineUser::getId)
-                    .collect(Collectors.toList()));
+            userManager.loadUsersByRoles(filter.getRoles())
+                    .forEach(user -> users.set(Math.toIntExact(user.getId())));
         }
         if (CollectionUtils.isNotEmpty(filter.getUsers())) {
-            users.addAll(userManager.loadUsersByNames(filter.getUsers()).stream()
-                    .map(PipelineUser::getId)
-                    .collect(Collectors.toList()));
+            userManager.loadUsersByNames(filter.getUsers())
+                    .forEach(user -> users.set(Math.toIntExact(user.getId())));
         }
         return users;
     }
+
+    @Value
+    private static class DailyUsage {
+        BitSet users;
+        Integer activeUsersMedian;
+    }
 }
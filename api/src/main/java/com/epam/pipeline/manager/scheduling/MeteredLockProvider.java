@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.manager.scheduling;
+
+import lombok.RequiredArgsConstructor;
+import net.javacrumbs.shedlock.core.LockConfiguration;
+import net.javacrumbs.shedlock.core.LockProvider;
+import net.javacrumbs.shedlock.core.SimpleLock;
+
+import java.util.Optional;
+
+/**
+ * {@link LockProvider} decorator which reports lock acquisitions, skips and hold times
+ * to {@link SchedulerMetrics}.
+ */
+@RequiredArgsConstructor
+public class MeteredLockProvider implements LockProvider {
+
+    private final LockProvider delegate;
+    private final SchedulerMetrics schedulerMetrics;
+
+    @Override
+    public Optional<SimpleLock> lock(final LockConfiguration lockConfiguration) {
+        final String name = lockConfiguration.getName();
+        final Optional<SimpleLock> lock = delegate.lock(lockConfiguration);
+        if (!lock.isPresent()) {
+            schedulerMetrics.lockSkipped(name);
+            return lock;
+        }
+        schedulerMetrics.lockAcquired(name);
+        final long acquired = System.nanoTime();
+        return lock.map(acquiredLock -> () -> {
+            try {
+                acquiredLock.unlock();
+            } finally {
+                schedulerMetrics.lockReleased(name, System.nanoTime() - acquired);
+            }
+        });
+    }
+}
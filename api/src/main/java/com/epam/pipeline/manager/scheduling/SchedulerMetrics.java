@@ -0,0 +1,223 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.manager.scheduling;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Collects metrics of {@link net.javacrumbs.shedlock.core.SchedulerLock} guarded jobs: cycle durations and
+ * outcomes, processed and failed items, lock acquisitions, skips and hold times and the time of the last
+ * successful cycle. Cycles are tracked per thread, so items reported from a job body are attributed to
+ * the currently running job.
+ */
+@Component
+@RequiredArgsConstructor
+public class SchedulerMetrics {
+
+    private static final String CYCLE_DURATION = "scheduler.cycle.duration";
+    private static final String CYCLE_LAST_SUCCESS = "scheduler.cycle.last.success";
+    private static final String ITEMS_PROCESSED = "scheduler.items.processed";
+    private static final String ITEMS_FAILED = "scheduler.items.failed";
+    private static final String LOCK_ACQUIRED = "scheduler.lock.acquired";
+    private static final String LOCK_SKIPPED = "scheduler.lock.skipped";
+    private static final String LOCK_HELD = "scheduler.lock.held";
+    private static final String JOB_TAG = "job";
+    private static final String METHOD_TAG = "method";
+    private static final String OUTCOME_TAG = "outcome";
+    private static final String SUCCESS = "success";
+    private static final String FAILURE = "failure";
+
+    private final MeterRegistry registry;
+    private final Map<Tags, AtomicLong> lastSuccess = new ConcurrentHashMap<>();
+    private final ThreadLocal<Deque<Cycle>> cycles = new ThreadLocal<>();
+
+    /**
+     * Executes a cycle of a lock guarded job. Cycle duration, outcome and last success time are recorded
+     * only if the job lock was acquired during the cycle, cycles skipped by the lock are reported
+     * as lock skips instead.
+     *
+     * @param job a name of the job lock
+     * @param method a name of the job method
+     * @param body a cycle to execute
+     * @return a result of the cycle
+     */
+    public Object measure(final String job, final String method, final CycleBody body) throws Throwable {
+        final Cycle cycle = new Cycle(job);
+        Deque<Cycle> stack = cycles.get();
+        if (stack == null) {
+            stack = new ArrayDeque<>();
+            cycles.set(stack);
+        }
+        stack.push(cycle);
+        final long start = System.nanoTime();
+        boolean success = false;
+        try {
+            final Object result = body.run();
+            success = true;
+            return result;
+        } finally {
+            stack.pop();
+            if (stack.isEmpty()) {
+                cycles.remove();
+            }
+            if (cycle.isAcquired()) {
+                recordCycle(Tags.of(JOB_TAG, job, METHOD_TAG, method), System.nanoTime() - start, success);
+            }
+        }
+    }
+
+    /**
+     * Reports items successfully processed by the currently running job cycle.
+     * Does nothing if it is called outside of a job cycle.
+     */
+    public void processed(final long count) {
+        currentCycle().ifPresent(cycle -> processed(cycle.getJob(), count));
+    }
+
+    /**
+     * Reports items successfully processed by the specified job. It is used by jobs
+     * which are not guarded by a lock and therefore have no job cycle.
+     */
+    public void processed(final String job, final long count) {
+        registry.counter(ITEMS_PROCESSED, JOB_TAG, job).increment(count);
+    }
+
+    /**
+     * Reports items which processing failed in the currently running job cycle.
+     * Does nothing if it is called outside of a job cycle.
+     */
+    public void failed(final long count) {
+        currentCycle().ifPresent(cycle -> failed(cycle.getJob(), count));
+    }
+
+    /**
+     * Reports items which processing failed in the specified job, see {@link #processed(String, long)}.
+     */
+    public void failed(final String job, final long count) {
+        registry.counter(ITEMS_FAILED, JOB_TAG, job).increment(count);
+    }
+
+    /**
+     * Executes a body of the currently running job cycle and reports the items as processed
+     * if it completes normally or as failed otherwise, see {@link #processed(long)}.
+     *
+     * @param items a number of items handled by the body, it is evaluated once the body completes
+     * @param body a body to execute
+     */
+    public void track(final LongSupplier items, final Runnable body) {
+        track(items, body, this::processed, this::failed);
+    }
+
+    /**
+     * Executes a body of the specified job and reports the items as processed if it completes normally
+     * or as failed otherwise, see {@link #processed(String, long)}.
+     *
+     * @param job a name of the job
+     * @param items a number of items handled by the body, it is evaluated once the body completes
+     * @param body a body to execute
+     */
+    public void track(final String job, final LongSupplier items, final Runnable body) {
+        track(items, body, count -> processed(job, count), count -> failed(job, count));
+    }
+
+    public void lockAcquired(final String job) {
+        registry.counter(LOCK_ACQUIRED, JOB_TAG, job).increment();
+        currentCycle()
+                .filter(cycle -> cycle.getJob().equals(job))
+                .ifPresent(cycle -> cycle.setAcquired(true));
+    }
+
+    public void lockSkipped(final String job) {
+        registry.counter(LOCK_SKIPPED, JOB_TAG, job).increment();
+    }
+
+    public void lockReleased(final String job, final long heldNanos) {
+        registry.timer(LOCK_HELD, JOB_TAG, job).record(heldNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void track(final LongSupplier items, final Runnable body,
+                       final LongConsumer processed, final LongConsumer failed) {
+        boolean completed = false;
+        try {
+            body.run();
+            completed = true;
+        } finally {
+            if (completed) {
+                processed.accept(items.getAsLong());
+            } else {
+                failed.accept(items.getAsLong());
+            }
+        }
+    }
+
+    private void recordCycle(final Tags tags, final long durationNanos, final boolean success) {
+        Timer.builder(CYCLE_DURATION)
+                .description("Scheduled job cycle duration")
+                .tags(tags)
+                .tag(OUTCOME_TAG, success ? SUCCESS : FAILURE)
+                .register(registry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+        if (success) {
+            lastSuccess.computeIfAbsent(tags, this::registerLastSuccess)
+                    .set(TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()));
+        }
+    }
+
+    private AtomicLong registerLastSuccess(final Tags tags) {
+        final AtomicLong timestamp = new AtomicLong();
+        Gauge.builder(CYCLE_LAST_SUCCESS, timestamp, AtomicLong::get)
+                .description("Epoch second of the last successful scheduled job cycle")
+                .tags(tags)
+                .baseUnit("seconds")
+                .register(registry);
+        return timestamp;
+    }
+
+    private Optional<Cycle> currentCycle() {
+        return Optional.ofNullable(cycles.get()).map(Deque::peek);
+    }
+
+    @FunctionalInterface
+    public interface CycleBody {
+        Object run() throws Throwable;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class Cycle {
+        private final String job;
+        @Setter
+        private boolean acquired;
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.manager.user;
+
+import com.epam.pipeline.entity.user.OnlineUsersRollupEntity;
+import com.epam.pipeline.manager.report.ReportUtils;
+import com.epam.pipeline.repository.user.OnlineUsersRepository;
+import com.epam.pipeline.repository.user.OnlineUsersRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.CollectionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * Maintains hourly and daily rollups of online users snapshots, so usage reports read a single row per period
+ * instead of all the snapshots of the requested range. Rollups are updated as snapshots arrive,
+ * rollups of the snapshots saved before rollups were introduced are built by the database migration.
+ * Rollup rows are locked while they are updated, so concurrent snapshots are not lost.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OnlineUsersRollupService {
+
+    private static final int HOURS_IN_DAY = 24;
+
+    private final OnlineUsersRollupRepository rollupRepository;
+    private final OnlineUsersRepository onlineUsersRepository;
+
+    /**
+     * Adds online users snapshot to the hourly and the daily rollups of its log date.
+     */
+    @Transactional(propagation = Propagation.REQUIRED)
+    public void add(final LocalDateTime logDate, final Collection<Long> userIds) {
+        final BitSet users = toBitmap(userIds);
+        merge(ChronoUnit.HOURS, logDate.truncatedTo(ChronoUnit.HOURS), users);
+        final LocalDateTime day = logDate.truncatedTo(ChronoUnit.DAYS);
+        final OnlineUsersRollupEntity daily = merge(ChronoUnit.DAYS, day, users);
+        final Map<LocalDateTime, BitSet> usersByHour = load(ChronoUnit.HOURS, day, day.plusDays(1)).values()
+                .stream()
+                .collect(Collectors.toMap(OnlineUsersRollupEntity::getPeriodStart,
+                    OnlineUsersRollupEntity::getUserIds));
+        daily.setActiveUsersMedian(calculateDailyMedian(day, usersByHour));
+        rollupRepository.save(daily);
+    }
+
+    /**
+     * Loads rollups of the specified period type which start in [from, to) range.
+     *
+     * @return rollups mapped by their period start
+     */
+    public Map<LocalDateTime, OnlineUsersRollupEntity> load(final ChronoUnit period, final LocalDateTime from,
+                                                            final LocalDateTime to) {
+        return rollupRepository.findByPeriodAndPeriodStartGreaterThanEqualAndPeriodStartLessThan(period, from, to)
+                .stream()
+                .collect(Collectors.toMap(OnlineUsersRollupEntity::getPeriodStart, rollup -> rollup,
+                    (first, second) -> second, TreeMap::new));
+    }
+
+    /**
+     * Rebuilds rollups of days in [from, to) range from the stored online users snapshots.
+     */
+    @Transactional(propagation = Propagation.REQUIRED)
+    public void rebuild(final LocalDate from, final LocalDate to) {
+        for (LocalDate day = from; day.isBefore(to); day = day.plusDays(1)) {
+            rebuildDay(day.atStartOfDay());
+        }
+    }
+
+    /**
+     * Rebuilds rollups of all the days before the specified date which still have stored snapshots.
+     * It shall be called before the snapshots are deleted, so snapshots which were saved without
+     * updating rollups, e.g. by instances of a previous version during an upgrade, are not lost.
+     */
+    @Transactional(propagation = Propagation.REQUIRED)
+    public void rebuildBefore(final LocalDate date) {
+        Optional.ofNullable(onlineUsersRepository.findFirstByOrderByLogDateAsc())
+                .map(snapshot -> snapshot.getLogDate().toLocalDate())
+                .filter(earliest -> earliest.isBefore(date))
+                .ifPresent(earliest -> {
+                    log.info("Rebuilding online users rollups from {} to {}.", earliest, date);
+                    rebuild(earliest, date);
+                });
+    }
+
+    private void rebuildDay(final LocalDateTime day) {
+        final Map<LocalDateTime, BitSet> hours = new TreeMap<>();
+        onlineUsersRepository.findUserIdsByPeriod(day, day.plusDays(1)).forEach(row -> {
+            final LocalDateTime hour = ((LocalDateTime) row[0]).truncatedTo(ChronoUnit.HOURS);
+            final Long userId = (Long) row[1];
+            if (Objects.nonNull(userId)) {
+                hours.computeIfAbsent(hour, key -> new BitSet()).set(Math.toIntExact(userId));
+            }
+        });
+        if (hours.isEmpty()) {
+            return;
+        }
+        final BitSet dayUsers = new BitSet();
+        hours.forEach((hour, users) -> {
+            replace(ChronoUnit.HOURS, hour, users, null);
+            dayUsers.or(users);
+        });
+        replace(ChronoUnit.DAYS, day, dayUsers, calculateDailyMedian(day, hours));
+    }
+
+    private OnlineUsersRollupEntity merge(final ChronoUnit period, final LocalDateTime periodStart,
+                                          final BitSet users) {
+        final OnlineUsersRollupEntity rollup = lock(period, periodStart);
+        final BitSet merged = (BitSet) rollup.getUserIds().clone();
+        merged.or(users);
+        rollup.setUserIds(merged);
+        return rollupRepository.save(rollup);
+    }
+
+    private void replace(final ChronoUnit period, final LocalDateTime periodStart, final BitSet users,
+                         final Integer activeUsersMedian) {
+        final OnlineUsersRollupEntity rollup = lock(period, periodStart);
+        rollup.setUserIds(users);
+        rollup.setActiveUsersMedian(activeUsersMedian);
+        rollupRepository.save(rollup);
+    }
+
+    private OnlineUsersRollupEntity lock(final ChronoUnit period, final LocalDateTime periodStart) {
+        rollupRepository.createIfNotExists(period.name(), Timestamp.valueOf(periodStart));
+        return rollupRepository.findByPeriodAndPeriodStart(period, periodStart);
+    }
+
+    /**
+     * Calculates median of active users of all the hours of the day the same way the usage report does:
+     * hours without rollups are considered as hours without active users.
+     */
+    private Integer calculateDailyMedian(final LocalDateTime day, final Map<LocalDateTime, BitSet> usersByHour) {
+        final List<BitSet> hourlyUsers = LongStream.range(0, HOURS_IN_DAY)
+                .mapToObj(day::plusHours)
+                .map(hour -> usersByHour.getOrDefault(hour, new BitSet()))
+                .collect(Collectors.toList());
+        return ReportUtils.calculateSampleMedian(BitSet::cardinality, hourlyUsers);
+    }
+
+    private static BitSet toBitmap(final Collection<Long> userIds) {
+        final BitSet users = new BitSet();
+        CollectionUtils.emptyIfNull(userIds).stream()
+                .filter(Objects::nonNull)
+                .forEach(userId -> users.set(Math.toIntExact(userId)));
+        return users;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2022 EPAM Systems, Inc. (https://www.epam.com/)
+ * Copyright 2017-2026 EPAM Systems, Inc. (https://www.epam.com/)
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -29,10 +29,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Objects;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -42,6 +39,7 @@ public class OnlineUsersService {
     private final OnlineUsersRepository onlineUsersRepository;
     private final OnlineUsersMapper onlineUsersMapper;
     private final UserManager userManager;
+    private final OnlineUsersRollupService onlineUsersRollupService;
 
     @Transactional
     public OnlineUsers saveCurrentlyOnlineUsers() {
@@ -53,22 +51,19 @@ public class OnlineUsersService {
         entity.setLogDate(DateUtils.nowUTC());
         entity.setUserIds(userIds);
 
-        return onlineUsersMapper.toDto(onlineUsersRepository.save(entity));
+        final OnlineUsersEntity saved = onlineUsersRepository.save(entity);
+        onlineUsersRollupService.add(saved.getLogDate(), userIds);
+        return onlineUsersMapper.toDto(saved);
     }
 
+    /**
+     * Deletes online users snapshots which are older than the specified date,
+     * hourly and daily rollups of the deleted snapshots are kept.
+     */
     @Transactional
     public boolean deleteExpired(final LocalDate date) {
+        onlineUsersRollupService.rebuildBefore(date);
         onlineUsersRepository.deleteByLogDateLessThan(date.atStartOfDay());
         return true;
     }
-
-    public List<OnlineUsers> getUsersByPeriod(final LocalDateTime start, final LocalDateTime end,
-                                              final Set<Long> filterUsers) {
-        final List<OnlineUsersEntity> users = Objects.isNull(filterUsers)
-                ? onlineUsersRepository.findByLogDateGreaterThanAndLogDateLessThan(start, end)
-                : onlineUsersRepository.findByLogDateGreaterThanAndLogDateLessThanAndUserIdsIn(start, end, filterUsers);
-        return users.stream()
-                .map(onlineUsersMapper::toDto)
-                .collect(Collectors.toList());
-    }
 }
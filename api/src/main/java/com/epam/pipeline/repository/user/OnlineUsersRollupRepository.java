@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.repository.user;
+
+import com.epam.pipeline.entity.user.OnlineUsersRollupEntity;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+@Repository
+public interface OnlineUsersRollupRepository extends CrudRepository<OnlineUsersRollupEntity, Long> {
+
+    /**
+     * Creates an empty rollup unless it already exists, so it can be locked with
+     * {@link #findByPeriodAndPeriodStart(ChronoUnit, LocalDateTime)} even by concurrent first writers.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = "INSERT INTO pipeline.online_users_rollup (period, period_start, user_ids) "
+            + "VALUES (?1, ?2, '') ON CONFLICT (period, period_start) DO NOTHING")
+    void createIfNotExists(String period, Timestamp periodStart);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    OnlineUsersRollupEntity findByPeriodAndPeriodStart(ChronoUnit period, LocalDateTime periodStart);
+
+    List<OnlineUsersRollupEntity> findByPeriodAndPeriodStartGreaterThanEqualAndPeriodStartLessThan(
+            ChronoUnit period, LocalDateTime start, LocalDateTime end);
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2024 EPAM Systems, Inc. (https://www.epam.com/)
+ * Copyright 2017-2026 EPAM Systems, Inc. (https://www.epam.com/)
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
  * You may obtain a copy of the License at
@@ -15,6 +15,7 @@
 
 package com.epam.pipeline.security.acl;
 
+import com.epam.pipeline.manager.scheduling.SchedulerMetrics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -29,13 +30,18 @@ import java.util.Map;
 @EnableScheduling
 public class AclRefreshService {
 
+    private static final String REFRESH_JOB = "AclRefreshService_refresh";
+
     private final LookupStrategyImpl lookupStrategy;
     private final AclCache aclCache;
+    private final SchedulerMetrics schedulerMetrics;
 
     public AclRefreshService(final LookupStrategyImpl lookupStrategy,
-                             final AclCache aclCache) {
+                             final AclCache aclCache,
+                             final SchedulerMetrics schedulerMetrics) {
         this.lookupStrategy = lookupStrategy;
         this.aclCache = aclCache;
+        this.schedulerMetrics = schedulerMetrics;
     }
 
     @Scheduled(fixedDelayString = "${security.acl.cache.ttl:60000}")
@@ -44,7 +50,8 @@ public class AclRefreshService {
         final Map<ObjectIdentity, Acl> acls = lookupStrategy.lookupObjectIdentities();
         log.info("Received {} ACLs", acls.size());
         log.info("Persisting ACLs...");
-        acls.forEach((key, value) -> aclCache.putInCache((MutableAcl) value));
+        schedulerMetrics.track(REFRESH_JOB, acls::size,
+                () -> acls.forEach((key, value) -> aclCache.putInCache((MutableAcl) value)));
         log.info("Persisted {} ACLs", acls.size());
     }
 }
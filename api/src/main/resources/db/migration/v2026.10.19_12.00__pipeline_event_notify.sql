@@ -0,0 +1,12 @@
+-- Publishes every new pipeline event to the 'pipeline_event' channel as '<object_type>:<object_id>',
+-- identical notifications within a single transaction are delivered only once
+CREATE OR REPLACE FUNCTION notify_pipeline_event() RETURNS TRIGGER AS $PIPELINE_EVENT_NOTIFY$
+BEGIN
+        PERFORM pg_notify('pipeline_event', NEW.object_type || ':' || NEW.object_id);
+        RETURN NULL;
+END;
+$PIPELINE_EVENT_NOTIFY$ LANGUAGE plpgsql;
+
+CREATE TRIGGER t_pipeline_event_notify
+AFTER INSERT ON pipeline.pipeline_event FOR EACH ROW
+EXECUTE PROCEDURE notify_pipeline_event();
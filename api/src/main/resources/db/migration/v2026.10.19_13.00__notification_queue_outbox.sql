@@ -0,0 +1,9 @@
+-- Turns notification queue into an outbox: messages are claimed by notifier instances
+-- and are kept with their delivery status instead of being deleted before delivery
+ALTER TABLE pipeline.notification_queue ADD COLUMN status TEXT NOT NULL DEFAULT 'NEW';
+ALTER TABLE pipeline.notification_queue ADD COLUMN attempts INT NOT NULL DEFAULT 0;
+ALTER TABLE pipeline.notification_queue ADD COLUMN next_attempt_date TIMESTAMP;
+ALTER TABLE pipeline.notification_queue ADD COLUMN claimed_by TEXT;
+ALTER TABLE pipeline.notification_queue ADD COLUMN claimed_date TIMESTAMP;
+ALTER TABLE pipeline.notification_queue ADD COLUMN last_error TEXT;
+CREATE INDEX IF NOT EXISTS notification_queue_status_idx ON pipeline.notification_queue (status, id);
@@ -0,0 +1,10 @@
+-- Hourly and daily aggregates of online users snapshots, user_ids is a bitmap of online user ids
+CREATE TABLE IF NOT EXISTS pipeline.online_users_rollup (
+    id SERIAL PRIMARY KEY,
+    period TEXT NOT NULL,
+    period_start TIMESTAMP WITH TIME ZONE NOT NULL,
+    user_ids BYTEA NOT NULL,
+    active_users_median INT,
+    CONSTRAINT online_users_rollup_period_start_key UNIQUE (period, period_start)
+);
+CREATE INDEX IF NOT EXISTS online_users_log_date_idx ON pipeline.online_users (log_date);
@@ -0,0 +1,53 @@
+-- Builds hourly and daily rollups of online users snapshots saved before rollups were introduced.
+-- Bitmaps follow java.util.BitSet byte representation: bit N is bit (N % 8) of byte (N / 8),
+-- bytes are little-endian and trailing zero bytes are omitted.
+-- Periods are truncated in the session time zone, which matches the time zone the application saves dates in.
+-- Daily medians are calculated over all 24 hours of a day, hours without snapshots count as hours without users.
+-- Hours without users are then excluded from the median the same way ReportUtils.calculateSampleMedian does it.
+WITH snapshot_users AS (
+    SELECT DISTINCT date_trunc('hour', snapshot.log_date) AS hour, users.user_ids AS user_id
+    FROM pipeline.online_users snapshot
+    JOIN pipeline.online_users_entity_user_ids users ON users.online_users_entity_id = snapshot.id
+    WHERE users.user_ids IS NOT NULL
+),
+period_users AS (
+    SELECT 'HOURS' AS period, hour AS period_start, user_id FROM snapshot_users
+    UNION
+    SELECT 'DAYS' AS period, date_trunc('day', hour) AS period_start, user_id FROM snapshot_users
+),
+period_bytes AS (
+    SELECT period, period_start, (user_id / 8)::INT AS byte_index, bit_or(1 << (user_id % 8)::INT) AS byte_value
+    FROM period_users
+    GROUP BY period, period_start, user_id / 8
+),
+period_bitmaps AS (
+    SELECT bounds.period, bounds.period_start,
+           decode(string_agg(lpad(to_hex(COALESCE(bytes.byte_value, 0)), 2, '0'), '' ORDER BY byte_index.value),
+                  'hex') AS user_ids
+    FROM (
+        SELECT period, period_start, max(byte_index) AS last_byte_index
+        FROM period_bytes
+        GROUP BY period, period_start
+    ) bounds
+    CROSS JOIN LATERAL generate_series(0, bounds.last_byte_index) AS byte_index(value)
+    LEFT JOIN period_bytes bytes ON bytes.period = bounds.period AND bytes.period_start = bounds.period_start
+        AND bytes.byte_index = byte_index.value
+    GROUP BY bounds.period, bounds.period_start
+),
+daily_medians AS (
+    SELECT days.period_start,
+           COALESCE(round((percentile_cont(0.5) WITHIN GROUP (ORDER BY COALESCE(hourly.users, 0))
+               FILTER (WHERE COALESCE(hourly.users, 0) > 0))::NUMERIC)::INT, 0) AS active_users_median
+    FROM (SELECT DISTINCT date_trunc('day', hour) AS period_start FROM snapshot_users) days
+    CROSS JOIN LATERAL generate_series(days.period_start, days.period_start + INTERVAL '23 hours',
+                                       INTERVAL '1 hour') AS day_hour(value)
+    LEFT JOIN (SELECT hour, count(*) AS users FROM snapshot_users GROUP BY hour) hourly
+        ON hourly.hour = day_hour.value
+    GROUP BY days.period_start
+)
+INSERT INTO pipeline.online_users_rollup (period, period_start, user_ids, active_users_median)
+SELECT bitmaps.period, bitmaps.period_start, bitmaps.user_ids, medians.active_users_median
+FROM period_bitmaps bitmaps
+LEFT JOIN daily_medians medians ON bitmaps.period = 'DAYS' AND medians.period_start = bitmaps.period_start
+ON CONFLICT (period, period_start) DO UPDATE
+    SET user_ids = EXCLUDED.user_ids, active_users_median = EXCLUDED.active_users_median;
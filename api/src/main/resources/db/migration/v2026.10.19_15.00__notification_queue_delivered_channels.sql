@@ -0,0 +1,2 @@
+-- Keeps channels which have already delivered a message, so failed deliveries are retried only for other channels
+ALTER TABLE pipeline.notification_queue ADD COLUMN delivered_channels TEXT;
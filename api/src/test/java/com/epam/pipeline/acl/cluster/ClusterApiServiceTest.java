@@ -51,6 +51,7 @@ import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static com.epam.pipeline.test.creator.CommonCreatorConstants.ID;
 import static com.epam.pipeline.test.creator.CommonCreatorConstants.ID_2;
@@ -431,6 +432,26 @@ public class ClusterApiServiceTest extends AbstractAclTest {
         assertThrows(AccessDeniedException.class, () -> clusterApiService.loadNodeDisks(nodeDisk.getNodeId()));
     }
 
+    @Test
+    @WithMockUser(roles = ADMIN_ROLE)
+    public void shouldReturnNodesDisksForAdmin() {
+        final List<String> nodeIds = Collections.singletonList(nodeDisk.getNodeId());
+        final Map<String, List<NodeDisk>> disks = Collections.singletonMap(nodeDisk.getNodeId(), nodeDisks);
+        doReturn(disks).when(mockNodeDiskManager).loadByNodeIds(nodeIds);
+
+        assertThat(clusterApiService.loadNodesDisks(nodeIds)).isEqualTo(disks);
+    }
+
+    @Test
+    @WithMockUser
+    public void shouldDenyAccessToNodesDisksForNonAdminUser() {
+        final List<String> nodeIds = Collections.singletonList(nodeDisk.getNodeId());
+        doReturn(Collections.singletonMap(nodeDisk.getNodeId(), nodeDisks))
+                .when(mockNodeDiskManager).loadByNodeIds(nodeIds);
+
+        assertThrows(AccessDeniedException.class, () -> clusterApiService.loadNodesDisks(nodeIds));
+    }
+
     private void mockNode(final NodeInstance nodeInstance) {
         doReturn(nodeInstance).when(mockNodesManager).getNode(nodeInstance.getName(), filterPodsRequest);
         doReturn(nodeInstance).when(mockNodesManager).getNode(nodeInstance.getName());
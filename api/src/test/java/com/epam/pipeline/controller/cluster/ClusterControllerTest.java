@@ -46,6 +46,7 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -67,6 +68,7 @@ public class ClusterControllerTest extends AbstractControllerTest {
     private static final String LOAD_ALLOWED_INSTANCE_TYPES_URL = INSTANCE_URL + "/allowed";
     private static final String NODE_USAGE_URL = NODE_NAME_URL + "/usage";
     private static final String NODE_DISKS_URL = NODE_NAME_URL + "/disks";
+    private static final String NODES_DISKS_URL = NODE_URL + "/disks";
     private static final String NODE_STATISTICS_URL = NODE_USAGE_URL + "/report";
     private static final String PORT = "7367";
     private static final String NAME = "testName";
@@ -328,4 +330,24 @@ public class ClusterControllerTest extends AbstractControllerTest {
         Mockito.verify(mockClusterApiService).loadNodeDisks(NAME);
         assertResponse(mvcResult, nodeDisks, NodeCreatorUtils.NODE_DISK_LIST_TYPE);
     }
+
+    @Test
+    public void shouldFailLoadNodesDisksForUnauthorizedUser() throws Exception {
+        performUnauthorizedRequest(post(NODES_DISKS_URL));
+    }
+
+    @Test
+    @WithMockUser
+    public void shouldLoadNodesDisks() throws Exception {
+        final List<String> names = Collections.singletonList(NAME);
+        final Map<String, List<NodeDisk>> nodeDisks = Collections.singletonMap(NAME,
+                Collections.singletonList(NodeCreatorUtils.getDefaultNodeDisk()));
+        final String content = getObjectMapper().writeValueAsString(names);
+        Mockito.doReturn(nodeDisks).when(mockClusterApiService).loadNodesDisks(names);
+
+        final MvcResult mvcResult = performRequest(post(NODES_DISKS_URL).content(content));
+
+        Mockito.verify(mockClusterApiService).loadNodesDisks(names);
+        assertResponse(mvcResult, nodeDisks, NodeCreatorUtils.NODE_DISK_MAP_TYPE);
+    }
 }
@@ -26,6 +26,8 @@ import org.springframework.dao.DataIntegrityViolationException;
 import javax.transaction.Transactional;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -40,6 +42,7 @@ public class NodeDiskDaoTest extends AbstractJdbcTest {
     
     private static final String NODE_ID = "NODE_ID";
     private static final String ANOTHER_NODE_ID = "ANOTHER_NODE_ID";
+    private static final String THIRD_NODE_ID = "THIRD_NODE_ID";
     private static final String NULL_NODE_ID = null;
     private static final Long SIZE = 1L;
     private static final Long NULL_SIZE = null;
@@ -118,6 +121,28 @@ public class NodeDiskDaoTest extends AbstractJdbcTest {
         assertThat(disks.size(), is(3));
     }
 
+    @Test
+    public void loadByNodeIdsShouldReturnDisksOfAllRequestedNodes() {
+        insert(NODE_ID, diskRequestOf(SIZE), diskRequestOf(SIZE));
+        insert(ANOTHER_NODE_ID, diskRequestOf(SIZE));
+        insert(THIRD_NODE_ID, diskRequestOf(SIZE));
+
+        final List<NodeDisk> disks = dao.loadByNodeIds(Arrays.asList(NODE_ID, ANOTHER_NODE_ID));
+
+        assertThat(disks.size(), is(3));
+        final Set<String> nodeIds = disks.stream()
+                .map(NodeDisk::getNodeId)
+                .collect(Collectors.toSet());
+        assertThat(nodeIds, is(new HashSet<>(Arrays.asList(NODE_ID, ANOTHER_NODE_ID))));
+    }
+
+    @Test
+    public void loadByNodeIdsShouldReturnEmptyListForEmptyRequest() {
+        insert(NODE_ID, diskRequestOf(SIZE));
+
+        assertTrue(dao.loadByNodeIds(Collections.emptyList()).isEmpty());
+    }
+
     private List<NodeDisk> insert(final String nodeId, final LocalDateTime creationDate, 
                                   final DiskRegistrationRequest... requests) {
         return dao.insert(nodeId, creationDate, Arrays.asList(requests));
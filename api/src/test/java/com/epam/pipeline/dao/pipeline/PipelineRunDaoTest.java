@@ -249,6 +249,41 @@ public class PipelineRunDaoTest extends AbstractJdbcTest {
         assertEquals(5, pipelineRunsWithArchive.size());
     }
 
+    @Test
+    public void testLoadPipelineRunsActiveInPeriodByPages() {
+        final LocalDateTime beforeSyncStart = SYNC_PERIOD_START.minusHours(12);
+        final LocalDateTime afterSyncStart = SYNC_PERIOD_START.plusHours(12);
+
+        createRunWithStartEndDates(beforeSyncStart, afterSyncStart);
+        createRunWithStartEndDates(afterSyncStart, afterSyncStart.plusHours(6));
+        createRunWithStartEndDates(afterSyncStart, null);
+        archiveRunWithStartEndDates(beforeSyncStart, afterSyncStart.plusHours(6));
+
+        pipelineRunDao.loadAllRunsForPipeline(testPipeline.getId())
+            .forEach(run -> runStatusDao.saveStatus(new RunStatus(run.getId(), TaskStatus.RUNNING, null,
+                    LocalDateTime.ofInstant(run.getStartDate().toInstant(), ZoneId.systemDefault()))));
+        final List<PipelineRun> allRuns = pipelineRunDao.loadPipelineRunsActiveInPeriod(
+                SYNC_PERIOD_START, SYNC_PERIOD_END, true);
+
+        final List<Long> pagedRunIds = new ArrayList<>();
+        Long fromId = null;
+        List<PipelineRun> page;
+        do {
+            page = pipelineRunDao.loadPipelineRunsActiveInPeriod(SYNC_PERIOD_START, SYNC_PERIOD_END, true,
+                    fromId, 2);
+            assertTrue(page.size() <= 2);
+            page.forEach(run -> pagedRunIds.add(run.getId()));
+            fromId = page.isEmpty() ? fromId : page.get(page.size() - 1).getId();
+        } while (!page.isEmpty());
+
+        final List<Long> expectedRunIds = allRuns.stream()
+                .map(PipelineRun::getId)
+                .sorted()
+                .collect(Collectors.toList());
+        assertEquals(4, expectedRunIds.size());
+        assertEquals(expectedRunIds, pagedRunIds);
+    }
+
     @Test
     public void testLoadByIds() {
         PipelineRun run1 = createTestPipelineRun();
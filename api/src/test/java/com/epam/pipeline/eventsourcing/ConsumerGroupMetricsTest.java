@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.eventsourcing;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class ConsumerGroupMetricsTest {
+
+    private static final String STREAM = "stream";
+    private static final String GROUP = "group";
+    private static final long LAG = 5;
+    private static final long PENDING = 2;
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final List<ConsumerGroupStats> stats = new ArrayList<>();
+    private final ConsumerGroupMetrics metrics = new ConsumerGroupMetrics(() -> stats, registry);
+
+    @Test
+    public void shouldPublishLagAndPendingPerGroup() {
+        stats.add(ConsumerGroupStats.builder().stream(STREAM).group(GROUP).lag(LAG).pending(PENDING).build());
+
+        metrics.refresh();
+
+        assertThat(gauge("event.sourcing.group.lag").value(), is((double) LAG));
+        assertThat(gauge("event.sourcing.group.pending").value(), is((double) PENDING));
+    }
+
+    @Test
+    public void shouldNotReportValuesOfDisabledGroups() {
+        stats.add(ConsumerGroupStats.builder().stream(STREAM).group(GROUP).lag(LAG).pending(PENDING).build());
+        metrics.refresh();
+        stats.clear();
+
+        metrics.refresh();
+
+        assertTrue(Double.isNaN(gauge("event.sourcing.group.lag").value()));
+        assertTrue(Double.isNaN(gauge("event.sourcing.group.pending").value()));
+    }
+
+    private Gauge gauge(final String name) {
+        final Gauge gauge = registry.find(name).tags("stream", STREAM, "group", GROUP).gauge();
+        assertThat(gauge, notNullValue());
+        return gauge;
+    }
+}
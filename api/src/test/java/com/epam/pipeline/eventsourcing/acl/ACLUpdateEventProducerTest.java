@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 EPAM Systems, Inc. (https://www.epam.com/)
+ * Copyright 2024-2026 EPAM Systems, Inc. (https://www.epam.com/)
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@
 package com.epam.pipeline.eventsourcing.acl;
 
 import com.epam.pipeline.entity.pipeline.Folder;
+import com.epam.pipeline.eventsourcing.BatchingProducerStats;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -63,4 +64,20 @@ public class ACLUpdateEventProducerTest {
         aclUpdateEventProducer.init(null);
         assertEquals(-1, aclUpdateEventProducer.put(new Folder(ID)));
     }
+
+    @Test
+    public void putShouldNotPublishAfterClose() {
+        aclUpdateEventProducer.close();
+        assertEquals(-1, aclUpdateEventProducer.put(new Folder(ID)));
+        Mockito.verifyZeroInteractions(innerProviderSpy);
+    }
+
+    @Test
+    public void statsShouldBeEmptyForNonBatchingProducer() {
+        aclUpdateEventProducer.put(new Folder(ID));
+        final BatchingProducerStats stats = aclUpdateEventProducer.getStats();
+        assertEquals(0, stats.getPublished());
+        assertEquals(0, stats.getBatches());
+        assertEquals(0, stats.getBuffered());
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2021 EPAM Systems, Inc. (https://www.epam.com/)
+ * Copyright 2017-2026 EPAM Systems, Inc. (https://www.epam.com/)
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
  * You may obtain a copy of the License at
@@ -30,6 +30,7 @@ import com.epam.pipeline.manager.pipeline.PipelineRunManager;
 import com.epam.pipeline.manager.pipeline.RunRegionShiftHandler;
 import com.epam.pipeline.manager.preference.PreferenceManager;
 import com.epam.pipeline.manager.preference.SystemPreferences;
+import com.epam.pipeline.manager.scheduling.SchedulerMetrics;
 import com.epam.pipeline.util.CurrentThreadExecutorService;
 import com.epam.pipeline.util.KubernetesTestUtils;
 import io.fabric8.kubernetes.api.model.DoneableNode;
@@ -47,6 +48,7 @@ import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.PodResource;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.hamcrest.Matchers;
 import org.junit.Before;
 import org.junit.Test;
@@ -116,11 +118,11 @@ public class AutoscaleManagerTest {
         MockitoAnnotations.initMocks(this);
 
         autoscaleManagerCore = new AutoscaleManager.AutoscaleManagerCore(
-                pipelineRunManager, executorService,
+                pipelineRunManager, new NodeUpScheduler(preferenceManager, executorService),
                 autoscalerService, nodesManager, kubernetesManager,
                 preferenceManager, TEST_KUBE_NAMESPACE, cloudFacade,
                 nodePoolManager, reassignHandler, scaleDownHandler, Collections.emptyList(), poolAutoscaler,
-                runRegionShiftHandler, metadataManager);
+                runRegionShiftHandler, metadataManager, new SchedulerMetrics(new SimpleMeterRegistry()));
         Whitebox.setInternalState(autoscaleManagerCore, "preferenceManager", preferenceManager);
 
         when(executorService.getExecutorService()).thenReturn(new CurrentThreadExecutorService());
@@ -131,6 +133,14 @@ public class AutoscaleManagerTest {
         when(preferenceManager.getPreference(SystemPreferences.CLUSTER_SPOT)).thenReturn(true);
         when(preferenceManager.getPreference(SystemPreferences.CLUSTER_MAX_SIZE)).thenReturn(1);
         when(preferenceManager.getPreference(SystemPreferences.CLUSTER_NODEUP_MAX_THREADS)).thenReturn(1);
+        when(preferenceManager.getPreference(SystemPreferences.CLUSTER_NODEUP_QUEUE_SIZE))
+            .thenReturn(SystemPreferences.CLUSTER_NODEUP_QUEUE_SIZE.getDefaultValue());
+        when(preferenceManager.getPreference(SystemPreferences.CLUSTER_NODEUP_MAX_THREADS_PER_REGION))
+            .thenReturn(SystemPreferences.CLUSTER_NODEUP_MAX_THREADS_PER_REGION.getDefaultValue());
+        when(preferenceManager.getPreference(SystemPreferences.CLUSTER_NODEUP_MAX_THREADS_PER_INSTANCE_TYPE))
+            .thenReturn(SystemPreferences.CLUSTER_NODEUP_MAX_THREADS_PER_INSTANCE_TYPE.getDefaultValue());
+        when(preferenceManager.getPreference(SystemPreferences.CLUSTER_NODEUP_QUEUE_SLA_SEC))
+            .thenReturn(SystemPreferences.CLUSTER_NODEUP_QUEUE_SLA_SEC.getDefaultValue());
         when(preferenceManager.getPreference(SystemPreferences.CLUSTER_MIN_SIZE))
             .thenReturn(SystemPreferences.CLUSTER_MIN_SIZE.getDefaultValue());
         when(preferenceManager.getPreference(SystemPreferences.CLUSTER_RANDOM_SCHEDULING))
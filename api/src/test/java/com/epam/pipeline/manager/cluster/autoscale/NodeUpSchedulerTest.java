@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.manager.cluster.autoscale;
+
+import com.epam.pipeline.manager.parallel.ParallelExecutorService;
+import com.epam.pipeline.manager.preference.AbstractSystemPreference;
+import com.epam.pipeline.manager.preference.PreferenceManager;
+import com.epam.pipeline.manager.preference.SystemPreferences;
+import com.epam.pipeline.util.CurrentThreadExecutorService;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class NodeUpSchedulerTest {
+
+    private static final Long REGION_1 = 1L;
+    private static final Long REGION_2 = 2L;
+    private static final String INSTANCE_TYPE = "m5.large";
+
+    private final PreferenceManager preferenceManager = mock(PreferenceManager.class);
+    private final ParallelExecutorService executorService = mock(ParallelExecutorService.class);
+    private final Queue<Runnable> dispatched = new LinkedList<>();
+    private final List<String> executed = new ArrayList<>();
+    private NodeUpScheduler scheduler;
+
+    @Before
+    public void setUp() {
+        when(executorService.getExecutorService()).thenReturn(new CurrentThreadExecutorService() {
+            @Override
+            public void execute(final Runnable command) {
+                dispatched.add(command);
+            }
+        });
+        mockPreference(SystemPreferences.CLUSTER_NODEUP_MAX_THREADS, 1);
+        mockPreference(SystemPreferences.CLUSTER_NODEUP_MAX_THREADS_PER_REGION, 0);
+        mockPreference(SystemPreferences.CLUSTER_NODEUP_MAX_THREADS_PER_INSTANCE_TYPE, 0);
+        mockPreference(SystemPreferences.CLUSTER_NODEUP_QUEUE_SLA_SEC, 1);
+        scheduler = new NodeUpScheduler(preferenceManager, executorService);
+    }
+
+    @Test
+    public void shouldDispatchTasksAccordingToPriority() {
+        scheduler.submit(task("first", 1L, NodeUpPriority.RUN, REGION_1, 1));
+        scheduler.submit(task("pool", null, NodeUpPriority.POOL, REGION_1, 1));
+        scheduler.submit(task("retry", 2L, NodeUpPriority.RUN, REGION_1, 2));
+        scheduler.submit(task("run", 3L, NodeUpPriority.RUN, REGION_1, 1));
+        scheduler.submit(task("rerun", 4L, NodeUpPriority.RERUN, REGION_1, 1));
+
+        runAll();
+
+        assertEquals(5, executed.size());
+        assertEquals("first", executed.get(0));
+        assertEquals("rerun", executed.get(1));
+        assertEquals("run", executed.get(2));
+        assertEquals("retry", executed.get(3));
+        assertEquals("pool", executed.get(4));
+    }
+
+    @Test
+    public void shouldRespectRegionLimit() {
+        mockPreference(SystemPreferences.CLUSTER_NODEUP_MAX_THREADS, 2);
+        mockPreference(SystemPreferences.CLUSTER_NODEUP_MAX_THREADS_PER_REGION, 1);
+
+        scheduler.submit(task("first", 1L, NodeUpPriority.RUN, REGION_1, 1));
+        scheduler.submit(task("second", 2L, NodeUpPriority.RUN, REGION_1, 1));
+        scheduler.submit(task("other", 3L, NodeUpPriority.RUN, REGION_2, 1));
+
+        assertEquals(2, dispatched.size());
+        assertEquals(2, scheduler.getActiveTasksCount());
+        assertEquals(1, scheduler.getQueuedTasks().size());
+        assertEquals(Long.valueOf(2L), scheduler.getQueuedTasks().get(0).getRunId());
+
+        runAll();
+
+        assertEquals(3, executed.size());
+        assertEquals("second", executed.get(2));
+    }
+
+    @Test
+    public void shouldCancelQueuedTasksOfRun() {
+        scheduler.submit(task("first", 1L, NodeUpPriority.RUN, REGION_1, 1));
+        final CompletableFuture<Void> cancelled = scheduler.submit(
+                task("cancelled", 2L, NodeUpPriority.RUN, REGION_1, 1));
+
+        assertEquals(1, scheduler.cancel(2L));
+        assertTrue(cancelled.isCancelled());
+
+        runAll();
+
+        assertEquals(1, executed.size());
+        assertTrue(scheduler.getQueuedTasks().isEmpty());
+        assertEquals(0, scheduler.getActiveTasksCount());
+    }
+
+    @Test
+    public void shouldCompleteExceptionallyIfTaskFails() {
+        final CompletableFuture<Void> failed = scheduler.submit(NodeUpTask.builder()
+                .runId(1L)
+                .priority(NodeUpPriority.RUN)
+                .attempt(1)
+                .action(() -> {
+                    throw new IllegalStateException();
+                })
+                .build());
+        scheduler.submit(task("next", 2L, NodeUpPriority.RUN, REGION_1, 1));
+
+        runAll();
+
+        assertTrue(failed.isCompletedExceptionally());
+        assertEquals(1, executed.size());
+    }
+
+    private NodeUpTask task(final String name, final Long runId, final NodeUpPriority priority,
+                            final Long regionId, final int attempt) {
+        return NodeUpTask.builder()
+                .runId(runId)
+                .priority(priority)
+                .regionId(regionId)
+                .instanceType(INSTANCE_TYPE)
+                .attempt(attempt)
+                .action(() -> executed.add(name))
+                .build();
+    }
+
+    private void runAll() {
+        while (!dispatched.isEmpty()) {
+            dispatched.poll().run();
+        }
+    }
+
+    private void mockPreference(final AbstractSystemPreference.IntPreference preference, final int value) {
+        when(preferenceManager.getPreference(preference)).thenReturn(value);
+    }
+}
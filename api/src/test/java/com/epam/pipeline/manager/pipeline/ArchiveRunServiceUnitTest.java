@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 EPAM Systems, Inc. (https://www.epam.com/)
+ * Copyright 2024-2026 EPAM Systems, Inc. (https://www.epam.com/)
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
  * You may obtain a copy of the License at
@@ -98,6 +98,7 @@ public class ArchiveRunServiceUnitTest {
 
         verifyDays(INPUT_DAYS);
         notInvoked(metadataDao).loadMetadataItem(any());
+        verify(archiveRunAsyncService).archiveRunsAsynchronous(any(), any(), any(), any(), anyBoolean(), eq(false));
     }
 
     @Test(expected = IllegalStateException.class)
@@ -161,7 +162,8 @@ public class ArchiveRunServiceUnitTest {
 
         archiveRunService.archiveRuns(GROUP1, false, INPUT_DAYS);
 
-        notInvoked(archiveRunAsyncService).archiveRunsAsynchronous(any(), any(), anyInt(), anyInt(), anyBoolean());
+        notInvoked(archiveRunAsyncService).archiveRunsAsynchronous(any(), any(), anyInt(), anyInt(), anyBoolean(),
+                anyBoolean());
     }
 
     @Test
@@ -202,11 +204,13 @@ public class ArchiveRunServiceUnitTest {
 
         archiveRunService.archiveRuns();
         verifyDays(METADATA_DAYS);
+        verify(archiveRunAsyncService).archiveRunsAsynchronous(any(), any(), any(), any(), anyBoolean(), eq(true));
     }
 
     private void verifyDays(final int expectedDays) {
         final ArgumentCaptor<Map<String, Date>> argument = ArgumentCaptor.forClass((Class) Map.class);
-        verify(archiveRunAsyncService).archiveRunsAsynchronous(argument.capture(), any(), any(), any(), anyBoolean());
+        verify(archiveRunAsyncService).archiveRunsAsynchronous(argument.capture(), any(), any(), any(), anyBoolean(),
+                anyBoolean());
         final Map<String, Date> results = argument.getValue();
         assertThat(results).hasSize(1);
         assertDays(results.get(USER1), expectedDays);
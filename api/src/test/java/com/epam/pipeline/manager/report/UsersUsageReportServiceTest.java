@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2022 EPAM Systems, Inc. (https://www.epam.com/)
+ * Copyright 2017-2026 EPAM Systems, Inc. (https://www.epam.com/)
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,23 +18,23 @@ package com.epam.pipeline.manager.report;
 
 import com.epam.pipeline.dto.report.UsersUsageInfo;
 import com.epam.pipeline.dto.report.UsersUsageReportFilterVO;
-import com.epam.pipeline.dto.user.OnlineUsers;
+import com.epam.pipeline.entity.user.OnlineUsersRollupEntity;
 import com.epam.pipeline.entity.user.PipelineUser;
-import com.epam.pipeline.manager.user.OnlineUsersService;
+import com.epam.pipeline.manager.user.OnlineUsersRollupService;
 import com.epam.pipeline.manager.user.UserManager;
 import org.junit.Test;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.TreeMap;
 
 import static com.epam.pipeline.util.ReportTestUtils.DAYS_IN_MONTH;
 import static com.epam.pipeline.util.ReportTestUtils.HOURS_IN_DAY;
-import static com.epam.pipeline.util.ReportTestUtils.buildTimeIntervals;
 import static com.epam.pipeline.util.ReportTestUtils.dayEnd;
 import static com.epam.pipeline.util.ReportTestUtils.dayStart;
 import static com.epam.pipeline.util.ReportTestUtils.monthEnd;
@@ -48,13 +48,12 @@ public class UsersUsageReportServiceTest {
     private static final String USERNAME2 = "user2";
     private static final List<Long> USERS = Arrays.asList(1L, 2L);
     private static final List<String> USER_NAMES = Arrays.asList(USERNAME1, USERNAME2);
-    private static final Set<Long> FILTER_USERS = Collections.singleton(1L);
     private static final List<String> FILTER_USER_NAMES = Collections.singletonList(USERNAME1);
 
-    private final OnlineUsersService onlineUsersService = mock(OnlineUsersService.class);
+    private final OnlineUsersRollupService onlineUsersRollupService = mock(OnlineUsersRollupService.class);
     private final UserManager userManager = mock(UserManager.class);
     private final UsersUsageReportService usersUsageReportService =
-            new UsersUsageReportService(onlineUsersService, userManager);
+            new UsersUsageReportService(onlineUsersRollupService, userManager);
 
     @Test
     public void shouldCalculateDailyUsersUsageWithoutUsersFilter() {
@@ -66,7 +65,7 @@ public class UsersUsageReportServiceTest {
                 .from(from)
                 .to(to)
                 .build();
-        doReturn(generateOnlineUsers(from, to)).when(onlineUsersService).getUsersByPeriod(from, to, null);
+        doReturn(rollups(from, to, ChronoUnit.HOURS)).when(onlineUsersRollupService).load(ChronoUnit.HOURS, from, to);
         doReturn(mockedUsers()).when(userManager).loadUsersById(USERS);
 
         final UsersUsageInfo expectedFirstResult = UsersUsageInfo.builder()
@@ -98,7 +97,7 @@ public class UsersUsageReportServiceTest {
                 .to(to)
                 .users(FILTER_USER_NAMES)
                 .build();
-        doReturn(generateOnlineUsers(from, to)).when(onlineUsersService).getUsersByPeriod(from, to, FILTER_USERS);
+        doReturn(rollups(from, to, ChronoUnit.HOURS)).when(onlineUsersRollupService).load(ChronoUnit.HOURS, from, to);
         doReturn(mockedFilterUsers()).when(userManager).loadUsersById(Collections.singletonList(1L));
         doReturn(mockedFilterUsers()).when(userManager).loadUsersByNames(Collections.singletonList(USERNAME1));
 
@@ -130,7 +129,7 @@ public class UsersUsageReportServiceTest {
                 .from(from)
                 .to(to)
                 .build();
-        doReturn(generateOnlineUsers(from, to)).when(onlineUsersService).getUsersByPeriod(from, to, null);
+        doReturn(rollups(from, to, ChronoUnit.DAYS)).when(onlineUsersRollupService).load(ChronoUnit.DAYS, from, to);
         doReturn(mockedUsers()).when(userManager).loadUsersById(USERS);
 
         final UsersUsageInfo expectedFirstResult = UsersUsageInfo.builder()
@@ -164,7 +163,7 @@ public class UsersUsageReportServiceTest {
                 .to(to)
                 .users(FILTER_USER_NAMES)
                 .build();
-        doReturn(generateOnlineUsers(from, to)).when(onlineUsersService).getUsersByPeriod(from, to, FILTER_USERS);
+        doReturn(rollups(from, to, ChronoUnit.HOURS)).when(onlineUsersRollupService).load(ChronoUnit.HOURS, from, to);
         doReturn(mockedFilterUsers()).when(userManager).loadUsersById(Collections.singletonList(1L));
         doReturn(mockedFilterUsers()).when(userManager).loadUsersByNames(Collections.singletonList(USERNAME1));
 
@@ -188,17 +187,26 @@ public class UsersUsageReportServiceTest {
         assertThat(result.get(DAYS_IN_MONTH - 1)).isEqualTo(expectedLastResult);
     }
 
-    private List<OnlineUsers> generateOnlineUsers(final LocalDateTime from, final LocalDateTime to) {
-        return buildTimeIntervals(from, to).stream()
-                .map(this::onlineUsers)
-                .collect(Collectors.toList());
+    private Map<LocalDateTime, OnlineUsersRollupEntity> rollups(final LocalDateTime from, final LocalDateTime to,
+                                                                 final ChronoUnit period) {
+        final Map<LocalDateTime, OnlineUsersRollupEntity> rollups = new TreeMap<>();
+        for (LocalDateTime periodStart = from; periodStart.isBefore(to); periodStart = periodStart.plus(1, period)) {
+            rollups.put(periodStart, rollup(periodStart, period));
+        }
+        return rollups;
     }
 
-    private OnlineUsers onlineUsers(final LocalDateTime logTime) {
-        return OnlineUsers.builder()
-                .logDate(logTime)
-                .userIds(USERS)
-                .build();
+    private OnlineUsersRollupEntity rollup(final LocalDateTime periodStart, final ChronoUnit period) {
+        final BitSet userIds = new BitSet();
+        USERS.forEach(userId -> userIds.set(userId.intValue()));
+        final OnlineUsersRollupEntity rollup = new OnlineUsersRollupEntity();
+        rollup.setPeriod(period);
+        rollup.setPeriodStart(periodStart);
+        rollup.setUserIds(userIds);
+        if (ChronoUnit.DAYS == period) {
+            rollup.setActiveUsersMedian(USERS.size());
+        }
+        return rollup;
     }
 
     private List<PipelineUser> mockedUsers() {
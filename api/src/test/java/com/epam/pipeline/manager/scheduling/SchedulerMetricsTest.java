@@ -0,0 +1,175 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.manager.scheduling;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.javacrumbs.shedlock.core.LockConfiguration;
+import net.javacrumbs.shedlock.core.LockProvider;
+import net.javacrumbs.shedlock.core.SimpleLock;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class SchedulerMetricsTest {
+
+    private static final String JOB = "Monitor_monitor";
+    private static final String METHOD = "Monitor_monitor";
+    private static final String JOB_TAG = "job";
+    private static final String OUTCOME_TAG = "outcome";
+    private static final double ITEMS = 3;
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final SchedulerMetrics schedulerMetrics = new SchedulerMetrics(registry);
+    private final LockProvider delegate = mock(LockProvider.class);
+    private final SimpleLock simpleLock = mock(SimpleLock.class);
+    private final LockProvider lockProvider = new MeteredLockProvider(delegate, schedulerMetrics);
+
+    @Test
+    public void shouldRecordCycleIfLockIsAcquired() throws Throwable {
+        doReturn(Optional.of(simpleLock)).when(delegate).lock(any());
+
+        schedulerMetrics.measure(JOB, METHOD, () -> {
+            lockProvider.lock(lockConfiguration()).ifPresent(SimpleLock::unlock);
+            schedulerMetrics.processed((long) ITEMS);
+            schedulerMetrics.failed(1);
+            return null;
+        });
+
+        verify(simpleLock).unlock();
+        assertThat(cycle("success").count(), is(1L));
+        assertThat(counter("scheduler.items.processed").count(), is(ITEMS));
+        assertThat(counter("scheduler.items.failed").count(), is(1.0));
+        assertThat(counter("scheduler.lock.acquired").count(), is(1.0));
+        assertThat(registry.find("scheduler.lock.held").tags(JOB_TAG, JOB).timer().count(), is(1L));
+        final Gauge lastSuccess = registry.find("scheduler.cycle.last.success").tags(JOB_TAG, JOB).gauge();
+        assertThat(lastSuccess, notNullValue());
+        assertTrue(lastSuccess.value() > 0);
+    }
+
+    @Test
+    public void shouldNotRecordCycleIfLockIsNotAcquired() throws Throwable {
+        doReturn(Optional.empty()).when(delegate).lock(any());
+
+        schedulerMetrics.measure(JOB, METHOD, () -> {
+            lockProvider.lock(lockConfiguration());
+            return null;
+        });
+
+        assertThat(counter("scheduler.lock.skipped").count(), is(1.0));
+        assertThat(registry.find("scheduler.cycle.duration").timer(), nullValue());
+        assertThat(registry.find("scheduler.cycle.last.success").gauge(), nullValue());
+    }
+
+    @Test
+    public void shouldRecordFailedCycle() throws Throwable {
+        doReturn(Optional.of(simpleLock)).when(delegate).lock(any());
+
+        try {
+            schedulerMetrics.measure(JOB, METHOD, () -> {
+                lockProvider.lock(lockConfiguration());
+                throw new IllegalStateException();
+            });
+            fail("Cycle exception is expected to be rethrown");
+        } catch (IllegalStateException e) {
+            assertThat(cycle("failure").count(), is(1L));
+            assertThat(registry.find("scheduler.cycle.last.success").gauge(), nullValue());
+        }
+    }
+
+    @Test
+    public void shouldIgnoreItemsOutsideOfCycle() {
+        schedulerMetrics.processed((long) ITEMS);
+
+        assertThat(registry.find("scheduler.items.processed").counter(), nullValue());
+    }
+
+    @Test
+    public void shouldRecordItemsOfSpecifiedJob() {
+        schedulerMetrics.processed(JOB, (long) ITEMS);
+        schedulerMetrics.failed(JOB, 1);
+
+        assertThat(counter("scheduler.items.processed").count(), is(ITEMS));
+        assertThat(counter("scheduler.items.failed").count(), is(1.0));
+    }
+
+    @Test
+    public void shouldTrackItemsOfCompletedBody() {
+        schedulerMetrics.track(JOB, () -> (long) ITEMS, () -> { });
+
+        assertThat(counter("scheduler.items.processed").count(), is(ITEMS));
+        assertThat(registry.find("scheduler.items.failed").counter(), nullValue());
+    }
+
+    @Test
+    public void shouldTrackItemsOfFailedBody() {
+        try {
+            schedulerMetrics.track(JOB, () -> (long) ITEMS, () -> {
+                throw new IllegalStateException();
+            });
+            fail("Body exception is expected to be rethrown");
+        } catch (IllegalStateException e) {
+            assertThat(counter("scheduler.items.failed").count(), is(ITEMS));
+            assertThat(registry.find("scheduler.items.processed").counter(), nullValue());
+        }
+    }
+
+    @Test
+    public void shouldTrackItemsOfCurrentCycle() throws Throwable {
+        doReturn(Optional.of(simpleLock)).when(delegate).lock(any());
+
+        schedulerMetrics.measure(JOB, METHOD, () -> {
+            lockProvider.lock(lockConfiguration());
+            schedulerMetrics.track(() -> (long) ITEMS, () -> { });
+            return null;
+        });
+
+        assertThat(counter("scheduler.items.processed").count(), is(ITEMS));
+    }
+
+    private LockConfiguration lockConfiguration() {
+        return new LockConfiguration(JOB, Instant.now().plusSeconds(60));
+    }
+
+    private Timer cycle(final String outcome) {
+        final Timer timer = registry.find("scheduler.cycle.duration").tags(JOB_TAG, JOB, OUTCOME_TAG, outcome)
+                .timer();
+        assertThat(timer, notNullValue());
+        return timer;
+    }
+
+    private Counter counter(final String name) {
+        final Counter counter = registry.find(name).tags(JOB_TAG, JOB).counter();
+        assertThat(counter, notNullValue());
+        return counter;
+    }
+}
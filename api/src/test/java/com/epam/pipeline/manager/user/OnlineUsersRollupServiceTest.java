@@ -0,0 +1,261 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.manager.user;
+
+import com.epam.pipeline.entity.user.OnlineUsersEntity;
+import com.epam.pipeline.entity.user.OnlineUsersRollupEntity;
+import com.epam.pipeline.manager.report.ReportUtils;
+import com.epam.pipeline.repository.user.OnlineUsersRepository;
+import com.epam.pipeline.repository.user.OnlineUsersRollupRepository;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class OnlineUsersRollupServiceTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2026, 1, 1, 0, 0);
+    private static final LocalDateTime HOUR = DAY.plusHours(10);
+    private static final int SAVES_PER_SNAPSHOT = 3;
+    private static final int SAVES_PER_REBUILT_DAY = 3;
+    private static final int HOURS_IN_DAY = 24;
+    private static final int SNAPSHOT_MINUTES = 5;
+    private static final int DAYS_TO_COMPARE = 30;
+    private static final int MAX_USER_ID = 40;
+    private static final long SEED = 42;
+
+    private final OnlineUsersRollupRepository rollupRepository = mock(OnlineUsersRollupRepository.class);
+    private final OnlineUsersRepository onlineUsersRepository = mock(OnlineUsersRepository.class);
+    private final OnlineUsersRollupService rollupService =
+            new OnlineUsersRollupService(rollupRepository, onlineUsersRepository);
+
+    @Before
+    public void setUp() {
+        doAnswer(returnsFirstArg()).when(rollupRepository).save(any(OnlineUsersRollupEntity.class));
+        doAnswer(invocation -> rollup((ChronoUnit) invocation.getArguments()[0],
+                (LocalDateTime) invocation.getArguments()[1]))
+                .when(rollupRepository).findByPeriodAndPeriodStart(any(ChronoUnit.class), any(LocalDateTime.class));
+    }
+
+    @Test
+    public void shouldMergeSnapshotIntoHourlyAndDailyRollups() {
+        final OnlineUsersRollupEntity hourly = rollup(ChronoUnit.HOURS, HOUR, 1);
+        doReturn(hourly).when(rollupRepository).findByPeriodAndPeriodStart(ChronoUnit.HOURS, HOUR);
+        doReturn(Collections.singletonList(hourly)).when(rollupRepository)
+                .findByPeriodAndPeriodStartGreaterThanEqualAndPeriodStartLessThan(
+                        ChronoUnit.HOURS, DAY, DAY.plusDays(1));
+
+        rollupService.add(HOUR.plusMinutes(10), Arrays.asList(2L, 3L));
+
+        final List<OnlineUsersRollupEntity> saved = captureSaved(SAVES_PER_SNAPSHOT);
+        assertThat(saved.get(0).getPeriod()).isEqualTo(ChronoUnit.HOURS);
+        assertThat(saved.get(0).getUserIds()).isEqualTo(bitmap(1, 2, 3));
+        final OnlineUsersRollupEntity daily = saved.get(SAVES_PER_SNAPSHOT - 1);
+        assertThat(daily.getPeriod()).isEqualTo(ChronoUnit.DAYS);
+        assertThat(daily.getPeriodStart()).isEqualTo(DAY);
+        assertThat(daily.getUserIds()).isEqualTo(bitmap(2, 3));
+        assertThat(daily.getActiveUsersMedian()).isEqualTo(3);
+    }
+
+    @Test
+    public void shouldCreateRollupBeforeLockingIt() {
+        rollupService.add(HOUR.plusMinutes(10), Collections.singletonList(1L));
+
+        final InOrder order = inOrder(rollupRepository);
+        order.verify(rollupRepository).createIfNotExists(ChronoUnit.HOURS.name(), Timestamp.valueOf(HOUR));
+        order.verify(rollupRepository).findByPeriodAndPeriodStart(ChronoUnit.HOURS, HOUR);
+        order.verify(rollupRepository).createIfNotExists(ChronoUnit.DAYS.name(), Timestamp.valueOf(DAY));
+        order.verify(rollupRepository).findByPeriodAndPeriodStart(ChronoUnit.DAYS, DAY);
+    }
+
+    @Test
+    public void shouldRebuildRollupsFromSnapshots() {
+        doReturn(Arrays.asList(
+                new Object[]{HOUR, 1L},
+                new Object[]{HOUR.plusMinutes(10), 2L},
+                new Object[]{HOUR.plusHours(1), 1L}))
+                .when(onlineUsersRepository).findUserIdsByPeriod(DAY, DAY.plusDays(1));
+
+        rollupService.rebuild(DAY.toLocalDate(), DAY.toLocalDate().plusDays(1));
+
+        final List<OnlineUsersRollupEntity> saved = captureSaved(SAVES_PER_REBUILT_DAY);
+        assertThat(saved.get(0).getPeriodStart()).isEqualTo(HOUR);
+        assertThat(saved.get(0).getUserIds()).isEqualTo(bitmap(1, 2));
+        assertThat(saved.get(1).getPeriodStart()).isEqualTo(HOUR.plusHours(1));
+        assertThat(saved.get(1).getUserIds()).isEqualTo(bitmap(1));
+        final OnlineUsersRollupEntity daily = saved.get(2);
+        assertThat(daily.getPeriod()).isEqualTo(ChronoUnit.DAYS);
+        assertThat(daily.getUserIds()).isEqualTo(bitmap(1, 2));
+        assertThat(daily.getActiveUsersMedian()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldRebuildDaysBeforeDateWhichHaveSnapshots() {
+        final OnlineUsersEntity snapshot = new OnlineUsersEntity();
+        snapshot.setLogDate(HOUR);
+        doReturn(snapshot).when(onlineUsersRepository).findFirstByOrderByLogDateAsc();
+
+        rollupService.rebuildBefore(DAY.toLocalDate().plusDays(2));
+
+        verify(onlineUsersRepository).findUserIdsByPeriod(DAY, DAY.plusDays(1));
+        verify(onlineUsersRepository).findUserIdsByPeriod(DAY.plusDays(1), DAY.plusDays(2));
+        verify(onlineUsersRepository, never()).findUserIdsByPeriod(DAY.plusDays(2), DAY.plusDays(3));
+    }
+
+    @Test
+    public void shouldNotRebuildIfThereAreNoSnapshotsBeforeDate() {
+        final OnlineUsersEntity snapshot = new OnlineUsersEntity();
+        snapshot.setLogDate(HOUR);
+        doReturn(snapshot).when(onlineUsersRepository).findFirstByOrderByLogDateAsc();
+
+        rollupService.rebuildBefore(DAY.toLocalDate());
+
+        verify(onlineUsersRepository, never()).findUserIdsByPeriod(any(LocalDateTime.class),
+                any(LocalDateTime.class));
+        verify(rollupRepository, never()).createIfNotExists(anyString(), any(Timestamp.class));
+    }
+
+    @Test
+    public void shouldCalculateDailyMedianAsInMemoryUsageReport() {
+        final Map<String, OnlineUsersRollupEntity> stored = mockStoredRollups();
+        final Random random = new Random(SEED);
+        for (int i = 0; i < DAYS_TO_COMPARE; i++) {
+            final LocalDateTime day = DAY.plusDays(i);
+            final List<OnlineUsersEntity> snapshots = randomSnapshots(random, day);
+            final Integer expectedMedian = calculateInMemoryMedian(snapshots, day);
+
+            snapshots.forEach(snapshot -> rollupService.add(snapshot.getLogDate(), snapshot.getUserIds()));
+
+            assertThat(stored.get(key(ChronoUnit.DAYS, day)).getActiveUsersMedian()).isEqualTo(expectedMedian);
+
+            doReturn(snapshots.stream()
+                    .flatMap(snapshot -> snapshot.getUserIds().stream()
+                            .map(userId -> new Object[]{snapshot.getLogDate(), userId}))
+                    .collect(Collectors.toList()))
+                    .when(onlineUsersRepository).findUserIdsByPeriod(day, day.plusDays(1));
+            rollupService.rebuild(day.toLocalDate(), day.toLocalDate().plusDays(1));
+
+            assertThat(stored.get(key(ChronoUnit.DAYS, day)).getActiveUsersMedian()).isEqualTo(expectedMedian);
+        }
+    }
+
+    private Map<String, OnlineUsersRollupEntity> mockStoredRollups() {
+        final Map<String, OnlineUsersRollupEntity> stored = new HashMap<>();
+        doAnswer(invocation -> {
+            final ChronoUnit period = (ChronoUnit) invocation.getArguments()[0];
+            final LocalDateTime periodStart = (LocalDateTime) invocation.getArguments()[1];
+            return stored.computeIfAbsent(key(period, periodStart), key -> rollup(period, periodStart));
+        }).when(rollupRepository).findByPeriodAndPeriodStart(any(ChronoUnit.class), any(LocalDateTime.class));
+        doAnswer(invocation -> {
+            final ChronoUnit period = (ChronoUnit) invocation.getArguments()[0];
+            final LocalDateTime from = (LocalDateTime) invocation.getArguments()[1];
+            final LocalDateTime to = (LocalDateTime) invocation.getArguments()[2];
+            return stored.values().stream()
+                    .filter(rollup -> rollup.getPeriod() == period)
+                    .filter(rollup -> !rollup.getPeriodStart().isBefore(from) && rollup.getPeriodStart().isBefore(to))
+                    .collect(Collectors.toList());
+        }).when(rollupRepository).findByPeriodAndPeriodStartGreaterThanEqualAndPeriodStartLessThan(
+                any(ChronoUnit.class), any(LocalDateTime.class), any(LocalDateTime.class));
+        return stored;
+    }
+
+    private List<OnlineUsersEntity> randomSnapshots(final Random random, final LocalDateTime day) {
+        final List<OnlineUsersEntity> snapshots = new ArrayList<>();
+        for (LocalDateTime hour = day; hour.isBefore(day.plusDays(1)); hour = hour.plusHours(1)) {
+            if (random.nextInt(3) == 0) {
+                continue;
+            }
+            for (LocalDateTime logDate = hour; logDate.isBefore(hour.plusHours(1));
+                 logDate = logDate.plusMinutes(SNAPSHOT_MINUTES)) {
+                final OnlineUsersEntity snapshot = new OnlineUsersEntity();
+                snapshot.setLogDate(logDate);
+                snapshot.setUserIds(random.longs(random.nextInt(4), 1, MAX_USER_ID)
+                        .boxed()
+                        .collect(Collectors.toList()));
+                snapshots.add(snapshot);
+            }
+        }
+        return snapshots;
+    }
+
+    /**
+     * Calculates daily median the way usage report did it before rollups: 24 hourly buckets of the snapshots.
+     */
+    private Integer calculateInMemoryMedian(final List<OnlineUsersEntity> snapshots, final LocalDateTime day) {
+        final List<Integer> usersByHour = LongStream.range(0, HOURS_IN_DAY)
+                .mapToObj(day::plusHours)
+                .map(hour -> (int) snapshots.stream()
+                        .filter(snapshot -> !snapshot.getLogDate().isBefore(hour)
+                                && snapshot.getLogDate().isBefore(hour.plusHours(1)))
+                        .flatMap(snapshot -> snapshot.getUserIds().stream())
+                        .distinct()
+                        .count())
+                .collect(Collectors.toList());
+        return ReportUtils.calculateSampleMedian(count -> count, usersByHour);
+    }
+
+    private String key(final ChronoUnit period, final LocalDateTime periodStart) {
+        return period + "/" + periodStart;
+    }
+
+    private List<OnlineUsersRollupEntity> captureSaved(final int times) {
+        final ArgumentCaptor<OnlineUsersRollupEntity> captor = ArgumentCaptor.forClass(OnlineUsersRollupEntity.class);
+        verify(rollupRepository, times(times)).save(captor.capture());
+        return captor.getAllValues();
+    }
+
+    private OnlineUsersRollupEntity rollup(final ChronoUnit period, final LocalDateTime periodStart,
+                                           final int... userIds) {
+        final OnlineUsersRollupEntity rollup = new OnlineUsersRollupEntity();
+        rollup.setPeriod(period);
+        rollup.setPeriodStart(periodStart);
+        rollup.setUserIds(bitmap(userIds));
+        return rollup;
+    }
+
+    private BitSet bitmap(final int... userIds) {
+        final BitSet bitmap = new BitSet();
+        Arrays.stream(userIds).forEach(bitmap::set);
+        return bitmap;
+    }
+}
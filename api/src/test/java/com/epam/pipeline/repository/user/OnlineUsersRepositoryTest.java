@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2022 EPAM Systems, Inc. (https://www.epam.com/)
+ * Copyright 2017-2026 EPAM Systems, Inc. (https://www.epam.com/)
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -26,7 +26,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -78,52 +77,6 @@ public class OnlineUsersRepositoryTest extends AbstractJpaTest {
                 .contains(activeEntity.getId());
     }
 
-    @Test
-    @Transactional
-    public void shouldFindUsersByPeriod() {
-        saveEntity(DateUtils.nowUTC().minusDays(5));
-        final OnlineUsersEntity entity = saveEntity(DateUtils.nowUTC().minusDays(3));
-        saveEntity(DateUtils.nowUTC().minusDays(1));
-
-        entityManager.flush();
-        entityManager.clear();
-
-        final List<Long> result = repository.findByLogDateGreaterThanAndLogDateLessThan(
-                DateUtils.nowUTC().minusDays(4),
-                DateUtils.nowUTC().minusDays(2)).stream()
-                .map(OnlineUsersEntity::getId)
-                .collect(Collectors.toList());
-
-        assertThat(result)
-                .hasSize(1)
-                .contains(entity.getId());
-    }
-
-    @Test
-    @Transactional
-    public void shouldFindUsersByPeriodAndUsers() {
-        saveEntity(DateUtils.nowUTC().minusDays(6));
-        final List<Long> users = new ArrayList<>();
-        users.add(1L);
-        saveEntity(DateUtils.nowUTC().minusDays(4), users);
-        final OnlineUsersEntity entity = saveEntity(DateUtils.nowUTC().minusDays(3));
-        saveEntity(DateUtils.nowUTC().minusDays(1));
-
-        entityManager.flush();
-        entityManager.clear();
-
-        final List<Long> result = repository.findByLogDateGreaterThanAndLogDateLessThanAndUserIdsIn(
-                DateUtils.nowUTC().minusDays(5),
-                DateUtils.nowUTC().minusDays(2),
-                Collections.singleton(2L)).stream()
-                .map(OnlineUsersEntity::getId)
-                .collect(Collectors.toList());
-
-        assertThat(result)
-                .hasSize(1)
-                .contains(entity.getId());
-    }
-
     private OnlineUsersEntity saveEntity(final LocalDateTime date) {
         final List<Long> userIds = new ArrayList<>();
         userIds.add(1L);
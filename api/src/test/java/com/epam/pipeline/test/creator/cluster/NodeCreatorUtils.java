@@ -60,6 +60,8 @@ public final class NodeCreatorUtils {
             new TypeReference<Result<List<MonitoringStats>>>() { };
     public static final TypeReference<Result<List<NodeDisk>>> NODE_DISK_LIST_TYPE =
             new TypeReference<Result<List<NodeDisk>>>() { };
+    public static final TypeReference<Result<Map<String, List<NodeDisk>>>> NODE_DISK_MAP_TYPE =
+            new TypeReference<Result<Map<String, List<NodeDisk>>>>() { };
     private static final List<InstanceType> INSTANCE_TYPES = Collections.singletonList(getDefaultInstanceType());
     private static final String UUID = "1fb7aff6-03bf-11eb-adc1-0242ac120002";
     private static final LocalDateTime LDT =
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 EPAM Systems, Inc. (https://www.epam.com/)
+ * Copyright 2017-2026 EPAM Systems, Inc. (https://www.epam.com/)
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,8 @@ import com.epam.pipeline.billingreportagent.model.StorageType;
 import com.epam.pipeline.billingreportagent.model.pricing.AwsService;
 import com.epam.pipeline.billingreportagent.service.ElasticsearchServiceClient;
 import com.epam.pipeline.billingreportagent.service.ElasticsearchSynchronizer;
+import com.epam.pipeline.billingreportagent.service.impl.BillingSyncMetrics;
+import com.epam.pipeline.billingreportagent.service.impl.BillingSyncSettings;
 import com.epam.pipeline.billingreportagent.service.impl.BulkRequestSender;
 import com.epam.pipeline.billingreportagent.service.impl.CloudPipelineAPIClient;
 import com.epam.pipeline.billingreportagent.service.impl.ElasticIndexService;
@@ -48,6 +50,7 @@ import com.epam.pipeline.billingreportagent.service.storage.requests.StorageRequ
 import com.epam.pipeline.entity.datastorage.DataStorageType;
 import com.epam.pipeline.entity.datastorage.MountType;
 import com.epam.pipeline.entity.search.SearchDocumentType;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
@@ -85,6 +88,29 @@ public class CommonSyncConfiguration {
         return new BulkRequestSender(elasticsearchClient);
     }
 
+    @Bean
+    public BillingSyncSettings billingSyncSettings(
+            final @Value("${sync.billing.conversion.threads:0}") int conversionThreads,
+            final @Value("${sync.billing.entity.queue.size:1000}") int entityQueueSize,
+            final @Value("${sync.billing.request.queue.size:10000}") int requestQueueSize,
+            final @Value("${sync.bulk.target.latency.ms:1000}") long targetBulkLatencyMs,
+            final @Value("${sync.bulk.max.retries:3}") int maxBulkRetries,
+            final @Value("${sync.bulk.retry.delay.ms:1000}") long bulkRetryDelayMs) {
+        return BillingSyncSettings.builder()
+                .conversionThreads(conversionThreads)
+                .entityQueueSize(entityQueueSize)
+                .requestQueueSize(requestQueueSize)
+                .targetBulkLatencyMs(targetBulkLatencyMs)
+                .maxBulkRetries(maxBulkRetries)
+                .bulkRetryDelayMs(bulkRetryDelayMs)
+                .build();
+    }
+
+    @Bean
+    public BillingSyncMetrics billingSyncMetrics(final MeterRegistry meterRegistry) {
+        return new BillingSyncMetrics(meterRegistry);
+    }
+
     @Bean
     @ConditionalOnProperty(value = "sync.run.disable", matchIfMissing = true, havingValue = FALSE)
     public ElasticsearchSynchronizer pipelineRunSynchronizer(
@@ -93,7 +119,9 @@ public class CommonSyncConfiguration {
             final ElasticIndexService indexService,
             final ElasticsearchServiceClient elasticsearchClient,
             final @Value("${sync.run.index.name}") String runIndexName,
-            final @Value("${sync.run.index.mapping}") String runMapping) {
+            final @Value("${sync.run.index.mapping}") String runMapping,
+            final BillingSyncSettings syncSettings,
+            final BillingSyncMetrics syncMetrics) {
         return new PipelineRunSynchronizer(runMapping,
                 commonIndexPrefix,
                 runIndexName,
@@ -102,7 +130,10 @@ public class CommonSyncConfiguration {
                 elasticsearchClient,
                 indexService,
                 mapper,
-                loader);
+                loader,
+                "pipelineRunSynchronizer",
+                syncSettings,
+                syncMetrics);
     }
 
     @Bean
@@ -114,7 +145,9 @@ public class CommonSyncConfiguration {
                                               final @Value("${sync.storage.price.load.mode:api}")
                                                       String priceMode,
                                               final @Value("${sync.aws.json.price.endpoint.template}")
-                                                      String endpointTemplate) {
+                                                      String endpointTemplate,
+                                              final BillingSyncSettings syncSettings,
+                                              final BillingSyncMetrics syncMetrics) {
         final StorageBillingMapper mapper = new StorageBillingMapper(SearchDocumentType.S3_STORAGE, billingCenterKey);
         final StoragePricingService pricingService =
                 new StoragePricingService(
@@ -144,7 +177,10 @@ public class CommonSyncConfiguration {
                         pricingService,
                         apiClient,
                         enableStorageHistoricalBillingGeneration),
-                DataStorageType.S3);
+                DataStorageType.S3,
+                "s3Synchronizer",
+                syncSettings,
+                syncMetrics);
     }
 
     @Bean
@@ -157,7 +193,9 @@ public class CommonSyncConfiguration {
                                                        String priceMode,
                                                final @Value("${sync.aws.json.price.endpoint.template}")
                                                        String endpointTemplate,
-                                               final FileShareMountsService fileShareMountsService) {
+                                               final FileShareMountsService fileShareMountsService,
+                                               final BillingSyncSettings syncSettings,
+                                               final BillingSyncMetrics syncMetrics) {
         final StorageBillingMapper mapper = new StorageBillingMapper(SearchDocumentType.NFS_STORAGE, billingCenterKey);
         final StoragePricingService pricingService =
                 new StoragePricingService(new AwsStoragePriceListLoader(AwsService.EFS_SERVICE,
@@ -178,7 +216,10 @@ public class CommonSyncConfiguration {
                         fileShareMountsService,
                         MountType.NFS,
                         enableStorageHistoricalBillingGeneration),
-                DataStorageType.NFS);
+                DataStorageType.NFS,
+                "efsSynchronizer",
+                syncSettings,
+                syncMetrics);
     }
 
     @Bean
@@ -192,7 +233,9 @@ public class CommonSyncConfiguration {
             String priceMode,
             final @Value("${sync.aws.json.price.endpoint.template}")
             String endpointTemplate,
-            final FileShareMountsService fileShareMountsService) {
+            final FileShareMountsService fileShareMountsService,
+            final BillingSyncSettings syncSettings,
+            final BillingSyncMetrics syncMetrics) {
         final StorageBillingMapper mapper = new StorageBillingMapper(SearchDocumentType.NFS_STORAGE, billingCenterKey);
         final StoragePricingService pricingService =
                 new StoragePricingService(new AwsStoragePriceListLoader(AwsService.LUSTRE_SERVICE,
@@ -211,7 +254,10 @@ public class CommonSyncConfiguration {
                         apiClient,
                         fileShareMountsService,
                         enableStorageHistoricalBillingGeneration),
-                DataStorageType.NFS);
+                DataStorageType.NFS,
+                "lustreSynchronizer",
+                syncSettings,
+                syncMetrics);
     }
 
     @Bean
@@ -219,7 +265,9 @@ public class CommonSyncConfiguration {
     public StorageSynchronizer gsSynchronizer(final StorageLoader loader,
                                               final ElasticIndexService indexService,
                                               final ElasticsearchServiceClient elasticsearchClient,
-                                              final CloudPipelineAPIClient apiClient) {
+                                              final CloudPipelineAPIClient apiClient,
+                                              final BillingSyncSettings syncSettings,
+                                              final BillingSyncMetrics syncMetrics) {
         final StorageBillingMapper mapper = new StorageBillingMapper(SearchDocumentType.GS_STORAGE, billingCenterKey);
         final StoragePricingService pricingService =
                 new StoragePricingService(new GcpStoragePriceListLoader());
@@ -236,7 +284,10 @@ public class CommonSyncConfiguration {
                         pricingService,
                         apiClient,
                         enableStorageHistoricalBillingGeneration),
-                DataStorageType.GS);
+                DataStorageType.GS,
+                "gsSynchronizer",
+                syncSettings,
+                syncMetrics);
     }
 
     @Bean
@@ -250,7 +301,9 @@ public class CommonSyncConfiguration {
         final AzureEARawPriceLoader rawEAPriceLoader,
         final CloudPipelineAPIClient apiClient,
         final @Value("${sync.storage.azure-blob.category:General Block Blob}") String blobStorageCategory,
-        final @Value("${sync.storage.azure-blob.redundancy:LRS}") String redundancyType) {
+        final @Value("${sync.storage.azure-blob.redundancy:LRS}") String redundancyType,
+        final BillingSyncSettings syncSettings,
+        final BillingSyncMetrics syncMetrics) {
         final StorageBillingMapper mapper = new StorageBillingMapper(SearchDocumentType.AZ_BLOB_STORAGE,
                 billingCenterKey);
         final StoragePricingService pricingService =
@@ -272,7 +325,10 @@ public class CommonSyncConfiguration {
                         pricingService,
                         apiClient,
                         enableStorageHistoricalBillingGeneration),
-                DataStorageType.AZ);
+                DataStorageType.AZ,
+                "azureBlobSynchronizer",
+                syncSettings,
+                syncMetrics);
     }
 
     @Bean
@@ -286,7 +342,9 @@ public class CommonSyncConfiguration {
                                                        final AzureEARawPriceLoader rawEAPriceLoader,
                                                        final CloudPipelineAPIClient apiClient,
                                                        final @Value("${sync.storage.azure-netapp.tier:Standard}")
-                                                               String storageTier) {
+                                                               String storageTier,
+                                                       final BillingSyncSettings syncSettings,
+                                                       final BillingSyncMetrics syncMetrics) {
         final StorageBillingMapper mapper = new StorageBillingMapper(SearchDocumentType.NFS_STORAGE, billingCenterKey);
         final StoragePricingService pricingService =
             new StoragePricingService(new AzureNetAppStoragePriceListLoader(
@@ -306,7 +364,10 @@ public class CommonSyncConfiguration {
                         fileShareMountsService,
                         MountType.NFS,
                         enableStorageHistoricalBillingGeneration),
-                DataStorageType.NFS);
+                DataStorageType.NFS,
+                "azureNetAppSynchronizer",
+                syncSettings,
+                syncMetrics);
     }
 
     @Bean
@@ -320,7 +381,9 @@ public class CommonSyncConfiguration {
                                                       final AzureEARawPriceLoader rawEAPriceLoader,
                                                       final CloudPipelineAPIClient apiClient,
                                                       final @Value("${sync.storage.azure-files.tier:Cool LRS}")
-                                                              String storageTier) {
+                                                              String storageTier,
+                                                      final BillingSyncSettings syncSettings,
+                                                      final BillingSyncMetrics syncMetrics) {
         final StorageBillingMapper mapper = new StorageBillingMapper(SearchDocumentType.NFS_STORAGE, billingCenterKey);
         final StoragePricingService pricingService = new StoragePricingService(
                 new AzureFilesStoragePriceListLoader(
@@ -340,7 +403,10 @@ public class CommonSyncConfiguration {
                                                                             fileShareMountsService,
                                                                             MountType.SMB,
                                                                             enableStorageHistoricalBillingGeneration),
-                                       DataStorageType.NFS);
+                                       DataStorageType.NFS,
+                                       "azureFilesSynchronizer",
+                                       syncSettings,
+                                       syncMetrics);
     }
 
     @Bean
@@ -52,6 +52,12 @@ public abstract class AbstractEntityMapper<T> {
     }
 
     protected String asString(final Date date) {
-        return Optional.ofNullable(date).map(SIMPLE_DATE_FORMAT::format).orElse(null);
+        return Optional.ofNullable(date).map(AbstractEntityMapper::formatDate).orElse(null);
+    }
+
+    private static String formatDate(final Date date) {
+        synchronized (SIMPLE_DATE_FORMAT) {
+            return SIMPLE_DATE_FORMAT.format(date);
+        }
     }
 }
@@ -50,6 +50,19 @@ public interface EntityLoader<T> {
 
     List<EntityContainer<T>> loadAllEntitiesActiveInPeriod(LocalDateTime from, LocalDateTime to);
 
+    /**
+     * Loads entities active in the given period as a lazy stream of batches. Loaders that can fetch entities
+     * page by page shall override this method to avoid keeping the whole period in memory.
+     */
+    default Stream<List<EntityContainer<T>>> streamAllEntitiesActiveInPeriod(final LocalDateTime from,
+                                                                             final LocalDateTime to) {
+        return Stream.of(loadAllEntitiesActiveInPeriod(from, to));
+    }
+
+    default Stream<List<EntityContainer<T>>> streamAllEntities() {
+        return Stream.of(loadAllEntities());
+    }
+
     default Map<String, EntityWithMetadata<PipelineUser>> prepareUsers(final CloudPipelineAPIClient apiClient) {
 
         final Map<String, PipelineUser> users =
@@ -40,12 +40,20 @@ public interface EntityToBillingRequestConverter<T> {
                                                             String indexName,
                                                             LocalDateTime previousSync,
                                                             LocalDateTime syncStart) {
-        return entityContainers.stream()
+        return prepareEntities(entityContainers).stream()
             .map(entityContainer -> convertEntityToRequests(entityContainer, indexName, previousSync, syncStart))
             .flatMap(List::stream)
             .collect(Collectors.toList());
     }
 
+    /**
+     * Prepares a batch of entities for conversion, e.g. refreshes prices and filters out
+     * entities which shall not be billed. Called once per batch before its entities are converted.
+     */
+    default List<EntityContainer<T>> prepareEntities(List<EntityContainer<T>> entityContainers) {
+        return entityContainers;
+    }
+
     default String parseDateToString(final LocalDate date) {
         if (date == null) {
             return null;
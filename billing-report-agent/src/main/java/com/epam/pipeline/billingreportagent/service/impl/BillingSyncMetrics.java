@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.billingreportagent.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Exposes billing synchronization pipeline state: the number of items passed through each stage,
+ * the items per second rate of each stage during the last synchronization, the current depth of the
+ * queues between stages and the size and latency of bulk requests.
+ */
+@RequiredArgsConstructor
+public class BillingSyncMetrics {
+
+    private static final String STAGE_ITEMS = "billing.sync.stage.items";
+    private static final String STAGE_THROUGHPUT = "billing.sync.stage.throughput";
+    private static final String QUEUE_DEPTH = "billing.sync.queue.depth";
+    private static final String BULK_SIZE = "billing.sync.bulk.size";
+    private static final String BULK_DURATION = "billing.sync.bulk.duration";
+    private static final String SYNCHRONIZER_TAG = "synchronizer";
+    private static final String STAGE_TAG = "stage";
+    private static final String QUEUE_TAG = "queue";
+    private static final long MILLIS_IN_SECOND = 1000L;
+
+    private final MeterRegistry registry;
+    private final Map<Tags, AtomicLong> throughputs = new ConcurrentHashMap<>();
+    private final Map<Tags, AtomicReference<Collection<?>>> queues = new ConcurrentHashMap<>();
+    private final Map<Tags, AtomicLong> bulkSizes = new ConcurrentHashMap<>();
+
+    public Counter stageItems(final String synchronizer, final String stage) {
+        return Counter.builder(STAGE_ITEMS)
+                .description("Items processed by a billing synchronization stage")
+                .tags(Tags.of(SYNCHRONIZER_TAG, synchronizer, STAGE_TAG, stage))
+                .register(registry);
+    }
+
+    public void recordThroughput(final String synchronizer, final String stage,
+                                 final long items, final long durationMs) {
+        throughputs.computeIfAbsent(Tags.of(SYNCHRONIZER_TAG, synchronizer, STAGE_TAG, stage),
+                this::registerThroughput)
+                .set(durationMs > 0 ? items * MILLIS_IN_SECOND / durationMs : items);
+    }
+
+    /**
+     * Starts reporting the size of the given queue, null queue resets the reported depth to zero.
+     */
+    public void trackQueue(final String synchronizer, final String queue, final Collection<?> items) {
+        queues.computeIfAbsent(Tags.of(SYNCHRONIZER_TAG, synchronizer, QUEUE_TAG, queue), this::registerQueue)
+                .set(items);
+    }
+
+    public void recordBulk(final String synchronizer, final int size, final long durationMs) {
+        final Tags tags = Tags.of(SYNCHRONIZER_TAG, synchronizer);
+        bulkSizes.computeIfAbsent(tags, this::registerBulkSize).set(size);
+        Timer.builder(BULK_DURATION)
+                .description("Billing documents bulk request duration")
+                .tags(tags)
+                .register(registry)
+                .record(durationMs, TimeUnit.MILLISECONDS);
+    }
+
+    private AtomicLong registerThroughput(final Tags tags) {
+        final AtomicLong throughput = new AtomicLong();
+        Gauge.builder(STAGE_THROUGHPUT, throughput, AtomicLong::get)
+                .description("Items per second processed by a stage during the last billing synchronization")
+                .tags(tags)
+                .baseUnit("items/s")
+                .register(registry);
+        return throughput;
+    }
+
+    private AtomicReference<Collection<?>> registerQueue(final Tags tags) {
+        final AtomicReference<Collection<?>> queue = new AtomicReference<>();
+        Gauge.builder(QUEUE_DEPTH, queue, ref -> Optional.ofNullable(ref.get()).map(Collection::size).orElse(0))
+                .description("Items waiting between billing synchronization stages")
+                .tags(tags)
+                .register(registry);
+        return queue;
+    }
+
+    private AtomicLong registerBulkSize(final Tags tags) {
+        final AtomicLong size = new AtomicLong();
+        Gauge.builder(BULK_SIZE, size, AtomicLong::get)
+                .description("Number of documents in the last billing bulk request")
+                .tags(tags)
+                .register(registry);
+        return size;
+    }
+}
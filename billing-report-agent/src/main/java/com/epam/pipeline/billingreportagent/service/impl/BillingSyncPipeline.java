@@ -0,0 +1,369 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.billingreportagent.service.impl;
+
+import com.epam.pipeline.billingreportagent.exception.ElasticClientException;
+import com.epam.pipeline.billingreportagent.model.EntityContainer;
+import com.epam.pipeline.utils.AdaptiveBulkSizer;
+import io.micrometer.core.instrument.Counter;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.elasticsearch.action.DocWriteRequest;
+import org.elasticsearch.action.index.IndexRequest;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Converts loaded entities into billing documents and sends them to elasticsearch.
+ *
+ * In pipelined mode loading, conversion and indexing run concurrently and are connected with bounded queues:
+ * the synchronization thread puts loaded entities into the entity queue, conversion workers split them into
+ * billing documents and put the documents into the request queue, and the indexing worker sends them with
+ * bulk requests which size is adjusted to elasticsearch latency and rejections. Rejected documents are retried
+ * with a growing delay and synchronization fails if they are still not indexed after the last retry.
+ * Otherwise entities are converted and indexed batch by batch in the synchronization thread using
+ * the same adaptive bulk size and retries.
+ */
+@Slf4j
+public class BillingSyncPipeline<T> {
+
+    private static final String LOAD_STAGE = "load";
+    private static final String CONVERT_STAGE = "convert";
+    private static final String INDEX_STAGE = "index";
+    private static final String ENTITY_QUEUE = "entities";
+    private static final String REQUEST_QUEUE = "requests";
+    private static final long QUEUE_TIMEOUT_MS = 1000;
+    private static final DocWriteRequest END_OF_REQUESTS = new IndexRequest();
+
+    private final String name;
+    private final String indexMappingFile;
+    private final ElasticIndexService indexService;
+    private final BulkRequestSender requestSender;
+    private final int bulkSize;
+    private final BillingSyncSettings settings;
+    private final BillingSyncMetrics metrics;
+    private final Map<String, Boolean> indices = new HashMap<>();
+
+    public BillingSyncPipeline(final String name,
+                               final String indexMappingFile,
+                               final ElasticIndexService indexService,
+                               final BulkRequestSender requestSender,
+                               final int bulkSize,
+                               final BillingSyncSettings settings,
+                               final BillingSyncMetrics metrics) {
+        this.name = name;
+        this.indexMappingFile = indexMappingFile;
+        this.indexService = indexService;
+        this.requestSender = requestSender;
+        this.bulkSize = bulkSize;
+        this.settings = settings;
+        this.metrics = metrics;
+    }
+
+    public Summary synchronize(final Stream<List<EntityContainer<T>>> batches,
+                               final Function<EntityContainer<T>, List<DocWriteRequest>> converter) {
+        final long start = System.currentTimeMillis();
+        final Stage loading = new Stage(LOAD_STAGE, start);
+        final Stage conversion = new Stage(CONVERT_STAGE, start);
+        final Stage indexing = new Stage(INDEX_STAGE, start);
+        if (settings.isPipelined()) {
+            synchronizePipelined(batches, converter, loading, conversion, indexing);
+        } else {
+            synchronizeSequentially(batches, converter, loading, conversion, indexing);
+        }
+        final Summary summary = new Summary(loading.getItems(), conversion.getItems(), indexing.getItems());
+        log.info("Billing synchronization {} finished in {} ms: {} entities loaded, {} documents created, "
+                        + "{} documents indexed.", name, System.currentTimeMillis() - start,
+                summary.getEntities(), summary.getDocuments(), summary.getIndexed());
+        return summary;
+    }
+
+    private void synchronizeSequentially(final Stream<List<EntityContainer<T>>> batches,
+                                         final Function<EntityContainer<T>, List<DocWriteRequest>> converter,
+                                         final Stage loading,
+                                         final Stage conversion,
+                                         final Stage indexing) {
+        final AdaptiveBulkSizer sizer = new AdaptiveBulkSizer(bulkSize, settings.getTargetBulkLatencyMs());
+        final Iterator<List<EntityContainer<T>>> iterator = batches.iterator();
+        try {
+            while (iterator.hasNext()) {
+                final List<EntityContainer<T>> batch = iterator.next();
+                loading.add(batch.size());
+                final List<DocWriteRequest> requests = batch.stream()
+                        .map(entity -> convertSafely(entity, converter))
+                        .flatMap(Collection::stream)
+                        .collect(Collectors.toList());
+                conversion.add(requests.size());
+                int from = 0;
+                while (from < requests.size()) {
+                    final int to = Math.min(requests.size(), from + sizer.getBulkSize());
+                    indexing.add(sendBulk(requests.subList(from, to), sizer));
+                    from = to;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Billing synchronization " + name + " was interrupted", e);
+        }
+        loading.finish();
+        conversion.finish();
+        indexing.finish();
+    }
+
+    private void synchronizePipelined(final Stream<List<EntityContainer<T>>> batches,
+                                      final Function<EntityContainer<T>, List<DocWriteRequest>> converter,
+                                      final Stage loading,
+                                      final Stage conversion,
+                                      final Stage indexing) {
+        final int workers = settings.getConversionThreads();
+        final BlockingQueue<EntityContainer<T>> entities = new ArrayBlockingQueue<>(settings.getEntityQueueSize());
+        final BlockingQueue<DocWriteRequest> requests = new ArrayBlockingQueue<>(settings.getRequestQueueSize());
+        final EntityContainer<T> endOfEntities = EntityContainer.<T>builder().build();
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final AtomicInteger activeConverters = new AtomicInteger(workers);
+        final ExecutorService executor = Executors.newFixedThreadPool(workers + 1);
+        metrics.trackQueue(name, ENTITY_QUEUE, entities);
+        metrics.trackQueue(name, REQUEST_QUEUE, requests);
+        try {
+            for (int i = 0; i < workers; i++) {
+                executor.submit(() -> convert(entities, requests, endOfEntities, converter, conversion,
+                        activeConverters, failure));
+            }
+            final Future<?> indexer = executor.submit(() -> index(requests, workers, indexing, failure));
+            final Iterator<EntityContainer<T>> iterator = batches.flatMap(List::stream).iterator();
+            while (iterator.hasNext()) {
+                put(entities, iterator.next(), failure);
+                loading.add(1);
+            }
+            loading.finish();
+            for (int i = 0; i < workers; i++) {
+                put(entities, endOfEntities, failure);
+            }
+            indexer.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Billing synchronization " + name + " was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Billing synchronization " + name + " failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+            metrics.trackQueue(name, ENTITY_QUEUE, null);
+            metrics.trackQueue(name, REQUEST_QUEUE, null);
+        }
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void convert(final BlockingQueue<EntityContainer<T>> entities,
+                         final BlockingQueue<DocWriteRequest> requests,
+                         final EntityContainer<T> endOfEntities,
+                         final Function<EntityContainer<T>, List<DocWriteRequest>> converter,
+                         final Stage conversion,
+                         final AtomicInteger activeConverters,
+                         final AtomicReference<Throwable> failure) {
+        try {
+            while (true) {
+                final EntityContainer<T> entity = entities.take();
+                if (entity == endOfEntities) {
+                    break;
+                }
+                for (final DocWriteRequest request : convertSafely(entity, converter)) {
+                    put(requests, request, failure);
+                    conversion.add(1);
+                }
+            }
+            if (activeConverters.decrementAndGet() == 0) {
+                conversion.finish();
+            }
+            put(requests, END_OF_REQUESTS, failure);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException | Error e) {
+            log.error("Billing conversion worker {} failed: {}", name, e.getMessage());
+            failure.compareAndSet(null, e);
+        }
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private List<DocWriteRequest> convertSafely(final EntityContainer<T> entity,
+                                                final Function<EntityContainer<T>, List<DocWriteRequest>> converter) {
+        try {
+            return converter.apply(entity);
+        } catch (RuntimeException e) {
+            log.error("An error during billing {} conversion: {}", name, e.getMessage());
+            log.error(e.getMessage(), e);
+            return new ArrayList<>();
+        }
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private Void index(final BlockingQueue<DocWriteRequest> requests,
+                       final int producers,
+                       final Stage indexing,
+                       final AtomicReference<Throwable> failure) throws InterruptedException {
+        try {
+            final AdaptiveBulkSizer sizer = new AdaptiveBulkSizer(bulkSize, settings.getTargetBulkLatencyMs());
+            final List<DocWriteRequest> bulk = new ArrayList<>();
+            int finished = 0;
+            while (finished < producers) {
+                final DocWriteRequest request = requests.poll(QUEUE_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (request == null) {
+                    checkFailure(failure);
+                } else if (request == END_OF_REQUESTS) {
+                    finished++;
+                } else {
+                    bulk.add(request);
+                    if (bulk.size() >= sizer.getBulkSize()) {
+                        indexing.add(sendBulk(bulk, sizer));
+                        bulk.clear();
+                    }
+                }
+            }
+            if (!bulk.isEmpty()) {
+                indexing.add(sendBulk(bulk, sizer));
+            }
+            indexing.finish();
+            return null;
+        } catch (RuntimeException | Error e) {
+            log.error("Billing indexing worker {} failed: {}", name, e.getMessage());
+            failure.compareAndSet(null, e);
+            throw e;
+        }
+    }
+
+    private int sendBulk(final List<DocWriteRequest> bulk, final AdaptiveBulkSizer sizer)
+            throws InterruptedException {
+        final List<DocWriteRequest> documents = bulk.stream()
+                .filter(request -> ensureIndex(request.index()))
+                .collect(Collectors.toList());
+        List<DocWriteRequest> pending = documents;
+        int attempt = 0;
+        while (!pending.isEmpty()) {
+            final long start = System.currentTimeMillis();
+            final List<DocWriteRequest> rejected = trySendBulk(pending);
+            final long latency = System.currentTimeMillis() - start;
+            metrics.recordBulk(name, pending.size(), latency);
+            if (rejected.isEmpty()) {
+                sizer.onSuccess(pending.size(), latency);
+                break;
+            }
+            sizer.onRejection();
+            if (attempt >= settings.getMaxBulkRetries()) {
+                throw new IllegalStateException(String.format(
+                        "Failed to index %d of %d billing document(s) after %d attempt(s).",
+                        rejected.size(), documents.size(), attempt + 1));
+            }
+            log.warn("{} of {} billing document(s) were not indexed, decreasing bulk size and retrying.",
+                    rejected.size(), pending.size());
+            Thread.sleep(settings.getBulkRetryDelayMs() * ++attempt);
+            pending = rejected;
+        }
+        return documents.size();
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private List<DocWriteRequest> trySendBulk(final List<DocWriteRequest> documents) {
+        try {
+            return requestSender.indexBulk(documents);
+        } catch (RuntimeException e) {
+            log.error("Failed to send {} billing document(s): {}", documents.size(), e.getMessage());
+            return documents;
+        }
+    }
+
+    private boolean ensureIndex(final String index) {
+        return indices.computeIfAbsent(index, this::createIndex);
+    }
+
+    private boolean createIndex(final String index) {
+        try {
+            indexService.createIndexIfNotExists(index, indexMappingFile);
+            return true;
+        } catch (ElasticClientException e) {
+            log.error("Can't create index {}!", index);
+            return false;
+        }
+    }
+
+    private <E> void put(final BlockingQueue<E> queue, final E item,
+                         final AtomicReference<Throwable> failure) throws InterruptedException {
+        while (!queue.offer(item, QUEUE_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+            checkFailure(failure);
+        }
+    }
+
+    private void checkFailure(final AtomicReference<Throwable> failure) {
+        final Throwable cause = failure.get();
+        if (cause != null) {
+            throw new IllegalStateException("Billing synchronization " + name + " failed", cause);
+        }
+    }
+
+    @Value
+    public static class Summary {
+        long entities;
+        long documents;
+        long indexed;
+    }
+
+    private final class Stage {
+
+        private final String stage;
+        private final long start;
+        private final LongAdder items = new LongAdder();
+        private final Counter counter;
+
+        private Stage(final String stage, final long start) {
+            this.stage = stage;
+            this.start = start;
+            this.counter = metrics.stageItems(name, stage);
+        }
+
+        private void add(final long count) {
+            items.add(count);
+            counter.increment(count);
+        }
+
+        private long getItems() {
+            return items.sum();
+        }
+
+        private void finish() {
+            final long duration = System.currentTimeMillis() - start;
+            log.debug("Billing synchronization {} stage {} processed {} items in {} ms.",
+                    name, stage, getItems(), duration);
+            metrics.recordThroughput(name, stage, getItems(), duration);
+        }
+    }
+}
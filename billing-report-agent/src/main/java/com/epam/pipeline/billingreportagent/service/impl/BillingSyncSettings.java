@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.billingreportagent.service.impl;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Concurrency settings of billing documents conversion and indexing.
+ */
+@Value
+@Builder
+public class BillingSyncSettings {
+
+    private static final int DEFAULT_ENTITY_QUEUE_SIZE = 1000;
+    private static final int DEFAULT_REQUEST_QUEUE_SIZE = 10000;
+    private static final int DEFAULT_TARGET_BULK_LATENCY_MS = 1000;
+    private static final int DEFAULT_MAX_BULK_RETRIES = 3;
+    private static final long DEFAULT_BULK_RETRY_DELAY_MS = 1000;
+
+    /**
+     * Number of workers converting entities into billing documents, 0 means that entities are converted
+     * and indexed batch by batch in the synchronization thread. Bulk size adjustment and retries of rejected
+     * documents are applied in both modes.
+     */
+    @Builder.Default
+    int conversionThreads = 0;
+    /**
+     * Number of loaded entities which may wait for conversion before loading is suspended.
+     */
+    @Builder.Default
+    int entityQueueSize = DEFAULT_ENTITY_QUEUE_SIZE;
+    /**
+     * Number of converted documents which may wait for indexing before conversion is suspended.
+     */
+    @Builder.Default
+    int requestQueueSize = DEFAULT_REQUEST_QUEUE_SIZE;
+    /**
+     * Bulk request latency above which bulk size is decreased.
+     */
+    @Builder.Default
+    long targetBulkLatencyMs = DEFAULT_TARGET_BULK_LATENCY_MS;
+    /**
+     * Number of retries of bulk items which were rejected or failed to be sent, synchronization fails
+     * if items are still not indexed after the last retry.
+     */
+    @Builder.Default
+    int maxBulkRetries = DEFAULT_MAX_BULK_RETRIES;
+    /**
+     * Delay before the first retry, each next retry waits one more delay.
+     */
+    @Builder.Default
+    long bulkRetryDelayMs = DEFAULT_BULK_RETRY_DELAY_MS;
+
+    public static BillingSyncSettings sequential() {
+        return BillingSyncSettings.builder().build();
+    }
+
+    public boolean isPipelined() {
+        return conversionThreads > 0;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2019 EPAM Systems, Inc. (https://www.epam.com/)
+ * Copyright 2017-2026 EPAM Systems, Inc. (https://www.epam.com/)
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,9 +25,11 @@ import org.apache.commons.collections4.ListUtils;
 import org.elasticsearch.action.DocWriteRequest;
 import org.elasticsearch.action.bulk.BulkItemResponse;
 import org.elasticsearch.action.bulk.BulkResponse;
+import org.elasticsearch.rest.RestStatus;
 import org.springframework.util.ObjectUtils;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -63,11 +65,22 @@ public class BulkRequestSender {
         });
     }
 
-    private void indexChunk(final List<DocWriteRequest> documentRequests) {
+    /**
+     * Sends a single bulk request without throttling and returns the requests
+     * rejected by elasticsearch because of overload.
+     */
+    public List<DocWriteRequest> indexBulk(final List<DocWriteRequest> documentRequests) {
+        return indexChunk(documentRequests).stream()
+                .filter(item -> item.status() == RestStatus.TOO_MANY_REQUESTS)
+                .map(item -> documentRequests.get(item.getItemId()))
+                .collect(Collectors.toList());
+    }
+
+    private List<BulkItemResponse> indexChunk(final List<DocWriteRequest> documentRequests) {
         final BulkResponse response = elasticsearchClient.sendRequests(documentRequests);
         if (ObjectUtils.isEmpty(response)) {
             log.debug("No documents were created in Elasticsearch for {} request(s).", documentRequests.size());
-            return;
+            return Collections.emptyList();
         }
         final Map<Boolean, List<BulkItemResponse>> indexResults = Arrays.stream(response.getItems())
                 .collect(Collectors.partitioningBy(BulkItemResponse::isFailed));
@@ -83,5 +96,6 @@ public class BulkRequestSender {
             log.debug("Successfully inserted {} of {} document(s) into Elasticsearch).",
                     successful.size(), documentRequests.size());
         }
+        return ListUtils.emptyIfNull(failed);
     }
 }
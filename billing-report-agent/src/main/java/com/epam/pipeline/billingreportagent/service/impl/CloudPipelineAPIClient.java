@@ -63,6 +63,12 @@ public class CloudPipelineAPIClient {
         return retryingApiExecutor.execute(cloudPipelineAPI.loadRunsActivityStats(from, to, true));
     }
 
+    public List<PipelineRun> loadPipelineRunsActiveInPeriod(final String from, final String to,
+                                                            final Long fromId, final int pageSize) {
+        return retryingApiExecutor.execute(cloudPipelineAPI.loadRunsActivityStats(from, to, true,
+                fromId, pageSize));
+    }
+
     public List<AbstractDataStorage> loadAllDataStorages() {
         return retryingApiExecutor.execute(cloudPipelineAPI.loadAllDataStorages());
     }
@@ -87,6 +93,10 @@ public class CloudPipelineAPIClient {
         return retryingApiExecutor.execute(cloudPipelineAPI.loadNodeDisks(nodeId));
     }
 
+    public Map<String, List<NodeDisk>> loadNodesDisks(final List<String> nodeIds) {
+        return retryingApiExecutor.execute(cloudPipelineAPI.loadNodesDisks(nodeIds));
+    }
+
     public List<AbstractCloudRegion> loadAllCloudRegions() {
         return retryingApiExecutor.execute(cloudPipelineAPI.loadAllRegions());
     }
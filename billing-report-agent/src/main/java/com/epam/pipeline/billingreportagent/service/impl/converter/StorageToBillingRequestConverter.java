@@ -114,10 +114,8 @@ public class StorageToBillingRequestConverter implements EntityToBillingRequestC
     }
 
     @Override
-    public List<DocWriteRequest> convertEntitiesToRequests(final List<EntityContainer<AbstractDataStorage>> containers,
-                                                           final String indexName,
-                                                           final LocalDateTime previousSync,
-                                                           final LocalDateTime syncStart) {
+    public List<EntityContainer<AbstractDataStorage>> prepareEntities(
+            final List<EntityContainer<AbstractDataStorage>> containers) {
         storagePricing.updatePrices();
         fileshareMountsService.ifPresent(service -> {
             service.updateSharesRegions();
@@ -126,8 +124,7 @@ public class StorageToBillingRequestConverter implements EntityToBillingRequestC
                 return !desiredMountType.equals(service.getMountTypeForShare(fileShareMountId));
             });
         });
-        return EntityToBillingRequestConverter.super
-            .convertEntitiesToRequests(containers, indexName, previousSync, syncStart);
+        return containers;
     }
 
     private List<DocWriteRequest> buildStorageRequests(final EntityContainer<AbstractDataStorage> container,
@@ -34,7 +34,9 @@ import com.epam.pipeline.entity.pipeline.run.parameter.PipelineRunParameter;
 import com.epam.pipeline.entity.region.AbstractCloudRegion;
 import com.epam.pipeline.entity.user.PipelineUser;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.ListUtils;
+import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -44,12 +46,28 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+/**
+ * Loads pipeline runs for billing synchronization.
+ *
+ * Runs are requested in {@code loadStep}-day windows and each window is iterated page by page with a run id
+ * cursor, so only a single page of runs is kept in memory at a time. Node disks of a page are resolved via
+ * bulk requests and run compute types are resolved via per-region maps of instance types.
+ */
 @Component
 @Slf4j
 public class PipelineRunLoader implements EntityLoader<PipelineRunWithType> {
@@ -57,58 +75,74 @@ public class PipelineRunLoader implements EntityLoader<PipelineRunWithType> {
     private final CloudPipelineAPIClient apiClient;
     private final int loadStep;
     private final String billingOwnerParameter;
+    private final int pageSize;
+    private final int disksBatchSize;
 
     public PipelineRunLoader(
             final CloudPipelineAPIClient apiClient,
             final @Value("${sync.run.load.step:30}") int loadStep,
-            final @Value("${sync.run.billing.owner.parameter:CP_BILLING_OWNER}") String billingOwnerParameter) {
+            final @Value("${sync.run.billing.owner.parameter:CP_BILLING_OWNER}") String billingOwnerParameter,
+            final @Value("${sync.run.load.page.size:1000}") int pageSize,
+            final @Value("${sync.run.load.disks.batch.size:500}") int disksBatchSize) {
         this.apiClient = apiClient;
         this.loadStep = loadStep;
         this.billingOwnerParameter = billingOwnerParameter;
+        this.pageSize = pageSize;
+        this.disksBatchSize = disksBatchSize;
     }
 
     @Override
     public List<EntityContainer<PipelineRunWithType>> loadAllEntities() {
-        return loadAllEntitiesActiveInPeriod(LocalDate.ofEpochDay(0).atStartOfDay(), LocalDateTime.now());
+        return collect(streamAllEntities());
     }
 
     @Override
     public List<EntityContainer<PipelineRunWithType>> loadAllEntitiesActiveInPeriod(final LocalDateTime from,
                                                                                     final LocalDateTime to) {
+        return collect(streamAllEntitiesActiveInPeriod(from, to));
+    }
+
+    @Override
+    public Stream<List<EntityContainer<PipelineRunWithType>>> streamAllEntities() {
+        return streamAllEntitiesActiveInPeriod(LocalDate.ofEpochDay(0).atStartOfDay(), LocalDateTime.now());
+    }
+
+    @Override
+    public Stream<List<EntityContainer<PipelineRunWithType>>> streamAllEntitiesActiveInPeriod(
+            final LocalDateTime from,
+            final LocalDateTime to) {
         final Map<String, EntityWithMetadata<PipelineUser>> usersWithMetadata = prepareUsers(apiClient);
         final Map<Long, AbstractCloudRegion> regions = prepareRegions(apiClient);
         final Map<Long, Pipeline> pipelines = preparePipelines(apiClient);
         final Map<String, Tool> tools = prepareTools(apiClient);
-        final List<PipelineRun> runs = getRuns(from, to);
+        final Map<Long, Map<String, InstanceType>> regionOffers = new HashMap<>();
 
-        final Map<Long, List<InstanceType>> regionOffers = runs.stream()
-                .map(PipelineRun::getInstance)
-                .map(RunInstance::getCloudRegionId)
-                .distinct()
-                .collect(
-                    Collectors.toMap(
-                            Function.identity(),
-                            r -> ListUtils.emptyIfNull(apiClient.loadAllInstanceTypesForRegion(r))
-                    )
-                );
-
-        return runs
-                .stream()
-                .map(run -> {
-                    final ToolAddress toolAddress = Optional.ofNullable(run.getDockerImage())
-                            .map(ToolAddress::from)
-                            .orElseGet(ToolAddress::empty);
-                    return EntityContainer.<PipelineRunWithType>builder()
-                            .entity(new PipelineRunWithType(run, toolAddress,
-                                    loadEntity(toolAddress.getPathWithoutVersion(), tools, usersWithMetadata),
-                                    loadEntity(run.getPipelineId(), pipelines, usersWithMetadata),
-                                    loadDisks(run),
-                                    getRunType(run, regionOffers)))
-                            .owner(getRunOwner(run, usersWithMetadata))
-                            .region(regions.get(run.getInstance().getCloudRegionId()))
-                            .build();
-                })
-                .collect(Collectors.toList());
+        return getRunPages(from, to)
+                .map(runs -> {
+                    final Map<String, List<NodeDisk>> disks = loadDisks(runs);
+                    return runs.stream()
+                            .map(run -> {
+                                final ToolAddress toolAddress = Optional.ofNullable(run.getDockerImage())
+                                        .map(ToolAddress::from)
+                                        .orElseGet(ToolAddress::empty);
+                                return EntityContainer.<PipelineRunWithType>builder()
+                                        .entity(new PipelineRunWithType(run, toolAddress,
+                                                loadEntity(toolAddress.getPathWithoutVersion(), tools,
+                                                        usersWithMetadata),
+                                                loadEntity(run.getPipelineId(), pipelines, usersWithMetadata),
+                                                getDisks(run, disks),
+                                                getRunType(run, regionOffers)))
+                                        .owner(getRunOwner(run, usersWithMetadata))
+                                        .region(regions.get(run.getInstance().getCloudRegionId()))
+                                        .build();
+                            })
+                            .collect(Collectors.toList());
+                });
+    }
+
+    private List<EntityContainer<PipelineRunWithType>> collect(
+            final Stream<List<EntityContainer<PipelineRunWithType>>> batches) {
+        return batches.flatMap(List::stream).collect(Collectors.toList());
     }
 
     private <E extends AbstractSecuredEntity, I> EntityContainer<E> loadEntity(
@@ -130,40 +164,60 @@ public class PipelineRunLoader implements EntityLoader<PipelineRunWithType> {
                 .build();
     }
 
-    private List<PipelineRun> getRuns(final LocalDateTime from, final LocalDateTime to) {
+    private Stream<List<PipelineRun>> getRunPages(final LocalDateTime from, final LocalDateTime to) {
+        final List<RunPageIterator> windows = new ArrayList<>();
         LocalDateTime start = from;
-        final List<PipelineRun> runs = new ArrayList<>();
         while (start.isBefore(to)) {
             final LocalDateTime next = start.plusDays(loadStep).isAfter(to) ? to : start.plusDays(loadStep);
-            log.debug("Loading runs from {} to {}", start, next);
-            runs.addAll(
-                    ListUtils.emptyIfNull(
-                            apiClient.loadAllPipelineRunsActiveInPeriod(
-                                    DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(start),
-                                    DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(next))));
+            windows.add(new RunPageIterator(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(start),
+                    DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(next)));
             start = next;
         }
-        return runs;
+        return windows.stream()
+                .flatMap(window -> StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(window, Spliterator.ORDERED | Spliterator.NONNULL),
+                        false));
     }
 
-    private List<NodeDisk> loadDisks(final PipelineRun run) {
+    private Map<String, List<NodeDisk>> loadDisks(final List<PipelineRun> runs) {
+        final List<String> nodeIds = runs.stream()
+                .map(PipelineRun::getInstance)
+                .filter(Objects::nonNull)
+                .map(RunInstance::getNodeId)
+                .filter(StringUtils::isNotBlank)
+                .distinct()
+                .collect(Collectors.toList());
+        final Map<String, List<NodeDisk>> disks = new HashMap<>();
+        ListUtils.partition(nodeIds, disksBatchSize)
+                .forEach(batch -> disks.putAll(MapUtils.emptyIfNull(apiClient.loadNodesDisks(batch))));
+        return disks;
+    }
+
+    private List<NodeDisk> getDisks(final PipelineRun run, final Map<String, List<NodeDisk>> disks) {
         return Optional.of(run)
                 .map(PipelineRun::getInstance)
                 .map(RunInstance::getNodeId)
-                .map(apiClient::loadNodeDisks)
+                .map(disks::get)
                 .orElseGet(Collections::emptyList);
     }
 
-    private ComputeType getRunType(final PipelineRun run, final Map<Long, List<InstanceType>> regionOffers) {
-        return regionOffers.get(run.getInstance().getCloudRegionId())
-                .stream()
-                .filter(instanceOffer -> instanceOffer.getName().equals(run.getInstance().getNodeType()))
-                .findAny()
+    private ComputeType getRunType(final PipelineRun run, final Map<Long, Map<String, InstanceType>> regionOffers) {
+        final Map<String, InstanceType> offers = regionOffers.computeIfAbsent(
+                run.getInstance().getCloudRegionId(), this::loadOffers);
+        return Optional.ofNullable(run.getInstance().getNodeType())
+                .map(offers::get)
                 .filter(instanceOffer -> instanceOffer.getGpu() > 0)
                 .map(instanceOffer -> ComputeType.GPU)
                 .orElse(ComputeType.CPU);
     }
 
+    private Map<String, InstanceType> loadOffers(final Long regionId) {
+        return ListUtils.emptyIfNull(apiClient.loadAllInstanceTypesForRegion(regionId))
+                .stream()
+                .filter(instanceOffer -> Objects.nonNull(instanceOffer.getName()))
+                .collect(Collectors.toMap(InstanceType::getName, Function.identity(), (first, second) -> first));
+    }
+
     private EntityWithMetadata<PipelineUser> getRunOwner(final PipelineRun run,
                                                          final Map<String, EntityWithMetadata<PipelineUser>> users) {
         return getBillingOwner(run, users)
@@ -193,4 +247,54 @@ public class PipelineRunLoader implements EntityLoader<PipelineRunWithType> {
         return Optional.ofNullable(users.get(entity.getOwner()))
                 .orElseGet(() -> users.get(StringUtils.upperCase(entity.getOwner())));
     }
+
+    /**
+     * Iterates over runs active in a single period page by page using the last loaded run id as a cursor.
+     */
+    private final class RunPageIterator implements Iterator<List<PipelineRun>> {
+
+        private final String from;
+        private final String to;
+        private Long lastId;
+        private boolean exhausted;
+        private List<PipelineRun> page;
+
+        private RunPageIterator(final String from, final String to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (page == null && !exhausted) {
+                page = loadPage();
+            }
+            return CollectionUtils.isNotEmpty(page);
+        }
+
+        @Override
+        public List<PipelineRun> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final List<PipelineRun> current = page;
+            page = null;
+            return current;
+        }
+
+        private List<PipelineRun> loadPage() {
+            log.debug("Loading runs from {} to {} after run {}", from, to, lastId);
+            final List<PipelineRun> loaded = ListUtils.emptyIfNull(
+                    apiClient.loadPipelineRunsActiveInPeriod(from, to, lastId, pageSize));
+            final List<PipelineRun> runs = loaded.stream()
+                    .filter(run -> lastId == null || run.getId() > lastId)
+                    .sorted(Comparator.comparing(PipelineRun::getId))
+                    .collect(Collectors.toList());
+            exhausted = runs.isEmpty() || loaded.size() < pageSize;
+            if (!runs.isEmpty()) {
+                lastId = runs.get(runs.size() - 1).getId();
+            }
+            return runs;
+        }
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 EPAM Systems, Inc. (https://www.epam.com/)
+ * Copyright 2017-2026 EPAM Systems, Inc. (https://www.epam.com/)
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,27 +16,27 @@
 
 package com.epam.pipeline.billingreportagent.service.impl.synchronizer;
 
-import com.epam.pipeline.billingreportagent.exception.ElasticClientException;
 import com.epam.pipeline.billingreportagent.model.EntityContainer;
 import com.epam.pipeline.billingreportagent.model.PipelineRunWithType;
 import com.epam.pipeline.billingreportagent.service.ElasticsearchSynchronizer;
 import com.epam.pipeline.billingreportagent.service.ElasticsearchServiceClient;
 import com.epam.pipeline.billingreportagent.service.EntityLoader;
 import com.epam.pipeline.billingreportagent.service.EntityToBillingRequestConverter;
+import com.epam.pipeline.billingreportagent.service.impl.BillingSyncMetrics;
+import com.epam.pipeline.billingreportagent.service.impl.BillingSyncPipeline;
+import com.epam.pipeline.billingreportagent.service.impl.BillingSyncSettings;
 import com.epam.pipeline.billingreportagent.service.impl.BulkRequestSender;
 import com.epam.pipeline.billingreportagent.service.impl.ElasticIndexService;
 import com.epam.pipeline.billingreportagent.service.impl.converter.RunToBillingRequestConverter;
 import com.epam.pipeline.billingreportagent.service.impl.mapper.RunBillingMapper;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.collections4.CollectionUtils;
 import org.elasticsearch.action.DocWriteRequest;
 
 import java.time.LocalDateTime;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Data
 @Slf4j
@@ -48,6 +48,10 @@ public class PipelineRunSynchronizer implements ElasticsearchSynchronizer {
     private final BulkRequestSender requestSender;
     private final EntityToBillingRequestConverter<PipelineRunWithType> runToBillingRequestConverter;
     private final EntityLoader<PipelineRunWithType> loader;
+    private final int bulkInsertSize;
+    private final String syncName;
+    private final BillingSyncSettings syncSettings;
+    private final BillingSyncMetrics syncMetrics;
 
     public PipelineRunSynchronizer(final String pipelineRunIndexMappingFile,
                                    final String indexPrefix,
@@ -57,47 +61,38 @@ public class PipelineRunSynchronizer implements ElasticsearchSynchronizer {
                                    final ElasticsearchServiceClient elasticsearchServiceClient,
                                    final ElasticIndexService indexService,
                                    final RunBillingMapper mapper,
-                                   final EntityLoader<PipelineRunWithType> loader) {
+                                   final EntityLoader<PipelineRunWithType> loader,
+                                   final String syncName,
+                                   final BillingSyncSettings syncSettings,
+                                   final BillingSyncMetrics syncMetrics) {
         this.pipelineRunIndexMappingFile = pipelineRunIndexMappingFile;
         this.indexService = indexService;
         this.indexPrefix = indexPrefix + pipelineRunIndexName;
         this.loader = loader;
+        this.bulkInsertSize = bulkInsertSize;
         this.runToBillingRequestConverter = new RunToBillingRequestConverter(mapper);
         this.requestSender = new BulkRequestSender(elasticsearchServiceClient, bulkInsertSize, insertTimeout);
+        this.syncName = syncName;
+        this.syncSettings = syncSettings;
+        this.syncMetrics = syncMetrics;
     }
 
     @Override
     public void synchronize(final LocalDateTime lastSyncTime, final LocalDateTime syncStart) {
         log.debug("Started pipeline run billing synchronization");
-        final List<EntityContainer<PipelineRunWithType>> pipelineRuns;
-        if (lastSyncTime == null) {
-            pipelineRuns = loader.loadAllEntities();
-        } else {
-            pipelineRuns = loader.loadAllEntitiesActiveInPeriod(lastSyncTime, syncStart);
-        }
-        if (CollectionUtils.isEmpty(pipelineRuns)) {
+        final Stream<List<EntityContainer<PipelineRunWithType>>> pipelineRunBatches = lastSyncTime == null
+                ? loader.streamAllEntities()
+                : loader.streamAllEntitiesActiveInPeriod(lastSyncTime, syncStart);
+        final BillingSyncPipeline.Summary summary = new BillingSyncPipeline<PipelineRunWithType>(syncName,
+                pipelineRunIndexMappingFile, indexService, requestSender, bulkInsertSize, syncSettings, syncMetrics)
+                .synchronize(pipelineRunBatches,
+                    pipelineRun -> createPipelineRunBillings(pipelineRun, lastSyncTime, syncStart));
+        if (summary.getEntities() == 0) {
             log.debug("PipelineRun entities for synchronization were not found.");
             return;
         }
-        final List<DocWriteRequest> pipelineRunBillingRequests = pipelineRuns.stream()
-            .map(pipelineRun -> createPipelineRunBillings(pipelineRun, lastSyncTime, syncStart))
-            .flatMap(Collection::stream)
-            .collect(Collectors.toList());
-
-        log.info("{} document requests created", pipelineRunBillingRequests.size());
-
-        pipelineRunBillingRequests.stream()
-                .collect(Collectors.groupingBy(DocWriteRequest::index))
-                .forEach((index, docs) -> {
-                    try {
-                        log.debug("Inserting {} document(s) into index {}.", docs.size(), index);
-                        indexService.createIndexIfNotExists(index, pipelineRunIndexMappingFile);
-                        requestSender.indexDocuments(docs);
-                    } catch (ElasticClientException e) {
-                        log.error("Can't create index {}!", index);
-                    }
-                });
 
+        log.info("{} document requests created", summary.getDocuments());
         log.debug("Successfully finished runs billing synchronization.");
     }
 
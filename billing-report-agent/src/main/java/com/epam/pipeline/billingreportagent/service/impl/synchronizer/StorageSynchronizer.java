@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 EPAM Systems, Inc. (https://www.epam.com/)
+ * Copyright 2017-2026 EPAM Systems, Inc. (https://www.epam.com/)
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,24 +16,26 @@
 
 package com.epam.pipeline.billingreportagent.service.impl.synchronizer;
 
-import com.epam.pipeline.billingreportagent.exception.ElasticClientException;
 import com.epam.pipeline.billingreportagent.model.EntityContainer;
 import com.epam.pipeline.billingreportagent.service.ElasticsearchServiceClient;
 import com.epam.pipeline.billingreportagent.service.ElasticsearchSynchronizer;
 import com.epam.pipeline.billingreportagent.service.EntityLoader;
 import com.epam.pipeline.billingreportagent.service.EntityToBillingRequestConverter;
+import com.epam.pipeline.billingreportagent.service.impl.BillingSyncMetrics;
+import com.epam.pipeline.billingreportagent.service.impl.BillingSyncPipeline;
+import com.epam.pipeline.billingreportagent.service.impl.BillingSyncSettings;
 import com.epam.pipeline.billingreportagent.service.impl.BulkRequestSender;
 import com.epam.pipeline.billingreportagent.service.impl.ElasticIndexService;
 import com.epam.pipeline.entity.datastorage.AbstractDataStorage;
 import com.epam.pipeline.entity.datastorage.DataStorageType;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
-import org.elasticsearch.action.DocWriteRequest;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Data
 @Slf4j
@@ -47,6 +49,10 @@ public class StorageSynchronizer implements ElasticsearchSynchronizer {
     private final ElasticIndexService indexService;
     private final BulkRequestSender requestSender;
     private final DataStorageType storageType;
+    private final int bulkInsertSize;
+    private final String syncName;
+    private final BillingSyncSettings syncSettings;
+    private final BillingSyncMetrics syncMetrics;
 
     public StorageSynchronizer(final String storageIndexMappingFile,
                                final String indexPrefix,
@@ -57,7 +63,10 @@ public class StorageSynchronizer implements ElasticsearchSynchronizer {
                                final EntityLoader<AbstractDataStorage> loader,
                                final ElasticIndexService indexService,
                                final EntityToBillingRequestConverter<AbstractDataStorage> storageToBillingReqConverter,
-                               final DataStorageType storageType) {
+                               final DataStorageType storageType,
+                               final String syncName,
+                               final BillingSyncSettings syncSettings,
+                               final BillingSyncMetrics syncMetrics) {
         this.storageIndexMappingFile = storageIndexMappingFile;
         this.indexPrefix = indexPrefix + storageIndexName;
         this.loader = loader;
@@ -65,6 +74,10 @@ public class StorageSynchronizer implements ElasticsearchSynchronizer {
         this.indexService = indexService;
         this.requestSender = new BulkRequestSender(elasticsearchServiceClient, bulkInsertSize, insertTimeout);
         this.storageType = storageType;
+        this.bulkInsertSize = bulkInsertSize;
+        this.syncName = syncName;
+        this.syncSettings = syncSettings;
+        this.syncMetrics = syncMetrics;
     }
 
     @Override
@@ -74,41 +87,23 @@ public class StorageSynchronizer implements ElasticsearchSynchronizer {
                 .stream()
                 .filter(storage -> storage.getEntity().getType().equals(storageType))
                 .collect(Collectors.toList());
-        final List<DocWriteRequest> storageBillingRequests =
-            createStorageBillingRequest(entityContainers, lastSyncTime, syncStart);
-
-        log.info("{} document requests created", storageBillingRequests.size());
-
-        storageBillingRequests.stream()
-                .collect(Collectors.groupingBy(DocWriteRequest::index))
-                .forEach((index, docs) -> {
-                    try {
-                        log.debug("Inserting {} document(s) into index {}.", docs.size(), index);
-                        indexService.createIndexIfNotExists(index, storageIndexMappingFile);
-                        requestSender.indexDocuments(docs);
-                    } catch (ElasticClientException e) {
-                        log.error("Can't create index {}!", index);
-                    }
-                });
+        final BillingSyncPipeline.Summary summary = new BillingSyncPipeline<AbstractDataStorage>(syncName,
+                storageIndexMappingFile, indexService, requestSender, bulkInsertSize, syncSettings, syncMetrics)
+                .synchronize(Stream.of(prepareStorages(entityContainers)),
+                    storage -> storageToBillingRequestConverter.convertEntityToRequests(storage, indexPrefix,
+                                                                                       lastSyncTime, syncStart));
 
+        log.info("{} document requests created", summary.getDocuments());
         log.debug("Successfully finished {} storage billing synchronization.", storageType);
     }
 
-    private List<DocWriteRequest> createStorageBillingRequest(final List<EntityContainer<AbstractDataStorage>> storages,
-                                                              final LocalDateTime previousSync,
-                                                              final LocalDateTime syncStart) {
+    private List<EntityContainer<AbstractDataStorage>> prepareStorages(
+            final List<EntityContainer<AbstractDataStorage>> storages) {
         try {
-            return buildDocRequests(storages, previousSync, syncStart);
+            return storageToBillingRequestConverter.prepareEntities(storages);
         } catch (Exception e) {
             log.error("An error during storage billing synchronization: {}", e.getMessage());
             return Collections.emptyList();
         }
     }
-
-    private List<DocWriteRequest> buildDocRequests(final List<EntityContainer<AbstractDataStorage>> storages,
-                                                   final LocalDateTime previousSync,
-                                                   final LocalDateTime syncStart) {
-        return storageToBillingRequestConverter.convertEntitiesToRequests(storages, indexPrefix,
-                                                                          previousSync, syncStart);
-    }
 }
@@ -0,0 +1,276 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.billingreportagent.service.impl;
+
+import com.epam.pipeline.billingreportagent.exception.ElasticClientException;
+import com.epam.pipeline.billingreportagent.model.EntityContainer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.elasticsearch.action.DocWriteRequest;
+import org.elasticsearch.action.index.IndexRequest;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+
+public class BillingSyncPipelineTest {
+
+    private static final String NAME = "test";
+    private static final String MAPPING = "mapping";
+    private static final String INDEX = "index-";
+    private static final int BULK_SIZE = 20;
+    private static final int ENTITIES = 100;
+    private static final int DOCUMENTS_PER_ENTITY = 3;
+    private static final int BATCH_SIZE = 7;
+    private static final int MAX_BULK_RETRIES = 2;
+
+    private final ElasticIndexService indexService = Mockito.mock(ElasticIndexService.class);
+    private final BulkRequestSender requestSender = Mockito.mock(BulkRequestSender.class);
+    private final BillingSyncMetrics metrics = new BillingSyncMetrics(new SimpleMeterRegistry());
+    private final List<Integer> bulkSizes = Collections.synchronizedList(new ArrayList<>());
+    private final List<DocWriteRequest> indexed = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    public void shouldIndexAllDocumentsInPipelinedMode() throws ElasticClientException {
+        mockRequestSender();
+
+        final BillingSyncPipeline.Summary summary = pipeline(pipelined()).synchronize(batches(), this::convert);
+
+        assertSummary(summary, ENTITIES, ENTITIES * DOCUMENTS_PER_ENTITY);
+        assertThat(indexed.size(), is(ENTITIES * DOCUMENTS_PER_ENTITY));
+        assertThat(bulkSizes, everyItem(lessThanOrEqualTo(BULK_SIZE * 4)));
+        Mockito.verify(indexService).createIndexIfNotExists(INDEX + 0, MAPPING);
+        Mockito.verify(indexService).createIndexIfNotExists(INDEX + 1, MAPPING);
+        Mockito.verify(indexService).createIndexIfNotExists(INDEX + 2, MAPPING);
+    }
+
+    @Test
+    public void shouldIndexAllDocumentsInSequentialMode() throws ElasticClientException {
+        mockRequestSender();
+
+        final BillingSyncPipeline.Summary summary = pipeline(BillingSyncSettings.sequential())
+                .synchronize(batches(), this::convert);
+
+        assertSummary(summary, ENTITIES, ENTITIES * DOCUMENTS_PER_ENTITY);
+        assertThat(indexed.size(), is(ENTITIES * DOCUMENTS_PER_ENTITY));
+        assertThat(bulkSizes, everyItem(lessThanOrEqualTo(BULK_SIZE * 4)));
+        Mockito.verify(indexService).createIndexIfNotExists(INDEX + 0, MAPPING);
+        Mockito.verify(requestSender, Mockito.never()).indexDocuments(any());
+    }
+
+    @Test
+    public void shouldRetryRejectedDocumentsInSequentialMode() {
+        final AtomicInteger attempts = new AtomicInteger();
+        Mockito.doAnswer(invocation -> {
+            final List<DocWriteRequest> bulk = invocation.getArgument(0);
+            bulkSizes.add(bulk.size());
+            if (attempts.getAndIncrement() % 2 == 0) {
+                return new ArrayList<>(bulk.subList(0, bulk.size() / 2));
+            }
+            indexed.addAll(bulk);
+            return Collections.emptyList();
+        }).when(requestSender).indexBulk(anyList());
+
+        final BillingSyncPipeline.Summary summary = pipeline(sequential()).synchronize(batches(), this::convert);
+
+        assertThat(summary.getIndexed(), is((long) ENTITIES * DOCUMENTS_PER_ENTITY));
+        assertThat(bulkSizes.get(0), is(BULK_SIZE));
+        assertThat(bulkSizes.subList(1, bulkSizes.size()), everyItem(lessThan(BULK_SIZE)));
+    }
+
+    @Test
+    public void shouldFailIfDocumentsAreRejectedAfterAllRetriesInSequentialMode() {
+        Mockito.doAnswer(invocation -> invocation.getArgument(0)).when(requestSender).indexBulk(anyList());
+
+        assertThrows(IllegalStateException.class,
+            () -> pipeline(sequential()).synchronize(batches(), this::convert));
+        Mockito.verify(requestSender, Mockito.times(MAX_BULK_RETRIES + 1)).indexBulk(anyList());
+    }
+
+    @Test
+    public void shouldSkipEntitiesWhichFailedToConvert() {
+        mockRequestSender();
+        final Function<EntityContainer<Integer>, List<DocWriteRequest>> converter = entity -> {
+            if (entity.getEntity() % 2 == 0) {
+                throw new IllegalArgumentException("Conversion failure");
+            }
+            return convert(entity);
+        };
+
+        final BillingSyncPipeline.Summary summary = pipeline(pipelined()).synchronize(batches(), converter);
+
+        assertSummary(summary, ENTITIES, ENTITIES / 2 * DOCUMENTS_PER_ENTITY);
+    }
+
+    @Test
+    public void shouldFailIfConversionWorkerFailsWithError() {
+        mockRequestSender();
+        final Function<EntityContainer<Integer>, List<DocWriteRequest>> converter = entity -> {
+            throw new AssertionError("Conversion error");
+        };
+
+        assertThrows(IllegalStateException.class, () -> pipeline(pipelined()).synchronize(batches(), converter));
+    }
+
+    @Test
+    public void shouldSkipDocumentsOfIndicesWhichFailedToBeCreated() throws ElasticClientException {
+        mockRequestSender();
+        Mockito.doThrow(new ElasticClientException("Index failure"))
+                .when(indexService).createIndexIfNotExists(eq(INDEX + 0), anyString());
+
+        final BillingSyncPipeline.Summary summary = pipeline(pipelined()).synchronize(batches(), this::convert);
+
+        assertThat(summary.getIndexed(), is((long) ENTITIES * (DOCUMENTS_PER_ENTITY - 1)));
+        assertThat(indexed.stream().noneMatch(request -> request.index().equals(INDEX + 0)), is(true));
+    }
+
+    @Test
+    public void shouldRetryRejectedDocumentsAndDecreaseBulkSize() {
+        final AtomicInteger attempts = new AtomicInteger();
+        Mockito.doAnswer(invocation -> {
+            final List<DocWriteRequest> bulk = invocation.getArgument(0);
+            bulkSizes.add(bulk.size());
+            if (attempts.getAndIncrement() % 2 == 0) {
+                return new ArrayList<>(bulk.subList(0, bulk.size() / 2));
+            }
+            indexed.addAll(bulk);
+            return Collections.emptyList();
+        }).when(requestSender).indexBulk(anyList());
+
+        final BillingSyncPipeline.Summary summary = pipeline(pipelined()).synchronize(batches(), this::convert);
+
+        assertThat(summary.getIndexed(), is((long) ENTITIES * DOCUMENTS_PER_ENTITY));
+        assertThat(bulkSizes.get(0), is(BULK_SIZE));
+        assertThat(bulkSizes.subList(1, bulkSizes.size()), everyItem(lessThan(BULK_SIZE)));
+    }
+
+    @Test
+    public void shouldIndexAllDocumentsIfBulkRequestFailedTemporarily() {
+        final AtomicInteger attempts = new AtomicInteger();
+        Mockito.doAnswer(invocation -> {
+            final List<DocWriteRequest> bulk = invocation.getArgument(0);
+            if (attempts.getAndIncrement() == 0) {
+                throw new IllegalStateException("Connection failure");
+            }
+            indexed.addAll(bulk);
+            return Collections.emptyList();
+        }).when(requestSender).indexBulk(anyList());
+
+        final BillingSyncPipeline.Summary summary = pipeline(pipelined()).synchronize(batches(), this::convert);
+
+        assertThat(summary.getIndexed(), is((long) ENTITIES * DOCUMENTS_PER_ENTITY));
+        assertThat(indexed.stream().map(DocWriteRequest::id).distinct().count(),
+                is((long) ENTITIES * DOCUMENTS_PER_ENTITY));
+    }
+
+    @Test
+    public void shouldFailIfDocumentsAreRejectedAfterAllRetries() {
+        Mockito.doAnswer(invocation -> invocation.getArgument(0)).when(requestSender).indexBulk(anyList());
+
+        assertThrows(IllegalStateException.class,
+            () -> pipeline(pipelined()).synchronize(batches(), this::convert));
+        Mockito.verify(requestSender, Mockito.times(MAX_BULK_RETRIES + 1)).indexBulk(anyList());
+    }
+
+    @Test
+    public void shouldFailIfIndexingFails() throws ElasticClientException {
+        mockRequestSender();
+        Mockito.doThrow(new IllegalArgumentException("Unexpected failure"))
+                .when(indexService).createIndexIfNotExists(eq(INDEX + 0), anyString());
+
+        assertThrows(IllegalStateException.class,
+            () -> pipeline(pipelined()).synchronize(batches(), this::convert));
+    }
+
+    @Test
+    public void shouldFailIfLoadingFails() {
+        mockRequestSender();
+        final Stream<List<EntityContainer<Integer>>> batches = Stream.concat(batches(),
+                Stream.<List<EntityContainer<Integer>>>of(Collections.emptyList()).peek(batch -> {
+                    throw new IllegalStateException("Loading failure");
+                }));
+
+        assertThrows(IllegalStateException.class, () -> pipeline(pipelined()).synchronize(batches, this::convert));
+    }
+
+    private void mockRequestSender() {
+        Mockito.doAnswer(invocation -> {
+            final List<DocWriteRequest> bulk = invocation.getArgument(0);
+            bulkSizes.add(bulk.size());
+            indexed.addAll(bulk);
+            return Collections.emptyList();
+        }).when(requestSender).indexBulk(anyList());
+    }
+
+    private void assertSummary(final BillingSyncPipeline.Summary summary, final int entities, final int documents) {
+        assertThat(summary.getEntities(), is((long) entities));
+        assertThat(summary.getDocuments(), is((long) documents));
+    }
+
+    private BillingSyncPipeline<Integer> pipeline(final BillingSyncSettings settings) {
+        return new BillingSyncPipeline<>(NAME, MAPPING, indexService, requestSender, BULK_SIZE, settings, metrics);
+    }
+
+    private BillingSyncSettings pipelined() {
+        return BillingSyncSettings.builder()
+                .conversionThreads(3)
+                .entityQueueSize(5)
+                .requestQueueSize(5)
+                .maxBulkRetries(MAX_BULK_RETRIES)
+                .bulkRetryDelayMs(1)
+                .build();
+    }
+
+    private BillingSyncSettings sequential() {
+        return BillingSyncSettings.builder()
+                .maxBulkRetries(MAX_BULK_RETRIES)
+                .bulkRetryDelayMs(1)
+                .build();
+    }
+
+    private Stream<List<EntityContainer<Integer>>> batches() {
+        final List<EntityContainer<Integer>> entities = IntStream.range(0, ENTITIES)
+                .mapToObj(i -> EntityContainer.<Integer>builder().entity(i).build())
+                .collect(Collectors.toList());
+        return IntStream.range(0, (ENTITIES + BATCH_SIZE - 1) / BATCH_SIZE)
+                .mapToObj(i -> entities.subList(i * BATCH_SIZE, Math.min(ENTITIES, (i + 1) * BATCH_SIZE)));
+    }
+
+    private List<DocWriteRequest> convert(final EntityContainer<Integer> entity) {
+        return Arrays.asList(IntStream.range(0, DOCUMENTS_PER_ENTITY)
+                .mapToObj(day -> new IndexRequest(INDEX + day, "_doc").id(entity.getEntity() + "-" + day))
+                .toArray(DocWriteRequest[]::new));
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.billingreportagent.service.impl.loader;
+
+import com.epam.pipeline.billingreportagent.model.ComputeType;
+import com.epam.pipeline.billingreportagent.model.EntityContainer;
+import com.epam.pipeline.billingreportagent.model.PipelineRunWithType;
+import com.epam.pipeline.billingreportagent.service.impl.CloudPipelineAPIClient;
+import com.epam.pipeline.entity.cluster.InstanceType;
+import com.epam.pipeline.entity.cluster.NodeDisk;
+import com.epam.pipeline.entity.pipeline.PipelineRun;
+import com.epam.pipeline.entity.pipeline.RunInstance;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+
+public class PipelineRunLoaderTest {
+
+    private static final int LOAD_STEP = 30;
+    private static final int PAGE_SIZE = 2;
+    private static final int DISKS_BATCH_SIZE = 10;
+    private static final String BILLING_OWNER_PARAMETER = "CP_BILLING_OWNER";
+    private static final Long REGION_ID = 1L;
+    private static final String CPU_INSTANCE = "cpu.large";
+    private static final String GPU_INSTANCE = "gpu.large";
+    private static final LocalDateTime FROM = LocalDateTime.of(2020, 1, 1, 0, 0);
+    private static final LocalDateTime TO = FROM.plusDays(1);
+
+    private final CloudPipelineAPIClient apiClient = Mockito.mock(CloudPipelineAPIClient.class);
+    private final PipelineRunLoader loader = new PipelineRunLoader(apiClient, LOAD_STEP, BILLING_OWNER_PARAMETER,
+            PAGE_SIZE, DISKS_BATCH_SIZE);
+
+    @Test
+    public void shouldLoadRunsPageByPageUsingLastRunIdAsCursor() {
+        final PipelineRun first = run(1L, CPU_INSTANCE);
+        final PipelineRun second = run(2L, GPU_INSTANCE);
+        final PipelineRun third = run(3L, CPU_INSTANCE);
+        mockInstanceTypes();
+        Mockito.doReturn(Arrays.asList(second, first))
+                .when(apiClient).loadPipelineRunsActiveInPeriod(anyString(), anyString(), isNull(), eq(PAGE_SIZE));
+        Mockito.doReturn(Collections.singletonList(third))
+                .when(apiClient).loadPipelineRunsActiveInPeriod(anyString(), anyString(), eq(2L), eq(PAGE_SIZE));
+
+        final List<List<EntityContainer<PipelineRunWithType>>> batches =
+                loader.streamAllEntitiesActiveInPeriod(FROM, TO).collect(Collectors.toList());
+
+        assertThat(batches, hasSize(2));
+        assertThat(runIds(batches.get(0)), contains(1L, 2L));
+        assertThat(runIds(batches.get(1)), contains(3L));
+        Mockito.verify(apiClient, Mockito.times(2))
+                .loadPipelineRunsActiveInPeriod(anyString(), anyString(), any(), eq(PAGE_SIZE));
+    }
+
+    @Test
+    public void shouldResolveDisksInBulkPerPage() {
+        final PipelineRun first = run(1L, CPU_INSTANCE);
+        final PipelineRun second = run(2L, CPU_INSTANCE);
+        final NodeDisk disk = new NodeDisk(1L, nodeId(1L), FROM);
+        final Map<String, List<NodeDisk>> disks = new HashMap<>();
+        disks.put(nodeId(1L), Collections.singletonList(disk));
+        mockInstanceTypes();
+        Mockito.doReturn(Arrays.asList(first, second))
+                .when(apiClient).loadPipelineRunsActiveInPeriod(anyString(), anyString(), isNull(), eq(PAGE_SIZE));
+        Mockito.doReturn(disks).when(apiClient).loadNodesDisks(Arrays.asList(nodeId(1L), nodeId(2L)));
+
+        final List<EntityContainer<PipelineRunWithType>> runs = loader.loadAllEntitiesActiveInPeriod(FROM, TO);
+
+        assertThat(runs, hasSize(2));
+        assertThat(runs.get(0).getEntity().getDisks(), contains(disk));
+        assertThat(runs.get(1).getEntity().getDisks(), is(empty()));
+        Mockito.verify(apiClient).loadNodesDisks(any());
+        Mockito.verify(apiClient, Mockito.never()).loadNodeDisks(any());
+    }
+
+    @Test
+    public void shouldResolveRunTypeFromRegionInstanceTypes() {
+        mockInstanceTypes();
+        Mockito.doReturn(Arrays.asList(run(1L, CPU_INSTANCE), run(2L, GPU_INSTANCE)))
+                .when(apiClient).loadPipelineRunsActiveInPeriod(anyString(), anyString(), isNull(), eq(PAGE_SIZE));
+        Mockito.doReturn(Collections.singletonList(run(3L, "unknown.large")))
+                .when(apiClient).loadPipelineRunsActiveInPeriod(anyString(), anyString(), eq(2L), eq(PAGE_SIZE));
+
+        final List<ComputeType> types = loader.loadAllEntitiesActiveInPeriod(FROM, TO).stream()
+                .map(EntityContainer::getEntity)
+                .map(PipelineRunWithType::getRunType)
+                .collect(Collectors.toList());
+
+        assertThat(types, contains(ComputeType.CPU, ComputeType.GPU, ComputeType.CPU));
+        Mockito.verify(apiClient).loadAllInstanceTypesForRegion(REGION_ID);
+    }
+
+    @Test
+    public void shouldStopPagingIfApiIgnoresCursor() {
+        Mockito.doReturn(Arrays.asList(run(1L, CPU_INSTANCE), run(2L, CPU_INSTANCE), run(3L, CPU_INSTANCE)))
+                .when(apiClient).loadPipelineRunsActiveInPeriod(anyString(), anyString(), any(), eq(PAGE_SIZE));
+
+        final List<EntityContainer<PipelineRunWithType>> runs = loader.loadAllEntitiesActiveInPeriod(FROM, TO);
+
+        assertThat(runIds(runs), contains(1L, 2L, 3L));
+    }
+
+    private void mockInstanceTypes() {
+        Mockito.doReturn(Arrays.asList(instanceType(CPU_INSTANCE, 0), instanceType(GPU_INSTANCE, 1)))
+                .when(apiClient).loadAllInstanceTypesForRegion(REGION_ID);
+    }
+
+    private List<Long> runIds(final List<EntityContainer<PipelineRunWithType>> runs) {
+        return runs.stream()
+                .map(run -> run.getEntity().getPipelineRun().getId())
+                .collect(Collectors.toList());
+    }
+
+    private PipelineRun run(final Long id, final String nodeType) {
+        final RunInstance instance = new RunInstance();
+        instance.setNodeId(nodeId(id));
+        instance.setNodeType(nodeType);
+        instance.setCloudRegionId(REGION_ID);
+        final PipelineRun run = new PipelineRun();
+        run.setId(id);
+        run.setInstance(instance);
+        return run;
+    }
+
+    private String nodeId(final Long runId) {
+        return "node-" + runId;
+    }
+
+    private InstanceType instanceType(final String name, final int gpu) {
+        return InstanceType.builder().name(name).gpu(gpu).build();
+    }
+}
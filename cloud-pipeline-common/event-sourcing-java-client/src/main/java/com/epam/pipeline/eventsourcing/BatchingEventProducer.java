@@ -0,0 +1,213 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.eventsourcing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.StreamMessageId;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Class to put events to specific stream in pipelined batches.
+ * Events are buffered and sent to Redis with a single round trip as soon as the buffer
+ * contains {@link BatchingProducerOptions#getBatchSize()} events
+ * or {@link BatchingProducerOptions#getFlushInterval()} elapses.
+ * NOTE: Objects of this class can't be created with a constructor out of the library.
+ *       Please, use {@code EventEngine.enableBatchingProducer()} to obtain it.
+ * */
+@Slf4j
+public final class BatchingEventProducer implements EventProducer, AutoCloseable {
+
+    private final String id;
+    private final String applicationId;
+    private final String type;
+    private final StreamBatchWriter writer;
+    private final BatchingProducerOptions options;
+    private final ScheduledExecutorService executorService;
+    private final BlockingQueue<PendingEvent> buffer;
+    private final ScheduledFuture<?> flushTask;
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+
+    BatchingEventProducer(final String id, final String applicationId, final String type,
+                          final StreamBatchWriter writer, final BatchingProducerOptions options,
+                          final ScheduledExecutorService executorService) {
+        this.id = id;
+        this.applicationId = applicationId;
+        this.type = type;
+        this.writer = writer;
+        this.options = options;
+        this.executorService = executorService;
+        this.buffer = new LinkedBlockingQueue<>(options.getMaxBufferSize());
+        final long interval = options.getFlushInterval().toMillis();
+        this.flushTask = executorService.scheduleWithFixedDelay(this::flushQuietly,
+                interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * See {@link Event}
+     * */
+    @Override
+    public String getApplicationId() {
+        return applicationId;
+    }
+
+    /**
+     * See {@link Event}
+     * */
+    @Override
+    public String getEventType() {
+        return type;
+    }
+
+    /**
+     * Puts {@param data} to the buffer to be sent to the stream as a one message.
+     * Additionally, two key-value pairs would be added to the message:
+     *   Event.APPLICATION_ID_FIELD: this.getApplicationId()
+     *   Event.EVENT_TYPE_FIELD: this.getEventType()
+     * -
+     * If {@link BatchingProducerOptions#isSynchronousFlush()} is set, waits until the event is sent
+     * and returns its id, otherwise returns -1 immediately. Use {@link #putAsync(Map)} to track
+     * the result of an asynchronous put.
+     * */
+    @Override
+    public long put(final Map<String, String> data) {
+        final CompletableFuture<Long> result = putAsync(data);
+        if (!options.isSynchronousFlush()) {
+            return -1;
+        }
+        flush();
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(String.format("Interrupted while sending event to %s", id), e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(String.format("Failed to send event to %s", id), e.getCause());
+        }
+    }
+
+    /**
+     * Puts {@param data} to the buffer, see {@link #put(Map)}.
+     * Returns a future which is completed with the event id once the event is sent to the stream.
+     * */
+    public CompletableFuture<Long> putAsync(final Map<String, String> data) {
+        final Map<String, String> event = new HashMap<>(data);
+        event.put(Event.APPLICATION_ID_FIELD, getApplicationId());
+        event.put(Event.EVENT_TYPE_FIELD, getEventType());
+        final PendingEvent pending = new PendingEvent(event);
+        while (!buffer.offer(pending)) {
+            log.debug("Buffer of event producer {} is full, flushing it in the caller thread.", id);
+            flush();
+        }
+        if (buffer.size() >= options.getBatchSize() && flushRequested.compareAndSet(false, true)) {
+            executorService.execute(this::flushQuietly);
+        }
+        return pending.result;
+    }
+
+    /**
+     * Sends all buffered events to the stream.
+     * Events are sent in batches of at most {@link BatchingProducerOptions#getBatchSize()} events
+     * preserving the order they were put in.
+     * */
+    public synchronized void flush() {
+        flushRequested.set(false);
+        final List<PendingEvent> batch = new ArrayList<>(options.getBatchSize());
+        while (buffer.drainTo(batch, options.getBatchSize()) > 0) {
+            send(batch);
+            batch.clear();
+        }
+    }
+
+    public BatchingProducerStats getStats() {
+        return BatchingProducerStats.builder()
+                .published(published.get())
+                .failed(failed.get())
+                .batches(batches.get())
+                .buffered(buffer.size())
+                .build();
+    }
+
+    /**
+     * Stops scheduled flushes and sends the remaining buffered events.
+     * */
+    @Override
+    public void close() {
+        log.debug("Closing event producer {}...", id);
+        flushTask.cancel(false);
+        flush();
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void send(final List<PendingEvent> batch) {
+        final List<Map<String, String>> events = new ArrayList<>(batch.size());
+        batch.forEach(pending -> events.add(pending.event));
+        final List<StreamMessageId> ids;
+        try {
+            ids = writer.write(events);
+        } catch (RuntimeException e) {
+            log.error(String.format("Failed to send %d events of producer %s.", batch.size(), id), e);
+            failed.addAndGet(batch.size());
+            batch.forEach(pending -> pending.result.completeExceptionally(e));
+            return;
+        }
+        batches.incrementAndGet();
+        published.addAndGet(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).result.complete(ids.get(i).getId0());
+        }
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error(String.format("Problem with flushing event producer %s.", id), e);
+        }
+    }
+
+    private static final class PendingEvent {
+
+        private final Map<String, String> event;
+        private final CompletableFuture<Long> result = new CompletableFuture<>();
+
+        private PendingEvent(final Map<String, String> event) {
+            this.event = event;
+        }
+    }
+}
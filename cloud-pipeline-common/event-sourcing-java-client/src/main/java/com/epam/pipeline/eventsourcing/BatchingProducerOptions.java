@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.eventsourcing;
+
+import lombok.Builder;
+import lombok.ToString;
+import lombok.Value;
+
+import java.time.Duration;
+
+/**
+ * Settings of a {@link BatchingEventProducer}.
+ * */
+@Value
+@Builder
+@ToString
+public class BatchingProducerOptions {
+
+    /**
+     * Max number of events sent to Redis in a single pipelined batch.
+     * Buffer is flushed as soon as it contains this number of events.
+     * */
+    @Builder.Default
+    int batchSize = 500;
+
+    /**
+     * Max time an event stays in the buffer before it is sent.
+     * */
+    @Builder.Default
+    Duration flushInterval = Duration.ofMillis(100);
+
+    /**
+     * Max number of buffered events. If the buffer is full, events are sent by the caller thread.
+     * */
+    @Builder.Default
+    int maxBufferSize = 10_000;
+
+    /**
+     * If set to true, each put waits until the buffer containing the event is sent to Redis
+     * and returns the event id, otherwise put returns immediately.
+     * */
+    @Builder.Default
+    boolean synchronousFlush = false;
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.eventsourcing;
+
+import lombok.Builder;
+import lombok.ToString;
+import lombok.Value;
+
+/**
+ * Throughput counters of a {@link BatchingEventProducer}.
+ * */
+@Value
+@Builder
+@ToString
+public class BatchingProducerStats {
+
+    /**
+     * Number of events successfully sent to the stream.
+     * */
+    long published;
+
+    /**
+     * Number of events which failed to be sent to the stream.
+     * */
+    long failed;
+
+    /**
+     * Number of pipelined batches sent to Redis.
+     * */
+    long batches;
+
+    /**
+     * Number of events waiting in the buffer.
+     * */
+    int buffered;
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.eventsourcing;
+
+import lombok.Builder;
+import lombok.ToString;
+import lombok.Value;
+
+import java.time.Duration;
+
+/**
+ * Settings of an {@link EventHandler} which receives events as a member of a Redis Streams consumer group.
+ * Events of a stream are distributed between all consumers of the same group,
+ * each event is acknowledged once it is handled.
+ * */
+@Value
+@Builder
+@ToString
+public class ConsumerGroupOptions {
+
+    /**
+     * Name of the consumer group. Handlers with the same group share events of the stream.
+     * */
+    String group;
+
+    /**
+     * Name of the consumer within the group. It shall be stable between restarts of the application,
+     * so that events delivered but not acknowledged before the restart are handled by the same consumer.
+     * */
+    String consumer;
+
+    /**
+     * Max number of events read at once.
+     * */
+    @Builder.Default
+    int batchSize = 100;
+
+    /**
+     * Max time to wait for new events in a single read.
+     * */
+    @Builder.Default
+    Duration blockTimeout = Duration.ofSeconds(1);
+
+    /**
+     * Events delivered to any consumer of the group, but not acknowledged during this time,
+     * are claimed and handled again. It allows to handle events of crashed consumers.
+     * */
+    @Builder.Default
+    Duration claimIdleTime = Duration.ofMinutes(1);
+
+    /**
+     * Max number of deliveries of a single event. Events which failed to be handled this number of times
+     * are acknowledged and skipped.
+     * */
+    @Builder.Default
+    int maxDeliveries = 10;
+
+    /**
+     * Approximate max number of events to retain in the stream, older events are trimmed.
+     * Zero disables trimming.
+     * */
+    @Builder.Default
+    int maxLength = 0;
+
+    /**
+     * Min period between stream trimmings.
+     * */
+    @Builder.Default
+    Duration trimPeriod = Duration.ofMinutes(1);
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.eventsourcing;
+
+import lombok.Builder;
+import lombok.ToString;
+import lombok.Value;
+
+/**
+ * State of a Redis Streams consumer group.
+ * */
+@Value
+@Builder
+@ToString
+public class ConsumerGroupStats {
+
+    String stream;
+
+    String group;
+
+    /**
+     * Number of consumers in the group.
+     * */
+    int consumers;
+
+    /**
+     * Number of events delivered to the consumers of the group, but not acknowledged yet.
+     * */
+    long pending;
+
+    /**
+     * Number of events which were not delivered to the group yet.
+     * The value is capped with {@code EventEngine.MAX_LAG_TO_COUNT}.
+     * */
+    long lag;
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.eventsourcing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.PendingEntry;
+import org.redisson.api.RStream;
+import org.redisson.api.StreamMessageId;
+import org.redisson.api.stream.StreamCreateGroupArgs;
+import org.redisson.api.stream.StreamReadGroupArgs;
+import org.redisson.api.stream.StreamTrimArgs;
+import org.redisson.client.RedisException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Polling task of an {@link EventHandler} which is a member of a consumer group.
+ * -
+ * Each run reclaims events which were not acknowledged by other consumers in time,
+ * then reads a batch of new events with a blocking read and acknowledges successfully handled ones.
+ * Events which failed to be handled stay pending and are delivered again once claim idle time passes.
+ * */
+@Slf4j
+final class ConsumerGroupWorker implements Runnable {
+
+    private static final String GROUP_EXISTS_ERROR = "BUSYGROUP";
+
+    private final RStream<String, String> stream;
+    private final ConsumerGroupOptions options;
+    private final EventHandler eventHandler;
+
+    private boolean groupCreated;
+    private long lastReclaim;
+    private long lastTrim;
+
+    ConsumerGroupWorker(final RStream<String, String> stream, final ConsumerGroupOptions options,
+                        final EventHandler eventHandler) {
+        this.stream = stream;
+        this.options = options;
+        this.eventHandler = eventHandler;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public void run() {
+        try {
+            createGroupIfRequired();
+            reclaimIfRequired();
+            handle(stream.readGroup(options.getGroup(), options.getConsumer(),
+                    StreamReadGroupArgs.neverDelivered()
+                            .count(options.getBatchSize())
+                            .timeout(options.getBlockTimeout())));
+            trimIfRequired();
+        } catch (Exception e) {
+            log.error(String.format("Problem with reading events of group %s by consumer %s",
+                    options.getGroup(), options.getConsumer()), e);
+        }
+    }
+
+    private void createGroupIfRequired() {
+        if (groupCreated) {
+            return;
+        }
+        try {
+            stream.createGroup(StreamCreateGroupArgs.name(options.getGroup())
+                    .id(StreamMessageId.NEWEST)
+                    .makeStream());
+            log.debug("Consumer group {} has been created.", options.getGroup());
+        } catch (RedisException e) {
+            if (e.getMessage() == null || !e.getMessage().contains(GROUP_EXISTS_ERROR)) {
+                throw e;
+            }
+        }
+        groupCreated = true;
+    }
+
+    private void reclaimIfRequired() {
+        final long now = System.currentTimeMillis();
+        final long claimIdleTime = options.getClaimIdleTime().toMillis();
+        if (now - lastReclaim < claimIdleTime) {
+            return;
+        }
+        lastReclaim = now;
+        final List<PendingEntry> pending = stream.listPending(options.getGroup(),
+                StreamMessageId.MIN, StreamMessageId.MAX, options.getBatchSize());
+        final List<StreamMessageId> toClaim = new ArrayList<>();
+        final List<StreamMessageId> toSkip = new ArrayList<>();
+        for (PendingEntry entry : pending) {
+            if (entry.getIdleTime() < claimIdleTime) {
+                continue;
+            }
+            if (entry.getLastTimeDelivered() >= options.getMaxDeliveries()) {
+                toSkip.add(entry.getId());
+            } else {
+                toClaim.add(entry.getId());
+            }
+        }
+        if (!toSkip.isEmpty()) {
+            log.error("Events {} of group {} were not handled in {} deliveries and will be skipped.",
+                    toSkip, options.getGroup(), options.getMaxDeliveries());
+            stream.ack(options.getGroup(), toSkip.toArray(new StreamMessageId[0]));
+        }
+        if (!toClaim.isEmpty()) {
+            log.debug("Claiming {} pending event(s) of group {}.", toClaim.size(), options.getGroup());
+            handle(stream.claim(options.getGroup(), options.getConsumer(), claimIdleTime, TimeUnit.MILLISECONDS,
+                    toClaim.toArray(new StreamMessageId[0])));
+        }
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void handle(final Map<StreamMessageId, Map<String, String>> messages) {
+        if (messages == null || messages.isEmpty()) {
+            return;
+        }
+        final List<StreamMessageId> handled = new ArrayList<>(messages.size());
+        messages.forEach((streamMessageId, data) -> {
+            final Event event = Event.fromRawData(new HashMap<>(data));
+            try {
+                eventHandler.handle(streamMessageId.getId0(), event);
+                handled.add(streamMessageId);
+            } catch (Exception e) {
+                log.error(String.format("Problem with accepting an event: %s", event), e);
+            }
+        });
+        if (!handled.isEmpty()) {
+            stream.ack(options.getGroup(), handled.toArray(new StreamMessageId[0]));
+        }
+    }
+
+    private void trimIfRequired() {
+        final long now = System.currentTimeMillis();
+        if (options.getMaxLength() <= 0 || now - lastTrim < options.getTrimPeriod().toMillis()) {
+            return;
+        }
+        lastTrim = now;
+        final long trimmed = stream.trimNonStrict(StreamTrimArgs.maxLen(options.getMaxLength()).noLimit());
+        if (trimmed > 0) {
+            log.debug("{} event(s) were trimmed from the stream.", trimmed);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 EPAM Systems, Inc. (https://www.epam.com/)
+ * Copyright 2024-2026 EPAM Systems, Inc. (https://www.epam.com/)
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,11 +20,18 @@ import lombok.extern.slf4j.Slf4j;
 import org.redisson.Redisson;
 import org.redisson.api.RStream;
 import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamGroup;
+import org.redisson.api.StreamInfo;
 import org.redisson.api.StreamMessageId;
 import org.redisson.api.stream.StreamReadArgs;
 import org.redisson.config.Config;
 
 import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
@@ -41,11 +48,18 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 public final class EventEngine {
 
+    /**
+     * Max number of not delivered events counted as a consumer group lag.
+     * */
+    public static final int MAX_LAG_TO_COUNT = 10_000;
+
     private final RedissonClient redissonClient;
     private final ScheduledExecutorService executorService;
 
     final ConcurrentHashMap<String, StreamMessageId> lastReadByHandler;
     final ConcurrentHashMap<String, Future<?>> enabled;
+    final ConcurrentHashMap<String, ScheduledExecutorService> groupExecutors;
+    final ConcurrentHashMap<String, Map.Entry<String, String>> enabledGroups;
 
     public EventEngine(final String redisHost, final int redisPort, final int threads,
                        final int redissonThreads, final int redissonNettyThreads) {
@@ -67,6 +81,8 @@ public final class EventEngine {
         this.executorService = executorService;
         this.lastReadByHandler = new ConcurrentHashMap<>();
         this.enabled = new ConcurrentHashMap<>();
+        this.groupExecutors = new ConcurrentHashMap<>();
+        this.enabledGroups = new ConcurrentHashMap<>();
     }
 
     public EventEngine(final RedissonClient redissonClient,
@@ -75,6 +91,8 @@ public final class EventEngine {
         this.executorService = executorService;
         this.lastReadByHandler = new ConcurrentHashMap<>();
         this.enabled = new ConcurrentHashMap<>();
+        this.groupExecutors = new ConcurrentHashMap<>();
+        this.enabledGroups = new ConcurrentHashMap<>();
     }
 
     /**
@@ -134,13 +152,91 @@ public final class EventEngine {
         enabled.put(eventHandler.getId(), future);
     }
 
+    /**
+     * Enables {@param eventHandler} {@link EventHandler} to receive events from the {@link RStream}
+     * with name {@param stream} as a member of a consumer group described by {@param options}.
+     * Events are distributed between all handlers of the same group, even if they belong to different
+     * application instances, and each event is acknowledged once it is handled. Consumer group is created
+     * if it doesn't exist yet, in this case only newly published events will be received.
+     * See {@link ConsumerGroupOptions}.
+     * -
+     * Blocking reads of the handler are performed by its own single thread executor,
+     * so they never occupy threads of the {@link ScheduledExecutorService} of this engine.
+     * {@param frequencyInMills} delay in mills between blocking reads of the handler
+     * {@param force} if set to true, this method will enable provided handler and remove another one,
+     *                with the same name if already exists.
+     *                if false, and handler with the same name already registered,
+     *                method will throw an {@link IllegalStateException}
+     * */
+    public void enableGroupHandler(final String stream, final ConsumerGroupOptions options,
+                                   final EventHandler eventHandler, final int frequencyInMills,
+                                   final boolean force) {
+        log.debug("Enabling event handler {} in group {}...", eventHandler.getId(), options.getGroup());
+
+        if (enabled.containsKey(eventHandler.getId()) && !force) {
+            throw new IllegalStateException(String.format(
+                    "Handler %s already registered", eventHandler.getId()));
+        }
+        disableHandler(eventHandler.getId());
+
+        final RStream<String, String> rStream = redissonClient.getStream(stream);
+        final ScheduledExecutorService groupExecutor = Executors.newSingleThreadScheduledExecutor();
+        final ScheduledFuture<?> future = groupExecutor.scheduleWithFixedDelay(
+                new ConsumerGroupWorker(rStream, options, eventHandler), 0, frequencyInMills, TimeUnit.MILLISECONDS);
+        groupExecutors.put(eventHandler.getId(), groupExecutor);
+        enabledGroups.put(eventHandler.getId(), new AbstractMap.SimpleImmutableEntry<>(stream, options.getGroup()));
+        enabled.put(eventHandler.getId(), future);
+    }
+
+    /**
+     * Returns state of the consumer group with name {@param group} of the {@link RStream} with name {@param stream}.
+     * Lag is calculated as the number of events published after the last event delivered to the group,
+     * it is capped with {@link #MAX_LAG_TO_COUNT}.
+     * */
+    public ConsumerGroupStats getConsumerGroupStats(final String stream, final String group) {
+        final RStream<String, String> rStream = redissonClient.getStream(stream);
+        final StreamGroup streamGroup = rStream.listGroups().stream()
+                .filter(g -> g.getName().equals(group))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(String.format(
+                        "Consumer group %s of stream %s doesn't exist", group, stream)));
+        return ConsumerGroupStats.builder()
+                .stream(stream)
+                .group(group)
+                .consumers(streamGroup.getConsumers())
+                .pending(streamGroup.getPending())
+                .lag(countLag(rStream, streamGroup.getLastDeliveredId()))
+                .build();
+    }
+
+    /**
+     * Returns states of the consumer groups of all handlers enabled with
+     * {@link #enableGroupHandler(String, ConsumerGroupOptions, EventHandler, int, boolean)}.
+     * Groups which are not created yet or which state can't be loaded are skipped.
+     * */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public List<ConsumerGroupStats> getEnabledConsumerGroupStats() {
+        final List<ConsumerGroupStats> stats = new ArrayList<>();
+        new HashSet<>(enabledGroups.values()).forEach(group -> {
+            try {
+                stats.add(getConsumerGroupStats(group.getKey(), group.getValue()));
+            } catch (RuntimeException e) {
+                log.debug("Failed to load state of consumer group {} of stream {}: {}",
+                        group.getValue(), group.getKey(), e.getMessage());
+            }
+        });
+        return stats;
+    }
+
     /**
      * Removes {@param eventHandler} with id {@param eventHandlerId} from receivers of published event
      * */
     public void disableHandler(final String eventHandlerId) {
         log.debug("Disabling event handler {}...", eventHandlerId);
         lastReadByHandler.remove(eventHandlerId);
+        enabledGroups.remove(eventHandlerId);
         Optional.ofNullable(enabled.remove(eventHandlerId)).ifPresent(future -> future.cancel(true));
+        Optional.ofNullable(groupExecutors.remove(eventHandlerId)).ifPresent(ScheduledExecutorService::shutdownNow);
     }
 
     /**
@@ -158,6 +254,29 @@ public final class EventEngine {
         return new SingleStreamEventProducer(id, applicationId, type, redissonClient.getStream(stream));
     }
 
+    /**
+     * Enables and returns {@link BatchingEventProducer} with id {@param id} to publish events
+     * to the stream with name {@param stream} in pipelined batches described by {@param options}.
+     * Buffered events are flushed by the {@link ScheduledExecutorService} of this engine.
+     * See {@link #enableProducer(String, String, String, String)} and {@link BatchingProducerOptions}.
+     * */
+    public BatchingEventProducer enableBatchingProducer(final String id, final String applicationId,
+                                                        final String type, final String stream,
+                                                        final BatchingProducerOptions options) {
+        log.debug("Enabling batching event producer {} with {}...", id, options);
+        return new BatchingEventProducer(id, applicationId, type,
+                new RedissonStreamBatchWriter(redissonClient, stream), options, executorService);
+    }
+
+    private static long countLag(final RStream<String, String> rStream, final StreamMessageId lastDelivered) {
+        final StreamInfo<String, String> info = rStream.getInfo();
+        if (info.getLength() == 0 || lastDelivered.equals(info.getLastGeneratedId())) {
+            return 0;
+        }
+        final StreamMessageId nextToDeliver = new StreamMessageId(lastDelivered.getId0(), lastDelivered.getId1() + 1);
+        return rStream.range(MAX_LAG_TO_COUNT, nextToDeliver, StreamMessageId.MAX).size();
+    }
+
     private static StreamMessageId calculateMessageToStartFrom(long messagePointer) {
         final StreamMessageId messageIdToStart;
         if (messagePointer == Long.MAX_VALUE) {
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.eventsourcing;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
+import org.redisson.api.RStreamAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+import org.redisson.api.stream.StreamAddArgs;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link StreamBatchWriter} which sends all events of a batch with a single Redis pipeline.
+ * */
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+final class RedissonStreamBatchWriter implements StreamBatchWriter {
+
+    private final RedissonClient redissonClient;
+    private final String stream;
+
+    @Override
+    public List<StreamMessageId> write(final List<Map<String, String>> events) {
+        final RBatch batch = redissonClient.createBatch(BatchOptions.defaults());
+        final RStreamAsync<String, String> rStream = batch.getStream(stream);
+        final List<RFuture<StreamMessageId>> futures = new ArrayList<>(events.size());
+        events.forEach(event -> futures.add(rStream.addAsync(StreamAddArgs.entries(event))));
+        batch.execute();
+        final List<StreamMessageId> ids = new ArrayList<>(futures.size());
+        futures.forEach(future -> ids.add(future.getNow()));
+        return ids;
+    }
+}
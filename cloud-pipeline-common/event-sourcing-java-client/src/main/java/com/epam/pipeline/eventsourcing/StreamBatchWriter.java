@@ -0,0 +1,34 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.eventsourcing;
+
+import org.redisson.api.StreamMessageId;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes several events to a stream at once.
+ * */
+interface StreamBatchWriter {
+
+    /**
+     * Adds {@param events} to the stream preserving their order.
+     * Returns ids of added events in the same order.
+     * */
+    List<StreamMessageId> write(List<Map<String, String>> events);
+}
@@ -0,0 +1,156 @@
+package com.epam.pipeline.eventsourcing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.StreamMessageId;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchingEventProducerTest {
+
+    private static final String PRODUCER_ID = "testId";
+    private static final String APP_TEST_ID = "appTestId";
+    private static final String EVENT_TYPE = "testType";
+    private static final Duration NEVER = Duration.ofHours(1);
+    private static final long TIMEOUT = 5;
+
+    final InMemoryStreamBatchWriter writer = new InMemoryStreamBatchWriter();
+
+    ScheduledExecutorService executorService;
+
+    @BeforeEach
+    public void setUp() {
+        executorService = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void synchronousPutReturnsEventId() {
+        final BatchingEventProducer producer = producer(BatchingProducerOptions.builder()
+                .flushInterval(NEVER)
+                .synchronousFlush(true)
+                .build());
+
+        assertEquals(1, producer.put(Collections.singletonMap("key", "value")));
+        assertEquals(2, producer.put(Collections.singletonMap("key", "value")));
+
+        assertEquals(2, writer.batches.size());
+        final Map<String, String> event = writer.batches.get(0).get(0);
+        assertEquals("value", event.get("key"));
+        assertEquals(APP_TEST_ID, event.get(Event.APPLICATION_ID_FIELD));
+        assertEquals(EVENT_TYPE, event.get(Event.EVENT_TYPE_FIELD));
+    }
+
+    @Test
+    public void eventsAreSentInOneBatchOnceBatchSizeIsReached() throws Exception {
+        final BatchingEventProducer producer = producer(BatchingProducerOptions.builder()
+                .batchSize(3)
+                .flushInterval(NEVER)
+                .build());
+
+        assertEquals(-1, producer.put(Collections.singletonMap("key", "1")));
+        producer.putAsync(Collections.singletonMap("key", "2"));
+        final CompletableFuture<Long> last = producer.putAsync(Collections.singletonMap("key", "3"));
+
+        assertEquals(3, last.get(TIMEOUT, TimeUnit.SECONDS));
+        assertEquals(1, writer.batches.size());
+        assertEquals(3, writer.batches.get(0).size());
+        assertEquals("1", writer.batches.get(0).get(0).get("key"));
+        assertEquals(BatchingProducerStats.builder().published(3).batches(1).build(), producer.getStats());
+    }
+
+    @Test
+    public void eventsAreSentOnceFlushIntervalElapses() throws Exception {
+        final BatchingEventProducer producer = producer(BatchingProducerOptions.builder()
+                .flushInterval(Duration.ofMillis(10))
+                .build());
+
+        final CompletableFuture<Long> result = producer.putAsync(Collections.singletonMap("key", "value"));
+
+        assertEquals(1, result.get(TIMEOUT, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void closeSendsBufferedEventsInOrder() {
+        final BatchingEventProducer producer = producer(BatchingProducerOptions.builder()
+                .batchSize(2)
+                .maxBufferSize(10)
+                .flushInterval(NEVER)
+                .build());
+
+        for (int i = 0; i < 5; i++) {
+            producer.putAsync(Collections.singletonMap("key", String.valueOf(i)));
+        }
+        producer.close();
+
+        final List<String> sent = new ArrayList<>();
+        writer.batches.forEach(batch -> {
+            assertTrue(batch.size() <= 2);
+            batch.forEach(event -> sent.add(event.get("key")));
+        });
+        assertEquals(Arrays.asList("0", "1", "2", "3", "4"), sent);
+        assertEquals(0, producer.getStats().getBuffered());
+        assertEquals(5, producer.getStats().getPublished());
+    }
+
+    @Test
+    public void failedBatchCompletesEventsExceptionally() {
+        final BatchingEventProducer producer = producer(BatchingProducerOptions.builder()
+                .flushInterval(NEVER)
+                .build());
+        writer.failing.set(true);
+
+        final CompletableFuture<Long> result = producer.putAsync(Collections.singletonMap("key", "value"));
+        producer.flush();
+
+        assertThrows(ExecutionException.class, result::get);
+        assertEquals(BatchingProducerStats.builder().failed(1).build(), producer.getStats());
+    }
+
+    private BatchingEventProducer producer(final BatchingProducerOptions options) {
+        return new BatchingEventProducer(PRODUCER_ID, APP_TEST_ID, EVENT_TYPE, writer, options, executorService);
+    }
+
+    /**
+     * Local stand-in of a Redis stream which assigns sequential ids to the events.
+     * */
+    private static final class InMemoryStreamBatchWriter implements StreamBatchWriter {
+
+        final List<List<Map<String, String>>> batches = new CopyOnWriteArrayList<>();
+        final AtomicBoolean failing = new AtomicBoolean();
+        final AtomicLong lastId = new AtomicLong();
+
+        @Override
+        public List<StreamMessageId> write(final List<Map<String, String>> events) {
+            if (failing.get()) {
+                throw new IllegalStateException("Redis is not available");
+            }
+            batches.add(new ArrayList<>(events));
+            final List<StreamMessageId> ids = new ArrayList<>(events.size());
+            events.forEach(event -> ids.add(new StreamMessageId(lastId.incrementAndGet(), 0)));
+            return ids;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.epam.pipeline.eventsourcing;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.PendingEntry;
+import org.redisson.api.RStream;
+import org.redisson.api.StreamMessageId;
+import org.redisson.api.stream.StreamCreateGroupArgs;
+import org.redisson.api.stream.StreamReadGroupArgs;
+import org.redisson.client.RedisException;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ExtendWith(MockitoExtension.class)
+class ConsumerGroupWorkerTest {
+
+    private static final String GROUP = "group";
+    private static final String CONSUMER = "consumer";
+    private static final String FAILING_TYPE = "failing";
+    private static final StreamMessageId FIRST = new StreamMessageId(1, 0);
+    private static final StreamMessageId SECOND = new StreamMessageId(2, 0);
+    private static final int MAX_DELIVERIES = 3;
+
+    @Mock
+    RStream<String, String> stream;
+
+    final List<Long> handled = new CopyOnWriteArrayList<>();
+
+    final EventHandler eventHandler = new EventHandler() {
+        @Override
+        public String getId() {
+            return "handler";
+        }
+
+        @Override
+        public String getApplicationId() {
+            return "testApplication";
+        }
+
+        @Override
+        public String getEventType() {
+            return "test-event";
+        }
+
+        @Override
+        public void handle(long eventId, Event event) {
+            if (FAILING_TYPE.equals(event.getType())) {
+                throw new IllegalStateException("Failed to handle event");
+            }
+            handled.add(eventId);
+        }
+    };
+
+    ConsumerGroupWorker worker;
+
+    @BeforeEach
+    public void setUp() {
+        worker = new ConsumerGroupWorker(stream, ConsumerGroupOptions.builder()
+                .group(GROUP)
+                .consumer(CONSUMER)
+                .claimIdleTime(Duration.ofMillis(10))
+                .maxDeliveries(MAX_DELIVERIES)
+                .build(), eventHandler);
+    }
+
+    @Test
+    public void onlyHandledEventsAreAcknowledged() {
+        final Map<StreamMessageId, Map<String, String>> messages = new LinkedHashMap<>();
+        messages.put(FIRST, event("test-event"));
+        messages.put(SECOND, event(FAILING_TYPE));
+        Mockito.when(stream.readGroup(Mockito.eq(GROUP), Mockito.eq(CONSUMER), Mockito.any(StreamReadGroupArgs.class)))
+                .thenReturn(messages);
+
+        worker.run();
+
+        assertEquals(Collections.singletonList(FIRST.getId0()), handled);
+        Mockito.verify(stream).ack(GROUP, FIRST);
+        Mockito.verify(stream, Mockito.never()).ack(GROUP, SECOND);
+    }
+
+    @Test
+    public void idlePendingEventsAreClaimedOrSkipped() {
+        Mockito.when(stream.listPending(GROUP, StreamMessageId.MIN, StreamMessageId.MAX, 100))
+                .thenReturn(Arrays.asList(
+                        new PendingEntry(FIRST, "crashed", 100, 1),
+                        new PendingEntry(SECOND, "crashed", 100, MAX_DELIVERIES)));
+        Mockito.when(stream.claim(GROUP, CONSUMER, 10, TimeUnit.MILLISECONDS, FIRST))
+                .thenReturn(Collections.singletonMap(FIRST, event("test-event")));
+
+        worker.run();
+
+        assertEquals(Collections.singletonList(FIRST.getId0()), handled);
+        Mockito.verify(stream).ack(GROUP, SECOND);
+        Mockito.verify(stream).ack(GROUP, FIRST);
+    }
+
+    @Test
+    public void existingGroupIsReused() {
+        Mockito.doThrow(new RedisException("BUSYGROUP Consumer Group name already exists"))
+                .when(stream).createGroup(Mockito.any(StreamCreateGroupArgs.class));
+
+        worker.run();
+        worker.run();
+
+        Mockito.verify(stream, Mockito.times(1)).createGroup(Mockito.any(StreamCreateGroupArgs.class));
+        Mockito.verify(stream, Mockito.times(2))
+                .readGroup(Mockito.eq(GROUP), Mockito.eq(CONSUMER), Mockito.any(StreamReadGroupArgs.class));
+    }
+
+    private static Map<String, String> event(final String type) {
+        final Map<String, String> data = new HashMap<>();
+        data.put(Event.EVENT_TYPE_FIELD, type);
+        data.put(Event.APPLICATION_ID_FIELD, "testApplication");
+        return data;
+    }
+}
@@ -2,9 +2,12 @@ package com.epam.pipeline.eventsourcing;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.redisson.api.RedissonClient;
 import org.redisson.api.StreamMessageId;
 
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -13,6 +16,8 @@ class EventEngineTest {
     private static final int FROM_EVENT_ID = 15;
     private static final String HANDLER_ID = "testHandler";
     public static final String TEST = "test";
+    private static final String GROUP = "testGroup";
+    private static final String CONSUMER = "testConsumer";
 
     final EventHandler eventHandler = new EventHandler() {
         @Override
@@ -74,6 +79,25 @@ class EventEngineTest {
         assertFalse(eventEngine.lastReadByHandler.containsKey(eventHandler.getId()));
     }
 
+    @Test
+    public void groupHandlerIsPolledByItsOwnExecutor() {
+        final ScheduledExecutorService sharedExecutor = Mockito.mock(ScheduledExecutorService.class);
+        final EventEngine engine = new EventEngine(Mockito.mock(RedissonClient.class), sharedExecutor);
+
+        engine.enableGroupHandler(TEST, ConsumerGroupOptions.builder().group(GROUP).consumer(CONSUMER).build(),
+                eventHandler, 1, false);
+        final ScheduledExecutorService groupExecutor = engine.groupExecutors.get(eventHandler.getId());
+        assertNotNull(groupExecutor);
+        assertTrue(engine.enabled.containsKey(eventHandler.getId()));
+        assertEquals(GROUP, engine.enabledGroups.get(eventHandler.getId()).getValue());
+        Mockito.verifyZeroInteractions(sharedExecutor);
+
+        engine.disableHandler(eventHandler.getId());
+        assertTrue(groupExecutor.isShutdown());
+        assertFalse(engine.groupExecutors.containsKey(eventHandler.getId()));
+        assertFalse(engine.enabledGroups.containsKey(eventHandler.getId()));
+    }
+
     @Test
     public void enablingHandleDoesntFailIfAlreadyExistsAndForced() {
         assertFalse(eventEngine.enabled.containsKey(eventHandler.getId()));
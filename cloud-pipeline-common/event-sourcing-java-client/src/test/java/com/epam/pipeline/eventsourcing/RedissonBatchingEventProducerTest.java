@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.eventsourcing;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.redisson.Redisson;
+import org.redisson.api.RStream;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+import org.redisson.config.Config;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.GenericContainer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Runs {@link BatchingEventProducer} with {@link RedissonStreamBatchWriter} against Redis,
+ * to check the ids and the order of events pipelined to a real stream.
+ * The test is skipped if docker is not available.
+ */
+class RedissonBatchingEventProducerTest {
+
+    private static final String STREAM = "test-stream";
+    private static final String PRODUCER_ID = "testId";
+    private static final String APP_TEST_ID = "appTestId";
+    private static final String EVENT_TYPE = "testType";
+    private static final String KEY = "key";
+    private static final Duration NEVER = Duration.ofHours(1);
+    private static final int REDIS_PORT = 6379;
+    private static final int EVENTS = 7;
+
+    private static GenericContainer<?> redis;
+    private static RedissonClient redissonClient;
+
+    ScheduledExecutorService executorService;
+
+    @BeforeAll
+    public static void startRedis() {
+        assumeTrue(DockerClientFactory.instance().isDockerAvailable(), "Docker is not available");
+        redis = new GenericContainer<>("redis:6-alpine").withExposedPorts(REDIS_PORT);
+        redis.start();
+        final Config config = new Config();
+        config.useSingleServer().setAddress(String.format("redis://%s:%d",
+                redis.getHost(), redis.getMappedPort(REDIS_PORT)));
+        redissonClient = Redisson.create(config);
+    }
+
+    @AfterAll
+    public static void stopRedis() {
+        if (redissonClient != null) {
+            redissonClient.shutdown();
+        }
+        if (redis != null) {
+            redis.stop();
+        }
+    }
+
+    @BeforeEach
+    public void setUp() {
+        redissonClient.getKeys().delete(STREAM);
+        executorService = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void eventsAreWrittenToStreamInOrderWithTheirIds() throws Exception {
+        final BatchingEventProducer producer = producer(BatchingProducerOptions.builder()
+                .batchSize(3)
+                .maxBufferSize(EVENTS)
+                .flushInterval(NEVER)
+                .build());
+
+        final List<CompletableFuture<Long>> results = new ArrayList<>();
+        for (int i = 0; i < EVENTS; i++) {
+            results.add(producer.putAsync(Collections.singletonMap(KEY, String.valueOf(i))));
+        }
+        producer.close();
+
+        final RStream<String, String> stream = redissonClient.getStream(STREAM);
+        final Map<StreamMessageId, Map<String, String>> written =
+                stream.range(StreamMessageId.MIN, StreamMessageId.MAX);
+        assertEquals(EVENTS, written.size());
+        int index = 0;
+        for (Map.Entry<StreamMessageId, Map<String, String>> entry : written.entrySet()) {
+            assertEquals(String.valueOf(index), entry.getValue().get(KEY));
+            assertEquals(APP_TEST_ID, entry.getValue().get(Event.APPLICATION_ID_FIELD));
+            assertEquals(EVENT_TYPE, entry.getValue().get(Event.EVENT_TYPE_FIELD));
+            assertEquals(entry.getKey().getId0(), results.get(index).get());
+            index++;
+        }
+        assertEquals(EVENTS, producer.getStats().getPublished());
+        assertTrue(producer.getStats().getBatches() >= (EVENTS + 2) / 3);
+    }
+
+    @Test
+    public void synchronousPutReturnsIdOfWrittenEvent() {
+        final BatchingEventProducer producer = producer(BatchingProducerOptions.builder()
+                .flushInterval(NEVER)
+                .synchronousFlush(true)
+                .build());
+
+        final long id = producer.put(Collections.singletonMap(KEY, "value"));
+
+        final Map<StreamMessageId, Map<String, String>> written = redissonClient.<String, String>getStream(STREAM)
+                .range(StreamMessageId.MIN, StreamMessageId.MAX);
+        assertEquals(1, written.size());
+        assertEquals(id, written.keySet().iterator().next().getId0());
+    }
+
+    @Test
+    public void failedBatchCompletesEventsExceptionally() {
+        redissonClient.getBucket(STREAM).set("not a stream");
+        final BatchingEventProducer producer = producer(BatchingProducerOptions.builder()
+                .flushInterval(NEVER)
+                .build());
+
+        final CompletableFuture<Long> result = producer.putAsync(Collections.singletonMap(KEY, "value"));
+        producer.flush();
+
+        assertThrows(ExecutionException.class, result::get);
+        assertEquals(BatchingProducerStats.builder().failed(1).build(), producer.getStats());
+    }
+
+    private BatchingEventProducer producer(final BatchingProducerOptions options) {
+        return new BatchingEventProducer(PRODUCER_ID, APP_TEST_ID, EVENT_TYPE,
+                new RedissonStreamBatchWriter(redissonClient, STREAM), options, executorService);
+    }
+}
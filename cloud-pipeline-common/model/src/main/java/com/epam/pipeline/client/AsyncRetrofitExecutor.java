@@ -0,0 +1,62 @@
+package com.epam.pipeline.client;
+
+import com.epam.pipeline.exception.PipelineResponseApiException;
+import com.epam.pipeline.exception.PipelineResponseHttpException;
+import com.epam.pipeline.exception.PipelineResponseIOException;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.ResponseBody;
+import org.apache.commons.lang3.StringUtils;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Executes retrofit calls without blocking the caller thread. Calls are enqueued to
+ * the dispatcher of the underlying http client which limits the number of concurrent requests.
+ */
+@Slf4j
+public class AsyncRetrofitExecutor {
+
+    public <T> CompletableFuture<T> execute(final Call<T> call) {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        call.enqueue(new Callback<T>() {
+            @Override
+            public void onResponse(final Call<T> call, final Response<T> response) {
+                if (!response.isSuccessful()) {
+                    result.completeExceptionally(new PipelineResponseHttpException(String.format(
+                            "Unexpected response http code: %d, %s",
+                            response.code(), getErrorBody(response).orElse(StringUtils.EMPTY))));
+                } else if (response.body() == null) {
+                    result.completeExceptionally(new PipelineResponseApiException("Empty response body"));
+                } else {
+                    result.complete(response.body());
+                }
+            }
+
+            @Override
+            public void onFailure(final Call<T> call, final Throwable t) {
+                result.completeExceptionally(new PipelineResponseIOException(t));
+            }
+        });
+        return result;
+    }
+
+    private <T> Optional<String> getErrorBody(final Response<T> response) {
+        try (ResponseBody body = response.errorBody()) {
+            return Optional.ofNullable(body).flatMap(this::toString);
+        }
+    }
+
+    private Optional<String> toString(final ResponseBody body) {
+        try {
+            return Optional.ofNullable(body.string());
+        } catch (IOException e) {
+            log.warn("Could not extract body from response", e);
+            return Optional.empty();
+        }
+    }
+}
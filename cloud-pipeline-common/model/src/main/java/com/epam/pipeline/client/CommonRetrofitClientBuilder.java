@@ -41,21 +41,30 @@ public class CommonRetrofitClientBuilder implements RetrofitClientBuilder {
     @Override
     public <T> T build(final Class<T> type, final String schema, final String host, final int port,
                        final ObjectMapper mapper, final Proxy proxy) {
-        return retrofit(schema, host, port, JacksonConverterFactory.create(mapper), proxy)
+        return build(type, schema, host, port, mapper, buildHttpClient(proxy));
+    }
+
+    /**
+     * Builds a client which uses the given http client. It allows to share a single connection pool
+     * and dispatcher between clients of different hosts.
+     */
+    public <T> T build(final Class<T> type, final String schema, final String host, final int port,
+                       final ObjectMapper mapper, final OkHttpClient client) {
+        return retrofit(schema, host, port, JacksonConverterFactory.create(mapper), client)
                 .create(type);
     }
 
     private Retrofit retrofit(final String schema, final String host, final int port,
                               final JacksonConverterFactory converterFactory,
-                              final Proxy proxy) {
+                              final OkHttpClient client) {
         return new Retrofit.Builder()
                 .baseUrl(URLUtils.normalizeUrl(schema + "://" + host + ":" + port))
                 .addConverterFactory(converterFactory)
-                .client(buildHttpClient(proxy))
+                .client(client)
                 .build();
     }
 
-    private OkHttpClient buildHttpClient(final Proxy proxy) {
+    public OkHttpClient buildHttpClient(final Proxy proxy) {
         final TrustManager[] trustAllCerts = new TrustManager[]{
             new X509TrustManager() {
                 @Override
@@ -65,6 +65,7 @@ import com.epam.pipeline.vo.EntityPermissionVO;
 import com.epam.pipeline.vo.EntityVO;
 import com.epam.pipeline.vo.FilterNodesVO;
 import com.epam.pipeline.vo.PagingRunFilterExpressionVO;
+import com.epam.pipeline.vo.PagingRunFilterVO;
 import com.epam.pipeline.vo.RunStatusVO;
 import com.epam.pipeline.vo.cluster.pool.NodePoolUsage;
 import com.epam.pipeline.vo.data.storage.DataStorageTagInsertBatchRequest;
@@ -108,6 +109,8 @@ public interface CloudPipelineAPI {
     String TO = "to";
     String TOOL_ID = "toolId";
     String REGION_ID = "regionId";
+    String FROM_ID = "fromId";
+    String PAGE_SIZE = "pageSize";
 
 
     @POST("run/{runId}/status")
@@ -131,6 +134,9 @@ public interface CloudPipelineAPI {
     @POST("run/search")
     Call<Result<PagedResult<List<PipelineRun>>>> searchPipelineRuns(@Body PagingRunFilterExpressionVO filterVO);
 
+    @POST("run/filter")
+    Call<Result<PagedResult<List<PipelineRun>>>> filterPipelineRuns(@Body PagingRunFilterVO filterVO);
+
     @POST("metadata/load")
     Call<Result<List<MetadataEntry>>> loadFolderMetadata(@Body List<EntityVO> entities);
 
@@ -281,6 +287,9 @@ public interface CloudPipelineAPI {
     @POST("cluster/node/filter")
     Call<Result<List<NodeInstance>>> findNodes(@Body FilterNodesVO filterNodesVO);
 
+    @GET("cluster/node/loadAll")
+    Call<Result<List<NodeInstance>>> loadNodes();
+
     //Notification methods
     @POST("notification/message")
     Call<Result<NotificationMessage>> createNotification(@Body NotificationMessageVO notification);
@@ -289,6 +298,12 @@ public interface CloudPipelineAPI {
     Call<Result<List<PipelineRun>>> loadRunsActivityStats(@Query(FROM) String from, @Query(TO) String to,
                                                           @Query("archive") boolean archive);
 
+    @GET("run/activity")
+    Call<Result<List<PipelineRun>>> loadRunsActivityStats(@Query(FROM) String from, @Query(TO) String to,
+                                                          @Query("archive") boolean archive,
+                                                          @Query(FROM_ID) Long fromId,
+                                                          @Query(PAGE_SIZE) Integer pageSize);
+
     @GET("run/pools/{id}")
     Call<Result<List<PipelineRun>>> loadRunsByPool(@Path(ID) Long poolId);
 
@@ -305,6 +320,9 @@ public interface CloudPipelineAPI {
     @GET("cluster/node/{id}/disks")
     Call<Result<List<NodeDisk>>> loadNodeDisks(@Path(ID) String nodeId);
 
+    @POST("cluster/node/disks")
+    Call<Result<Map<String, List<NodeDisk>>>> loadNodesDisks(@Body List<String> nodeIds);
+
     @GET("cluster/pool")
     Call<Result<List<NodePool>>> loadNodePools();
 
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.utils;
+
+/**
+ * Adjusts the number of documents in a bulk request according to elasticsearch feedback:
+ * the size grows slowly while bulk requests are handled faster than the target latency,
+ * shrinks if they are slower and is halved if elasticsearch rejects requests.
+ */
+public class AdaptiveBulkSizer {
+
+    private static final int MIN_BULK_SIZE = 10;
+    private static final int MAX_BULK_SIZE_FACTOR = 4;
+    private static final int GROWTH_DIVIDER = 10;
+
+    private final int minSize;
+    private final int maxSize;
+    private final long targetLatencyMs;
+    private int size;
+
+    public AdaptiveBulkSizer(final int initialSize, final long targetLatencyMs) {
+        this.minSize = Math.min(MIN_BULK_SIZE, initialSize);
+        this.maxSize = initialSize * MAX_BULK_SIZE_FACTOR;
+        this.targetLatencyMs = targetLatencyMs;
+        this.size = initialSize;
+    }
+
+    public synchronized int getBulkSize() {
+        return size;
+    }
+
+    public synchronized void onSuccess(final int requests, final long latencyMs) {
+        if (latencyMs > targetLatencyMs) {
+            size = Math.max(minSize, size * 3 / 4);
+        } else if (requests >= size) {
+            size = Math.min(maxSize, size + Math.max(1, size / GROWTH_DIVIDER));
+        }
+    }
+
+    public synchronized void onRejection() {
+        size = Math.max(minSize, size / 2);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AdaptiveBulkSizerTest {
+
+    private static final int INITIAL_SIZE = 100;
+    private static final long TARGET_LATENCY_MS = 1000;
+
+    @Test
+    public void shouldGrowBulkSizeWhileBulksAreFast() {
+        final AdaptiveBulkSizer sizer = new AdaptiveBulkSizer(INITIAL_SIZE, TARGET_LATENCY_MS);
+
+        sizer.onSuccess(INITIAL_SIZE, TARGET_LATENCY_MS / 2);
+
+        Assert.assertEquals(110, sizer.getBulkSize());
+    }
+
+    @Test
+    public void shouldNotGrowBulkSizeOverLimit() {
+        final AdaptiveBulkSizer sizer = new AdaptiveBulkSizer(INITIAL_SIZE, TARGET_LATENCY_MS);
+
+        for (int i = 0; i < 100; i++) {
+            sizer.onSuccess(sizer.getBulkSize(), 0);
+        }
+
+        Assert.assertEquals(INITIAL_SIZE * 4, sizer.getBulkSize());
+    }
+
+    @Test
+    public void shouldShrinkBulkSizeIfBulksAreSlow() {
+        final AdaptiveBulkSizer sizer = new AdaptiveBulkSizer(INITIAL_SIZE, TARGET_LATENCY_MS);
+
+        sizer.onSuccess(INITIAL_SIZE, TARGET_LATENCY_MS * 2);
+
+        Assert.assertEquals(75, sizer.getBulkSize());
+    }
+
+    @Test
+    public void shouldHalveBulkSizeOnRejectionsDownToMinimum() {
+        final AdaptiveBulkSizer sizer = new AdaptiveBulkSizer(INITIAL_SIZE, TARGET_LATENCY_MS);
+
+        sizer.onRejection();
+        Assert.assertEquals(INITIAL_SIZE / 2, sizer.getBulkSize());
+
+        for (int i = 0; i < 10; i++) {
+            sizer.onRejection();
+        }
+        Assert.assertEquals(10, sizer.getBulkSize());
+    }
+}
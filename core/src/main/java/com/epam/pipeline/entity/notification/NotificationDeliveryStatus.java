@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.entity.notification;
+
+/**
+ * Delivery status of a {@link NotificationMessage} in the notification queue.
+ */
+public enum NotificationDeliveryStatus {
+
+    /**
+     * Message is waiting to be delivered.
+     */
+    NEW,
+
+    /**
+     * Message is claimed by one of the notifier instances and is being delivered.
+     */
+    CLAIMED,
+
+    /**
+     * Message has been successfully delivered.
+     */
+    SENT,
+
+    /**
+     * Message delivery has failed and will be retried later.
+     */
+    FAILED,
+
+    /**
+     * Message delivery has failed too many times and will not be retried.
+     */
+    DEAD
+}
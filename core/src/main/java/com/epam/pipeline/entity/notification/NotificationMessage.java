@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2019 EPAM Systems, Inc. (https://www.epam.com/)
+ * Copyright 2017-2026 EPAM Systems, Inc. (https://www.epam.com/)
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,21 +17,27 @@
 package com.epam.pipeline.entity.notification;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import javax.persistence.AttributeConverter;
 import javax.persistence.Column;
 import javax.persistence.Convert;
 import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.OneToOne;
 import javax.persistence.Table;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -70,6 +76,36 @@ public class NotificationMessage {
     @Convert(converter = ParameterConverterJson.class)
     private Map<String, Object> templateParameters;
 
+    @JsonIgnore
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status")
+    private NotificationDeliveryStatus status = NotificationDeliveryStatus.NEW;
+
+    @JsonIgnore
+    @Column(name = "attempts")
+    private int attempts;
+
+    @JsonIgnore
+    @Column(name = "next_attempt_date")
+    private LocalDateTime nextAttemptDate;
+
+    @JsonIgnore
+    @Column(name = "claimed_by")
+    private String claimedBy;
+
+    @JsonIgnore
+    @Column(name = "claimed_date")
+    private LocalDateTime claimedDate;
+
+    @JsonIgnore
+    @Column(name = "last_error")
+    private String lastError;
+
+    @JsonIgnore
+    @Column(name = "delivered_channels")
+    @Convert(converter = ChannelsConverter.class)
+    private Set<String> deliveredChannels = new LinkedHashSet<>();
+
     public static class ParameterConverterJson implements AttributeConverter<Map<String, Object>, String> {
 
         private final ObjectMapper mapper = new ObjectMapper();
@@ -116,4 +152,22 @@ public class NotificationMessage {
                     .collect(Collectors.toList());
         }
     }
+
+    public static class ChannelsConverter implements AttributeConverter<Set<String>, String> {
+
+        @Override
+        public String convertToDatabaseColumn(Set<String> attribute) {
+            return attribute == null || attribute.isEmpty() ? null : String.join(",", attribute);
+        }
+
+        @Override
+        public Set<String> convertToEntityAttribute(String dbData) {
+            return StringUtils.isBlank(dbData)
+                    ? new LinkedHashSet<>()
+                    : Arrays.stream(dbData.split(","))
+                    .map(String::trim)
+                    .filter(StringUtils::isNotEmpty)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+        }
+    }
 }
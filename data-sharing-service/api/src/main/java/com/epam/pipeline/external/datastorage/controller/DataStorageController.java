@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2019 EPAM Systems, Inc. (https://www.epam.com/)
+ * Copyright 2017-2026 EPAM Systems, Inc. (https://www.epam.com/)
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,16 +24,14 @@ import com.epam.pipeline.entity.datastorage.DataStorageFile;
 import com.epam.pipeline.entity.datastorage.DataStorageItemContent;
 import com.epam.pipeline.entity.datastorage.DataStorageListing;
 import com.epam.pipeline.entity.datastorage.TemporaryCredentials;
+import com.epam.pipeline.external.datastorage.manager.datastorage.DataStorageDownloadManager;
 import com.epam.pipeline.external.datastorage.manager.datastorage.DataStorageManager;
 import com.epam.pipeline.rest.Result;
 import com.epam.pipeline.vo.GenerateDownloadUrlVO;
 import com.epam.pipeline.vo.data.storage.UpdateDataStorageItemVO;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
-import org.apache.commons.io.FilenameUtils;
-import org.apache.commons.io.IOUtils;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -43,9 +41,9 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -59,10 +57,13 @@ public class DataStorageController {
     private static final String PATH = "path";
     private static final String VERSION = "version";
     private final DataStorageManager dataStorageManager;
+    private final DataStorageDownloadManager dataStorageDownloadManager;
 
     @Autowired
-    public DataStorageController(DataStorageManager dataStorageManager) {
+    public DataStorageController(DataStorageManager dataStorageManager,
+                                 DataStorageDownloadManager dataStorageDownloadManager) {
         this.dataStorageManager = dataStorageManager;
+        this.dataStorageDownloadManager = dataStorageDownloadManager;
     }
 
     @GetMapping(value = "/datastorage/{id}/load")
@@ -180,35 +181,10 @@ public class DataStorageController {
     }
 
     @GetMapping(value = "/datastorage/{id}/download")
-    public void downloadStream(HttpServletResponse response, @PathVariable Long id,
+    public void downloadStream(HttpServletRequest request, HttpServletResponse response, @PathVariable Long id,
                                @RequestParam String path,
                                @RequestParam(value = VERSION, required = false) final String version)
             throws IOException {
-        writeStreamToResponse(response, dataStorageManager.downloadFile(id, path, version),
-                FilenameUtils.getName(path));
-    }
-
-    private void writeStreamToResponse(HttpServletResponse response, InputStream stream, String fileName)
-            throws IOException {
-        writeStreamToResponse(response, stream, fileName, MediaType.APPLICATION_OCTET_STREAM);
-    }
-
-    private void writeStreamToResponse(HttpServletResponse response, InputStream stream, String fileName,
-                                       MediaType contentType)
-            throws IOException {
-        writeStreamToResponse(response, stream, contentType, "attachment;filename=" + fileName);
-    }
-
-    private void writeStreamToResponse(HttpServletResponse response, InputStream stream,
-                                       MediaType contentType, String contnentDisposition) throws IOException {
-        try (InputStream s = stream) {
-            // Set the content type and attachment header.
-            response.addHeader(HttpHeaders.CONTENT_DISPOSITION, contnentDisposition);
-            response.setContentType(contentType.toString());
-
-            // Copy the stream to the response's output stream.
-            IOUtils.copy(s, response.getOutputStream());
-            response.flushBuffer();
-        }
+        dataStorageDownloadManager.download(id, path, version, request, response);
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2021 EPAM Systems, Inc. (https://www.epam.com/)
+ * Copyright 2021-2026 EPAM Systems, Inc. (https://www.epam.com/)
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -56,6 +56,21 @@ public class CloudPipelineApiBuilder {
         return buildClient().create(clientClass);
     }
 
+    /**
+     * Builds a client for the services outside of Cloud Pipeline, e.g. cloud providers storages. Unlike
+     * Cloud Pipeline API clients, it verifies server certificates and host names with the default trust store.
+     */
+    public <T> T getExternalClient(final Class<T> clientClass) {
+        return new Retrofit.Builder()
+                .baseUrl(apiUrl)
+                .client(new OkHttpClient.Builder()
+                        .readTimeout(readTimeout, TimeUnit.SECONDS)
+                        .connectTimeout(connectTimeout, TimeUnit.SECONDS)
+                        .build())
+                .build()
+                .create(clientClass);
+    }
+
     private OkHttpClient buildHttpClient() {
         final TrustManager[] trustAllCerts = new TrustManager[]{
             new X509TrustManager() {
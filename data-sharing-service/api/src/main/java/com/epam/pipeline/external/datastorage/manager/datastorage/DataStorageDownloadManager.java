@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.external.datastorage.manager.datastorage;
+
+import com.epam.pipeline.entity.datastorage.DataStorageType;
+import com.epam.pipeline.external.datastorage.exception.PipelineResponseException;
+import com.epam.pipeline.external.datastorage.exception.ResourceNotFoundException;
+import com.epam.pipeline.external.datastorage.manager.CloudPipelineApiBuilder;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.ResponseBody;
+import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import retrofit2.Response;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Streams data storage files to the users.
+ * Range and conditional request headers are passed to the content source and the corresponding
+ * response status and headers are passed back, so downloads from the cloud storages can be resumed.
+ */
+@Slf4j
+@Service
+public class DataStorageDownloadManager {
+
+    private static final Set<DataStorageType> PRESIGNED_URL_STORAGES =
+            EnumSet.of(DataStorageType.S3, DataStorageType.AZ, DataStorageType.GS);
+    private static final List<String> REQUEST_HEADERS = Arrays.asList(
+            HttpHeaders.RANGE, HttpHeaders.IF_RANGE, HttpHeaders.IF_MATCH, HttpHeaders.IF_NONE_MATCH,
+            HttpHeaders.IF_MODIFIED_SINCE, HttpHeaders.IF_UNMODIFIED_SINCE);
+    private static final List<String> RESPONSE_HEADERS = Arrays.asList(
+            HttpHeaders.CONTENT_LENGTH, HttpHeaders.CONTENT_RANGE, HttpHeaders.ACCEPT_RANGES,
+            HttpHeaders.ETAG, HttpHeaders.LAST_MODIFIED);
+    private static final Set<Integer> PASSED_ERROR_STATUSES = new HashSet<>(Arrays.asList(
+            HttpStatus.NOT_MODIFIED.value(), HttpStatus.PRECONDITION_FAILED.value(),
+            HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value()));
+    private static final double BYTES_IN_MB = 1024.0 * 1024.0;
+
+    private final DataStorageManager dataStorageManager;
+    private final StorageContentClient contentClient;
+    private final DataStorageDownloadMode mode;
+    private final int bufferSize;
+
+    public DataStorageDownloadManager(final DataStorageManager dataStorageManager,
+                                      final CloudPipelineApiBuilder builder,
+                                      @Value("${data.sharing.download.mode:API}")
+                                      final DataStorageDownloadMode mode,
+                                      @Value("${data.sharing.download.buffer.size:65536}")
+                                      final int bufferSize) {
+        this.dataStorageManager = dataStorageManager;
+        this.contentClient = builder.getExternalClient(StorageContentClient.class);
+        this.mode = mode;
+        this.bufferSize = bufferSize;
+    }
+
+    public void download(final long id, final String path, final String version,
+                         final HttpServletRequest request, final HttpServletResponse response) throws IOException {
+        final Map<String, String> headers = getRequestHeaders(request);
+        if (mode != DataStorageDownloadMode.API && supportsPresignedUrls(id)) {
+            final String url = dataStorageManager.generateDownloadUrl(id, path, version).getUrl();
+            if (mode == DataStorageDownloadMode.REDIRECT) {
+                log.debug("Redirecting download of storage {} path '{}' to presigned url.", id, path);
+                response.sendRedirect(url);
+                return;
+            }
+            writeToResponse(validate(contentClient.getContent(url, headers).execute()), id, path, response);
+            return;
+        }
+        writeToResponse(validate(dataStorageManager.downloadFile(id, path, version, headers)), id, path, response);
+    }
+
+    private boolean supportsPresignedUrls(final long id) {
+        return PRESIGNED_URL_STORAGES.contains(dataStorageManager.loadStorage(id).getType());
+    }
+
+    private Map<String, String> getRequestHeaders(final HttpServletRequest request) {
+        final Map<String, String> headers = new HashMap<>();
+        REQUEST_HEADERS.forEach(header -> Optional.ofNullable(request.getHeader(header))
+                .filter(StringUtils::isNotBlank)
+                .ifPresent(value -> headers.put(header, value)));
+        return headers.isEmpty() ? Collections.emptyMap() : headers;
+    }
+
+    private Response<ResponseBody> validate(final Response<ResponseBody> response) throws IOException {
+        if (response.isSuccessful() || PASSED_ERROR_STATUSES.contains(response.code())) {
+            return response;
+        }
+        try (ResponseBody errorBody = response.errorBody()) {
+            if (response.code() == HttpStatus.NOT_FOUND.value()) {
+                throw new ResourceNotFoundException(response.message());
+            }
+            throw new PipelineResponseException(String.format("Unexpected status code: %d, %s", response.code(),
+                    errorBody != null ? errorBody.string() : StringUtils.EMPTY));
+        }
+    }
+
+    private void writeToResponse(final Response<ResponseBody> content, final long id, final String path,
+                                 final HttpServletResponse response) throws IOException {
+        final long start = System.currentTimeMillis();
+        long transferred = 0;
+        try (ResponseBody body = content.isSuccessful() ? content.body() : content.errorBody()) {
+            response.setStatus(content.code());
+            response.addHeader(HttpHeaders.CONTENT_DISPOSITION,
+                    "attachment;filename=" + FilenameUtils.getName(path));
+            response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+            RESPONSE_HEADERS.forEach(header -> Optional.ofNullable(content.headers().get(header))
+                    .ifPresent(value -> response.setHeader(header, value)));
+            if (body != null && content.isSuccessful()) {
+                transferred = copy(body.byteStream(), response.getOutputStream());
+            }
+            response.flushBuffer();
+        } finally {
+            logThroughput(id, path, content.code(), transferred, System.currentTimeMillis() - start);
+        }
+    }
+
+    private long copy(final InputStream in, final OutputStream out) throws IOException {
+        final byte[] buffer = new byte[bufferSize];
+        long transferred = 0;
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+            transferred += read;
+        }
+        return transferred;
+    }
+
+    private void logThroughput(final long id, final String path, final int status,
+                               final long transferred, final long duration) {
+        final double throughput = duration > 0 ? transferred / BYTES_IN_MB / (duration / 1000.0) : 0;
+        log.info("Download of storage {} path '{}' finished with status {}: {} bytes in {} ms ({} MB/s).",
+                id, path, status, transferred, duration, String.format("%.2f", throughput));
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.external.datastorage.manager.datastorage;
+
+/**
+ * Describes how data storage files are served to the users.
+ */
+public enum DataStorageDownloadMode {
+
+    /**
+     * File content is proxied from Cloud Pipeline API.
+     * Cloud Pipeline API serves whole files only, so Range requests are answered with the full content.
+     */
+    API,
+
+    /**
+     * File content is proxied from the cloud by a presigned url.
+     * Storages which don't support presigned urls are served as {@link #API}.
+     */
+    PRESIGNED,
+
+    /**
+     * User is redirected to a presigned url.
+     * Storages which don't support presigned urls are served as {@link #API}.
+     */
+    REDIRECT
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.external.datastorage.manager.datastorage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Bounded short-living cache of data storage listings and metadata loaded from Cloud Pipeline API.
+ * Concurrent requests for the same key are served with a single API call.
+ * Entries are cached per user, since different users may have different permissions.
+ * Cached values are shared between requests and must not be modified by the callers.
+ */
+@Slf4j
+@Component
+public class DataStorageListingCache {
+
+    private final long ttl;
+    private final Map<DataStorageListingKey, CacheEntry> entries;
+
+    public DataStorageListingCache(@Value("${data.sharing.listing.cache.ttl:10}") final long ttlSeconds,
+                                   @Value("${data.sharing.listing.cache.size:1000}") final int size) {
+        this.ttl = TimeUnit.SECONDS.toMillis(ttlSeconds);
+        this.entries = new LinkedHashMap<DataStorageListingKey, CacheEntry>(size, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<DataStorageListingKey, CacheEntry> eldest) {
+                return size() > size;
+            }
+        };
+    }
+
+    /**
+     * Returns cached value for {@param key} or loads it with {@param loader}.
+     * If the value is already being loaded by another request, waits for its result.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(final DataStorageListingKey key, final Supplier<T> loader) {
+        if (ttl <= 0) {
+            return loader.get();
+        }
+        final CacheEntry entry;
+        final boolean loading;
+        synchronized (entries) {
+            final CacheEntry existing = entries.get(key);
+            loading = existing == null || existing.isExpired();
+            entry = loading ? new CacheEntry(System.currentTimeMillis() + ttl) : existing;
+            if (loading) {
+                entries.put(key, entry);
+            }
+        }
+        if (loading) {
+            load(key, entry, loader);
+        }
+        try {
+            return (T) entry.value.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+
+    /**
+     * Removes all cached entries of the storage with id {@param storageId} for all users.
+     */
+    public void invalidate(final long storageId) {
+        synchronized (entries) {
+            entries.keySet().removeIf(key -> key.getStorageId() == storageId);
+        }
+        log.debug("Listing cache of storage {} is invalidated.", storageId);
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private <T> void load(final DataStorageListingKey key, final CacheEntry entry, final Supplier<T> loader) {
+        try {
+            entry.value.complete(loader.get());
+        } catch (RuntimeException e) {
+            synchronized (entries) {
+                entries.remove(key, entry);
+            }
+            entry.value.completeExceptionally(e);
+        }
+    }
+
+    private static final class CacheEntry {
+
+        private final CompletableFuture<Object> value = new CompletableFuture<>();
+        private final long expires;
+
+        private CacheEntry(final long expires) {
+            this.expires = expires;
+        }
+
+        private boolean isExpired() {
+            return value.isDone() && System.currentTimeMillis() > expires;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2021 EPAM Systems, Inc. (https://www.epam.com/)
+ * Copyright 2017-2026 EPAM Systems, Inc. (https://www.epam.com/)
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -27,15 +27,22 @@ import com.epam.pipeline.entity.datastorage.DataStorageListing;
 import com.epam.pipeline.entity.datastorage.TemporaryCredentials;
 import com.epam.pipeline.external.datastorage.manager.CloudPipelineApiBuilder;
 import com.epam.pipeline.external.datastorage.manager.auth.PipelineAuthManager;
+import com.epam.pipeline.external.datastorage.security.UserContext;
 import com.epam.pipeline.vo.GenerateDownloadUrlVO;
 import com.epam.pipeline.vo.data.storage.UpdateDataStorageItemVO;
+import okhttp3.ResponseBody;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
+import retrofit2.Response;
 
-import java.io.InputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -43,43 +50,51 @@ public class DataStorageManager {
     private final PipelineAuthManager authManager;
     private final PipelineDataStorageClient storageClient;
     private final CloudPipelineApiExecutor apiExecutor;
+    private final DataStorageListingCache listingCache;
 
     public DataStorageManager(final CloudPipelineApiBuilder builder,
                               final CloudPipelineApiExecutor apiExecutor,
-                              final PipelineAuthManager pipelineAuthManager) {
+                              final PipelineAuthManager pipelineAuthManager,
+                              final DataStorageListingCache listingCache) {
         this.authManager = pipelineAuthManager;
         this.storageClient = builder.getClient(PipelineDataStorageClient.class);
         this.apiExecutor = apiExecutor;
+        this.listingCache = listingCache;
     }
 
     public AbstractDataStorage loadStorage(long storageId) {
-        return apiExecutor.execute(storageClient.getStorage(storageId, authManager.getHeader()));
+        return cached("load", storageId, null, null, null, null,
+            () -> apiExecutor.execute(storageClient.getStorage(storageId, authManager.getHeader())));
     }
 
     public List<AbstractDataStorageItem> listStorage(long storageId, String path, Boolean showVersion) {
-        return apiExecutor.execute(storageClient.getStorageContent(storageId, path, 
-                showVersion, authManager.getHeader()));
+        return copyOf(cached("list", storageId, path, String.valueOf(showVersion), null, null,
+            () -> apiExecutor.execute(storageClient.getStorageContent(storageId, path,
+                    showVersion, authManager.getHeader()))));
     }
 
     public DataStorageListing listStorage(long storageId, String path, Boolean showVersion,
                                           Integer pageSize, String marker) {
-        return apiExecutor.execute(storageClient.getStorageContent(storageId, path, showVersion, pageSize, marker,
-                authManager.getHeader()));
+        return copyOf(cached("page", storageId, path, String.valueOf(showVersion), pageSize, marker,
+            () -> apiExecutor.execute(storageClient.getStorageContent(storageId, path, showVersion, pageSize, marker,
+                    authManager.getHeader()))));
     }
 
     public AbstractDataStorageItem getItemWithTags(long storageId, String path, Boolean showVersion) {
-        return apiExecutor.execute(storageClient.getItemWithTags(storageId, path, showVersion, 
-                authManager.getHeader()));
+        return cached("item", storageId, path, String.valueOf(showVersion), null, null,
+            () -> apiExecutor.execute(storageClient.getItemWithTags(storageId, path, showVersion,
+                    authManager.getHeader())));
     }
 
     public Map<String, String> getItemTags(long storageId, String path, String version) {
-        return apiExecutor.execute(storageClient.getItemTags(storageId, path, version, 
-                authManager.getHeader()));
+        return copyOf(cached("tags", storageId, path, version, null, null,
+            () -> apiExecutor.execute(storageClient.getItemTags(storageId, path, version,
+                    authManager.getHeader()))));
     }
 
     public Map<String, String> deleteItemTags(long storageId, String path, Set<String> tags, String version) {
-        return apiExecutor.execute(storageClient.deleteItemTags(storageId, path, tags, version,
-                authManager.getHeader()));
+        return modifying(storageId, () -> apiExecutor.execute(storageClient.deleteItemTags(storageId, path, tags,
+                version, authManager.getHeader())));
     }
 
     public TemporaryCredentials generateCredentials(long storageId, List<DataStorageAction> operations) {
@@ -96,12 +111,13 @@ public class DataStorageManager {
 
     public Map<String, String> updateItemsTags(long storageId, String path, Map<String, String> tags,
                                                String version, Boolean rewrite) {
-        return apiExecutor.execute(storageClient.updateItemTags(storageId, path, tags, version, rewrite,
-                authManager.getHeader()));
+        return modifying(storageId, () -> apiExecutor.execute(storageClient.updateItemTags(storageId, path, tags,
+                version, rewrite, authManager.getHeader())));
     }
 
     public List<AbstractDataStorageItem> updateDataStorageItems(long storageId, List<UpdateDataStorageItemVO> items) {
-        return apiExecutor.execute(storageClient.updateItems(storageId, items, authManager.getHeader()));
+        return modifying(storageId, () -> apiExecutor.execute(storageClient.updateItems(storageId, items,
+                authManager.getHeader())));
     }
 
     public DataStorageItemContent downloadItem(long storageId, String path, String version) {
@@ -109,7 +125,8 @@ public class DataStorageManager {
     }
 
     public Integer deleteDataStorageItems(long storageId, List<UpdateDataStorageItemVO> items, boolean totally) {
-        return apiExecutor.execute(storageClient.deleteItems(storageId, totally, items, authManager.getHeader()));
+        return modifying(storageId, () -> apiExecutor.execute(storageClient.deleteItems(storageId, totally, items,
+                authManager.getHeader())));
     }
 
     public DataStorageDownloadFileUrl generateDownloadUrl(long storageId, String path, String version) {
@@ -128,10 +145,49 @@ public class DataStorageManager {
     public DataStorageFile createDataStorageFile(final Long id,
                                                  final String path,
                                                  final String content) {
-        return apiExecutor.execute(storageClient.createDataStorageFile(id, path, content, authManager.getHeader()));
+        return modifying(id, () -> apiExecutor.execute(storageClient.createDataStorageFile(id, path, content,
+                authManager.getHeader())));
+    }
+
+    /**
+     * Requests file content from Cloud Pipeline API. Response status is not validated, so that
+     * the statuses of conditional requests can be passed to the users.
+     */
+    public Response<ResponseBody> downloadFile(final Long id, final String path, final String version,
+                                               final Map<String, String> headers) throws IOException {
+        return storageClient.downloadFile(id, path, version, headers, authManager.getHeader()).execute();
+    }
+
+    private <T> T cached(final String operation, final long storageId, final String path, final String version,
+                         final Integer pageSize, final String marker, final Supplier<T> loader) {
+        final String user = Optional.ofNullable(authManager.getUser())
+                .map(UserContext::getUsername)
+                .orElse(PipelineAuthManager.UNAUTHORIZED_USER);
+        return listingCache.get(new DataStorageListingKey(user, operation, storageId, path, version, pageSize, marker),
+                loader);
+    }
+
+    /**
+     * Cached collections are shared between requests, so copies of them are returned to the callers.
+     */
+    private static <T> List<T> copyOf(final List<T> list) {
+        return list == null ? null : new ArrayList<>(list);
+    }
+
+    private static DataStorageListing copyOf(final DataStorageListing listing) {
+        return listing == null ? null : new DataStorageListing(listing.getNextPageMarker(),
+                copyOf(listing.getResults()));
+    }
+
+    private static Map<String, String> copyOf(final Map<String, String> map) {
+        return map == null ? null : new HashMap<>(map);
     }
 
-    public InputStream downloadFile(final Long id, final String path, final String version) {
-        return apiExecutor.getResponseStream(storageClient.downloadFile(id, path, version, authManager.getHeader()));
+    private <T> T modifying(final long storageId, final Supplier<T> action) {
+        try {
+            return action.get();
+        } finally {
+            listingCache.invalidate(storageId);
+        }
     }
 }
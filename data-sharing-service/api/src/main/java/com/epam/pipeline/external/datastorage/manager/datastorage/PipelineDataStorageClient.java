@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2019 EPAM Systems, Inc. (https://www.epam.com/)
+ * Copyright 2017-2026 EPAM Systems, Inc. (https://www.epam.com/)
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -38,9 +38,11 @@ import retrofit2.http.Body;
 import retrofit2.http.GET;
 import retrofit2.http.HTTP;
 import retrofit2.http.Header;
+import retrofit2.http.HeaderMap;
 import retrofit2.http.POST;
 import retrofit2.http.Path;
 import retrofit2.http.Query;
+import retrofit2.http.Streaming;
 
 
 public interface PipelineDataStorageClient {
@@ -139,11 +141,13 @@ public interface PipelineDataStorageClient {
                                                         @Body String content,
                                                         @Header(AUTHORIZATION) String token);
 
+    @Streaming
     @GET("restapi/datastorage/{id}/download")
     Call<ResponseBody> downloadFile(@Path(ID) long id,
-                                              @Query(PATH) String path,
-                                              @Query(VERSION) String version,
-                                              @Header(AUTHORIZATION) String token);
+                                    @Query(PATH) String path,
+                                    @Query(VERSION) String version,
+                                    @HeaderMap Map<String, String> headers,
+                                    @Header(AUTHORIZATION) String token);
 
     @GET("restapi/datastorage/{id}/type")
     Call<Result<DataStorageItemType>> getItemType(@Path(ID) Long storageId,
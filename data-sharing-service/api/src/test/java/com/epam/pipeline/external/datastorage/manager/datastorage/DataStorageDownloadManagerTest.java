@@ -0,0 +1,250 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.external.datastorage.manager.datastorage;
+
+import com.epam.pipeline.entity.datastorage.DataStorageDownloadFileUrl;
+import com.epam.pipeline.entity.datastorage.NFSDataStorage;
+import com.epam.pipeline.entity.datastorage.S3bucketDataStorage;
+import com.epam.pipeline.external.datastorage.exception.PipelineResponseException;
+import com.epam.pipeline.external.datastorage.manager.CloudPipelineApiBuilder;
+import okhttp3.Headers;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.ResponseBody;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import retrofit2.Call;
+import retrofit2.Response;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.anyMapOf;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+public class DataStorageDownloadManagerTest {
+
+    private static final long ID = 1L;
+    private static final String PATH = "dir/file.txt";
+    private static final String VERSION = "version";
+    private static final String URL = "https://bucket.s3.amazonaws.com/dir/file.txt?signature=signature";
+    private static final String CONTENT = "content";
+    private static final String RANGE = "bytes=2-";
+    private static final String CONTENT_RANGE = "bytes 2-6/7";
+    private static final String ETAG = "\"etag\"";
+    private static final int BUFFER_SIZE = 4;
+
+    private final DataStorageManager dataStorageManager = mock(DataStorageManager.class);
+    private final CloudPipelineApiBuilder builder = mock(CloudPipelineApiBuilder.class);
+    private final StorageContentClient contentClient = mock(StorageContentClient.class);
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Before
+    public void setUp() {
+        doReturn(contentClient).when(builder).getExternalClient(StorageContentClient.class);
+        final DataStorageDownloadFileUrl url = new DataStorageDownloadFileUrl();
+        url.setUrl(URL);
+        doReturn(url).when(dataStorageManager).generateDownloadUrl(ID, PATH, VERSION);
+    }
+
+    @Test
+    public void shouldForwardRangeAndConditionalHeadersOnly() throws IOException {
+        request.addHeader(HttpHeaders.RANGE, RANGE);
+        request.addHeader(HttpHeaders.IF_RANGE, ETAG);
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer token");
+        request.addHeader(HttpHeaders.COOKIE, "session=session");
+        mockApiContent(upstream(HttpStatus.OK.value(), CONTENT));
+
+        manager(DataStorageDownloadMode.API).download(ID, PATH, VERSION, request, response);
+
+        final Map<String, String> expected = new HashMap<>();
+        expected.put(HttpHeaders.RANGE, RANGE);
+        expected.put(HttpHeaders.IF_RANGE, ETAG);
+        assertEquals(expected, captureApiHeaders());
+        assertEquals(HttpStatus.OK.value(), response.getStatus());
+        assertEquals(CONTENT, response.getContentAsString());
+    }
+
+    @Test
+    public void shouldNotRequestStorageInApiMode() throws IOException {
+        mockApiContent(upstream(HttpStatus.OK.value(), CONTENT));
+
+        manager(DataStorageDownloadMode.API).download(ID, PATH, VERSION, request, response);
+
+        verify(dataStorageManager, never()).loadStorage(anyLong());
+        verify(dataStorageManager, never()).generateDownloadUrl(anyLong(), anyString(), anyString());
+        verifyZeroInteractions(contentClient);
+    }
+
+    @Test
+    public void shouldRelayPartialContentFromApi() throws IOException {
+        request.addHeader(HttpHeaders.RANGE, RANGE);
+        mockApiContent(upstream(HttpStatus.PARTIAL_CONTENT.value(), CONTENT.substring(2),
+                HttpHeaders.CONTENT_RANGE, CONTENT_RANGE, HttpHeaders.ETAG, ETAG));
+
+        manager(DataStorageDownloadMode.API).download(ID, PATH, VERSION, request, response);
+
+        assertEquals(HttpStatus.PARTIAL_CONTENT.value(), response.getStatus());
+        assertEquals(CONTENT_RANGE, response.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertEquals(ETAG, response.getHeader(HttpHeaders.ETAG));
+        assertEquals(CONTENT.substring(2), response.getContentAsString());
+    }
+
+    @Test
+    public void shouldRelayNotModifiedFromApiWithoutContent() throws IOException {
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, ETAG);
+        mockApiContent(upstream(HttpStatus.NOT_MODIFIED.value(), ""));
+
+        manager(DataStorageDownloadMode.API).download(ID, PATH, VERSION, request, response);
+
+        assertEquals(HttpStatus.NOT_MODIFIED.value(), response.getStatus());
+        assertEquals("", response.getContentAsString());
+    }
+
+    @Test
+    public void shouldRelayPreconditionFailedFromApi() throws IOException {
+        request.addHeader(HttpHeaders.IF_MATCH, ETAG);
+        mockApiContent(upstream(HttpStatus.PRECONDITION_FAILED.value(), "precondition failed"));
+
+        manager(DataStorageDownloadMode.API).download(ID, PATH, VERSION, request, response);
+
+        assertEquals(HttpStatus.PRECONDITION_FAILED.value(), response.getStatus());
+        assertEquals("", response.getContentAsString());
+    }
+
+    @Test
+    public void shouldRelayRangeNotSatisfiableFromCloud() throws IOException {
+        request.addHeader(HttpHeaders.RANGE, "bytes=100-");
+        mockStorage(new S3bucketDataStorage());
+        mockCloudContent(upstream(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value(), "invalid range",
+                HttpHeaders.CONTENT_RANGE, "bytes */7"));
+
+        manager(DataStorageDownloadMode.PRESIGNED).download(ID, PATH, VERSION, request, response);
+
+        assertEquals(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value(), response.getStatus());
+        assertEquals("bytes */7", response.getHeader(HttpHeaders.CONTENT_RANGE));
+    }
+
+    @Test(expected = PipelineResponseException.class)
+    public void shouldFailOnUnexpectedApiStatus() throws IOException {
+        mockApiContent(upstream(HttpStatus.INTERNAL_SERVER_ERROR.value(), "error"));
+
+        manager(DataStorageDownloadMode.API).download(ID, PATH, VERSION, request, response);
+    }
+
+    @Test
+    public void shouldStreamCloudStorageContentByPresignedUrl() throws IOException {
+        request.addHeader(HttpHeaders.RANGE, RANGE);
+        mockStorage(new S3bucketDataStorage());
+        mockCloudContent(upstream(HttpStatus.PARTIAL_CONTENT.value(), CONTENT.substring(2),
+                HttpHeaders.CONTENT_RANGE, CONTENT_RANGE));
+
+        manager(DataStorageDownloadMode.PRESIGNED).download(ID, PATH, VERSION, request, response);
+
+        final ArgumentCaptor<Map<String, String>> headers = mapCaptor();
+        verify(contentClient).getContent(eq(URL), headers.capture());
+        assertEquals(RANGE, headers.getValue().get(HttpHeaders.RANGE));
+        assertEquals(HttpStatus.PARTIAL_CONTENT.value(), response.getStatus());
+        assertEquals(CONTENT.substring(2), response.getContentAsString());
+        verify(dataStorageManager, never()).downloadFile(anyLong(), anyString(), anyString(),
+                anyMapOf(String.class, String.class));
+    }
+
+    @Test
+    public void shouldRedirectToPresignedUrlForCloudStorages() throws IOException {
+        mockStorage(new S3bucketDataStorage());
+
+        manager(DataStorageDownloadMode.REDIRECT).download(ID, PATH, VERSION, request, response);
+
+        assertEquals(URL, response.getRedirectedUrl());
+        verifyZeroInteractions(contentClient);
+        verify(dataStorageManager, never()).downloadFile(anyLong(), anyString(), anyString(),
+                anyMapOf(String.class, String.class));
+    }
+
+    @Test
+    public void shouldNotRedirectForStoragesWithoutPresignedUrls() throws IOException {
+        mockStorage(new NFSDataStorage());
+        mockApiContent(upstream(HttpStatus.OK.value(), CONTENT));
+
+        manager(DataStorageDownloadMode.REDIRECT).download(ID, PATH, VERSION, request, response);
+
+        assertNull(response.getRedirectedUrl());
+        assertEquals(CONTENT, response.getContentAsString());
+        verify(dataStorageManager, never()).generateDownloadUrl(anyLong(), anyString(), anyString());
+    }
+
+    private DataStorageDownloadManager manager(final DataStorageDownloadMode mode) {
+        return new DataStorageDownloadManager(dataStorageManager, builder, mode, BUFFER_SIZE);
+    }
+
+    private void mockStorage(final Object storage) {
+        doReturn(storage).when(dataStorageManager).loadStorage(ID);
+    }
+
+    private void mockApiContent(final Response<ResponseBody> content) throws IOException {
+        doReturn(content).when(dataStorageManager).downloadFile(eq(ID), eq(PATH), eq(VERSION),
+                anyMapOf(String.class, String.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void mockCloudContent(final Response<ResponseBody> content) throws IOException {
+        final Call<ResponseBody> call = mock(Call.class);
+        doReturn(content).when(call).execute();
+        doReturn(call).when(contentClient).getContent(eq(URL), anyMapOf(String.class, String.class));
+    }
+
+    private Map<String, String> captureApiHeaders() throws IOException {
+        final ArgumentCaptor<Map<String, String>> headers = mapCaptor();
+        verify(dataStorageManager).downloadFile(eq(ID), eq(PATH), eq(VERSION), headers.capture());
+        return headers.getValue();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private ArgumentCaptor<Map<String, String>> mapCaptor() {
+        return ArgumentCaptor.forClass((Class) Map.class);
+    }
+
+    private Response<ResponseBody> upstream(final int code, final String body, final String... headers) {
+        final okhttp3.Response raw = new okhttp3.Response.Builder()
+                .code(code)
+                .message(HttpStatus.valueOf(code).getReasonPhrase())
+                .protocol(Protocol.HTTP_1_1)
+                .request(new Request.Builder().url(URL).build())
+                .headers(Headers.of(headers))
+                .build();
+        final ResponseBody content = ResponseBody.create(MediaType.parse("application/octet-stream"), body);
+        return raw.isSuccessful() ? Response.success(content, raw) : Response.error(content, raw);
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.external.datastorage.manager.datastorage;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class DataStorageListingCacheTest {
+
+    private static final long STORAGE_ID = 1L;
+    private static final long ANOTHER_STORAGE_ID = 2L;
+    private static final long TTL_SECONDS = 10;
+    private static final int SIZE = 2;
+    private static final int TIMEOUT_SECONDS = 10;
+    private static final String USER = "user";
+    private static final String VALUE = "value";
+    private static final String ANOTHER_VALUE = "another value";
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldLoadValueOnceForConcurrentRequests() throws Exception {
+        final DataStorageListingCache cache = new DataStorageListingCache(TTL_SECONDS, SIZE);
+        final CountDownLatch loading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        final Future<String> first = executor.submit(() -> cache.get(key(STORAGE_ID, "/"),
+                blockingLoader(VALUE, loading, release)));
+        await(loading);
+        final AtomicReference<Thread> waiter = new AtomicReference<>();
+        final Future<String> second = executor.submit(() -> {
+            waiter.set(Thread.currentThread());
+            return cache.get(key(STORAGE_ID, "/"), loader(ANOTHER_VALUE));
+        });
+        awaitWaiting(waiter);
+        release.countDown();
+
+        assertEquals(VALUE, first.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(VALUE, second.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void shouldReturnCachedValueUntilItExpires() throws Exception {
+        final DataStorageListingCache cache = new DataStorageListingCache(1, SIZE);
+
+        assertEquals(VALUE, cache.get(key(STORAGE_ID, "/"), loader(VALUE)));
+        assertEquals(VALUE, cache.get(key(STORAGE_ID, "/"), loader(ANOTHER_VALUE)));
+        assertEquals(1, loads.get());
+
+        Thread.sleep(TimeUnit.SECONDS.toMillis(1) + 100);
+
+        assertEquals(ANOTHER_VALUE, cache.get(key(STORAGE_ID, "/"), loader(ANOTHER_VALUE)));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedEntry() {
+        final DataStorageListingCache cache = new DataStorageListingCache(TTL_SECONDS, SIZE);
+        cache.get(key(STORAGE_ID, "a"), loader(VALUE));
+        cache.get(key(STORAGE_ID, "b"), loader(VALUE));
+        cache.get(key(STORAGE_ID, "a"), loader(VALUE));
+        cache.get(key(STORAGE_ID, "c"), loader(VALUE));
+        assertEquals(3, loads.get());
+
+        assertEquals(VALUE, cache.get(key(STORAGE_ID, "a"), loader(ANOTHER_VALUE)));
+        assertEquals(ANOTHER_VALUE, cache.get(key(STORAGE_ID, "b"), loader(ANOTHER_VALUE)));
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    public void shouldPropagateLoaderExceptionAndNotCacheIt() {
+        final DataStorageListingCache cache = new DataStorageListingCache(TTL_SECONDS, SIZE);
+        final IllegalStateException error = new IllegalStateException("API is not available");
+
+        try {
+            cache.get(key(STORAGE_ID, "/"), () -> {
+                loads.incrementAndGet();
+                throw error;
+            });
+            fail("Loader exception is expected to be rethrown");
+        } catch (IllegalStateException e) {
+            assertSame(error, e);
+        }
+
+        assertEquals(VALUE, cache.get(key(STORAGE_ID, "/"), loader(VALUE)));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void shouldLoadValueAgainIfStorageIsInvalidatedDuringLoading() throws Exception {
+        final DataStorageListingCache cache = new DataStorageListingCache(TTL_SECONDS, SIZE);
+        final CountDownLatch loading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        final Future<String> stale = executor.submit(() -> cache.get(key(STORAGE_ID, "/"),
+                blockingLoader(VALUE, loading, release)));
+        await(loading);
+        cache.invalidate(STORAGE_ID);
+
+        assertEquals(ANOTHER_VALUE, cache.get(key(STORAGE_ID, "/"), loader(ANOTHER_VALUE)));
+        release.countDown();
+        assertEquals(VALUE, stale.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(ANOTHER_VALUE, cache.get(key(STORAGE_ID, "/"), loader(VALUE)));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void shouldInvalidateOnlySpecifiedStorage() {
+        final DataStorageListingCache cache = new DataStorageListingCache(TTL_SECONDS, SIZE);
+        cache.get(key(STORAGE_ID, "/"), loader(VALUE));
+        cache.get(key(ANOTHER_STORAGE_ID, "/"), loader(VALUE));
+
+        cache.invalidate(STORAGE_ID);
+
+        assertEquals(ANOTHER_VALUE, cache.get(key(STORAGE_ID, "/"), loader(ANOTHER_VALUE)));
+        assertEquals(VALUE, cache.get(key(ANOTHER_STORAGE_ID, "/"), loader(ANOTHER_VALUE)));
+    }
+
+    @Test
+    public void shouldNotCacheValuesIfTtlIsNotPositive() {
+        final DataStorageListingCache cache = new DataStorageListingCache(0, SIZE);
+
+        cache.get(key(STORAGE_ID, "/"), loader(VALUE));
+        cache.get(key(STORAGE_ID, "/"), loader(VALUE));
+
+        assertEquals(2, loads.get());
+    }
+
+    private DataStorageListingKey key(final long storageId, final String path) {
+        return new DataStorageListingKey(USER, "list", storageId, path, null, null, null);
+    }
+
+    private Supplier<String> loader(final String value) {
+        return () -> {
+            loads.incrementAndGet();
+            return value;
+        };
+    }
+
+    private Supplier<String> blockingLoader(final String value, final CountDownLatch loading,
+                                            final CountDownLatch release) {
+        return () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return value;
+        };
+    }
+
+    private void await(final CountDownLatch latch) {
+        try {
+            if (!latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Latch has not been released in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void awaitWaiting(final AtomicReference<Thread> thread) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS);
+        while (thread.get() == null || thread.get().getState() != Thread.State.WAITING) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Concurrent request has not started waiting for the value in time");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
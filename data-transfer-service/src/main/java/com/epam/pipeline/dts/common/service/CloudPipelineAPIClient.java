@@ -21,8 +21,10 @@ import com.epam.pipeline.client.pipeline.CloudPipelineApiBuilder;
 import com.epam.pipeline.client.pipeline.RetryingCloudPipelineApiExecutor;
 import com.epam.pipeline.dts.transfer.model.pipeline.PipelineCredentials;
 import com.epam.pipeline.entity.datastorage.AbstractDataStorage;
+import com.epam.pipeline.entity.datastorage.DataStorageAction;
 import com.epam.pipeline.entity.datastorage.DataStorageFile;
 import com.epam.pipeline.entity.datastorage.DataStorageItemContent;
+import com.epam.pipeline.entity.datastorage.TemporaryCredentials;
 import com.epam.pipeline.entity.dts.submission.DtsRegistry;
 import com.epam.pipeline.entity.metadata.MetadataEntry;
 import com.epam.pipeline.entity.metadata.PipeConfValue;
@@ -117,4 +119,8 @@ public class CloudPipelineAPIClient {
     public DataStorageFile createStorageItem(final Long storageId, final String path, final String content) {
         return pipelineApiExecutor.execute(cloudPipelineAPI.createStorageItem(storageId, path, content));
     }
+
+    public TemporaryCredentials generateTemporaryCredentials(final List<DataStorageAction> actions) {
+        return pipelineApiExecutor.execute(cloudPipelineAPI.generateTemporaryCredentials(actions));
+    }
 }
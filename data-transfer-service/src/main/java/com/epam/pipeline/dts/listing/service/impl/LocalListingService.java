@@ -24,17 +24,34 @@ import com.epam.pipeline.dts.listing.model.ListingItemType;
 import com.epam.pipeline.dts.listing.rest.dto.ItemsListingRequestDTO;
 import com.epam.pipeline.dts.listing.service.ListingService;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
+/**
+ * Local file system listing service which lists directory entries in name order.
+ *
+ * Pages are continued by an opaque marker which holds the name of the last returned entry. Each page reads
+ * the directory with a {@link DirectoryStream} and keeps only the requested number of the smallest names
+ * following the marker, so memory consumption depends on the page size only. If a snapshot cache is enabled
+ * the sorted directory entries are kept for a short time and subsequent pages are served from the snapshot.
+ */
 @Service
 @ConditionalOnProperty(value = "dts.impersonation.enabled", havingValue = "false")
 public class LocalListingService implements ListingService {
@@ -42,61 +59,166 @@ public class LocalListingService implements ListingService {
     private static final int WRITE_PERMISSION = 1 << 1;
     private static final int EXECUTE_PERMISSION = 1 << 2;
     private static final int NO_PERMISSION = 0;
-    private static final int MAX_DEPTH = 1;
+    private static final String MARKER_PREFIX = "n:";
+
+    private final LocalListingSnapshotCache snapshots;
+
+    public LocalListingService() {
+        this(LocalListingSnapshotCache.disabled());
+    }
+
+    @Autowired
+    public LocalListingService(@Value("${dts.listing.snapshot.ttl.seconds:0}") final long snapshotTtl,
+                               @Value("${dts.listing.snapshot.max.directories:100}") final int maxSnapshots) {
+        this(new LocalListingSnapshotCache(TimeUnit.SECONDS.toMillis(snapshotTtl), maxSnapshots));
+    }
+
+    public LocalListingService(final LocalListingSnapshotCache snapshots) {
+        this.snapshots = snapshots;
+    }
 
     @Override
     public ListingItemsPaging list(ItemsListingRequestDTO request) {
         verifyPath(request.getPath());
         verifyPagingAttributes(request.getPageSize());
-        long offset = StringUtils.isNumeric(request.getMarker()) ? Long.parseLong(request.getMarker()) : 1;
-        Assert.isTrue(offset > 0, "Page marker must be greater than null");
-        try (Stream<Path> files = Files.walk(request.getPath(), MAX_DEPTH)) {
-            List<ListingItem> items = files
-                    .sorted()
-                    .filter(file -> doNotSkipFile(file, request.getPath()))
-                    .skip(offset - 1)
-                    .limit(normalizePageSize(request.getPageSize()))
-                    .map(file -> ListingItem.builder()
-                            .path(getRelativePath(file, request.getPath()))
-                            .type(determineListingItemType(file))
-                            .permission(buildPermissions(file))
-                            .name(file.getFileName().toString())
-                            .size(getSize(file))
-                            .changed(getLastModifiedTime(file))
-                            .build())
-                    .collect(Collectors.toList());
+        final Path root = request.getPath();
+        try {
+            if (!Files.isDirectory(root)) {
+                return ListingItemsPaging.builder()
+                        .results(Files.isRegularFile(root)
+                                ? Collections.singletonList(toListingItem(root, root))
+                                : Collections.emptyList())
+                        .build();
+            }
+            final Page page = request.getPageSize() == null
+                    ? listAll(root)
+                    : listPage(root, request.getPageSize(), request.getMarker());
             return ListingItemsPaging.builder()
-                    .results(items)
-                    .nextPageMarker(getNextPageMarker(offset, request.getPageSize(), request.getPath()))
+                    .results(page.names.stream()
+                            .map(root::resolve)
+                            .map(file -> toListingItem(file, root))
+                            .collect(Collectors.toList()))
+                    .nextPageMarker(page.hasMore ? markerOf(page.names.get(page.names.size() - 1)) : null)
                     .build();
         } catch (IOException e) {
             throw new IllegalArgumentException(
-                    String.format("An error occurred during listing local file %s.", 
+                    String.format("An error occurred during listing local file %s.",
                             request.getPath().toAbsolutePath()), e);
         }
     }
 
-    private void verifyPagingAttributes(Integer pageSize) {
-        Assert.isTrue(pageSize == null || pageSize > 0,
-                String.format("Invalid paging attributes: page size - %s. Page size must be grater then zero,",
-                        pageSize));
+    private Page listAll(final Path root) throws IOException {
+        final List<Path> names = new ArrayList<>();
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(root)) {
+            for (final Path entry : entries) {
+                if (isListable(entry)) {
+                    names.add(entry.getFileName());
+                }
+            }
+        }
+        Collections.sort(names);
+        return new Page(names, false);
     }
 
-    private long normalizePageSize(Integer pageSize) {
-        return pageSize == null ? Long.MAX_VALUE : pageSize;
+    private Page listPage(final Path root, final int pageSize, final String marker) throws IOException {
+        final Path after = parseMarkerName(root, marker);
+        final long skip = after == null ? parseMarkerOffset(marker) - 1 : 0;
+        if (snapshots.isEnabled()) {
+            return listSnapshotPage(root, pageSize, marker, after, skip);
+        }
+        final long limit = skip + pageSize + 1;
+        final PriorityQueue<Path> selected = new PriorityQueue<>(Comparator.<Path>reverseOrder());
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(root)) {
+            for (final Path entry : entries) {
+                final Path name = entry.getFileName();
+                if (after != null && name.compareTo(after) <= 0) {
+                    continue;
+                }
+                if (selected.size() >= limit && name.compareTo(selected.peek()) >= 0) {
+                    continue;
+                }
+                if (!isListable(entry)) {
+                    continue;
+                }
+                selected.offer(name);
+                if (selected.size() > limit) {
+                    selected.poll();
+                }
+            }
+        }
+        final List<Path> names = new ArrayList<>(selected);
+        Collections.sort(names);
+        return pageOf(names, (int) Math.min(skip, names.size()), pageSize);
     }
 
-    private String getNextPageMarker(long offset, Integer pageSize, Path path) throws IOException {
-        if (pageSize == null) {
+    private Page listSnapshotPage(final Path root, final int pageSize, final String marker, final Path after,
+                                  final long skip) throws IOException {
+        final Path key = root.toAbsolutePath().normalize();
+        List<Path> names = StringUtils.isBlank(marker) ? null : snapshots.find(key).orElse(null);
+        if (names == null) {
+            names = Collections.unmodifiableList(listAll(root).names);
+            snapshots.put(key, names);
+        }
+        final int start;
+        if (after != null) {
+            final int position = Collections.binarySearch(names, after);
+            start = position >= 0 ? position + 1 : -position - 1;
+        } else {
+            start = (int) Math.min(skip, names.size());
+        }
+        return pageOf(names, start, pageSize);
+    }
+
+    private Page pageOf(final List<Path> names, final int start, final int pageSize) {
+        final int end = (int) Math.min((long) start + pageSize, names.size());
+        return new Page(new ArrayList<>(names.subList(start, end)), end < names.size());
+    }
+
+    private String markerOf(final Path name) {
+        return MARKER_PREFIX + Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(name.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Path parseMarkerName(final Path root, final String marker) {
+        if (StringUtils.isBlank(marker) || !marker.startsWith(MARKER_PREFIX)) {
             return null;
         }
-        Long nextOffset = offset + pageSize;
-        try (Stream<Path> nextStream = Files.walk(path, MAX_DEPTH)) {
-            if (nextStream.skip(nextOffset).findFirst().isPresent()) {
-                return nextOffset.toString();
-            }
+        try {
+            return root.getFileSystem().getPath(new String(Base64.getUrlDecoder()
+                    .decode(marker.substring(MARKER_PREFIX.length())), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(String.format("Invalid page marker %s.", marker), e);
+        }
+    }
+
+    /**
+     * Numeric markers are offsets produced by the previous listing implementation.
+     */
+    private long parseMarkerOffset(final String marker) {
+        if (StringUtils.isBlank(marker)) {
+            return 1;
         }
-        return null;
+        Assert.isTrue(StringUtils.isNumeric(marker), String.format("Invalid page marker %s.", marker));
+        final long offset = Long.parseLong(marker);
+        Assert.isTrue(offset > 0, "Page marker must be greater than null");
+        return offset;
+    }
+
+    private void verifyPagingAttributes(Integer pageSize) {
+        Assert.isTrue(pageSize == null || pageSize > 0,
+                String.format("Invalid paging attributes: page size - %s. Page size must be grater then zero,",
+                        pageSize));
+    }
+
+    private ListingItem toListingItem(final Path file, final Path root) {
+        return ListingItem.builder()
+                .path(getRelativePath(file, root))
+                .type(determineListingItemType(file))
+                .permission(buildPermissions(file))
+                .name(file.getFileName().toString())
+                .size(getSize(file))
+                .changed(getLastModifiedTime(file))
+                .build();
     }
 
     private String getRelativePath(Path path, Path rootPath) {
@@ -122,9 +244,8 @@ public class LocalListingService implements ListingService {
         }
     }
 
-    private static boolean doNotSkipFile(Path path, Path rootPath) {
-        return Files.isRegularFile(path)
-                || Files.isDirectory(path) && !path.toAbsolutePath().equals(rootPath.toAbsolutePath());
+    private static boolean isListable(Path path) {
+        return Files.isRegularFile(path) || Files.isDirectory(path);
     }
 
     private ListingItemType determineListingItemType(Path path) {
@@ -145,4 +266,14 @@ public class LocalListingService implements ListingService {
                 | (Files.isWritable(path) ? WRITE_PERMISSION : NO_PERMISSION)
                 | (Files.isExecutable(path) ? EXECUTE_PERMISSION : NO_PERMISSION);
     }
+
+    private static final class Page {
+        private final List<Path> names;
+        private final boolean hasMore;
+
+        private Page(final List<Path> names, final boolean hasMore) {
+            this.names = names;
+            this.hasMore = hasMore;
+        }
+    }
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.dts.listing.service.impl;
+
+import lombok.Value;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Short living cache of sorted directory entries names. It allows to serve subsequent listing pages
+ * of the same directory without reading the whole directory again.
+ */
+public class LocalListingSnapshotCache {
+
+    private final long ttlMs;
+    private final int maxDirectories;
+    private final Map<Path, Snapshot> snapshots;
+
+    public LocalListingSnapshotCache(final long ttlMs, final int maxDirectories) {
+        this.ttlMs = ttlMs;
+        this.maxDirectories = maxDirectories;
+        this.snapshots = new LinkedHashMap<Path, Snapshot>(maxDirectories, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Path, Snapshot> eldest) {
+                return size() > LocalListingSnapshotCache.this.maxDirectories;
+            }
+        };
+    }
+
+    public static LocalListingSnapshotCache disabled() {
+        return new LocalListingSnapshotCache(0, 0);
+    }
+
+    public boolean isEnabled() {
+        return ttlMs > 0 && maxDirectories > 0;
+    }
+
+    public synchronized Optional<List<Path>> find(final Path directory) {
+        final Snapshot snapshot = snapshots.get(directory);
+        if (snapshot == null) {
+            return Optional.empty();
+        }
+        if (System.currentTimeMillis() - snapshot.getCreated() >= ttlMs) {
+            snapshots.remove(directory);
+            return Optional.empty();
+        }
+        return Optional.of(snapshot.getNames());
+    }
+
+    public synchronized void put(final Path directory, final List<Path> names) {
+        if (isEnabled()) {
+            snapshots.put(directory, new Snapshot(names, System.currentTimeMillis()));
+        }
+    }
+
+    @Value
+    private static class Snapshot {
+        List<Path> names;
+        long created;
+    }
+}
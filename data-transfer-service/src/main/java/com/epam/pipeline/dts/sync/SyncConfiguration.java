@@ -17,12 +17,17 @@
 package com.epam.pipeline.dts.sync;
 
 import com.epam.pipeline.dts.configuration.CommonConfiguration;
+import com.epam.pipeline.dts.sync.configuration.SyncRestConfiguration;
 import org.springframework.boot.SpringBootConfiguration;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
 import org.springframework.context.annotation.Import;
+import org.springframework.stereotype.Controller;
 
 @SpringBootConfiguration
-@ComponentScan(basePackages = "com.epam.pipeline.dts.sync")
+@ComponentScan(basePackages = "com.epam.pipeline.dts.sync", excludeFilters = {
+        @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, value = SyncRestConfiguration.class),
+        @ComponentScan.Filter(type = FilterType.ANNOTATION, value = Controller.class)})
 @Import({CommonConfiguration.class})
 public class SyncConfiguration {
 
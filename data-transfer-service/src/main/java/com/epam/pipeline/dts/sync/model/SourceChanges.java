@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.dts.sync.model;
+
+import lombok.Value;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Changes of a synchronization source detected since the previous check.
+ * Full changes mean that the detector has lost track of the source state and all of it shall be considered changed.
+ */
+@Value
+public class SourceChanges {
+
+    boolean full;
+    Set<Path> directories;
+
+    public static SourceChanges full() {
+        return new SourceChanges(true, Collections.emptySet());
+    }
+
+    public static SourceChanges of(final Set<Path> directories) {
+        return new SourceChanges(false, directories);
+    }
+
+    public boolean isEmpty() {
+        return !full && directories.isEmpty();
+    }
+}
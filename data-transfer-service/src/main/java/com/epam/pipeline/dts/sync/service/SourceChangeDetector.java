@@ -0,0 +1,34 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.dts.sync.service;
+
+import com.epam.pipeline.dts.sync.model.SourceChanges;
+
+/**
+ * Detects file system changes of a single synchronization source.
+ */
+public interface SourceChangeDetector {
+
+    /**
+     * @return changes since the previous call, the very first call reports full changes.
+     */
+    SourceChanges poll();
+
+    String getType();
+
+    void close();
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.dts.sync.service.impl;
+
+import com.epam.pipeline.dts.sync.model.AutonomousSyncCronDetails;
+import com.epam.pipeline.dts.sync.model.AutonomousSyncRule;
+import com.epam.pipeline.dts.sync.model.SourceChanges;
+import com.epam.pipeline.dts.sync.model.SyncRuleStats;
+import com.epam.pipeline.dts.sync.service.SourceChangeDetector;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Keeps track of synchronization sources changes so that rules are expanded only if their sources have changed
+ * and only the expanded rules which cover changed paths are submitted.
+ *
+ * Changes are detected with a {@link WatchServiceChangeDetector} for local file systems and with
+ * a {@link ManifestChangeDetector} for network file systems or if file system events are not available.
+ * Changed paths stay pending until a transfer which covers them is submitted and are returned back
+ * to pending if the transfer fails.
+ */
+@Service
+@Slf4j
+public class DtsRuleChangeTracker {
+
+    private static final Set<String> NETWORK_FILE_SYSTEMS = new HashSet<>(Arrays.asList(
+            "nfs", "nfs4", "cifs", "smb", "smbfs", "smb2", "lustre", "gpfs", "beegfs", "glusterfs"));
+    private static final String FUSE_FILE_SYSTEM_PREFIX = "fuse";
+
+    private final DtsRuleExpanderService dtsRuleExpander;
+    private final boolean enabled;
+    private final boolean watchEnabled;
+    private final Map<AutonomousSyncRule, RuleState> states = new ConcurrentHashMap<>();
+
+    public DtsRuleChangeTracker(final DtsRuleExpanderService dtsRuleExpander,
+                                final @Value("${dts.sync.change.detection.enabled:true}") boolean enabled,
+                                final @Value("${dts.sync.change.detection.watch.enabled:true}")
+                                    boolean watchEnabled) {
+        this.dtsRuleExpander = dtsRuleExpander;
+        this.enabled = enabled;
+        this.watchEnabled = watchEnabled;
+    }
+
+    /**
+     * Expands the given rule if its source has changed since the previous expansion
+     * and returns only the expanded rules which cover pending changes.
+     */
+    public Stream<Map.Entry<AutonomousSyncRule, AutonomousSyncCronDetails>> expandChanged(
+            final Map.Entry<AutonomousSyncRule, AutonomousSyncCronDetails> entry) {
+        if (!enabled) {
+            return dtsRuleExpander.expandSyncEntry(entry);
+        }
+        final RuleState state = states.computeIfAbsent(entry.getKey(), this::createState);
+        final List<AutonomousSyncRule> affected = state.expandChanged(entry);
+        return affected.stream()
+                .map(rule -> new AbstractMap.SimpleEntry<>(rule, entry.getValue()));
+    }
+
+    public boolean hasPendingChanges(final AutonomousSyncRule rule) {
+        return !enabled || findState(rule).map(RuleState::hasPendingChanges).orElse(true);
+    }
+
+    public void submitted(final AutonomousSyncRule rule) {
+        findState(rule).ifPresent(state -> state.submitted(pathOf(rule)));
+    }
+
+    public void failed(final AutonomousSyncRule rule) {
+        findState(rule).ifPresent(state -> state.failed(pathOf(rule)));
+    }
+
+    public void retainRules(final Collection<AutonomousSyncRule> rules) {
+        final Set<AutonomousSyncRule> active = new HashSet<>(rules);
+        new ArrayList<>(states.keySet()).stream()
+                .filter(rule -> !active.contains(rule))
+                .forEach(rule -> Optional.ofNullable(states.remove(rule)).ifPresent(RuleState::close));
+    }
+
+    public List<SyncRuleStats> getStats() {
+        return states.entrySet().stream()
+                .map(entry -> entry.getValue().toStats(entry.getKey()))
+                .collect(Collectors.toList());
+    }
+
+    private Optional<RuleState> findState(final AutonomousSyncRule rule) {
+        return Optional.ofNullable(states.get(Optional.ofNullable(rule.getParentRule()).orElse(rule)));
+    }
+
+    private RuleState createState(final AutonomousSyncRule rule) {
+        final Path root = pathOf(rule);
+        return new RuleState(root, createDetector(root));
+    }
+
+    private SourceChangeDetector createDetector(final Path root) {
+        if (watchEnabled && Files.isDirectory(root) && !isNetworkFileSystem(root)) {
+            try {
+                return new WatchServiceChangeDetector(root);
+            } catch (IOException | UnsupportedOperationException e) {
+                log.warn("Source {} can not be watched for changes, manifest will be used instead: {}",
+                        root, e.getMessage());
+            }
+        }
+        return new ManifestChangeDetector(root);
+    }
+
+    private boolean isNetworkFileSystem(final Path root) {
+        try {
+            final String type = Files.getFileStore(root).type().toLowerCase();
+            return NETWORK_FILE_SYSTEMS.contains(type) || type.startsWith(FUSE_FILE_SYSTEM_PREFIX);
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    private static Path pathOf(final AutonomousSyncRule rule) {
+        return Paths.get(rule.getSource()).toAbsolutePath().normalize();
+    }
+
+    private final class RuleState {
+
+        private final Path root;
+        private final SourceChangeDetector detector;
+        private final Set<Path> pending = new HashSet<>();
+        private boolean pendingFull;
+        private boolean expansionOutdated = true;
+        private List<AutonomousSyncRule> expansion;
+        private long pendingSince;
+        private long expansions;
+        private long skippedExpansions;
+        private long lastExpansionMs;
+        private long totalExpansionMs;
+        private long lastDetectionMs;
+
+        private RuleState(final Path root, final SourceChangeDetector detector) {
+            this.root = root;
+            this.detector = detector;
+        }
+
+        synchronized List<AutonomousSyncRule> expandChanged(
+                final Map.Entry<AutonomousSyncRule, AutonomousSyncCronDetails> entry) {
+            final long detectionStart = System.currentTimeMillis();
+            final SourceChanges changes = detector.poll();
+            lastDetectionMs = System.currentTimeMillis() - detectionStart;
+            if (!changes.isEmpty()) {
+                markPending(changes.getDirectories());
+                pendingFull |= changes.isFull();
+                expansionOutdated = true;
+            }
+            if (!hasPendingChanges()) {
+                skippedExpansions++;
+                return new ArrayList<>();
+            }
+            if (expansionOutdated || expansion == null) {
+                expand(entry);
+            }
+            if (pendingFull) {
+                markPending(expansion.stream().map(DtsRuleChangeTracker::pathOf).collect(Collectors.toList()));
+                pendingFull = false;
+            }
+            final List<AutonomousSyncRule> affected = expansion.stream()
+                    .filter(rule -> isAffected(pathOf(rule)))
+                    .collect(Collectors.toList());
+            pending.removeIf(path -> affected.stream().map(DtsRuleChangeTracker::pathOf).noneMatch(path::startsWith));
+            resetLagIfNothingPending();
+            return affected;
+        }
+
+        synchronized boolean hasPendingChanges() {
+            return pendingFull || !pending.isEmpty();
+        }
+
+        synchronized void submitted(final Path source) {
+            pending.removeIf(path -> path.startsWith(source));
+            resetLagIfNothingPending();
+        }
+
+        synchronized void failed(final Path source) {
+            markPending(Collections.singleton(source));
+        }
+
+        synchronized void close() {
+            detector.close();
+        }
+
+        synchronized SyncRuleStats toStats(final AutonomousSyncRule rule) {
+            return SyncRuleStats.builder()
+                    .source(rule.getSource())
+                    .destination(rule.getDestination())
+                    .detector(detector.getType())
+                    .pendingPaths(pending.size())
+                    .lagMs(hasPendingChanges() ? System.currentTimeMillis() - pendingSince : 0)
+                    .expansions(expansions)
+                    .skippedExpansions(skippedExpansions)
+                    .lastExpansionMs(lastExpansionMs)
+                    .totalExpansionMs(totalExpansionMs)
+                    .lastDetectionMs(lastDetectionMs)
+                    .build();
+        }
+
+        private void expand(final Map.Entry<AutonomousSyncRule, AutonomousSyncCronDetails> entry) {
+            final long expansionStart = System.currentTimeMillis();
+            final Set<Path> previous = Optional.ofNullable(expansion)
+                    .map(rules -> rules.stream().map(DtsRuleChangeTracker::pathOf).collect(Collectors.toSet()))
+                    .orElseGet(Collections::emptySet);
+            expansion = dtsRuleExpander.expandSyncEntry(entry)
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList());
+            lastExpansionMs = System.currentTimeMillis() - expansionStart;
+            totalExpansionMs += lastExpansionMs;
+            expansions++;
+            expansionOutdated = false;
+            if (!previous.isEmpty()) {
+                markPending(expansion.stream()
+                        .map(DtsRuleChangeTracker::pathOf)
+                        .filter(source -> !previous.contains(source))
+                        .collect(Collectors.toList()));
+            }
+            log.debug("Rule {} has been expanded into {} rules in {} ms.", root, expansion.size(), lastExpansionMs);
+        }
+
+        private boolean isAffected(final Path source) {
+            return pending.stream().anyMatch(path -> path.startsWith(source));
+        }
+
+        private void markPending(final Collection<Path> paths) {
+            if (!hasPendingChanges() && !paths.isEmpty()) {
+                pendingSince = System.currentTimeMillis();
+            }
+            pending.addAll(paths);
+        }
+
+        private void resetLagIfNothingPending() {
+            if (!hasPendingChanges()) {
+                pendingSince = 0;
+            }
+        }
+    }
+}
@@ -23,6 +23,7 @@ import com.epam.pipeline.dts.sync.service.ShutdownService;
 import com.epam.pipeline.dts.sync.model.AutonomousSyncRule;
 import com.epam.pipeline.dts.transfer.model.StorageItem;
 import com.epam.pipeline.dts.transfer.model.StorageType;
+import com.epam.pipeline.dts.transfer.model.TaskStatus;
 import com.epam.pipeline.dts.transfer.model.TransferTask;
 import com.epam.pipeline.dts.transfer.model.pipeline.PipelineCredentials;
 import com.epam.pipeline.dts.transfer.repository.TaskRepository;
@@ -75,7 +76,7 @@ public class DtsSynchronizationService {
     private final PreferenceService preferenceService;
     private final ShutdownService shutdownService;
     private final PipelineCredentials pipeCredentials;
-    private final DtsRuleExpanderService dtsRuleExpander;
+    private final DtsRuleChangeTracker changeTracker;
     private final Map<AutonomousSyncRule, AutonomousSyncCronDetails> activeSyncRules;
     private final Map<AutonomousSyncRule, TransferTask> activeTransferTasks;
     private final String defaultCronExpression;
@@ -92,7 +93,7 @@ public class DtsSynchronizationService {
                                      final TaskRepository taskRepository,
                                      final PreferenceService preferenceService,
                                      final ShutdownService shutdownService,
-                                     final DtsRuleExpanderService dtsRuleExpander,
+                                     final DtsRuleChangeTracker changeTracker,
                                      final CloudPipelineAPIClient apiClient,
                                      final IlluminaValidator illuminaValidator) {
         this.apiClient = apiClient;
@@ -103,7 +104,7 @@ public class DtsSynchronizationService {
         this.preferenceService = preferenceService;
         this.activeSyncRules = Collections.synchronizedMap(new LinkedHashMap<>());
         this.activeTransferTasks = Collections.synchronizedMap(new LinkedHashMap<>());
-        this.dtsRuleExpander = dtsRuleExpander;
+        this.changeTracker = changeTracker;
         this.illuminaValidator = illuminaValidator;
         this.syncToken = syncToken;
         this.defaultCronExpression = Optional.of(defaultCronExpression)
@@ -138,6 +139,7 @@ public class DtsSynchronizationService {
                 .map(this::mapToRuleWithoutCron)
                 .collect(Collectors.toList());
             activeSyncRules.keySet().removeIf(rule -> !newRulesWithoutCron.contains(rule));
+            changeTracker.retainRules(newRulesWithoutCron);
         });
     }
 
@@ -181,6 +183,9 @@ public class DtsSynchronizationService {
                             if (finished && shouldCheckToken(entry.getKey(), entry.getValue().getDestination())) {
                                 createSyncToken(loadedTask);
                             }
+                            if (loadedTask.getStatus() == TaskStatus.FAILURE) {
+                                changeTracker.failed(entry.getKey());
+                            }
                             return finished;
                         })
                         .isPresent())
@@ -191,10 +196,13 @@ public class DtsSynchronizationService {
 
     private void submitTasksForAwaitingRules() {
         final Date now = getCurrentDate();
-        final Map<AutonomousSyncRule, TransferTask> newSubmittedTasks = activeSyncRules.entrySet().stream()
-            .filter(this::syncSourceExists)
-            .flatMap(dtsRuleExpander::expandSyncEntry)
-            .filter(entry -> shouldBeTriggered(now, entry))
+        final List<Map.Entry<AutonomousSyncRule, AutonomousSyncCronDetails>> triggeredRules =
+            activeSyncRules.entrySet().stream()
+                .filter(this::syncSourceExists)
+                .filter(entry -> shouldBeTriggered(now, entry))
+                .collect(Collectors.toList());
+        final Map<AutonomousSyncRule, TransferTask> newSubmittedTasks = triggeredRules.stream()
+            .flatMap(changeTracker::expandChanged)
             .filter(entry -> noMatchingActiveTransferTask(entry.getKey()))
             .map(Map.Entry::getKey)
             .map(rule -> Pair.of(rule, runTransferTask(rule)))
@@ -207,6 +215,12 @@ public class DtsSynchronizationService {
             })
             .map(AutonomousSyncCronDetails::getLastExecution)
             .forEach(execution -> execution.setTime(now.getTime()));
+        newSubmittedTasks.keySet().forEach(changeTracker::submitted);
+        triggeredRules.stream()
+            .filter(entry -> !changeTracker.hasPendingChanges(entry.getKey()))
+            .map(Map.Entry::getValue)
+            .map(AutonomousSyncCronDetails::getLastExecution)
+            .forEach(execution -> execution.setTime(now.getTime()));
         activeTransferTasks.putAll(newSubmittedTasks);
     }
 
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.dts.sync.service.impl;
+
+import com.epam.pipeline.dts.sync.model.SourceChanges;
+import com.epam.pipeline.dts.sync.service.SourceChangeDetector;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Detects source changes by comparing modification time and size of every source entry
+ * with the manifest collected on the previous check. It is used where file system events
+ * are not available, e.g. for network file systems.
+ */
+@Slf4j
+public class ManifestChangeDetector implements SourceChangeDetector {
+
+    public static final String TYPE = "manifest";
+
+    private final Path root;
+    private Map<Path, EntryState> manifest;
+
+    public ManifestChangeDetector(final Path root) {
+        this.root = root;
+    }
+
+    @Override
+    public synchronized SourceChanges poll() {
+        final Map<Path, EntryState> current = scan();
+        final Map<Path, EntryState> previous = manifest;
+        manifest = current;
+        if (previous == null) {
+            return SourceChanges.full();
+        }
+        final Set<Path> changed = new HashSet<>();
+        current.forEach((path, state) -> {
+            if (!state.equals(previous.get(path))) {
+                changed.add(parentOf(path));
+            }
+        });
+        previous.keySet().stream()
+                .filter(path -> !current.containsKey(path))
+                .map(this::parentOf)
+                .forEach(changed::add);
+        return SourceChanges.of(changed);
+    }
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public synchronized void close() {
+        manifest = null;
+    }
+
+    private Path parentOf(final Path path) {
+        return path.equals(root) || path.getParent() == null ? root : path.getParent();
+    }
+
+    private Map<Path, EntryState> scan() {
+        final Map<Path, EntryState> entries = new HashMap<>();
+        try {
+            Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) {
+                    entries.put(dir, new EntryState(attrs.lastModifiedTime().toMillis(), 0));
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+                    entries.put(file, new EntryState(attrs.lastModifiedTime().toMillis(), attrs.size()));
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(final Path file, final IOException e) {
+                    log.debug("Entry {} can not be checked for changes: {}", file, e.getMessage());
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            log.warn("Source {} can not be checked for changes: {}", root, e.getMessage());
+        }
+        return entries;
+    }
+
+    @Value
+    private static class EntryState {
+        long lastModified;
+        long size;
+    }
+}
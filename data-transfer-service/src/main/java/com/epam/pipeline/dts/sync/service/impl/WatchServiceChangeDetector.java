@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.dts.sync.service.impl;
+
+import com.epam.pipeline.dts.sync.model.SourceChanges;
+import com.epam.pipeline.dts.sync.service.SourceChangeDetector;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Detects source changes with a {@link WatchService} registered for each directory of the source tree.
+ * Events are only drained on {@link #poll()} so the source tree is walked just once on registration.
+ */
+@Slf4j
+public class WatchServiceChangeDetector implements SourceChangeDetector {
+
+    public static final String TYPE = "watch";
+
+    private final Path root;
+    private final WatchService watchService;
+    private final Map<WatchKey, Path> directories = new HashMap<>();
+    private boolean initialized;
+
+    public WatchServiceChangeDetector(final Path root) throws IOException {
+        this.root = root;
+        this.watchService = root.getFileSystem().newWatchService();
+        try {
+            register(root);
+        } catch (IOException e) {
+            close();
+            throw e;
+        }
+    }
+
+    @Override
+    public synchronized SourceChanges poll() {
+        boolean full = !initialized;
+        initialized = true;
+        final Set<Path> changed = new HashSet<>();
+        WatchKey key = watchService.poll();
+        while (key != null) {
+            final Path directory = directories.get(key);
+            for (final WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW || directory == null) {
+                    full = true;
+                    continue;
+                }
+                changed.add(directory);
+                final Path child = directory.resolve((Path) event.context());
+                if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE
+                        && Files.isDirectory(child, LinkOption.NOFOLLOW_LINKS)) {
+                    changed.add(child);
+                    full |= !registerQuietly(child);
+                }
+            }
+            if (!key.reset()) {
+                directories.remove(key);
+            }
+            key = watchService.poll();
+        }
+        return full ? SourceChanges.full() : SourceChanges.of(changed);
+    }
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            log.debug("Watch service of {} can not be closed.", root, e);
+        }
+        directories.clear();
+    }
+
+    private boolean registerQuietly(final Path directory) {
+        try {
+            register(directory);
+            return true;
+        } catch (IOException e) {
+            log.warn("Directory {} can not be watched for changes: {}", directory, e.getMessage());
+            return false;
+        }
+    }
+
+    private void register(final Path start) throws IOException {
+        Files.walkFileTree(start, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(final Path dir,
+                                                     final BasicFileAttributes attrs) throws IOException {
+                directories.put(dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY), dir);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+}
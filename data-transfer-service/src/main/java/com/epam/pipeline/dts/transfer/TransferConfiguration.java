@@ -16,6 +16,7 @@
 
 package com.epam.pipeline.dts.transfer;
 
+import com.epam.pipeline.dts.common.service.CloudPipelineAPIClient;
 import com.epam.pipeline.dts.security.service.SecurityService;
 import com.epam.pipeline.dts.transfer.configuration.TransferRestConfiguration;
 import com.epam.pipeline.dts.transfer.model.StorageType;
@@ -27,12 +28,18 @@ import com.epam.pipeline.dts.transfer.service.PipelineCliProvider;
 import com.epam.pipeline.dts.transfer.service.TaskService;
 import com.epam.pipeline.dts.transfer.service.TransferService;
 import com.epam.pipeline.dts.transfer.service.impl.AzureDataUploader;
+import com.epam.pipeline.dts.transfer.service.impl.AzureMultipartStorageClient;
 import com.epam.pipeline.dts.transfer.service.impl.CmdExecutorsProviderImpl;
 import com.epam.pipeline.dts.transfer.service.impl.DataUploaderProviderImpl;
 import com.epam.pipeline.dts.transfer.service.impl.GSDataUploader;
 import com.epam.pipeline.dts.transfer.service.impl.ImpersonatingTransferServiceImpl;
+import com.epam.pipeline.dts.transfer.service.impl.MultipartDataUploader;
+import com.epam.pipeline.dts.transfer.service.impl.MultipartManifestStore;
+import com.epam.pipeline.dts.transfer.service.impl.MultipartStorageClientPool;
+import com.epam.pipeline.dts.transfer.service.impl.MultipartTransferEngine;
 import com.epam.pipeline.dts.transfer.service.impl.PipelineCliProviderImpl;
 import com.epam.pipeline.dts.transfer.service.impl.S3DataUploader;
+import com.epam.pipeline.dts.transfer.service.impl.S3MultipartStorageClient;
 import com.epam.pipeline.dts.transfer.service.impl.TransferServiceImpl;
 import org.apache.commons.collections4.CollectionUtils;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -46,9 +53,12 @@ import org.springframework.context.annotation.FilterType;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.stereotype.Controller;
 
+import java.nio.file.Paths;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -89,14 +99,60 @@ public class TransferConfiguration {
     }
 
     @Bean
+    @ConditionalOnProperty(value = "dts.transfer.native.upload.enabled", havingValue = "false",
+            matchIfMissing = true)
     public DataUploader s3DataUploader(final PipelineCliProvider pipelineCliProvider) {
         return new S3DataUploader(pipelineCliProvider);
     }
 
     @Bean
+    @ConditionalOnProperty(value = "dts.transfer.native.upload.enabled", havingValue = "false",
+            matchIfMissing = true)
     public DataUploader azureDataUploader(final PipelineCliProvider pipelineCliProvider) {
         return new AzureDataUploader(pipelineCliProvider);
     }
+
+    @Bean
+    @ConditionalOnProperty(value = "dts.transfer.native.upload.enabled", havingValue = "true")
+    public MultipartTransferEngine multipartTransferEngine(
+            @Value("${dts.transfer.native.threads:8}") final int threads,
+            @Value("${dts.transfer.native.part.size:16777216}") final long partSize,
+            @Value("${dts.transfer.native.manifest.dir:transfer-manifests}") final String manifestDir) {
+        return new MultipartTransferEngine(Executors.newFixedThreadPool(threads),
+                new MultipartManifestStore(Paths.get(manifestDir)),
+                Math.max(partSize, MultipartTransferEngine.MIN_PART_SIZE));
+    }
+
+    @Bean
+    @ConditionalOnProperty(value = "dts.transfer.native.upload.enabled", havingValue = "true")
+    public DataUploader s3MultipartDataUploader(
+            final PipelineCliProvider pipelineCliProvider,
+            final MultipartTransferEngine multipartTransferEngine,
+            @Value("${dts.transfer.native.threads:8}") final int threads,
+            @Value("${dts.transfer.native.credentials.ttl.seconds:1800}") final long credentialsTtl,
+            @Value("${dts.transfer.native.clients.max.size:100}") final int clientsMaxSize,
+            @Value("${dts.transfer.native.clients.idle.timeout.seconds:3600}") final long clientsIdleTimeout) {
+        return new MultipartDataUploader(pipelineCliProvider, StorageType.S3, "s3://", multipartTransferEngine,
+                new MultipartStorageClientPool(credentials -> new S3MultipartStorageClient(credentials, threads),
+                        TimeUnit.SECONDS.toMillis(credentialsTtl), clientsMaxSize,
+                        TimeUnit.SECONDS.toMillis(clientsIdleTimeout)),
+                CloudPipelineAPIClient::from);
+    }
+
+    @Bean
+    @ConditionalOnProperty(value = "dts.transfer.native.upload.enabled", havingValue = "true")
+    public DataUploader azureMultipartDataUploader(
+            final PipelineCliProvider pipelineCliProvider,
+            final MultipartTransferEngine multipartTransferEngine,
+            @Value("${dts.transfer.native.credentials.ttl.seconds:1800}") final long credentialsTtl,
+            @Value("${dts.transfer.native.clients.max.size:100}") final int clientsMaxSize,
+            @Value("${dts.transfer.native.clients.idle.timeout.seconds:3600}") final long clientsIdleTimeout) {
+        return new MultipartDataUploader(pipelineCliProvider, StorageType.AZ, "az://", multipartTransferEngine,
+                new MultipartStorageClientPool(AzureMultipartStorageClient::new,
+                        TimeUnit.SECONDS.toMillis(credentialsTtl), clientsMaxSize,
+                        TimeUnit.SECONDS.toMillis(clientsIdleTimeout)),
+                CloudPipelineAPIClient::from);
+    }
     
     @Bean
     public DataUploader gsDataUploader(final PipelineCliProvider pipelineCliProvider) {
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.dts.transfer.model.multipart;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * On-disk state of a multipart upload which allows an interrupted transfer to continue
+ * from its last completed part.
+ */
+@Data
+@NoArgsConstructor
+public class MultipartManifest {
+    private String id;
+    private String source;
+    private String bucket;
+    private String key;
+    private long size;
+    private long lastModified;
+    private long partSize;
+    private String uploadId;
+    private Map<Integer, MultipartPart> parts = new TreeMap<>();
+
+    @JsonIgnore
+    public int getPartsCount() {
+        return (int) ((size + partSize - 1) / partSize);
+    }
+
+    @JsonIgnore
+    public synchronized boolean isCompleted(final int number) {
+        return parts.containsKey(number);
+    }
+
+    public synchronized void complete(final MultipartPart part) {
+        parts.put(part.getNumber(), part);
+    }
+
+    @JsonIgnore
+    public synchronized List<MultipartPart> getCompletedParts() {
+        return new ArrayList<>(parts.values());
+    }
+}
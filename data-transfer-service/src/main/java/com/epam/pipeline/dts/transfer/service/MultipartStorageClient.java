@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.dts.transfer.service;
+
+import com.epam.pipeline.dts.transfer.model.multipart.MultipartPart;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Cloud storage client which supports uploads split into independently transferred parts.
+ * Implementations are expected to be thread safe since parts are uploaded concurrently.
+ * Tags are passed both on upload initiation and completion, implementations apply them on either
+ * of the steps depending on the storage capabilities.
+ */
+public interface MultipartStorageClient {
+
+    void upload(String bucket, String key, byte[] data, String md5, Map<String, String> tags);
+
+    String initiate(String bucket, String key, Map<String, String> tags);
+
+    MultipartPart uploadPart(String bucket, String key, String uploadId, int number, byte[] data, String md5);
+
+    /**
+     * @return numbers of parts already stored in the cloud for the given upload
+     * or {@link Optional#empty()} if the upload can not be continued anymore.
+     */
+    Optional<Set<Integer>> listParts(String bucket, String key, String uploadId);
+
+    void complete(String bucket, String key, String uploadId, List<MultipartPart> parts, Map<String, String> tags);
+
+    void abort(String bucket, String key, String uploadId);
+
+    default void close() {
+        // no resources by default
+    }
+}
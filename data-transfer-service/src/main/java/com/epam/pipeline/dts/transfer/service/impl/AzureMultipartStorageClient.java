@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.dts.transfer.service.impl;
+
+import com.epam.pipeline.dts.transfer.model.multipart.MultipartPart;
+import com.epam.pipeline.dts.transfer.service.MultipartStorageClient;
+import com.epam.pipeline.entity.datastorage.TemporaryCredentials;
+import com.microsoft.azure.storage.blob.AnonymousCredentials;
+import com.microsoft.azure.storage.blob.BlockBlobURL;
+import com.microsoft.azure.storage.blob.Metadata;
+import com.microsoft.azure.storage.blob.PipelineOptions;
+import com.microsoft.azure.storage.blob.ServiceURL;
+import com.microsoft.azure.storage.blob.StorageException;
+import com.microsoft.azure.storage.blob.StorageURL;
+import com.microsoft.azure.storage.blob.models.Block;
+import com.microsoft.azure.storage.blob.models.BlockListType;
+import com.microsoft.rest.v2.http.HttpPipeline;
+import io.reactivex.Flowable;
+import org.apache.http.HttpStatus;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Azure blob client which uploads parts as uncommitted blocks. Uncommitted blocks are kept by Azure
+ * for a week so there is no explicit multipart upload id and abort is a no-op.
+ * Tags are saved as blob metadata once the blob is uploaded or its blocks are committed.
+ */
+public class AzureMultipartStorageClient implements MultipartStorageClient {
+
+    private static final String BLOB_URL_FORMAT = "https://%s.blob.core.windows.net?%s";
+    private static final String BLOCK_ID_FORMAT = "%06d";
+    private static final String UPLOAD_ID = "blocks";
+
+    private final Supplier<TemporaryCredentials> credentials;
+    private final HttpPipeline pipeline = StorageURL.createPipeline(new AnonymousCredentials(),
+            new PipelineOptions());
+
+    public AzureMultipartStorageClient(final Supplier<TemporaryCredentials> credentials) {
+        this.credentials = credentials;
+    }
+
+    @Override
+    public void upload(final String bucket, final String key, final byte[] data, final String md5,
+                       final Map<String, String> tags) {
+        final byte[] stored = blob(bucket, key)
+                .upload(Flowable.just(ByteBuffer.wrap(data)), data.length, null, new Metadata(tags), null, null)
+                .blockingGet()
+                .headers()
+                .contentMD5();
+        checkMd5(key, md5, stored);
+    }
+
+    @Override
+    public String initiate(final String bucket, final String key, final Map<String, String> tags) {
+        return UPLOAD_ID;
+    }
+
+    @Override
+    public MultipartPart uploadPart(final String bucket, final String key, final String uploadId, final int number,
+                                    final byte[] data, final String md5) {
+        final String blockId = blockIdOf(number);
+        final byte[] stored = blob(bucket, key)
+                .stageBlock(blockId, Flowable.just(ByteBuffer.wrap(data)), data.length)
+                .blockingGet()
+                .headers()
+                .contentMD5();
+        checkMd5(key, md5, stored);
+        return new MultipartPart(number, blockId, md5);
+    }
+
+    @Override
+    public Optional<Set<Integer>> listParts(final String bucket, final String key, final String uploadId) {
+        try {
+            final List<Block> blocks = blob(bucket, key)
+                    .getBlockList(BlockListType.UNCOMMITTED)
+                    .blockingGet()
+                    .body()
+                    .uncommittedBlocks();
+            return Optional.of(Optional.ofNullable(blocks).orElse(Collections.emptyList()).stream()
+                    .map(Block::name)
+                    .map(AzureMultipartStorageClient::numberOf)
+                    .collect(Collectors.toSet()));
+        } catch (StorageException e) {
+            if (e.statusCode() == HttpStatus.SC_NOT_FOUND) {
+                return Optional.of(Collections.emptySet());
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void complete(final String bucket, final String key, final String uploadId,
+                         final List<MultipartPart> parts, final Map<String, String> tags) {
+        final List<String> blockIds = parts.stream()
+                .map(MultipartPart::getEtag)
+                .collect(Collectors.toList());
+        blob(bucket, key).commitBlockList(blockIds, null, new Metadata(tags), null, null).blockingGet();
+    }
+
+    @Override
+    public void abort(final String bucket, final String key, final String uploadId) {
+        // uncommitted blocks are removed by Azure automatically
+    }
+
+    private BlockBlobURL blob(final String container, final String key) {
+        final TemporaryCredentials current = credentials.get();
+        return new ServiceURL(url(String.format(BLOB_URL_FORMAT, current.getAccessKey(), current.getToken())),
+                pipeline)
+                .createContainerURL(container)
+                .createBlockBlobURL(key);
+    }
+
+    private URL url(final String url) {
+        try {
+            return new URL(url);
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private static String blockIdOf(final int number) {
+        return Base64.getEncoder().encodeToString(
+                String.format(BLOCK_ID_FORMAT, number).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static int numberOf(final String blockId) {
+        return Integer.parseInt(new String(Base64.getDecoder().decode(blockId), StandardCharsets.UTF_8));
+    }
+
+    private static void checkMd5(final String key, final String expected, final byte[] actual) {
+        if (actual != null && !expected.equals(Base64.getEncoder().encodeToString(actual))) {
+            throw new IllegalStateException(String.format("Checksum mismatch for %s upload.", key));
+        }
+    }
+}
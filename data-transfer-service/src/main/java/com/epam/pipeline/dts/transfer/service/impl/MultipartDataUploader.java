@@ -0,0 +1,193 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.dts.transfer.service.impl;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.exceptions.JWTDecodeException;
+import com.epam.pipeline.dts.common.service.CloudPipelineAPIClient;
+import com.epam.pipeline.dts.transfer.model.StorageItem;
+import com.epam.pipeline.dts.transfer.model.StorageType;
+import com.epam.pipeline.dts.transfer.model.pipeline.PipelineCredentials;
+import com.epam.pipeline.dts.transfer.service.PipelineCliProvider;
+import com.epam.pipeline.dts.util.Utils;
+import com.epam.pipeline.entity.datastorage.AbstractDataStorage;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.epam.pipeline.dts.transfer.service.impl.GoogleStorageClient.DELIMITER;
+
+/**
+ * Uploads local data into S3 or Azure storages in-process using {@link MultipartTransferEngine}.
+ *
+ * Local files are read on behalf of the service user, therefore uploads which have to be performed
+ * on behalf of another user as well as uploads with a custom pipe command are delegated to the pipe CLI.
+ * Downloads are always performed by the pipe CLI.
+ */
+@Slf4j
+public class MultipartDataUploader extends AbstractPipeCliDataUploader {
+
+    private static final String GLOB = "glob:";
+
+    private final StorageType storageType;
+    private final String filesPathPrefix;
+    private final MultipartTransferEngine engine;
+    private final MultipartStorageClientPool clients;
+    private final Function<PipelineCredentials, CloudPipelineAPIClient> apiClientFactory;
+    private final String serviceUser = System.getProperty("user.name");
+
+    public MultipartDataUploader(final PipelineCliProvider pipelineCliProvider,
+                                 final StorageType storageType,
+                                 final String filesPathPrefix,
+                                 final MultipartTransferEngine engine,
+                                 final MultipartStorageClientPool clients,
+                                 final Function<PipelineCredentials, CloudPipelineAPIClient> apiClientFactory) {
+        super(pipelineCliProvider);
+        this.storageType = storageType;
+        this.filesPathPrefix = filesPathPrefix;
+        this.engine = engine;
+        this.clients = clients;
+        this.apiClientFactory = apiClientFactory;
+    }
+
+    @Override
+    public StorageType getStorageType() {
+        return storageType;
+    }
+
+    @Override
+    public String getFilesPathPrefix() {
+        return filesPathPrefix;
+    }
+
+    @Override
+    public void upload(final StorageItem source,
+                       final StorageItem destination,
+                       final List<String> included,
+                       final String username,
+                       final boolean deleteSource) {
+        upload(source, destination, included, username, deleteSource, false, null, null);
+    }
+
+    @Override
+    public void upload(final StorageItem source,
+                       final StorageItem destination,
+                       final List<String> included,
+                       final String username,
+                       final boolean deleteSource,
+                       final boolean logEnabled,
+                       final String pipeCmd,
+                       final String pipeCmdSuffix) {
+        if (StringUtils.isNotBlank(pipeCmd) || !isServiceUser(username)) {
+            log.debug("Upload from {} to {} is delegated to pipe CLI.", source.getPath(), destination.getPath());
+            super.upload(source, destination, included, username, deleteSource, logEnabled, pipeCmd,
+                    pipeCmdSuffix);
+            return;
+        }
+        final PipelineCredentials credentials = PipelineCredentials.from(destination.getCredentials());
+        final CloudPipelineAPIClient apiClient = apiClientFactory.apply(credentials);
+        final Pair<String, String> bucketAndKey = Utils.getBucketNameAndKey(destination.getPath());
+        final String bucket = bucketAndKey.getLeft();
+        final AbstractDataStorage storage = apiClient.findStorageByPath(
+                joinKey(bucket, bucketAndKey.getRight()));
+        final Map<Path, String> files = collectFiles(Paths.get(source.getPath()), bucketAndKey.getRight(),
+                destination.getPath().endsWith(DELIMITER), included);
+        final String owner = getOwner(credentials);
+        clients.execute(credentials, apiClient, storage, client -> engine.upload(client, bucket, files, owner));
+        log.debug("{} files have been uploaded from {} to {}.", files.size(), source.getPath(),
+                destination.getPath());
+        if (deleteSource) {
+            files.keySet().forEach(this::delete);
+        }
+    }
+
+    public void close() {
+        clients.close();
+    }
+
+    private String getOwner(final PipelineCredentials credentials) {
+        try {
+            return JWT.decode(credentials.getApiToken()).getSubject();
+        } catch (JWTDecodeException e) {
+            log.warn("Owner of uploaded files can not be resolved from API token: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private boolean isServiceUser(final String username) {
+        return StringUtils.isBlank(username) || username.equals(serviceUser);
+    }
+
+    private Map<Path, String> collectFiles(final Path source, final String destinationKey,
+                                           final boolean isDestinationFolder, final List<String> included) {
+        if (Files.isRegularFile(source)) {
+            final String key = isDestinationFolder || StringUtils.isBlank(destinationKey)
+                    ? joinKey(destinationKey, source.getFileName().toString())
+                    : destinationKey;
+            return Collections.singletonMap(source, key);
+        }
+        if (!Files.isDirectory(source)) {
+            throw new IllegalArgumentException(String.format("Cannot find source %s.", source));
+        }
+        final List<PathMatcher> matchers = CollectionUtils.emptyIfNull(included).stream()
+                .map(pattern -> FileSystems.getDefault().getPathMatcher(GLOB + pattern))
+                .collect(Collectors.toList());
+        try (Stream<Path> paths = Files.walk(source)) {
+            return paths.filter(Files::isRegularFile)
+                    .map(source::relativize)
+                    .filter(relative -> isIncluded(relative, matchers))
+                    .collect(Collectors.toMap(source::resolve,
+                        relative -> joinKey(destinationKey, relative.toString().replace('\\', '/')),
+                        (first, second) -> first, LinkedHashMap::new));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean isIncluded(final Path relative, final List<PathMatcher> matchers) {
+        return matchers.isEmpty() || matchers.stream()
+                .anyMatch(matcher -> matcher.matches(relative) || matcher.matches(relative.getFileName()));
+    }
+
+    private String joinKey(final String prefix, final String name) {
+        return StringUtils.isBlank(prefix) ? name : StringUtils.removeEnd(prefix, DELIMITER) + DELIMITER + name;
+    }
+
+    private void delete(final Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Source file {} can not be deleted after upload.", path, e);
+        }
+    }
+}
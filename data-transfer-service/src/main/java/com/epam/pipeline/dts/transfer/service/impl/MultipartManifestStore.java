@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.dts.transfer.service.impl;
+
+import com.epam.pipeline.dts.transfer.model.multipart.MultipartManifest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.DigestUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+/**
+ * Stores multipart upload manifests as json files in a local directory.
+ * Manifests are written atomically so that a transfer interrupted in the middle of a save
+ * still leaves the previous consistent state on disk.
+ */
+@Slf4j
+public class MultipartManifestStore {
+
+    private static final String MANIFEST_EXTENSION = ".json";
+    private static final String TEMP_EXTENSION = ".tmp";
+
+    private final Path directory;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    public MultipartManifestStore(final Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public String idOf(final Path source, final String bucket, final String key) {
+        return DigestUtils.md5DigestAsHex(String.join("|", source.toAbsolutePath().toString(), bucket, key)
+                .getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Optional<MultipartManifest> find(final String id) {
+        final Path path = pathOf(id);
+        if (!Files.exists(path)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(mapper.readValue(path.toFile(), MultipartManifest.class));
+        } catch (IOException e) {
+            log.warn("Multipart manifest {} can not be read and will be ignored.", path, e);
+            return Optional.empty();
+        }
+    }
+
+    public void save(final MultipartManifest manifest) {
+        final Path path = pathOf(manifest.getId());
+        final Path temp = path.resolveSibling(path.getFileName() + TEMP_EXTENSION);
+        synchronized (manifest) {
+            try {
+                mapper.writeValue(temp.toFile(), manifest);
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    public void delete(final String id) {
+        try {
+            Files.deleteIfExists(pathOf(id));
+        } catch (IOException e) {
+            log.warn("Multipart manifest {} can not be deleted.", id, e);
+        }
+    }
+
+    private Path pathOf(final String id) {
+        return directory.resolve(id + MANIFEST_EXTENSION);
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.dts.transfer.service.impl;
+
+import com.epam.pipeline.dts.common.service.CloudPipelineAPIClient;
+import com.epam.pipeline.dts.transfer.model.pipeline.PipelineCredentials;
+import com.epam.pipeline.dts.transfer.service.MultipartStorageClient;
+import com.epam.pipeline.entity.datastorage.AbstractDataStorage;
+import com.epam.pipeline.entity.datastorage.DataStorageAction;
+import com.epam.pipeline.entity.datastorage.TemporaryCredentials;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Keeps long living clients per user and data storage so that all transfers into the same
+ * storage share the client connection pool. Clients receive refreshing temporary credentials
+ * issued by Cloud Pipeline API.
+ *
+ * The pool is bounded: the least recently used clients above the pool size and the clients which
+ * were not used for longer than the idle timeout are evicted and closed as soon as no transfer uses them.
+ * Clients are mapped by a hash of user credentials, so that the pool doesn't keep raw API tokens.
+ */
+@Slf4j
+public class MultipartStorageClientPool {
+
+    private static final String KEY_HASH_ALGORITHM = "SHA-256";
+    private static final String KEY_DELIMITER = "|";
+
+    private final Function<Supplier<TemporaryCredentials>, MultipartStorageClient> clientFactory;
+    private final long credentialsTtlMs;
+    private final int maxSize;
+    private final long idleTimeoutMs;
+    private final Map<String, PooledClient> clients = new LinkedHashMap<>(16, 0.75f, true);
+
+    public MultipartStorageClientPool(final Function<Supplier<TemporaryCredentials>, MultipartStorageClient>
+                                              clientFactory,
+                                      final long credentialsTtlMs,
+                                      final int maxSize,
+                                      final long idleTimeoutMs) {
+        this.clientFactory = clientFactory;
+        this.credentialsTtlMs = credentialsTtlMs;
+        this.maxSize = Math.max(1, maxSize);
+        this.idleTimeoutMs = idleTimeoutMs;
+    }
+
+    /**
+     * Performs {@param action} with a pooled client of the given user and data storage.
+     * The client is not closed while the action is in progress even if it is evicted from the pool.
+     */
+    public void execute(final PipelineCredentials credentials,
+                        final CloudPipelineAPIClient apiClient,
+                        final AbstractDataStorage storage,
+                        final Consumer<MultipartStorageClient> action) {
+        final PooledClient pooled = acquire(credentials, apiClient, storage);
+        try {
+            action.accept(pooled.client);
+        } finally {
+            release(pooled);
+        }
+    }
+
+    public void close() {
+        final List<MultipartStorageClient> evicted = new ArrayList<>();
+        synchronized (clients) {
+            clients.values().forEach(pooled -> {
+                pooled.evicted = true;
+                if (pooled.users == 0) {
+                    evicted.add(pooled.client);
+                }
+            });
+            clients.clear();
+        }
+        evicted.forEach(this::closeClient);
+    }
+
+    /**
+     * New clients are created outside of the pool lock since their creation requests credentials
+     * from Cloud Pipeline API. If the same client is created concurrently, only one of them is pooled.
+     */
+    private PooledClient acquire(final PipelineCredentials credentials,
+                                 final CloudPipelineAPIClient apiClient,
+                                 final AbstractDataStorage storage) {
+        final String key = getKey(credentials, storage);
+        final Optional<PooledClient> existing = acquire(key, null);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+        final MultipartStorageClient created = clientFactory.apply(new RefreshingTemporaryCredentials(
+            () -> generateCredentials(apiClient, storage), credentialsTtlMs));
+        return acquire(key, created).orElseThrow(IllegalStateException::new);
+    }
+
+    private Optional<PooledClient> acquire(final String key, final MultipartStorageClient created) {
+        final PooledClient pooled;
+        final List<MultipartStorageClient> evicted = new ArrayList<>();
+        synchronized (clients) {
+            final PooledClient existing = clients.get(key);
+            if (existing == null && created == null) {
+                return Optional.empty();
+            }
+            if (existing == null) {
+                pooled = new PooledClient(created);
+                clients.put(key, pooled);
+            } else {
+                pooled = existing;
+                if (created != null) {
+                    evicted.add(created);
+                }
+            }
+            pooled.users++;
+            pooled.lastAccess = System.currentTimeMillis();
+            evicted.addAll(evict(pooled.lastAccess));
+        }
+        evicted.forEach(this::closeClient);
+        return Optional.of(pooled);
+    }
+
+    private void release(final PooledClient pooled) {
+        final boolean close;
+        synchronized (clients) {
+            pooled.users--;
+            pooled.lastAccess = System.currentTimeMillis();
+            close = pooled.evicted && pooled.users == 0;
+        }
+        if (close) {
+            closeClient(pooled.client);
+        }
+    }
+
+    private List<MultipartStorageClient> evict(final long now) {
+        final List<MultipartStorageClient> evicted = new ArrayList<>();
+        int size = clients.size();
+        final Iterator<PooledClient> iterator = clients.values().iterator();
+        while (iterator.hasNext()) {
+            final PooledClient pooled = iterator.next();
+            final boolean idle = pooled.users == 0 && now - pooled.lastAccess >= idleTimeoutMs;
+            if (size > maxSize || idle) {
+                iterator.remove();
+                size--;
+                pooled.evicted = true;
+                if (pooled.users == 0) {
+                    evicted.add(pooled.client);
+                }
+            }
+        }
+        return evicted;
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void closeClient(final MultipartStorageClient client) {
+        try {
+            client.close();
+        } catch (RuntimeException e) {
+            log.warn("Failed to close multipart storage client: {}", e.getMessage());
+        }
+    }
+
+    private String getKey(final PipelineCredentials credentials, final AbstractDataStorage storage) {
+        return storage.getId() + KEY_DELIMITER
+                + hash(credentials.getApi() + KEY_DELIMITER + credentials.getApiToken());
+    }
+
+    private String hash(final String value) {
+        try {
+            final byte[] digest = MessageDigest.getInstance(KEY_HASH_ALGORITHM)
+                    .digest(value.getBytes(StandardCharsets.UTF_8));
+            return new BigInteger(1, digest).toString(16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    private TemporaryCredentials generateCredentials(final CloudPipelineAPIClient apiClient,
+                                                     final AbstractDataStorage storage) {
+        final DataStorageAction action = new DataStorageAction();
+        action.setId(storage.getId());
+        action.setList(true);
+        action.setRead(true);
+        action.setWrite(true);
+        return apiClient.generateTemporaryCredentials(Collections.singletonList(action));
+    }
+
+    private static final class PooledClient {
+
+        private final MultipartStorageClient client;
+        private int users;
+        private long lastAccess;
+        private boolean evicted;
+
+        private PooledClient(final MultipartStorageClient client) {
+            this.client = client;
+        }
+    }
+}
@@ -0,0 +1,304 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.dts.transfer.service.impl;
+
+import com.epam.pipeline.dts.transfer.model.multipart.MultipartManifest;
+import com.epam.pipeline.dts.transfer.model.multipart.MultipartPart;
+import com.epam.pipeline.dts.transfer.service.MultipartStorageClient;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Uploads local files into a cloud storage using a shared thread pool.
+ *
+ * Files which fit into a single part are uploaded concurrently as a whole. Larger files are split into parts
+ * which are uploaded concurrently, each part is sent with its md5 checksum and recorded into an on-disk
+ * manifest once stored. If the transfer is interrupted the next upload of the same file continues from
+ * the parts which are present both in the manifest and in the cloud.
+ * Uploaded objects are tagged with their source path and owner the same way pipe CLI does.
+ */
+@Slf4j
+public class MultipartTransferEngine {
+
+    /**
+     * S3 does not accept parts smaller than this except for the last one.
+     */
+    public static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+    private static final int MAX_PARTS = 10_000;
+    public static final String SOURCE_TAG = "CP_SOURCE";
+    public static final String OWNER_TAG = "CP_OWNER";
+    private static final String MD5 = "MD5";
+    private static final int MAX_TAG_VALUE_LENGTH = 256;
+    private static final String UNSUPPORTED_TAG_CHARACTERS = "[^A-Za-z0-9 _.:/=+\\-@]";
+    private static final String TAG_CHARACTER_REPLACEMENT = "-";
+
+    private final ExecutorService executor;
+    private final MultipartManifestStore manifests;
+    private final long partSize;
+
+    public MultipartTransferEngine(final ExecutorService executor,
+                                   final MultipartManifestStore manifests,
+                                   final long partSize) {
+        this.executor = executor;
+        this.manifests = manifests;
+        this.partSize = partSize;
+    }
+
+    /**
+     * @param files local files mapped to the destination keys.
+     * @param owner name of the user the files are uploaded on behalf of.
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public void upload(final MultipartStorageClient client, final String bucket, final Map<Path, String> files,
+                       final String owner) {
+        final AtomicBoolean singleUploadFailed = new AtomicBoolean();
+        final List<Future<?>> singleUploads = files.entrySet().stream()
+                .filter(file -> sizeOf(file.getKey()) <= partSize)
+                .map(file -> submit(singleUploadFailed,
+                    () -> uploadSingle(client, bucket, file.getValue(), file.getKey(), owner)))
+                .collect(Collectors.toList());
+        RuntimeException failure = null;
+        for (final Map.Entry<Path, String> file : files.entrySet()) {
+            if (failure != null || sizeOf(file.getKey()) <= partSize) {
+                continue;
+            }
+            try {
+                uploadMultipart(client, bucket, file.getValue(), file.getKey(), owner);
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+        }
+        failure = await(singleUploads, failure);
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void uploadSingle(final MultipartStorageClient client, final String bucket, final String key,
+                              final Path source, final String owner) {
+        final byte[] data = read(source, 0, (int) sizeOf(source));
+        client.upload(bucket, key, data, md5(data), tagsOf(source, owner));
+        log.debug("File {} has been uploaded to {}/{}.", source, bucket, key);
+    }
+
+    private void uploadMultipart(final MultipartStorageClient client, final String bucket, final String key,
+                                 final Path source, final String owner) {
+        final long size = sizeOf(source);
+        final long lastModified = lastModifiedOf(source);
+        final String id = manifests.idOf(source, bucket, key);
+        final Map<String, String> tags = tagsOf(source, owner);
+        final MultipartManifest manifest = resume(client, id, size, lastModified)
+                .orElseGet(() -> initiate(client, id, source, bucket, key, size, lastModified, tags));
+        final AtomicBoolean partUploadFailed = new AtomicBoolean();
+        final List<Future<?>> parts = IntStream.rangeClosed(1, manifest.getPartsCount())
+                .filter(number -> !manifest.isCompleted(number))
+                .mapToObj(number -> submit(partUploadFailed, () -> uploadPart(client, manifest, source, number)))
+                .collect(Collectors.toList());
+        final RuntimeException failure = await(parts, null);
+        if (failure != null) {
+            log.warn("Upload of {} has been interrupted after {} of {} parts, it can be resumed later.",
+                    source, manifest.getCompletedParts().size(), manifest.getPartsCount());
+            throw failure;
+        }
+        client.complete(bucket, key, manifest.getUploadId(), manifest.getCompletedParts(), tags);
+        manifests.delete(id);
+        log.debug("File {} has been uploaded to {}/{} in {} parts.", source, bucket, key, manifest.getPartsCount());
+    }
+
+    private Optional<MultipartManifest> resume(final MultipartStorageClient client, final String id,
+                                               final long size, final long lastModified) {
+        final Optional<MultipartManifest> found = manifests.find(id);
+        if (!found.isPresent()) {
+            return Optional.empty();
+        }
+        final MultipartManifest manifest = found.get();
+        if (manifest.getSize() != size || manifest.getLastModified() != lastModified) {
+            log.info("Source {} has changed since the previous upload attempt, it will be uploaded from scratch.",
+                    manifest.getSource());
+            abortQuietly(client, manifest);
+            manifests.delete(id);
+            return Optional.empty();
+        }
+        final Optional<Set<Integer>> uploaded = client.listParts(manifest.getBucket(), manifest.getKey(),
+                manifest.getUploadId());
+        if (!uploaded.isPresent()) {
+            log.info("Previous upload of {} has expired, it will be uploaded from scratch.", manifest.getSource());
+            manifests.delete(id);
+            return Optional.empty();
+        }
+        manifest.getParts().keySet().retainAll(uploaded.get());
+        log.info("Resuming upload of {} from {} of {} parts.", manifest.getSource(), manifest.getParts().size(),
+                manifest.getPartsCount());
+        return Optional.of(manifest);
+    }
+
+    private MultipartManifest initiate(final MultipartStorageClient client, final String id, final Path source,
+                                       final String bucket, final String key, final long size,
+                                       final long lastModified, final Map<String, String> tags) {
+        final MultipartManifest manifest = new MultipartManifest();
+        manifest.setId(id);
+        manifest.setSource(source.toAbsolutePath().toString());
+        manifest.setBucket(bucket);
+        manifest.setKey(key);
+        manifest.setSize(size);
+        manifest.setLastModified(lastModified);
+        manifest.setPartSize(Math.max(partSize, (size + MAX_PARTS - 1) / MAX_PARTS));
+        manifest.setUploadId(client.initiate(bucket, key, tags));
+        manifests.save(manifest);
+        return manifest;
+    }
+
+    private Map<String, String> tagsOf(final Path source, final String owner) {
+        final Map<String, String> tags = new LinkedHashMap<>();
+        tags.put(SOURCE_TAG, toTagValue(source.toAbsolutePath().toString()));
+        if (StringUtils.isNotBlank(owner)) {
+            tags.put(OWNER_TAG, toTagValue(owner));
+        }
+        return tags;
+    }
+
+    private String toTagValue(final String value) {
+        return StringUtils.left(value.replaceAll(UNSUPPORTED_TAG_CHARACTERS, TAG_CHARACTER_REPLACEMENT),
+                MAX_TAG_VALUE_LENGTH);
+    }
+
+    private void uploadPart(final MultipartStorageClient client, final MultipartManifest manifest,
+                            final Path source, final int number) {
+        final long offset = (number - 1) * manifest.getPartSize();
+        final int length = (int) Math.min(manifest.getPartSize(), manifest.getSize() - offset);
+        final byte[] data = read(source, offset, length);
+        final MultipartPart part = client.uploadPart(manifest.getBucket(), manifest.getKey(),
+                manifest.getUploadId(), number, data, md5(data));
+        manifest.complete(part);
+        manifests.save(manifest);
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void abortQuietly(final MultipartStorageClient client, final MultipartManifest manifest) {
+        try {
+            client.abort(manifest.getBucket(), manifest.getKey(), manifest.getUploadId());
+        } catch (RuntimeException e) {
+            log.debug("Stale upload of {} can not be aborted.", manifest.getSource(), e);
+        }
+    }
+
+    /**
+     * Tasks submitted with the same failure flag are skipped once any of them fails. Running tasks are
+     * never cancelled so that no task of a failed transfer outlives it.
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private Future<?> submit(final AtomicBoolean failed, final Runnable task) {
+        return executor.submit(() -> {
+            if (failed.get()) {
+                return;
+            }
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                failed.set(true);
+                throw e;
+            }
+        });
+    }
+
+    private RuntimeException await(final List<Future<?>> futures, final RuntimeException previous) {
+        RuntimeException failure = previous;
+        for (final Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return firstOf(failure, new IllegalStateException("Transfer has been interrupted.", e));
+            } catch (ExecutionException e) {
+                failure = firstOf(failure, asRuntime(e.getCause()));
+            }
+        }
+        return failure;
+    }
+
+    private RuntimeException firstOf(final RuntimeException first, final RuntimeException second) {
+        return first != null ? first : second;
+    }
+
+    private RuntimeException asRuntime(final Throwable e) {
+        return e instanceof RuntimeException ? (RuntimeException) e : new IllegalStateException(e);
+    }
+
+    private byte[] read(final Path source, final long offset, final int length) {
+        final ByteBuffer buffer = ByteBuffer.allocate(length);
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, offset + buffer.position()) < 0) {
+                    throw new IllegalStateException(String.format("File %s has been truncated.", source));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.array();
+    }
+
+    private String md5(final byte[] data) {
+        try {
+            return Base64.getEncoder().encodeToString(MessageDigest.getInstance(MD5).digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private long sizeOf(final Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private long lastModifiedOf(final Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.dts.transfer.service.impl;
+
+import com.epam.pipeline.entity.datastorage.TemporaryCredentials;
+import lombok.RequiredArgsConstructor;
+
+import java.util.function.Supplier;
+
+/**
+ * Caches temporary storage credentials and reloads them once the configured time to live passes.
+ * Time to live is expected to be shorter than the duration of the credentials issued by the API.
+ */
+@RequiredArgsConstructor
+public class RefreshingTemporaryCredentials implements Supplier<TemporaryCredentials> {
+
+    private final Supplier<TemporaryCredentials> loader;
+    private final long ttlMs;
+
+    private TemporaryCredentials credentials;
+    private long loadedAt;
+
+    @Override
+    public synchronized TemporaryCredentials get() {
+        final long now = System.currentTimeMillis();
+        if (credentials == null || now - loadedAt >= ttlMs) {
+            credentials = loader.get();
+            loadedAt = now;
+        }
+        return credentials;
+    }
+}
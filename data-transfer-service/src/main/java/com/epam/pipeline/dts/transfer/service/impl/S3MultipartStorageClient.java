@@ -0,0 +1,169 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.dts.transfer.service.impl;
+
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.auth.AWSCredentials;
+import com.amazonaws.auth.AWSCredentialsProvider;
+import com.amazonaws.auth.BasicSessionCredentials;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ListPartsRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.ObjectTagging;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PartListing;
+import com.amazonaws.services.s3.model.PartSummary;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.Tag;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.epam.pipeline.dts.transfer.model.multipart.MultipartPart;
+import com.epam.pipeline.dts.transfer.service.MultipartStorageClient;
+import com.epam.pipeline.entity.datastorage.TemporaryCredentials;
+import org.apache.http.HttpStatus;
+
+import java.io.ByteArrayInputStream;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * S3 client which uploads objects with the given tags and grants full control over them to the bucket owner,
+ * the same way pipe CLI does.
+ */
+public class S3MultipartStorageClient implements MultipartStorageClient {
+
+    private final AmazonS3 client;
+
+    public S3MultipartStorageClient(final Supplier<TemporaryCredentials> credentials, final int maxConnections) {
+        this.client = AmazonS3ClientBuilder.standard()
+                .withCredentials(new TemporaryCredentialsProvider(credentials))
+                .withRegion(credentials.get().getRegion())
+                .withClientConfiguration(new ClientConfiguration().withMaxConnections(maxConnections))
+                .build();
+    }
+
+    @Override
+    public void upload(final String bucket, final String key, final byte[] data, final String md5,
+                       final Map<String, String> tags) {
+        final ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(data.length);
+        metadata.setContentMD5(md5);
+        final PutObjectRequest request = new PutObjectRequest(bucket, key, new ByteArrayInputStream(data), metadata);
+        request.setTagging(tagging(tags));
+        request.setCannedAcl(CannedAccessControlList.BucketOwnerFullControl);
+        client.putObject(request);
+    }
+
+    @Override
+    public String initiate(final String bucket, final String key, final Map<String, String> tags) {
+        final InitiateMultipartUploadRequest request = new InitiateMultipartUploadRequest(bucket, key)
+                .withTagging(tagging(tags))
+                .withCannedACL(CannedAccessControlList.BucketOwnerFullControl);
+        return client.initiateMultipartUpload(request).getUploadId();
+    }
+
+    @Override
+    public MultipartPart uploadPart(final String bucket, final String key, final String uploadId, final int number,
+                                    final byte[] data, final String md5) {
+        final UploadPartRequest request = new UploadPartRequest()
+                .withBucketName(bucket)
+                .withKey(key)
+                .withUploadId(uploadId)
+                .withPartNumber(number)
+                .withPartSize(data.length)
+                .withMD5Digest(md5)
+                .withInputStream(new ByteArrayInputStream(data));
+        return new MultipartPart(number, client.uploadPart(request).getETag(), md5);
+    }
+
+    @Override
+    public Optional<Set<Integer>> listParts(final String bucket, final String key, final String uploadId) {
+        final Set<Integer> numbers = new HashSet<>();
+        final ListPartsRequest request = new ListPartsRequest(bucket, key, uploadId);
+        try {
+            PartListing listing;
+            do {
+                listing = client.listParts(request);
+                listing.getParts().stream()
+                        .map(PartSummary::getPartNumber)
+                        .forEach(numbers::add);
+                request.setPartNumberMarker(listing.getNextPartNumberMarker());
+            } while (listing.isTruncated());
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == HttpStatus.SC_NOT_FOUND) {
+                return Optional.empty();
+            }
+            throw e;
+        }
+        return Optional.of(numbers);
+    }
+
+    @Override
+    public void complete(final String bucket, final String key, final String uploadId,
+                         final List<MultipartPart> parts, final Map<String, String> tags) {
+        final List<PartETag> etags = parts.stream()
+                .map(part -> new PartETag(part.getNumber(), part.getEtag()))
+                .collect(Collectors.toList());
+        client.completeMultipartUpload(new CompleteMultipartUploadRequest(bucket, key, uploadId, etags));
+    }
+
+    @Override
+    public void abort(final String bucket, final String key, final String uploadId) {
+        client.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, key, uploadId));
+    }
+
+    @Override
+    public void close() {
+        client.shutdown();
+    }
+
+    private ObjectTagging tagging(final Map<String, String> tags) {
+        return new ObjectTagging(tags.entrySet().stream()
+                .map(tag -> new Tag(tag.getKey(), tag.getValue()))
+                .collect(Collectors.toList()));
+    }
+
+    private static final class TemporaryCredentialsProvider implements AWSCredentialsProvider {
+
+        private final Supplier<TemporaryCredentials> credentials;
+
+        private TemporaryCredentialsProvider(final Supplier<TemporaryCredentials> credentials) {
+            this.credentials = credentials;
+        }
+
+        @Override
+        public AWSCredentials getCredentials() {
+            final TemporaryCredentials current = credentials.get();
+            return new BasicSessionCredentials(current.getKeyId(), current.getAccessKey(), current.getToken());
+        }
+
+        @Override
+        public void refresh() {
+            // credentials are refreshed by the supplier itself
+        }
+    }
+}
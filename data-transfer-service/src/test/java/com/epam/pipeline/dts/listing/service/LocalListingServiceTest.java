@@ -23,6 +23,7 @@ import com.epam.pipeline.dts.listing.model.ListingItemType;
 import com.epam.pipeline.dts.listing.model.ListingItem;
 import com.epam.pipeline.dts.listing.rest.dto.ItemsListingRequestDTO;
 import com.epam.pipeline.dts.listing.service.impl.LocalListingService;
+import com.epam.pipeline.dts.listing.service.impl.LocalListingSnapshotCache;
 import com.epam.pipeline.dts.transfer.service.AbstractTransferTest;
 import com.github.marschall.memoryfilesystem.MemoryFileSystemBuilder;
 import org.junit.jupiter.api.Test;
@@ -33,16 +34,19 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.attribute.PosixFileAttributeView;
 import java.nio.file.attribute.PosixFilePermission;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -212,9 +216,10 @@ public class LocalListingServiceTest extends AbstractTransferTest {
                                     .build())
                     .collect(Collectors.toList());
             assertTransferItems(expected, actual);
-            assertThat(result.getNextPageMarker(), is("2"));
+            assertNotNull(result.getNextPageMarker());
 
-            result = listingService.list(new ItemsListingRequestDTO(pathToFolder, 1, "2", null));
+            result = listingService.list(new ItemsListingRequestDTO(pathToFolder, 1, result.getNextPageMarker(),
+                    null));
             actual = result.getResults();
             expected = Stream
                     .of(ListingItem
@@ -232,6 +237,68 @@ public class LocalListingServiceTest extends AbstractTransferTest {
         }
     }
 
+    @Test
+    void listingShouldReturnAllFolderEntriesInNameOrderPageByPage() throws IOException {
+        try (FileSystem fs = MemoryFileSystemBuilder.newEmpty().build()) {
+            final Path pathToFolder = createFolderWithFiles(fs, 25);
+
+            assertThat(listAllPages(listingService, pathToFolder, 4), is(fileNames(25)));
+        }
+    }
+
+    @Test
+    void listingShouldReturnAllFolderEntriesPageByPageFromSnapshot() throws IOException {
+        final LocalListingService snapshotListingService =
+                new LocalListingService(new LocalListingSnapshotCache(60_000, 10));
+        try (FileSystem fs = MemoryFileSystemBuilder.newEmpty().build()) {
+            final Path pathToFolder = createFolderWithFiles(fs, 25);
+
+            assertThat(listAllPages(snapshotListingService, pathToFolder, 4), is(fileNames(25)));
+        }
+    }
+
+    @Test
+    void listingShouldSupportNumericOffsetMarker() throws IOException {
+        try (FileSystem fs = MemoryFileSystemBuilder.newEmpty().build()) {
+            final Path pathToFolder = createFolderWithFiles(fs, 5);
+
+            final ListingItemsPaging result = listingService.list(
+                    new ItemsListingRequestDTO(pathToFolder, 2, "3", null));
+
+            assertThat(result.getResults().stream().map(ListingItem::getName).collect(Collectors.toList()),
+                    is(fileNames(5).subList(2, 4)));
+            assertNotNull(result.getNextPageMarker());
+        }
+    }
+
+    private static Path createFolderWithFiles(final FileSystem fs, final int count) throws IOException {
+        final Path pathToFolder = fs.getPath(ROOT_FOLDER);
+        Files.createDirectory(pathToFolder);
+        for (final String name : fileNames(count)) {
+            Files.createFile(pathToFolder.resolve(name));
+        }
+        return pathToFolder;
+    }
+
+    private static List<String> fileNames(final int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> String.format("file%03d", i))
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> listAllPages(final LocalListingService service, final Path path,
+                                             final int pageSize) {
+        final List<String> names = new ArrayList<>();
+        String marker = null;
+        do {
+            final ListingItemsPaging page = service.list(new ItemsListingRequestDTO(path, pageSize, marker, null));
+            assertThat(page.getResults().size() <= pageSize, is(true));
+            page.getResults().forEach(item -> names.add(item.getName()));
+            marker = page.getNextPageMarker();
+        } while (marker != null);
+        return names;
+    }
+
     private static void assertTransferItems(List<ListingItem> expected, List<ListingItem> actual) {
         Map<String, ListingItem> expectedMap = expected
                 .stream()
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.dts.sync.service;
+
+import com.epam.pipeline.dts.sync.model.AutonomousSyncCronDetails;
+import com.epam.pipeline.dts.sync.model.AutonomousSyncRule;
+import com.epam.pipeline.dts.sync.model.SyncRuleStats;
+import com.epam.pipeline.dts.sync.service.impl.DtsRuleChangeTracker;
+import com.epam.pipeline.dts.sync.service.impl.DtsRuleExpanderService;
+import com.epam.pipeline.dts.sync.service.impl.ManifestChangeDetector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class DtsRuleChangeTrackerTest {
+
+    private static final String DESTINATION = "s3://bucket/destination";
+    private static final String CRON = "0 0 0 ? * *";
+    private static final String FILE = "file.txt";
+    private static final String CONTENT = "content";
+    private static final String NEW_FILE = "new-file.txt";
+
+    private final DtsRuleExpanderService expander = mock(DtsRuleExpanderService.class);
+    private Path source;
+    private Map.Entry<AutonomousSyncRule, AutonomousSyncCronDetails> entry;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        source = Files.createTempDirectory("dts-sync-source");
+        Files.write(source.resolve(FILE), CONTENT.getBytes());
+        final AutonomousSyncRule rule = new AutonomousSyncRule(source.toString(), DESTINATION, null,
+                false, Collections.emptyList(), false, false);
+        entry = new AbstractMap.SimpleEntry<>(rule, new AutonomousSyncCronDetails(CRON, new Date()));
+        doAnswer(invocation -> Stream.of(invocation.getArgument(0))).when(expander).expandSyncEntry(any());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(source)) {
+            for (final Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Test
+    void expandChangedShouldReturnAllRulesOnFirstCheck() {
+        final DtsRuleChangeTracker tracker = new DtsRuleChangeTracker(expander, true, false);
+
+        assertThat(expand(tracker), contains(entry.getKey()));
+        assertThat(tracker.hasPendingChanges(entry.getKey()), is(true));
+    }
+
+    @Test
+    void expandChangedShouldSkipExpansionIfSourceHasNotChangedSinceSubmission() {
+        final DtsRuleChangeTracker tracker = new DtsRuleChangeTracker(expander, true, false);
+        expand(tracker).forEach(tracker::submitted);
+
+        assertThat(tracker.hasPendingChanges(entry.getKey()), is(false));
+        assertThat(expand(tracker), empty());
+        verify(expander, times(1)).expandSyncEntry(any());
+        final List<SyncRuleStats> stats = tracker.getStats();
+        assertThat(stats, hasSize(1));
+        assertThat(stats.get(0).getDetector(), is(ManifestChangeDetector.TYPE));
+        assertThat(stats.get(0).getExpansions(), is(1L));
+        assertThat(stats.get(0).getSkippedExpansions(), is(1L));
+    }
+
+    @Test
+    void expandChangedShouldReturnRuleIfSourceHasChangedSinceSubmission() throws IOException {
+        final DtsRuleChangeTracker tracker = new DtsRuleChangeTracker(expander, true, false);
+        expand(tracker).forEach(tracker::submitted);
+
+        Files.write(source.resolve(NEW_FILE), CONTENT.getBytes());
+
+        assertThat(expand(tracker), contains(entry.getKey()));
+        verify(expander, times(2)).expandSyncEntry(any());
+    }
+
+    @Test
+    void expandChangedShouldReturnRuleAgainIfItsTransferHasFailed() {
+        final DtsRuleChangeTracker tracker = new DtsRuleChangeTracker(expander, true, false);
+        expand(tracker).forEach(tracker::submitted);
+
+        tracker.failed(entry.getKey());
+
+        assertThat(expand(tracker), contains(entry.getKey()));
+        verify(expander, times(1)).expandSyncEntry(any());
+    }
+
+    @Test
+    void expandChangedShouldAlwaysExpandRuleIfDetectionIsDisabled() {
+        final DtsRuleChangeTracker tracker = new DtsRuleChangeTracker(expander, false, false);
+        expand(tracker).forEach(tracker::submitted);
+
+        assertThat(expand(tracker), contains(entry.getKey()));
+        assertThat(tracker.getStats(), empty());
+        verify(expander, times(2)).expandSyncEntry(any());
+    }
+
+    @Test
+    void retainRulesShouldForgetRemovedRules() {
+        final DtsRuleChangeTracker tracker = new DtsRuleChangeTracker(expander, true, false);
+        expand(tracker);
+
+        tracker.retainRules(Collections.emptyList());
+
+        assertThat(tracker.getStats(), empty());
+    }
+
+    private List<AutonomousSyncRule> expand(final DtsRuleChangeTracker tracker) {
+        return tracker.expandChanged(entry)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+}
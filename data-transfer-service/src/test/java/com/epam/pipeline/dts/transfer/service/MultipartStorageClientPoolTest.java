@@ -0,0 +1,198 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.dts.transfer.service;
+
+import com.epam.pipeline.dts.common.service.CloudPipelineAPIClient;
+import com.epam.pipeline.dts.transfer.model.pipeline.PipelineCredentials;
+import com.epam.pipeline.dts.transfer.service.impl.MultipartStorageClientPool;
+import com.epam.pipeline.entity.datastorage.AbstractDataStorage;
+import com.epam.pipeline.entity.datastorage.S3bucketDataStorage;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class MultipartStorageClientPoolTest {
+
+    private static final String API = "https://cloud-pipeline/restapi/";
+    private static final PipelineCredentials USER = new PipelineCredentials(API, "token");
+    private static final PipelineCredentials ANOTHER_USER = new PipelineCredentials(API, "another-token");
+    private static final AbstractDataStorage STORAGE = new S3bucketDataStorage(1L, "storage", "storage");
+    private static final AbstractDataStorage ANOTHER_STORAGE = new S3bucketDataStorage(2L, "another", "another");
+    private static final long CREDENTIALS_TTL = TimeUnit.MINUTES.toMillis(30);
+    private static final long IDLE_TIMEOUT = TimeUnit.HOURS.toMillis(1);
+    private static final long TIMEOUT_SECONDS = 30;
+
+    private final CloudPipelineAPIClient apiClient = Mockito.mock(CloudPipelineAPIClient.class);
+    private final List<MultipartStorageClient> created = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void shouldReuseClientOfTheSameUserAndStorage() {
+        final MultipartStorageClientPool pool = pool(10, IDLE_TIMEOUT);
+
+        final MultipartStorageClient first = acquire(pool, USER, STORAGE);
+        final MultipartStorageClient second = acquire(pool, USER, STORAGE);
+
+        assertThat(second, sameInstance(first));
+        assertThat(created.size(), is(1));
+    }
+
+    @Test
+    public void shouldCreateSeparateClientsForDifferentUsers() {
+        final MultipartStorageClientPool pool = pool(10, IDLE_TIMEOUT);
+
+        final MultipartStorageClient first = acquire(pool, USER, STORAGE);
+        final MultipartStorageClient second = acquire(pool, ANOTHER_USER, STORAGE);
+
+        assertThat(second, not(sameInstance(first)));
+    }
+
+    @Test
+    public void shouldCloseLeastRecentlyUsedClientAboveMaxSize() {
+        final MultipartStorageClientPool pool = pool(1, IDLE_TIMEOUT);
+
+        final MultipartStorageClient first = acquire(pool, USER, STORAGE);
+        acquire(pool, USER, ANOTHER_STORAGE);
+
+        Mockito.verify(first).close();
+        assertThat(acquire(pool, USER, STORAGE), not(sameInstance(first)));
+    }
+
+    @Test
+    public void shouldCloseIdleClients() {
+        final MultipartStorageClientPool pool = pool(10, 0);
+
+        final MultipartStorageClient first = acquire(pool, USER, STORAGE);
+        final MultipartStorageClient second = acquire(pool, USER, ANOTHER_STORAGE);
+
+        Mockito.verify(first).close();
+        Mockito.verify(second, Mockito.never()).close();
+    }
+
+    @Test
+    public void shouldNotCloseEvictedClientWhileItIsUsed() {
+        final MultipartStorageClientPool pool = pool(1, IDLE_TIMEOUT);
+
+        pool.execute(USER, apiClient, STORAGE, client -> {
+            acquire(pool, USER, ANOTHER_STORAGE);
+            Mockito.verify(client, Mockito.never()).close();
+        });
+
+        Mockito.verify(created.get(0)).close();
+    }
+
+    @Test
+    public void shouldCloseAllClients() {
+        final MultipartStorageClientPool pool = pool(10, IDLE_TIMEOUT);
+        acquire(pool, USER, STORAGE);
+        acquire(pool, ANOTHER_USER, STORAGE);
+
+        pool.close();
+
+        created.forEach(client -> Mockito.verify(client).close());
+    }
+
+    @Test
+    public void shouldNotBlockPoolWhileClientIsCreated() throws Exception {
+        final CountDownLatch creationStarted = new CountDownLatch(1);
+        final CountDownLatch creationAllowed = new CountDownLatch(1);
+        final AtomicInteger creations = new AtomicInteger();
+        final MultipartStorageClientPool pool = pool(10, IDLE_TIMEOUT, () -> {
+            if (creations.getAndIncrement() == 0) {
+                creationStarted.countDown();
+                await(creationAllowed);
+            }
+        });
+        try {
+            final CompletableFuture<MultipartStorageClient> slow = CompletableFuture.supplyAsync(
+                () -> acquire(pool, USER, STORAGE));
+            await(creationStarted);
+
+            final MultipartStorageClient another = CompletableFuture.supplyAsync(
+                () -> acquire(pool, USER, ANOTHER_STORAGE)).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            creationAllowed.countDown();
+
+            assertThat(slow.get(TIMEOUT_SECONDS, TimeUnit.SECONDS), not(sameInstance(another)));
+        } finally {
+            creationAllowed.countDown();
+        }
+    }
+
+    @Test
+    public void shouldPoolSingleClientIfItIsCreatedConcurrently() throws Exception {
+        final CountDownLatch creationStarted = new CountDownLatch(2);
+        final MultipartStorageClientPool pool = pool(10, IDLE_TIMEOUT, () -> {
+            creationStarted.countDown();
+            await(creationStarted);
+        });
+
+        final CompletableFuture<MultipartStorageClient> first = CompletableFuture.supplyAsync(
+            () -> acquire(pool, USER, STORAGE));
+        final CompletableFuture<MultipartStorageClient> second = CompletableFuture.supplyAsync(
+            () -> acquire(pool, USER, STORAGE));
+
+        final MultipartStorageClient pooled = first.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertThat(second.get(TIMEOUT_SECONDS, TimeUnit.SECONDS), sameInstance(pooled));
+        assertThat(created.size(), is(2));
+        created.stream()
+                .filter(client -> client != pooled)
+                .forEach(client -> Mockito.verify(client).close());
+        Mockito.verify(pooled, Mockito.never()).close();
+    }
+
+    private MultipartStorageClientPool pool(final int maxSize, final long idleTimeout) {
+        return pool(maxSize, idleTimeout, () -> { });
+    }
+
+    private MultipartStorageClientPool pool(final int maxSize, final long idleTimeout,
+                                            final Runnable beforeCreate) {
+        return new MultipartStorageClientPool(credentials -> {
+            beforeCreate.run();
+            final MultipartStorageClient client = Mockito.mock(MultipartStorageClient.class);
+            created.add(client);
+            return client;
+        }, CREDENTIALS_TTL, maxSize, idleTimeout);
+    }
+
+    private MultipartStorageClient acquire(final MultipartStorageClientPool pool,
+                                           final PipelineCredentials credentials,
+                                           final AbstractDataStorage storage) {
+        final List<MultipartStorageClient> acquired = new ArrayList<>();
+        pool.execute(credentials, apiClient, storage, acquired::add);
+        return acquired.get(0);
+    }
+
+    private void await(final CountDownLatch latch) {
+        try {
+            assertThat(latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS), is(true));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
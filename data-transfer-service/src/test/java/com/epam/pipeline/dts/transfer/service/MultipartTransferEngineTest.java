@@ -0,0 +1,275 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.dts.transfer.service;
+
+import com.epam.pipeline.dts.AbstractTest;
+import com.epam.pipeline.dts.transfer.model.multipart.MultipartPart;
+import com.epam.pipeline.dts.transfer.service.impl.MultipartManifestStore;
+import com.epam.pipeline.dts.transfer.service.impl.MultipartTransferEngine;
+import lombok.SneakyThrows;
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MultipartTransferEngineTest extends AbstractTest {
+
+    private static final String BUCKET = "bucket";
+    private static final String KEY = "path/to/file";
+    private static final int PART_SIZE = 10;
+    private static final String CONTENT = "0123456789abcdefghijklmnopqrstuvwxyz0123456789";
+    private static final String OWNER = "USER@EPAM.COM";
+
+    private final Path folder = createTempFolder("dts-multipart-engine-test");
+    private final Path manifests = createTempFolder("dts-multipart-engine-test-manifests");
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final InMemoryStorageClient client = new InMemoryStorageClient();
+    private final MultipartTransferEngine engine = new MultipartTransferEngine(executor,
+            new MultipartManifestStore(manifests), PART_SIZE);
+
+    @AfterEach
+    @SneakyThrows
+    void tearDown() {
+        executor.shutdownNow();
+        FileUtils.deleteDirectory(folder.toFile());
+        FileUtils.deleteDirectory(manifests.toFile());
+    }
+
+    @Test
+    void uploadShouldUploadSmallFilesWhole() {
+        final Path first = file("first", "first");
+        final Path second = file("second", "second");
+
+        engine.upload(client, BUCKET, files(first, "first", second, "second"), OWNER);
+
+        assertThat(client.content("first"), is("first"));
+        assertThat(client.content("second"), is("second"));
+        assertThat(client.initiated.get(), is(0));
+        assertThat(client.tags.get("first"), is(tags(first)));
+    }
+
+    @Test
+    void uploadShouldTagLargeFileWithSourceAndOwner() {
+        final Path source = file("large", CONTENT);
+
+        engine.upload(client, BUCKET, Collections.singletonMap(source, KEY), OWNER);
+
+        assertThat(client.tags.get(KEY), is(tags(source)));
+    }
+
+    @Test
+    void uploadShouldReplaceCharactersNotSupportedInTags() {
+        final Path source = file("file#1", "content");
+
+        engine.upload(client, BUCKET, Collections.singletonMap(source, KEY), OWNER);
+
+        assertThat(client.tags.get(KEY).get(MultipartTransferEngine.SOURCE_TAG),
+                is(source.toAbsolutePath().toString().replace("#", "-")));
+    }
+
+    @Test
+    void uploadShouldUploadLargeFileInPartsWithChecksums() {
+        final Path source = file("large", CONTENT);
+
+        engine.upload(client, BUCKET, Collections.singletonMap(source, KEY), OWNER);
+
+        assertThat(client.content(KEY), is(CONTENT));
+        assertThat(client.uploadedParts.get(), is(5));
+        assertThat(client.checksumsVerified.get(), is(5));
+        assertThat(manifestsCount(), is(0L));
+    }
+
+    @Test
+    void uploadShouldResumeFromLastCompletedPart() {
+        final Path source = file("large", CONTENT);
+        client.failPart = 4;
+
+        assertThrows(RuntimeException.class,
+            () -> engine.upload(client, BUCKET, Collections.singletonMap(source, KEY), OWNER));
+        assertThat(manifestsCount(), is(1L));
+        final int uploadedBeforeFailure = client.uploadedParts.get();
+
+        client.failPart = 0;
+        engine.upload(client, BUCKET, Collections.singletonMap(source, KEY), OWNER);
+
+        assertThat(client.content(KEY), is(CONTENT));
+        assertThat(client.initiated.get(), is(1));
+        assertThat(client.uploadedParts.get(), is(5));
+        assertThat(uploadedBeforeFailure < 5, is(true));
+        assertThat(manifestsCount(), is(0L));
+    }
+
+    @Test
+    void uploadShouldStartFromScratchIfSourceChanged() {
+        final Path source = file("large", CONTENT);
+        client.failPart = 4;
+        assertThrows(RuntimeException.class,
+            () -> engine.upload(client, BUCKET, Collections.singletonMap(source, KEY), OWNER));
+
+        client.failPart = 0;
+        final String changed = CONTENT + CONTENT;
+        write(source, changed);
+        source.toFile().setLastModified(source.toFile().lastModified() + 1000);
+        engine.upload(client, BUCKET, Collections.singletonMap(source, KEY), OWNER);
+
+        assertThat(client.content(KEY), is(changed));
+        assertThat(client.initiated.get(), is(2));
+        assertThat(client.aborted.get(), is(1));
+    }
+
+    @Test
+    void uploadShouldStartFromScratchIfPreviousUploadExpired() {
+        final Path source = file("large", CONTENT);
+        client.failPart = 4;
+        assertThrows(RuntimeException.class,
+            () -> engine.upload(client, BUCKET, Collections.singletonMap(source, KEY), OWNER));
+
+        client.failPart = 0;
+        client.uploads.clear();
+        engine.upload(client, BUCKET, Collections.singletonMap(source, KEY), OWNER);
+
+        assertThat(client.content(KEY), is(CONTENT));
+        assertThat(client.initiated.get(), is(2));
+    }
+
+    private Map<Path, String> files(final Path first, final String firstKey,
+                                    final Path second, final String secondKey) {
+        final Map<Path, String> files = new HashMap<>();
+        files.put(first, firstKey);
+        files.put(second, secondKey);
+        return files;
+    }
+
+    private Map<String, String> tags(final Path source) {
+        final Map<String, String> tags = new HashMap<>();
+        tags.put(MultipartTransferEngine.SOURCE_TAG, source.toAbsolutePath().toString());
+        tags.put(MultipartTransferEngine.OWNER_TAG, OWNER);
+        return tags;
+    }
+
+    private Path file(final String name, final String content) {
+        final Path path = folder.resolve(name);
+        write(path, content);
+        return path;
+    }
+
+    @SneakyThrows
+    private void write(final Path path, final String content) {
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @SneakyThrows
+    private long manifestsCount() {
+        return Files.list(manifests).count();
+    }
+
+    private static final class InMemoryStorageClient implements MultipartStorageClient {
+
+        private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+        private final Map<String, Map<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+        private final Map<String, Map<String, String>> tags = new ConcurrentHashMap<>();
+        private final AtomicInteger initiated = new AtomicInteger();
+        private final AtomicInteger aborted = new AtomicInteger();
+        private final AtomicInteger uploadedParts = new AtomicInteger();
+        private final AtomicInteger checksumsVerified = new AtomicInteger();
+        private volatile int failPart;
+
+        String content(final String key) {
+            return new String(objects.get(key), StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public void upload(final String bucket, final String key, final byte[] data, final String md5,
+                           final Map<String, String> tags) {
+            verify(data, md5);
+            objects.put(key, data);
+            this.tags.put(key, tags);
+        }
+
+        @Override
+        public String initiate(final String bucket, final String key, final Map<String, String> tags) {
+            final String uploadId = String.valueOf(initiated.incrementAndGet());
+            uploads.put(uploadId, new ConcurrentHashMap<>());
+            return uploadId;
+        }
+
+        @Override
+        public MultipartPart uploadPart(final String bucket, final String key, final String uploadId,
+                                        final int number, final byte[] data, final String md5) {
+            if (number == failPart) {
+                throw new IllegalStateException("Part upload failed");
+            }
+            verify(data, md5);
+            uploads.get(uploadId).put(number, data);
+            uploadedParts.incrementAndGet();
+            return new MultipartPart(number, "etag" + number, md5);
+        }
+
+        @Override
+        public Optional<Set<Integer>> listParts(final String bucket, final String key, final String uploadId) {
+            return Optional.ofNullable(uploads.get(uploadId)).map(Map::keySet);
+        }
+
+        @Override
+        @SneakyThrows
+        public void complete(final String bucket, final String key, final String uploadId,
+                             final List<MultipartPart> parts, final Map<String, String> tags) {
+            final ByteArrayOutputStream content = new ByteArrayOutputStream();
+            final List<MultipartPart> sorted = new ArrayList<>(parts);
+            sorted.sort((first, second) -> Integer.compare(first.getNumber(), second.getNumber()));
+            for (final MultipartPart part : sorted) {
+                content.write(uploads.get(uploadId).get(part.getNumber()));
+            }
+            objects.put(key, content.toByteArray());
+            this.tags.put(key, tags);
+            uploads.remove(uploadId);
+        }
+
+        @Override
+        public void abort(final String bucket, final String key, final String uploadId) {
+            aborted.incrementAndGet();
+            uploads.remove(uploadId);
+        }
+
+        @SneakyThrows
+        private void verify(final byte[] data, final String md5) {
+            assertThat(Base64.getEncoder().encodeToString(MessageDigest.getInstance("MD5").digest(data)), is(md5));
+            checksumsVerified.incrementAndGet();
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2019 EPAM Systems, Inc. (https://www.epam.com/)
+ * Copyright 2017-2026 EPAM Systems, Inc. (https://www.epam.com/)
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -30,6 +30,7 @@ import org.springframework.stereotype.Service;
 import java.io.File;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -44,6 +45,26 @@ public class DependencyCheckService {
     @Value("${base.working.dir.search.path:/**/}")
     private String baseSearchPath;
 
+    @Value("${layer.extract.max.size:4294967296}")
+    private long maxLayerSize;
+
+    @Value("${layer.extract.max.entry.size:536870912}")
+    private long maxEntrySize;
+
+    /**
+     * Returns version of scan results. Results produced by different dependency-check versions,
+     * with different analyzers settings or layer extraction limits are not compatible with each other.
+     */
+    public String getScanVersion() {
+        final String engineVersion = Optional.ofNullable(Engine.class.getPackage().getImplementationVersion())
+                .orElse("unknown");
+        final String settings = enabledAnalysers.stream()
+                .map(String::trim)
+                .sorted()
+                .collect(Collectors.joining(",", "", ";" + baseSearchPath + ";" + maxLayerSize + ";" + maxEntrySize));
+        return engineVersion + "-" + Integer.toHexString(settings.hashCode());
+    }
+
     public List<Dependency> runScan(File outputFolder) {
         LOGGER.debug("Start scanning: " + outputFolder.getName());
         Settings settings = populateSettings();
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 EPAM Systems, Inc. (https://www.epam.com/)
+ * Copyright 2017-2026 EPAM Systems, Inc. (https://www.epam.com/)
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -31,41 +31,70 @@ import org.owasp.dependencycheck.analyzer.RubyBundleAuditAnalyzer;
 import org.owasp.dependencycheck.analyzer.RubyGemspecAnalyzer;
 import org.owasp.dependencycheck.analyzer.SwiftPackageManagerAnalyzer;
 
+/**
+ * Dependency-check analyzers which can be enabled for scanning.
+ * Each analyzer declares ant-style patterns of layer paths it analyzes, other layer files are not extracted.
+ */
 public enum AnalyzeEnabler {
 
-    ANALYZER_JAR("analyzer.jar.enabled", JarAnalyzer.DEPENDENCY_ECOSYSTEM),
-    ANALYZER_ARCHIVE("analyzer.archive.enabled", AnalyzerConstants.SYSTEM),
-    ANALYZER_NODE_PACKAGE("analyzer.node.package.enabled", NodePackageAnalyzer.DEPENDENCY_ECOSYSTEM),
+    ANALYZER_JAR("analyzer.jar.enabled", JarAnalyzer.DEPENDENCY_ECOSYSTEM,
+            "/**/*.jar", "/**/*.war", "/**/*.ear", "/**/*.aar"),
+    ANALYZER_ARCHIVE("analyzer.archive.enabled", AnalyzerConstants.SYSTEM,
+            "/**/*.zip", "/**/*.jar", "/**/*.war", "/**/*.ear", "/**/*.sar", "/**/*.apk", "/**/*.nupkg",
+            "/**/*.tar", "/**/*.gz", "/**/*.tgz", "/**/*.bz2", "/**/*.tbz2"),
+    ANALYZER_NODE_PACKAGE("analyzer.node.package.enabled", NodePackageAnalyzer.DEPENDENCY_ECOSYSTEM,
+            "/**/package.json", "/**/package-lock.json", "/**/npm-shrinkwrap.json"),
     ANALYZER_PYTHON_DISTRIBUTION("analyzer.python.distribution.enabled",
-            PythonDistributionAnalyzer.DEPENDENCY_ECOSYSTEM),
-    ANALYZER_PYTHON_PACKAGE("analyzer.python.package.enabled", PythonPackageAnalyzer.DEPENDENCY_ECOSYSTEM),
-    ANALYZER_AUTOCONF("analyzer.autoconf.enabled", AnalyzerConstants.SYSTEM),
-    ANALYZER_CMAKE("analyzer.cmake.enabled", CMakeAnalyzer.DEPENDENCY_ECOSYSTEM),
-    ANALYZER_NUSPEC("analyzer.nuspec.enabled", NuspecAnalyzer.DEPENDENCY_ECOSYSTEM),
-    ANALYZER_NUGETCONF("analyzer.nugetconf.enabled", NugetconfAnalyzer.DEPENDENCY_ECOSYSTEM),
-    ANALYZER_ASSEMBLY("analyzer.assembly.enabled", AnalyzerConstants.SYSTEM),
-    ANALYZER_BUNDLE_AUDIT("analyzer.bundle.audit.enabled", RubyBundleAuditAnalyzer.DEPENDENCY_ECOSYSTEM),
-    ANALYZER_OPENSSL("analyzer.openssl.enabled", AnalyzerConstants.SYSTEM),
-    ANALYZER_COMPOSER_LOCK("analyzer.composer.lock.enabled", ComposerLockAnalyzer.DEPENDENCY_ECOSYSTEM),
-    ANALYZER_NSP_PACKAGE("analyzer.nsp.package.enabled", NspAnalyzer.DEPENDENCY_ECOSYSTEM),
-    ANALYZER_RETIREJS("analyzer.retirejs.filters", RetireJsAnalyzer.DEPENDENCY_ECOSYSTEM),
+            PythonDistributionAnalyzer.DEPENDENCY_ECOSYSTEM,
+            "/**/METADATA", "/**/PKG-INFO", "/**/*.whl", "/**/*.egg", "/**/*.zip"),
+    ANALYZER_PYTHON_PACKAGE("analyzer.python.package.enabled", PythonPackageAnalyzer.DEPENDENCY_ECOSYSTEM,
+            "/**/*.py"),
+    ANALYZER_AUTOCONF("analyzer.autoconf.enabled", AnalyzerConstants.SYSTEM,
+            "/**/configure", "/**/configure.in", "/**/configure.ac", "/**/*.ac"),
+    ANALYZER_CMAKE("analyzer.cmake.enabled", CMakeAnalyzer.DEPENDENCY_ECOSYSTEM,
+            "/**/CMakeLists.txt", "/**/*.cmake"),
+    ANALYZER_NUSPEC("analyzer.nuspec.enabled", NuspecAnalyzer.DEPENDENCY_ECOSYSTEM, "/**/*.nuspec"),
+    ANALYZER_NUGETCONF("analyzer.nugetconf.enabled", NugetconfAnalyzer.DEPENDENCY_ECOSYSTEM,
+            "/**/packages.config"),
+    ANALYZER_ASSEMBLY("analyzer.assembly.enabled", AnalyzerConstants.SYSTEM, "/**/*.dll", "/**/*.exe"),
+    ANALYZER_BUNDLE_AUDIT("analyzer.bundle.audit.enabled", RubyBundleAuditAnalyzer.DEPENDENCY_ECOSYSTEM,
+            "/**/Gemfile.lock"),
+    ANALYZER_OPENSSL("analyzer.openssl.enabled", AnalyzerConstants.SYSTEM, "/**/opensslv.h"),
+    ANALYZER_COMPOSER_LOCK("analyzer.composer.lock.enabled", ComposerLockAnalyzer.DEPENDENCY_ECOSYSTEM,
+            "/**/composer.lock"),
+    ANALYZER_NSP_PACKAGE("analyzer.nsp.package.enabled", NspAnalyzer.DEPENDENCY_ECOSYSTEM,
+            "/**/package.json", "/**/package-lock.json", "/**/npm-shrinkwrap.json"),
+    ANALYZER_RETIREJS("analyzer.retirejs.filters", RetireJsAnalyzer.DEPENDENCY_ECOSYSTEM, "/**/*.js"),
     ANALYZER_SWIFT_PACKAGE_MANAGER("analyzer.swift.package.manager.enabled",
-            SwiftPackageManagerAnalyzer.DEPENDENCY_ECOSYSTEM),
-    ANALYZER_COCOAPODS("analyzer.cocoapods.enabled", CocoaPodsAnalyzer.DEPENDENCY_ECOSYSTEM),
-    ANALYZER_RUBY_GEMSPEC("analyzer.ruby.gemspec.enabled", RubyGemspecAnalyzer.DEPENDENCY_ECOSYSTEM),
+            SwiftPackageManagerAnalyzer.DEPENDENCY_ECOSYSTEM, "/**/Package.swift"),
+    ANALYZER_COCOAPODS("analyzer.cocoapods.enabled", CocoaPodsAnalyzer.DEPENDENCY_ECOSYSTEM, "/**/*.podspec"),
+    ANALYZER_RUBY_GEMSPEC("analyzer.ruby.gemspec.enabled", RubyGemspecAnalyzer.DEPENDENCY_ECOSYSTEM,
+            "/**/*.gemspec", "/**/Rakefile", "/**/VERSION"),
     ANALYZER_CENTRAL("analyzer.central.enabled", AnalyzerConstants.SYSTEM),
     ANALYZER_NEXUS("analyzer.nexus.enabled", AnalyzerConstants.SYSTEM),
-    ANALYZER_R_PACKAGE("analyzer.r.package.enabled", "R.Pkg"),
-    ANALYZER_OS_PACKAGE("analyzer.os.enabled", "OS"),
-    ANALYZER_NVIDIA_PACKAGE("analyzer.nvidia.version.enabled", "Nvidia");
+    ANALYZER_R_PACKAGE("analyzer.r.package.enabled", "R.Pkg", "/**/DESCRIPTION"),
+    ANALYZER_OS_PACKAGE("analyzer.os.enabled", "OS",
+            "/**/" + OSVersionAnalyzer.OS_RELEASE, "/**/" + OSVersionAnalyzer.OS_RELEASE_USR_LIB,
+            "/**/" + OSVersionAnalyzer.REDHAT_RELEASE, "/**/" + OSVersionAnalyzer.SYSTEM_RELEASE,
+            "/**/" + OSVersionAnalyzer.CENTOS_RELEASE),
+    ANALYZER_NVIDIA_PACKAGE("analyzer.nvidia.version.enabled", "Nvidia", false,
+            NvidiaCudaAnalyzer.NVIDIA_VERSION_PATH);
 
 
     private final String value;
     private final String ecosystem;
+    private final boolean contentRequired;
+    private final String[] paths;
+
+    AnalyzeEnabler(String value, String ecosystem, String... paths) {
+        this(value, ecosystem, true, paths);
+    }
 
-    AnalyzeEnabler(String value, String ecosystem) {
+    AnalyzeEnabler(String value, String ecosystem, boolean contentRequired, String... paths) {
         this.value = value;
         this.ecosystem = ecosystem;
+        this.contentRequired = contentRequired;
+        this.paths = paths;
     }
 
     public String getEcosystem() {
@@ -75,4 +104,18 @@ public enum AnalyzeEnabler {
     public String getValue() {
         return value;
     }
+
+    /**
+     * @return true if analyzer reads files content, otherwise only presence of files is analyzed
+     */
+    public boolean isContentRequired() {
+        return contentRequired;
+    }
+
+    /**
+     * @return ant-style patterns of layer paths, which are analyzed by the analyzer
+     */
+    public String[] getPaths() {
+        return paths.clone();
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2023 EPAM Systems, Inc. (https://www.epam.com/)
+ * Copyright 2023-2026 EPAM Systems, Inc. (https://www.epam.com/)
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -36,7 +36,7 @@ public class NvidiaCudaAnalyzer extends AbstractFileTypeAnalyzer {
     public static final String NVIDIA_VERSION_ANALYZER_ENABLED = AnalyzeEnabler.ANALYZER_NVIDIA_PACKAGE.getValue();
     static final String DEPENDENCY_NAME = "NvidiaCuda";
     private static final String NVIDIA_VERSION_ANALYZER_NAME = "Nvidia Cuda Analyzer";
-    private static final String NVIDIA_VERSION_PATH = "/**/usr/local/cuda-*/targets/x86_64-linux/lib/libcuda*.so.*";
+    static final String NVIDIA_VERSION_PATH = "/**/usr/local/cuda-*/targets/x86_64-linux/lib/libcuda*.so.*";
     private static final String EVIDENCE_SOURCE = "cuda";
     private static final String EVIDENCE_VALUE = "found";
     private static final FilePathGlobFilter NAME_FILE_FILTER = new FilePathGlobFilter(NVIDIA_VERSION_PATH);
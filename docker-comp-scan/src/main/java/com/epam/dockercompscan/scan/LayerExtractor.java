@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.dockercompscan.scan;
+
+import com.epam.dockercompscan.owasp.analyzer.AnalyzeEnabler;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import javax.annotation.PostConstruct;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Extracts files which are analyzed by the enabled analyzers from a layer tar stream.
+ *
+ * The stream is read once, all other entries are skipped without being written to disk.
+ * Files which are analyzed only by presence are extracted as empty files. Entries larger than
+ * {@code layer.extract.max.entry.size} are skipped, the layer extraction fails if the extracted files
+ * exceed {@code layer.extract.max.size} in total.
+ */
+@Component
+public class LayerExtractor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LayerExtractor.class);
+    private static final String SEPARATOR = "/";
+    private static final String CURRENT_DIR = "./";
+
+    private final AntPathMatcher matcher = new AntPathMatcher();
+
+    @Value("#{'${enable.analyzers}'.split(',')}")
+    private List<String> enabledAnalysers;
+
+    @Value("${layer.extract.max.size:4294967296}")
+    private long maxLayerSize;
+
+    @Value("${layer.extract.max.entry.size:536870912}")
+    private long maxEntrySize;
+
+    private List<String> contentPaths;
+    private List<String> presencePaths;
+
+    @PostConstruct
+    public void init() {
+        final List<AnalyzeEnabler> analyzers = enabledAnalysers.stream()
+                .map(String::trim)
+                .map(AnalyzeEnabler::valueOf)
+                .collect(Collectors.toList());
+        contentPaths = collectPaths(analyzers, true);
+        presencePaths = collectPaths(analyzers, false);
+    }
+
+    /**
+     * Extracts analyzed files from a layer
+     * @param layer uncompressed layer tar stream
+     * @param layerFolder folder to extract files to
+     * @return number of extracted files
+     */
+    public int extract(final InputStream layer, final File layerFolder) throws IOException {
+        final Path root = layerFolder.toPath().toAbsolutePath().normalize();
+        long extractedSize = 0;
+        int extracted = 0;
+        int skipped = 0;
+        try (TarArchiveInputStream tarStream = new TarArchiveInputStream(layer)) {
+            TarArchiveEntry entry;
+            while ((entry = tarStream.getNextTarEntry()) != null) {
+                if (!entry.isFile()) {
+                    continue;
+                }
+                final String entryPath = normalize(entry.getName());
+                final boolean contentRequired = matches(contentPaths, entryPath);
+                if (!contentRequired && !matches(presencePaths, entryPath)) {
+                    skipped++;
+                    continue;
+                }
+                final Path target = root.resolve(entryPath.substring(1)).normalize();
+                if (!target.startsWith(root)) {
+                    LOGGER.warn("Layer entry " + entry.getName() + " points outside of the layer and is skipped.");
+                    continue;
+                }
+                if (contentRequired && entry.getSize() > maxEntrySize) {
+                    LOGGER.warn("Layer entry " + entryPath + " of size " + entry.getSize()
+                            + " exceeds max entry size and is skipped.");
+                    skipped++;
+                    continue;
+                }
+                Files.createDirectories(target.getParent());
+                if (contentRequired) {
+                    extractedSize += entry.getSize();
+                    if (extractedSize > maxLayerSize) {
+                        throw new IOException("Analyzed files of the layer exceed " + maxLayerSize + " bytes.");
+                    }
+                    Files.copy(tarStream, target, StandardCopyOption.REPLACE_EXISTING);
+                } else {
+                    Files.deleteIfExists(target);
+                    Files.createFile(target);
+                }
+                extracted++;
+            }
+        }
+        LOGGER.debug("Extracted " + extracted + " file(s) into " + layerFolder.getAbsolutePath()
+                + ", " + skipped + " file(s) were skipped.");
+        return extracted;
+    }
+
+    private boolean matches(final List<String> patterns, final String path) {
+        for (String pattern : patterns) {
+            if (matcher.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String normalize(final String name) {
+        String path = name;
+        while (path.startsWith(CURRENT_DIR)) {
+            path = path.substring(CURRENT_DIR.length());
+        }
+        return path.startsWith(SEPARATOR) ? path : SEPARATOR + path;
+    }
+
+    private List<String> collectPaths(final List<AnalyzeEnabler> analyzers, final boolean contentRequired) {
+        final List<String> paths = new ArrayList<>();
+        analyzers.stream()
+                .filter(analyzer -> analyzer.isContentRequired() == contentRequired)
+                .forEach(analyzer -> {
+                    for (String path : analyzer.getPaths()) {
+                        if (!paths.contains(path)) {
+                            paths.add(path);
+                        }
+                    }
+                });
+        return paths;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2019 EPAM Systems, Inc. (https://www.epam.com/)
+ * Copyright 2017-2026 EPAM Systems, Inc. (https://www.epam.com/)
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,10 +24,8 @@ import com.epam.dockercompscan.scan.domain.LayerScanResult;
 import com.epam.dockercompscan.scan.domain.ScanRequest;
 import com.epam.dockercompscan.util.LayerKey;
 import com.epam.dockercompscan.util.LayerScanCache;
-import org.apache.commons.compress.archivers.ArchiveEntry;
-import org.apache.commons.compress.archivers.ArchiveInputStream;
-import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
-import org.apache.commons.compress.utils.IOUtils;
+import com.epam.dockercompscan.util.LayerScanStatistics;
+import com.epam.dockercompscan.util.LayerScanStore;
 import org.apache.commons.io.FileUtils;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.slf4j.Logger;
@@ -40,23 +38,27 @@ import org.springframework.web.client.HttpServerErrorException;
 
 import javax.annotation.PostConstruct;
 import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.OutputStream;
 import java.net.URLDecoder;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
 import java.util.zip.GZIPInputStream;
 
 @Service
 public class ScanService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ScanService.class);
+    private static final String BLOBS_PATH = "/blobs/";
 
     @Autowired
     private DependencyCheckService checkService;
@@ -73,6 +75,18 @@ public class ScanService {
     @Autowired
     private LayerScanCache layerScanCache;
 
+    @Autowired
+    private LayerScanStore layerScanStore;
+
+    @Autowired
+    private LayerExtractor layerExtractor;
+
+    @Autowired
+    private LayerScanStatistics layerScanStatistics;
+
+    private final ConcurrentMap<String, CompletableFuture<List<Dependency>>> inProgressScans =
+            new ConcurrentHashMap<>();
+
     private Semaphore scanSlots;
 
     @PostConstruct
@@ -119,13 +133,10 @@ public class ScanService {
             result = new LayerScanResult(toScan.getName(), LayerScanResult.Status.RUNNING, toScan.getParentName());
             layerScanCache.put(cacheKey, result);
 
-            File outputFolder = new File(baseWorkingDir, toScan.getName());
             try {
-                scanSlots.acquire();
-                Files.createDirectories(Paths.get(outputFolder.getPath()));
-                fetchLayer(toScan, outputFolder);
-                List<Dependency> dependencies = checkService.runScan(outputFolder);
-                dependencies.forEach(d -> d.setLayerId(toScan.getName()));
+                List<Dependency> dependencies = loadDependencies(toScan).stream()
+                        .map(d -> d.copy(toScan.getName()))
+                        .collect(Collectors.toList());
                 result.setDependencies(dependencies);
                 result.setStatus(LayerScanResult.Status.SUCCESSFUL);
             } catch (IOException e) {
@@ -137,34 +148,88 @@ public class ScanService {
                 LOGGER.error(e.getMessage(), e);
                 result.setStatus(LayerScanResult.Status.FAILURE);
                 throw new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
-            } finally {
-                FileUtils.deleteQuietly(outputFolder);
-                scanSlots.release();
             }
         }
         return result;
     }
 
-    private void fetchLayer(ScanRequest.Layer layerToScan, File layerFolder) throws IOException {
+    /**
+     * Loads dependencies of a layer from {@link LayerScanStore} or scans the layer if it wasn't scanned before.
+     * Concurrent requests for the same layer content share a single scan.
+     */
+    private List<Dependency> loadDependencies(final ScanRequest.Layer toScan)
+            throws IOException, InterruptedException {
+        final String digest = getLayerDigest(toScan);
+        final CompletableFuture<List<Dependency>> scan = new CompletableFuture<>();
+        final CompletableFuture<List<Dependency>> inProgress = inProgressScans.putIfAbsent(digest, scan);
+        if (inProgress != null) {
+            LOGGER.debug("Layer: " + digest + " is already being scanned, waiting for the result.");
+            layerScanStatistics.deduplicated();
+            return await(inProgress);
+        }
+        try {
+            final Optional<List<Dependency>> stored = layerScanStore.load(digest);
+            final List<Dependency> dependencies;
+            if (stored.isPresent()) {
+                LOGGER.debug("Scan result of layer: " + digest + " is loaded from the store.");
+                layerScanStatistics.hit();
+                dependencies = stored.get();
+            } else {
+                layerScanStatistics.miss();
+                dependencies = scanLayer(toScan);
+                layerScanStore.save(digest, dependencies);
+            }
+            scan.complete(dependencies);
+            return dependencies;
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            scan.completeExceptionally(e);
+            throw e;
+        } finally {
+            inProgressScans.remove(digest, scan);
+        }
+    }
 
-        GZIPInputStream gzipInputStream = new GZIPInputStream(
-                new BufferedInputStream(dockerRegistryService.getDockerLayerBlob(layerToScan)));
-
-        LOGGER.debug("Unpack layer: " + layerToScan.getName() + " into: " + layerFolder.getAbsolutePath());
-        try (ArchiveInputStream tarStream = new TarArchiveInputStream(gzipInputStream)) {
-            ArchiveEntry entry;
-            while ((entry = tarStream.getNextEntry()) != null) {
-                String entryName = entry.getName();
-                final File entryFile = new File(layerFolder, entryName);
-                if (entry.isDirectory()) {
-                    Files.createDirectories(entryFile.toPath());
-                } else {
-                    try (OutputStream out = new BufferedOutputStream(new FileOutputStream(entryFile))) {
-                        IOUtils.copy(tarStream, out);
-                    }
-                }
+    private List<Dependency> scanLayer(final ScanRequest.Layer toScan) throws IOException, InterruptedException {
+        scanSlots.acquire();
+        File outputFolder = new File(baseWorkingDir, toScan.getName());
+        try {
+            Files.createDirectories(Paths.get(outputFolder.getPath()));
+            fetchLayer(toScan, outputFolder);
+            return checkService.runScan(outputFolder);
+        } finally {
+            FileUtils.deleteQuietly(outputFolder);
+            scanSlots.release();
+        }
+    }
+
+    private List<Dependency> await(final CompletableFuture<List<Dependency>> scan)
+            throws IOException, InterruptedException {
+        try {
+            return scan.get();
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
             }
-            LOGGER.debug("Successfully unpack layer: " + layerToScan.getName());
+            throw new IOException("Concurrent scan of the layer has failed: " + cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Layer content digest is the last part of a layer blob path, layer name is used if path has other format.
+     */
+    private String getLayerDigest(final ScanRequest.Layer layer) {
+        final String path = layer.getPath();
+        final int blobsIndex = path == null ? -1 : path.lastIndexOf(BLOBS_PATH);
+        return blobsIndex < 0 ? layer.getName() : path.substring(blobsIndex + BLOBS_PATH.length());
+    }
+
+    private void fetchLayer(ScanRequest.Layer layerToScan, File layerFolder) throws IOException {
+        LOGGER.debug("Extract layer: " + layerToScan.getName() + " into: " + layerFolder.getAbsolutePath());
+        try (GZIPInputStream gzipInputStream = new GZIPInputStream(
+                new BufferedInputStream(dockerRegistryService.getDockerLayerBlob(layerToScan)))) {
+            layerExtractor.extract(gzipInputStream, layerFolder);
+            LOGGER.debug("Successfully extract layer: " + layerToScan.getName());
         }
     }
 }
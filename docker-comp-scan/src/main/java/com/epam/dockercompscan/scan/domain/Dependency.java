@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2019 EPAM Systems, Inc. (https://www.epam.com/)
+ * Copyright 2017-2026 EPAM Systems, Inc. (https://www.epam.com/)
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -38,4 +38,14 @@ public class Dependency {
         return converted;
     }
 
+    public Dependency copy(final String layerId) {
+        Dependency copy = new Dependency();
+        copy.setLayerId(layerId);
+        copy.setName(name);
+        copy.setVersion(version);
+        copy.setEcosystem(ecosystem);
+        copy.setDescription(description);
+        return copy;
+    }
+
 }
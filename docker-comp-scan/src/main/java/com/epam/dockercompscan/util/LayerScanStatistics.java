@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.dockercompscan.util;
+
+import org.springframework.boot.actuate.endpoint.PublicMetrics;
+import org.springframework.boot.actuate.metrics.Metric;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts layer scan results reuse, the counters are exposed via actuator metrics endpoint.
+ */
+@Component
+public class LayerScanStatistics implements PublicMetrics {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder deduplicated = new LongAdder();
+
+    /**
+     * Layer scan result was found in {@link LayerScanStore}.
+     */
+    public void hit() {
+        hits.increment();
+    }
+
+    /**
+     * Layer was actually scanned.
+     */
+    public void miss() {
+        misses.increment();
+    }
+
+    /**
+     * Layer scan result was shared with a concurrent scan of the same layer.
+     */
+    public void deduplicated() {
+        deduplicated.increment();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getDeduplicated() {
+        return deduplicated.sum();
+    }
+
+    @Override
+    public Collection<Metric<?>> metrics() {
+        return Arrays.<Metric<?>>asList(
+                new Metric<>("layer.scan.cache.hits", getHits()),
+                new Metric<>("layer.scan.cache.misses", getMisses()),
+                new Metric<>("layer.scan.cache.deduplicated", getDeduplicated()));
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.dockercompscan.util;
+
+import com.epam.dockercompscan.config.JsonMapper;
+import com.epam.dockercompscan.owasp.DependencyCheckService;
+import com.epam.dockercompscan.scan.domain.Dependency;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Persistent store of layer scan results. Results are stored as json files keyed by layer content digest,
+ * so the same layer is not scanned again after restart or as a part of another image.
+ *
+ * Results are placed into a separate directory for each version of scan settings,
+ * results of the previous versions are removed on startup. Version directories are marked with
+ * a .layer-scan-store file, other content of the store directory is never removed.
+ * If no store directory is configured, results are not stored.
+ */
+@Component
+public class LayerScanStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LayerScanStore.class);
+    private static final String EXTENSION = ".json";
+    private static final String TMP_EXTENSION = ".tmp";
+    private static final String MARKER = ".layer-scan-store";
+    private static final TypeReference<List<Dependency>> DEPENDENCIES_TYPE =
+            new TypeReference<List<Dependency>>() {};
+
+    @Value("${layer.scan.store.dir:}")
+    private String storeDir;
+
+    @Value("${layer.scan.store.version:}")
+    private String storeVersion;
+
+    @Autowired
+    private DependencyCheckService checkService;
+
+    private final ObjectMapper mapper = new JsonMapper();
+
+    private Path versionDir;
+
+    @PostConstruct
+    public void init() throws IOException {
+        if (StringUtils.isBlank(storeDir)) {
+            LOGGER.info("Layer scan results store is disabled.");
+            return;
+        }
+        final String version = StringUtils.isBlank(storeVersion)
+                ? checkService.getScanVersion()
+                : checkService.getScanVersion() + "-" + storeVersion;
+        final Path root = Paths.get(storeDir);
+        versionDir = root.resolve(version);
+        Files.createDirectories(versionDir);
+        if (!Files.exists(versionDir.resolve(MARKER))) {
+            Files.createFile(versionDir.resolve(MARKER));
+        }
+        removeObsoleteVersions(root);
+        LOGGER.info("Layer scan results are stored in {}", versionDir);
+    }
+
+    public boolean isEnabled() {
+        return versionDir != null;
+    }
+
+    /**
+     * Loads stored scan result of a layer
+     * @param digest layer content digest
+     * @return dependencies found in the layer, if the layer was scanned before
+     */
+    public Optional<List<Dependency>> load(final String digest) {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+        final Path file = getFile(digest);
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(mapper.readValue(file.toFile(), DEPENDENCIES_TYPE));
+        } catch (IOException e) {
+            LOGGER.warn("Failed to read stored scan result of layer " + digest + ", it will be scanned again.", e);
+            FileUtils.deleteQuietly(file.toFile());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores scan result of a layer. The result file is replaced atomically,
+     * so concurrent readers never see a partially written result.
+     * @param digest layer content digest
+     * @param dependencies dependencies found in the layer
+     */
+    public void save(final String digest, final List<Dependency> dependencies) {
+        if (!isEnabled()) {
+            return;
+        }
+        final Path file = getFile(digest);
+        Path tmp = null;
+        try {
+            tmp = Files.createTempFile(versionDir, file.getFileName().toString(), TMP_EXTENSION);
+            mapper.writeValue(tmp.toFile(), dependencies);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to store scan result of layer " + digest, e);
+            if (tmp != null) {
+                FileUtils.deleteQuietly(tmp.toFile());
+            }
+        }
+    }
+
+    private Path getFile(final String digest) {
+        return versionDir.resolve(digest.replaceAll("[^a-zA-Z0-9.-]", "_") + EXTENSION);
+    }
+
+    private void removeObsoleteVersions(final Path root) throws IOException {
+        try (DirectoryStream<Path> versions = Files.newDirectoryStream(root, Files::isDirectory)) {
+            for (Path version : versions) {
+                if (!version.equals(versionDir) && Files.exists(version.resolve(MARKER))) {
+                    LOGGER.info("Removing obsolete layer scan results {}", version);
+                    FileUtils.deleteQuietly(version.toFile());
+                }
+            }
+        }
+    }
+}
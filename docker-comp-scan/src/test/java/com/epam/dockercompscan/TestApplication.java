@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2019 EPAM Systems, Inc. (https://www.epam.com/)
+ * Copyright 2017-2026 EPAM Systems, Inc. (https://www.epam.com/)
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,8 @@
 package com.epam.dockercompscan;
 
 import com.epam.dockercompscan.util.LayerScanCache;
+import com.epam.dockercompscan.util.LayerScanStatistics;
+import com.epam.dockercompscan.util.LayerScanStore;
 import okhttp3.OkHttpClient;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
@@ -52,5 +54,15 @@ public class TestApplication {
         return new LayerScanCache(expireCacheTime, numberOfCachedScans);
     }
 
+    @Bean
+    public LayerScanStore layerScanStore() {
+        return new LayerScanStore();
+    }
+
+    @Bean
+    public LayerScanStatistics layerScanStatistics() {
+        return new LayerScanStatistics();
+    }
+
 }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2019 EPAM Systems, Inc. (https://www.epam.com/)
+ * Copyright 2017-2026 EPAM Systems, Inc. (https://www.epam.com/)
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,13 +23,18 @@ import org.junit.Assert;
 import org.junit.Test;
 import org.owasp.dependencycheck.exception.ExceptionCollection;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.File;
 import java.net.URISyntaxException;
+import java.util.Arrays;
 import java.util.List;
 
 public class DependencyCheckServiceTest extends AbstractSpringTest {
 
+    private static final long MAX_LAYER_SIZE = 4096L;
+    private static final long MAX_ENTRY_SIZE = 1024L;
+
     private ClassLoader classLoader = DependencyCheckServiceTest.class.getClassLoader();
 
     @Autowired
@@ -44,4 +49,23 @@ public class DependencyCheckServiceTest extends AbstractSpringTest {
         Assert.assertEquals(RPackageAnalyzer.DEPENDENCY_ECOSYSTEM, dependencies.get(0).getEcosystem());
         Assert.assertEquals("PositiveTest", dependencies.get(0).getName());
     }
+
+    @Test
+    public void scanVersionShouldDependOnLayerExtractionLimits() {
+        final DependencyCheckService service = new DependencyCheckService();
+        ReflectionTestUtils.setField(service, "enabledAnalysers",
+                Arrays.asList("ANALYZER_PYTHON_DISTRIBUTION", "ANALYZER_R_PACKAGE"));
+        ReflectionTestUtils.setField(service, "baseSearchPath", "/**/");
+        ReflectionTestUtils.setField(service, "maxLayerSize", MAX_LAYER_SIZE);
+        ReflectionTestUtils.setField(service, "maxEntrySize", MAX_ENTRY_SIZE);
+        final String version = service.getScanVersion();
+
+        ReflectionTestUtils.setField(service, "maxEntrySize", MAX_ENTRY_SIZE * 2);
+        final String entrySizeVersion = service.getScanVersion();
+        ReflectionTestUtils.setField(service, "maxLayerSize", MAX_LAYER_SIZE * 2);
+        final String layerSizeVersion = service.getScanVersion();
+
+        Assert.assertNotEquals(version, entrySizeVersion);
+        Assert.assertNotEquals(entrySizeVersion, layerSizeVersion);
+    }
 }
\ No newline at end of file
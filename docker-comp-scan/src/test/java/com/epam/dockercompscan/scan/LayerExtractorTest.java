@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.dockercompscan.scan;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+public class LayerExtractorTest {
+
+    private static final String DESCRIPTION = "usr/lib/R/library/base/DESCRIPTION";
+    private static final String METADATA = "./usr/lib/python3/site-packages/six-1.0.dist-info/METADATA";
+    private static final String OS_RELEASE = "usr/lib/os-release";
+    private static final String LIBCUDA = "usr/local/cuda-10.0/targets/x86_64-linux/lib/libcuda.so.1";
+    private static final String BINARY = "usr/bin/python3";
+    private static final String CONTENT = "Package: base";
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldExtractOnlyAnalyzedFiles() throws IOException {
+        final LayerExtractor extractor = createExtractor(Long.MAX_VALUE,
+                "ANALYZER_R_PACKAGE", "ANALYZER_PYTHON_DISTRIBUTION", "ANALYZER_NVIDIA_PACKAGE");
+
+        final int extracted = extractor.extract(layer(DESCRIPTION, METADATA, OS_RELEASE, LIBCUDA, BINARY),
+                folder.getRoot());
+
+        Assert.assertEquals(3, extracted);
+        Assert.assertEquals(CONTENT, new String(Files.readAllBytes(file(DESCRIPTION).toPath()),
+                StandardCharsets.UTF_8));
+        Assert.assertTrue(file(METADATA).exists());
+        Assert.assertEquals(0, file(LIBCUDA).length());
+        Assert.assertFalse(file(OS_RELEASE).exists());
+        Assert.assertFalse(file(BINARY).exists());
+    }
+
+    @Test
+    public void shouldSkipEntriesOutsideOfLayerFolder() throws IOException {
+        final File layerFolder = folder.newFolder("layer");
+        final LayerExtractor extractor = createExtractor(Long.MAX_VALUE, "ANALYZER_R_PACKAGE");
+
+        final int extracted = extractor.extract(layer("../DESCRIPTION"), layerFolder);
+
+        Assert.assertEquals(0, extracted);
+        Assert.assertFalse(new File(folder.getRoot(), "DESCRIPTION").exists());
+    }
+
+    @Test(expected = IOException.class)
+    public void shouldFailIfExtractedFilesExceedLimit() throws IOException {
+        final LayerExtractor extractor = createExtractor(CONTENT.length(), "ANALYZER_R_PACKAGE");
+
+        extractor.extract(layer(DESCRIPTION, "usr/lib/R/library/stats/DESCRIPTION"), folder.getRoot());
+    }
+
+    private LayerExtractor createExtractor(final long maxSize, final String... analyzers) {
+        final LayerExtractor extractor = new LayerExtractor();
+        ReflectionTestUtils.setField(extractor, "enabledAnalysers", Arrays.asList(analyzers));
+        ReflectionTestUtils.setField(extractor, "maxLayerSize", maxSize);
+        ReflectionTestUtils.setField(extractor, "maxEntrySize", Long.MAX_VALUE);
+        extractor.init();
+        return extractor;
+    }
+
+    private ByteArrayInputStream layer(final String... paths) throws IOException {
+        final ByteArrayOutputStream layer = new ByteArrayOutputStream();
+        try (TarArchiveOutputStream tar = new TarArchiveOutputStream(layer)) {
+            final byte[] content = CONTENT.getBytes(StandardCharsets.UTF_8);
+            for (String path : paths) {
+                final TarArchiveEntry entry = new TarArchiveEntry(path);
+                entry.setSize(content.length);
+                tar.putArchiveEntry(entry);
+                tar.write(content);
+                tar.closeArchiveEntry();
+            }
+        }
+        return new ByteArrayInputStream(layer.toByteArray());
+    }
+
+    private File file(final String path) {
+        return new File(folder.getRoot(), path);
+    }
+}
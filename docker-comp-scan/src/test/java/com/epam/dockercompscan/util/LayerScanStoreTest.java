@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.dockercompscan.util;
+
+import com.epam.dockercompscan.owasp.DependencyCheckService;
+import com.epam.dockercompscan.scan.domain.Dependency;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+public class LayerScanStoreTest {
+
+    private static final String DIGEST = "sha256:0123456789abcdef";
+    private static final String VERSION = "3.3.2-1";
+    private static final String NAME = "numpy";
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private final DependencyCheckService checkService = Mockito.mock(DependencyCheckService.class);
+
+    @Before
+    public void setUp() {
+        Mockito.when(checkService.getScanVersion()).thenReturn(VERSION);
+    }
+
+    @Test
+    public void storedResultShouldBeLoadedByAnotherStoreInstance() throws IOException {
+        createStore().save(DIGEST, Collections.singletonList(dependency()));
+
+        final Optional<List<Dependency>> loaded = createStore().load(DIGEST);
+
+        Assert.assertTrue(loaded.isPresent());
+        Assert.assertEquals(1, loaded.get().size());
+        Assert.assertEquals(NAME, loaded.get().get(0).getName());
+    }
+
+    @Test
+    public void resultsOfAnotherVersionShouldBeRemoved() throws IOException {
+        createStore().save(DIGEST, Collections.singletonList(dependency()));
+        Mockito.when(checkService.getScanVersion()).thenReturn(VERSION + "0");
+
+        final LayerScanStore store = createStore();
+
+        Assert.assertFalse(store.load(DIGEST).isPresent());
+        Assert.assertFalse(new File(folder.getRoot(), VERSION).exists());
+    }
+
+    @Test
+    public void directoriesNotCreatedByStoreShouldBeKept() throws IOException {
+        final File foreign = folder.newFolder("foreign");
+        Assert.assertTrue(new File(foreign, "data").createNewFile());
+
+        createStore();
+
+        Assert.assertTrue(new File(foreign, "data").exists());
+    }
+
+    @Test
+    public void storeShouldBeDisabledWithoutDirectory() throws IOException {
+        final LayerScanStore store = createStore(null);
+        store.save(DIGEST, Collections.singletonList(dependency()));
+
+        Assert.assertFalse(store.isEnabled());
+        Assert.assertFalse(store.load(DIGEST).isPresent());
+    }
+
+    private LayerScanStore createStore() throws IOException {
+        return createStore(folder.getRoot().getAbsolutePath());
+    }
+
+    private LayerScanStore createStore(final String dir) throws IOException {
+        final LayerScanStore store = new LayerScanStore();
+        ReflectionTestUtils.setField(store, "storeDir", dir);
+        ReflectionTestUtils.setField(store, "checkService", checkService);
+        store.init();
+        return store;
+    }
+
+    private Dependency dependency() {
+        final Dependency dependency = new Dependency();
+        dependency.setName(NAME);
+        dependency.setVersion("1.0");
+        dependency.setEcosystem("Python.Dist");
+        return dependency;
+    }
+}
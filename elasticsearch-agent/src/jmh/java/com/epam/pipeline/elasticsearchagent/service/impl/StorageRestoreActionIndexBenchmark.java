@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.elasticsearchagent.service.impl;
+
+import com.epam.pipeline.entity.datastorage.lifecycle.restore.StorageRestoreAction;
+import com.epam.pipeline.entity.datastorage.lifecycle.restore.StorageRestorePathType;
+import com.epam.pipeline.entity.datastorage.lifecycle.restore.StorageRestoreStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares resolution of a file restore action by matching every action
+ * with {@link StorageRestoreActionIndex} lookups on synthetic storage listings.
+ * Each operation resolves a restore action of a single listed file.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class StorageRestoreActionIndexBenchmark {
+
+    private static final int FOLDERS = 1000;
+    private static final int DEPTH = 4;
+
+    @Param({"1000000"})
+    private int files;
+
+    @Param({"10000"})
+    private int actions;
+
+    private String[] paths;
+    private List<StorageRestoreAction> restoreActions;
+    private StorageRestoreActionIndex index;
+    private int position;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(files);
+        paths = new String[files];
+        for (int i = 0; i < files; i++) {
+            paths[i] = folder(random) + "/file-" + i + ".txt";
+        }
+        restoreActions = new ArrayList<>(actions);
+        for (int i = 0; i < actions; i++) {
+            final boolean file = random.nextBoolean();
+            restoreActions.add(StorageRestoreAction.builder()
+                    .id((long) i)
+                    .path(file ? paths[random.nextInt(files)] : parent(paths[random.nextInt(files)], random))
+                    .type(file ? StorageRestorePathType.FILE : StorageRestorePathType.FOLDER)
+                    .status(random.nextInt(10) == 0 ? StorageRestoreStatus.FAILED : StorageRestoreStatus.SUCCEEDED)
+                    .build());
+        }
+        index = StorageRestoreActionIndex.of(restoreActions);
+    }
+
+    @Benchmark
+    public Optional<StorageRestoreAction> linearMatching() {
+        final String path = nextPath();
+        return restoreActions.stream().filter(action -> {
+            final boolean pathsMatches = action.getType() == StorageRestorePathType.FILE
+                    ? action.getPath().equals(path)
+                    : path.startsWith(action.getPath());
+            return pathsMatches && StorageRestoreStatus.SUCCEEDED == action.getStatus();
+        }).findAny();
+    }
+
+    @Benchmark
+    public Optional<StorageRestoreAction> indexLookup() {
+        return index.find(nextPath());
+    }
+
+    private String nextPath() {
+        final String path = paths[position];
+        position = (position + 1) % paths.length;
+        return path;
+    }
+
+    private static String parent(final String path, final Random random) {
+        int end = 0;
+        for (int i = 0, depth = 2 + random.nextInt(DEPTH - 1); i < depth; i++) {
+            end = path.indexOf('/', end + 1);
+        }
+        return path.substring(0, end + 1);
+    }
+
+    private static String folder(final Random random) {
+        final StringBuilder folder = new StringBuilder();
+        for (int i = 0; i < DEPTH; i++) {
+            folder.append("/folder-").append(random.nextInt(FOLDERS));
+        }
+        return folder.toString();
+    }
+}
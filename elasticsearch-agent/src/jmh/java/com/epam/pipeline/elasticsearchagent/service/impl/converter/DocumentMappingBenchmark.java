@@ -0,0 +1,280 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.elasticsearchagent.service.impl.converter;
+
+import com.epam.pipeline.elasticsearchagent.model.EntityContainer;
+import com.epam.pipeline.elasticsearchagent.model.PermissionsContainer;
+import com.epam.pipeline.elasticsearchagent.model.PipelineDoc;
+import com.epam.pipeline.elasticsearchagent.model.PipelineRunWithLog;
+import com.epam.pipeline.elasticsearchagent.service.impl.converter.metadata.MetadataEntityMapper;
+import com.epam.pipeline.elasticsearchagent.service.impl.converter.pipeline.PipelineMapper;
+import com.epam.pipeline.elasticsearchagent.service.impl.converter.run.PipelineRunMapper;
+import com.epam.pipeline.elasticsearchagent.service.impl.converter.storage.StorageFileMapper;
+import com.epam.pipeline.elasticsearchagent.utils.ESConstants;
+import com.epam.pipeline.entity.datastorage.AbstractDataStorage;
+import com.epam.pipeline.entity.datastorage.DataStorageFile;
+import com.epam.pipeline.entity.datastorage.S3bucketDataStorage;
+import com.epam.pipeline.entity.metadata.MetadataClass;
+import com.epam.pipeline.entity.metadata.MetadataEntity;
+import com.epam.pipeline.entity.metadata.PipeConfValue;
+import com.epam.pipeline.entity.pipeline.Folder;
+import com.epam.pipeline.entity.pipeline.Pipeline;
+import com.epam.pipeline.entity.pipeline.PipelineRun;
+import com.epam.pipeline.entity.pipeline.PipelineTask;
+import com.epam.pipeline.entity.pipeline.Revision;
+import com.epam.pipeline.entity.pipeline.RunInstance;
+import com.epam.pipeline.entity.pipeline.RunLog;
+import com.epam.pipeline.entity.pipeline.TaskStatus;
+import com.epam.pipeline.entity.pipeline.run.RunStatus;
+import com.epam.pipeline.entity.pipeline.run.parameter.PipelineRunParameter;
+import com.epam.pipeline.entity.search.SearchDocumentType;
+import com.epam.pipeline.entity.user.PipelineUser;
+import org.elasticsearch.action.index.IndexRequest;
+import org.elasticsearch.common.bytes.BytesReference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures elasticsearch document building throughput of the entity mappers on generated fixtures.
+ * Each operation builds a single document, so the reported score is documents per second,
+ * the allocation rate is reported by the gc profiler which is enabled for the jmh task.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DocumentMappingBenchmark {
+
+    private static final int FIXTURES = 1024;
+    private static final String INDEX_NAME = "cp-benchmark-storage-file";
+    private static final String TAG_DELIMITER = ";";
+    private static final long BASE_TIME = 1_600_000_000_000L;
+
+    @Param({"100"})
+    private int logLines;
+
+    @Param({"10"})
+    private int tags;
+
+    private final PipelineMapper pipelineMapper = new PipelineMapper();
+    private final MetadataEntityMapper metadataEntityMapper = new MetadataEntityMapper();
+    private final StorageFileMapper storageFileMapper = new StorageFileMapper();
+    private PipelineRunMapper pipelineRunMapper;
+
+    private List<EntityContainer<PipelineRunWithLog>> runs;
+    private List<EntityContainer<PipelineDoc>> pipelines;
+    private List<EntityContainer<MetadataEntity>> metadataEntities;
+    private List<DataStorageFile> files;
+    private AbstractDataStorage dataStorage;
+    private PermissionsContainer permissions;
+    private int position;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(FIXTURES);
+        pipelineRunMapper = new PipelineRunMapper(logLines);
+        permissions = permissions();
+        dataStorage = new S3bucketDataStorage(1L, "benchmark-storage", "benchmark-storage");
+        final PipelineUser owner = owner();
+        runs = new ArrayList<>(FIXTURES);
+        pipelines = new ArrayList<>(FIXTURES);
+        metadataEntities = new ArrayList<>(FIXTURES);
+        files = new ArrayList<>(FIXTURES);
+        for (int i = 0; i < FIXTURES; i++) {
+            runs.add(container(runFixture(i, owner, random), owner, null));
+            pipelines.add(container(pipelineFixture(i), owner, tags("attribute-", random)));
+            metadataEntities.add(container(metadataEntityFixture(i, random), null, null));
+            files.add(fileFixture(i, random));
+        }
+    }
+
+    @Benchmark
+    public BytesReference pipelineRun() {
+        return BytesReference.bytes(pipelineRunMapper.map(runs.get(next())));
+    }
+
+    @Benchmark
+    public BytesReference pipeline() {
+        return BytesReference.bytes(pipelineMapper.map(pipelines.get(next())));
+    }
+
+    @Benchmark
+    public BytesReference metadataEntity() {
+        return BytesReference.bytes(metadataEntityMapper.map(metadataEntities.get(next())));
+    }
+
+    @Benchmark
+    public IndexRequest storageFile() {
+        final DataStorageFile file = files.get(next());
+        return new IndexRequest(INDEX_NAME, ESConstants.DOC_MAPPING_TYPE, file.getPath())
+                .source(storageFileMapper.fileToDocument(file, dataStorage, "eu-central-1", permissions,
+                        SearchDocumentType.S3_FILE, TAG_DELIMITER, null));
+    }
+
+    private int next() {
+        final int current = position;
+        position = (position + 1) % FIXTURES;
+        return current;
+    }
+
+    private PipelineRunWithLog runFixture(final int i, final PipelineUser owner, final Random random) {
+        final RunInstance instance = new RunInstance();
+        instance.setNodeType("m5.large");
+        instance.setNodeDisk(50);
+        instance.setNodeIP("10.0.0." + i % 255);
+        instance.setNodeId("i-" + i);
+        instance.setNodeImage("ami-benchmark");
+        instance.setNodeName("node-" + i);
+        instance.setSpot(random.nextBoolean());
+        instance.setCloudRegionId(1L);
+
+        final PipelineRun run = new PipelineRun();
+        run.setId((long) i);
+        run.setPipelineName("pipeline-" + i % 100);
+        run.setVersion("v" + i % 10);
+        run.setCreatedDate(new Date(BASE_TIME + i));
+        run.setStartDate(new Date(BASE_TIME + i));
+        run.setStatus(TaskStatus.RUNNING);
+        run.setDockerImage("library/centos:7");
+        run.setActualCmd("sleep infinity");
+        run.setPricePerHour(new BigDecimal("0.096"));
+        run.setNodeCount(0);
+        run.setPodId("pipeline-" + i);
+        run.setInstance(instance);
+        run.setRunStatuses(Arrays.asList(status(TaskStatus.RESUMING), status(TaskStatus.RUNNING)));
+        run.setPipelineRunParameters(Arrays.asList(
+                new PipelineRunParameter("input", "s3://benchmark-storage/input/" + i),
+                new PipelineRunParameter("output", "s3://benchmark-storage/output/" + i)));
+
+        final List<RunLog> logs = new ArrayList<>(logLines);
+        for (int line = 0; line < logLines; line++) {
+            final RunLog log = new RunLog();
+            log.setDate(new Date(BASE_TIME + random.nextInt(Integer.MAX_VALUE)));
+            log.setStatus(TaskStatus.RUNNING);
+            log.setTask(new PipelineTask("Task-" + line % 5));
+            log.setLogText("Log line " + line + " of the run " + i);
+            logs.add(log);
+        }
+
+        final PipelineRunWithLog runWithLog = new PipelineRunWithLog();
+        runWithLog.setPipelineRun(run);
+        runWithLog.setRunOwner(owner);
+        runWithLog.setRunLogs(logs);
+        return runWithLog;
+    }
+
+    private static RunStatus status(final TaskStatus taskStatus) {
+        final RunStatus status = new RunStatus();
+        status.setStatus(taskStatus);
+        status.setTimestamp(LocalDateTime.now());
+        return status;
+    }
+
+    private static PipelineDoc pipelineFixture(final int i) {
+        final Pipeline pipeline = new Pipeline((long) i);
+        pipeline.setName("pipeline-" + i);
+        pipeline.setDescription("Benchmark pipeline " + i);
+        pipeline.setCreatedDate(new Date(BASE_TIME + i));
+        pipeline.setParentFolderId((long) i % 100);
+        pipeline.setRepository("https://git.example.com/benchmark/pipeline-" + i + ".git");
+        final List<Revision> revisions = new ArrayList<>();
+        for (int version = 0; version < 10; version++) {
+            revisions.add(new Revision("v" + version, "Release " + version, new Date(BASE_TIME + version),
+                    "commit-" + version, "author", "author@example.com"));
+        }
+        return PipelineDoc.builder().pipeline(pipeline).revisions(revisions).build();
+    }
+
+    private MetadataEntity metadataEntityFixture(final int i, final Random random) {
+        final MetadataEntity entity = new MetadataEntity();
+        entity.setId((long) i);
+        entity.setName("sample-" + i);
+        entity.setExternalId("external-" + i);
+        entity.setClassEntity(new MetadataClass(1L, "Sample"));
+        entity.setParent(new Folder((long) i % 100));
+        final Map<String, PipeConfValue> data = new HashMap<>();
+        tags("column-", random).forEach((key, value) -> data.put(key, new PipeConfValue("string", value)));
+        entity.setData(data);
+        return entity;
+    }
+
+    private DataStorageFile fileFixture(final int i, final Random random) {
+        final DataStorageFile file = new DataStorageFile();
+        final String name = "file-" + i + ".txt";
+        file.setName(name);
+        file.setPath("folder-" + random.nextInt(100) + "/folder-" + random.nextInt(100) + "/" + name);
+        file.setSize((long) random.nextInt(Integer.MAX_VALUE));
+        file.setChanged("2026-01-01 00:00:00");
+        file.setTags(tags("tag-", random));
+        file.setLabels(Collections.singletonMap(ESConstants.STORAGE_CLASS_LABEL, "STANDARD"));
+        return file;
+    }
+
+    private Map<String, String> tags(final String prefix, final Random random) {
+        final Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < tags; i++) {
+            values.put(prefix + i, random.nextInt(4) == 0
+                    ? "first" + TAG_DELIMITER + "second" + TAG_DELIMITER + "third"
+                    : "value-" + random.nextInt(1000));
+        }
+        return values;
+    }
+
+    private static <T> EntityContainer<T> container(final T entity, final PipelineUser owner,
+                                                    final Map<String, String> metadata) {
+        return EntityContainer.<T>builder()
+                .entity(entity)
+                .owner(owner)
+                .metadata(metadata)
+                .permissions(new PermissionsContainer())
+                .build();
+    }
+
+    private static PipelineUser owner() {
+        final PipelineUser user = new PipelineUser();
+        user.setId(1L);
+        user.setUserName("BENCHMARK_USER");
+        user.setGroups(Arrays.asList("ROLE_USER", "BENCHMARK_GROUP"));
+        user.setAttributes(Collections.singletonMap("Name", "Benchmark User"));
+        return user;
+    }
+
+    private static PermissionsContainer permissions() {
+        final PermissionsContainer container = new PermissionsContainer();
+        container.getAllowedUsers().add("BENCHMARK_USER");
+        container.getAllowedGroups().add("BENCHMARK_GROUP");
+        container.getDeniedUsers().add("DENIED_USER");
+        return container;
+    }
+}
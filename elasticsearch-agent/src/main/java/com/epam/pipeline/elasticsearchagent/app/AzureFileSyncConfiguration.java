@@ -23,6 +23,9 @@ import com.epam.pipeline.elasticsearchagent.service.impl.AzureBlobManager;
 import com.epam.pipeline.elasticsearchagent.service.impl.CloudPipelineAPIClient;
 import com.epam.pipeline.elasticsearchagent.service.impl.ElasticIndexService;
 import com.epam.pipeline.elasticsearchagent.service.impl.ObjectStorageIndexImpl;
+import com.epam.pipeline.elasticsearchagent.service.impl.StorageIndexStateManager;
+import com.epam.pipeline.elasticsearchagent.service.impl.StorageSyncMetrics;
+import com.epam.pipeline.elasticsearchagent.service.impl.StorageSyncSettings;
 import com.epam.pipeline.elasticsearchagent.service.lock.LockService;
 import com.epam.pipeline.entity.datastorage.DataStorageType;
 import com.epam.pipeline.entity.search.SearchDocumentType;
@@ -32,6 +35,8 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.Optional;
+
 @Configuration
 public class AzureFileSyncConfiguration {
 
@@ -59,6 +64,9 @@ public class AzureFileSyncConfiguration {
     @Value("${sync.az-file.storage.exclude.metadata.value:Exclude}")
     private String storageExcludeValue;
 
+    @Value("${sync.az-blob.index.full.rebuild:false}")
+    private boolean forceFullRebuild;
+
     @Bean
     public ObjectStorageFileManager azFileManager() {
         return new AzureBlobManager();
@@ -71,13 +79,21 @@ public class AzureFileSyncConfiguration {
             final ElasticsearchServiceClient esClient,
             final ElasticIndexService indexService,
             final @Qualifier("azFileManager") ObjectStorageFileManager azFileManager,
-            final LockService lockService) {
-        return new ObjectStorageIndexImpl(apiClient, esClient, indexService,
+            final LockService lockService,
+            final Optional<StorageIndexStateManager> stateManager,
+            final StorageSyncSettings syncSettings,
+            final StorageSyncMetrics syncMetrics) {
+        final ObjectStorageIndexImpl service = new ObjectStorageIndexImpl(apiClient, esClient, indexService,
                 azFileManager, lockService, indexPrefix + indexName,
                 indexSettingsPath, bulkInsertSize, bulkLoadTagsSize,
                 DataStorageType.AZ,
                 SearchDocumentType.AZ_BLOB_FILE,
                 tagDelimiter, false,
                 storageExcludeKey, storageExcludeValue);
+        stateManager.ifPresent(service::setStateManager);
+        service.setForceFullRebuild(forceFullRebuild);
+        service.setSyncSettings(syncSettings);
+        service.setSyncMetrics(syncMetrics);
+        return service;
     }
 }
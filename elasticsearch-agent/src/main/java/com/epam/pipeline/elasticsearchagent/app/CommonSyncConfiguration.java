@@ -23,6 +23,10 @@ import com.epam.pipeline.elasticsearchagent.service.ResponseIdConverter;
 import com.epam.pipeline.elasticsearchagent.service.impl.BulkRequestSender;
 import com.epam.pipeline.elasticsearchagent.service.impl.ElasticIndexService;
 import com.epam.pipeline.elasticsearchagent.service.impl.EntitySynchronizer;
+import com.epam.pipeline.elasticsearchagent.service.impl.PipelineEventListener;
+import com.epam.pipeline.elasticsearchagent.service.impl.StorageIndexStateManager;
+import com.epam.pipeline.elasticsearchagent.service.impl.StorageSyncMetrics;
+import com.epam.pipeline.elasticsearchagent.service.impl.StorageSyncSettings;
 import com.epam.pipeline.elasticsearchagent.service.impl.converter.EventToRequestConverterImpl;
 import com.epam.pipeline.elasticsearchagent.service.impl.converter.configuration.ConfigurationIdConverter;
 import com.epam.pipeline.elasticsearchagent.service.impl.converter.configuration.RunConfigurationDocumentBuilder;
@@ -42,11 +46,16 @@ import com.epam.pipeline.elasticsearchagent.service.impl.converter.tool.ToolLoad
 import com.epam.pipeline.elasticsearchagent.service.impl.converter.tool.ToolMapper;
 import com.epam.pipeline.elasticsearchagent.service.impl.converter.toolgroup.ToolGroupLoader;
 import com.epam.pipeline.elasticsearchagent.service.impl.converter.toolgroup.ToolGroupMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
 @Configuration
 public class CommonSyncConfiguration {
 
@@ -63,6 +72,52 @@ public class CommonSyncConfiguration {
         return new BulkRequestSender(elasticsearchClient, responsePostProcessor);
     }
 
+    @Bean
+    @ConditionalOnProperty(value = "sync.storage.index.incremental", havingValue = "true")
+    public StorageIndexStateManager storageIndexStateManager(
+            final @Value("${sync.storage.index.state.dir:storage-index-state}") String stateDirectory) {
+        return new StorageIndexStateManager(stateDirectory);
+    }
+
+    @Bean
+    public StorageSyncSettings storageSyncSettings(
+            final @Value("${sync.storage.threads:1}") int storageThreads,
+            final @Value("${sync.storage.bulk.workers:0}") int bulkWorkers,
+            final @Value("${sync.storage.bulk.queue.size:1}") int bulkQueueSize,
+            final @Value("${sync.storage.bulk.max.bytes:10485760}") long maxBulkBytes,
+            final @Value("${sync.storage.bulk.target.latency.ms:1000}") long targetBulkLatencyMs,
+            final @Value("${sync.storage.bulk.max.retries:3}") int maxBulkRetries,
+            final @Value("${sync.storage.bulk.retry.delay.ms:1000}") long bulkRetryDelayMs) {
+        return StorageSyncSettings.builder()
+                .storageThreads(storageThreads)
+                .bulkWorkers(bulkWorkers)
+                .bulkQueueSize(bulkQueueSize)
+                .maxBulkBytes(maxBulkBytes)
+                .targetBulkLatencyMs(targetBulkLatencyMs)
+                .maxBulkRetries(maxBulkRetries)
+                .bulkRetryDelayMs(bulkRetryDelayMs)
+                .build();
+    }
+
+    @Bean
+    public StorageSyncMetrics storageSyncMetrics(final MeterRegistry meterRegistry) {
+        return new StorageSyncMetrics(meterRegistry);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnProperty(value = "sync.event.listener.enabled", havingValue = "true")
+    public PipelineEventListener pipelineEventListener(
+            final Optional<List<EntitySynchronizer>> entitySynchronizers,
+            final @Value("${database.url}") String jdbcUrl,
+            final @Value("${database.username}") String username,
+            final @Value("${database.password}") String password,
+            final @Value("${sync.event.listener.channel:pipeline_event}") String channel,
+            final @Value("${sync.event.listener.batch.delay.ms:500}") int batchDelayMs,
+            final @Value("${sync.event.listener.reconnect.delay.ms:10000}") long reconnectDelayMs) {
+        return new PipelineEventListener(jdbcUrl, username, password, channel,
+                entitySynchronizers.orElse(Collections.emptyList()), batchDelayMs, reconnectDelayMs);
+    }
+
     @Bean
     @ConditionalOnProperty(value = "sync.run.disable", matchIfMissing = true, havingValue = FALSE)
     public EntitySynchronizer pipelineRunSynchronizer(
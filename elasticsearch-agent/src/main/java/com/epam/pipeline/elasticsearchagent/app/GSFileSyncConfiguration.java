@@ -28,6 +28,8 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.Optional;
+
 @Configuration
 public class GSFileSyncConfiguration {
 
@@ -55,6 +57,9 @@ public class GSFileSyncConfiguration {
     @Value("${sync.gs-file.storage.exclude.metadata.value:Exclude}")
     private String storageExcludeValue;
 
+    @Value("${sync.gs-file.index.full.rebuild:false}")
+    private boolean forceFullRebuild;
+
     @Bean
     public ObjectStorageFileManager gsFileManager() {
         return new GsBucketFileManager();
@@ -67,14 +72,22 @@ public class GSFileSyncConfiguration {
             final ElasticsearchServiceClient esClient,
             final ElasticIndexService indexService,
             final @Qualifier("gsFileManager") ObjectStorageFileManager gsFileManager,
-            final LockService lockService) {
-        return new ObjectStorageIndexImpl(apiClient, esClient, indexService,
+            final LockService lockService,
+            final Optional<StorageIndexStateManager> stateManager,
+            final StorageSyncSettings syncSettings,
+            final StorageSyncMetrics syncMetrics) {
+        final ObjectStorageIndexImpl service = new ObjectStorageIndexImpl(apiClient, esClient, indexService,
                 gsFileManager, lockService, indexPrefix + indexName,
                 indexSettingsPath, bulkInsertSize, bulkLoadTagsSize,
                 DataStorageType.GS,
                 SearchDocumentType.GS_FILE,
                 tagDelimiter, false,
                 storageExcludeKey, storageExcludeValue);
+        stateManager.ifPresent(service::setStateManager);
+        service.setForceFullRebuild(forceFullRebuild);
+        service.setSyncSettings(syncSettings);
+        service.setSyncMetrics(syncMetrics);
+        return service;
     }
 
 }
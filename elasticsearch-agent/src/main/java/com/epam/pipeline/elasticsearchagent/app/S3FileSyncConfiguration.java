@@ -23,6 +23,9 @@ import com.epam.pipeline.elasticsearchagent.service.impl.CloudPipelineAPIClient;
 import com.epam.pipeline.elasticsearchagent.service.impl.ElasticIndexService;
 import com.epam.pipeline.elasticsearchagent.service.impl.ObjectStorageIndexImpl;
 import com.epam.pipeline.elasticsearchagent.service.impl.S3FileManager;
+import com.epam.pipeline.elasticsearchagent.service.impl.StorageIndexStateManager;
+import com.epam.pipeline.elasticsearchagent.service.impl.StorageSyncMetrics;
+import com.epam.pipeline.elasticsearchagent.service.impl.StorageSyncSettings;
 import com.epam.pipeline.elasticsearchagent.service.lock.LockService;
 import com.epam.pipeline.entity.datastorage.DataStorageType;
 import com.epam.pipeline.entity.search.SearchDocumentType;
@@ -34,6 +37,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.util.Arrays;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -63,6 +67,9 @@ public class S3FileSyncConfiguration {
     @Value("${sync.s3-file.storage.exclude.metadata.value:Exclude}")
     private String storageExcludeValue;
 
+    @Value("${sync.s3-file.index.full.rebuild:false}")
+    private boolean forceFullRebuild;
+
     @Bean
     public ObjectStorageFileManager s3FileManager() {
         return new S3FileManager();
@@ -75,7 +82,10 @@ public class S3FileSyncConfiguration {
             final ElasticsearchServiceClient esClient,
             final ElasticIndexService indexService,
             final @Qualifier("s3FileManager") ObjectStorageFileManager s3FileManager,
-            final LockService lockService) {
+            final LockService lockService,
+            final Optional<StorageIndexStateManager> stateManager,
+            final StorageSyncSettings syncSettings,
+            final StorageSyncMetrics syncMetrics) {
         final ObjectStorageIndexImpl service = new ObjectStorageIndexImpl(apiClient, esClient, indexService,
                 s3FileManager, lockService, indexPrefix + indexName,
                 indexSettingsPath, bulkInsertSize, bulkLoadTagsSize,
@@ -90,6 +100,10 @@ public class S3FileSyncConfiguration {
         if (StringUtils.isNotBlank(skipStorageIds)) {
             service.setSkipStorageIds(parseIds(skipStorageIds));
         }
+        stateManager.ifPresent(service::setStateManager);
+        service.setForceFullRebuild(forceFullRebuild);
+        service.setSyncSettings(syncSettings);
+        service.setSyncMetrics(syncMetrics);
         return service;
     }
 
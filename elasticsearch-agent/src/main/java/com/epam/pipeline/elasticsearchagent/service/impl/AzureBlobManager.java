@@ -112,7 +112,7 @@ public class AzureBlobManager implements ObjectStorageFileManager {
         file.setName(FilenameUtils.getName(blob.name()));
         file.setPath(blob.name());
         file.setSize(blob.properties().contentLength());
-        file.setChanged(ESConstants.FILE_DATE_FORMAT.format(Date.from(blob.properties().lastModified().toInstant())));
+        file.setChanged(ESConstants.formatFileDate(Date.from(blob.properties().lastModified().toInstant())));
         file.setTags(blob.metadata());
         return file;
     }
@@ -65,6 +65,18 @@ public class ElasticIndexService {
         }
     }
 
+    /**
+     * @return hash of the index mapping file content or of the path if the file cannot be read
+     */
+    public int getIndexMappingFingerprint(final String settingsFilePath) {
+        try (InputStream mapping = openJsonMapping(settingsFilePath)) {
+            return IOUtils.toString(mapping, Charset.defaultCharset()).hashCode();
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Failed to read index mapping {}: {}", settingsFilePath, e.getMessage());
+            return settingsFilePath.hashCode();
+        }
+    }
+
     public List<DocWriteRequest> getDeleteRequestsByTerm(final String field,
                                                          final String value,
                                                          final String indexName) {
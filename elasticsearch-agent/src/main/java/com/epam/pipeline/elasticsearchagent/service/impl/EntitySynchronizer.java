@@ -20,19 +20,24 @@ import com.epam.pipeline.elasticsearchagent.model.PipelineEvent;
 import com.epam.pipeline.elasticsearchagent.service.ElasticsearchSynchronizer;
 import com.epam.pipeline.elasticsearchagent.service.EventToRequestConverter;
 import com.epam.pipeline.elasticsearchagent.utils.EventProcessorUtils;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
 import org.elasticsearch.action.DocWriteRequest;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Supplier;
 
 @RequiredArgsConstructor
 @Slf4j
 public class EntitySynchronizer implements ElasticsearchSynchronizer {
 
     private final PipelineEventDao pipelineEventDao;
+    @Getter
     private final PipelineEvent.ObjectType objectType;
     private final String indexMappingFile;
     private final EventToRequestConverter converter;
@@ -50,12 +55,28 @@ public class EntitySynchronizer implements ElasticsearchSynchronizer {
     }
 
     @Override
-    @SuppressWarnings("PMD.AvoidCatchingGenericException")
     public void synchronize(final LocalDateTime lastSyncTime, final LocalDateTime syncStart) {
+        log.debug("Starting to synchronize {} entities", objectType);
+        synchronizeEvents(() -> pipelineEventDao.loadPipelineEventsByObjectType(objectType, syncStart, chunkSize),
+                syncStart);
+    }
+
+    /**
+     * Synchronizes pending events of the specified entities only,
+     * e.g. the ones received from the database change notifications.
+     */
+    public void synchronize(final Collection<Long> objectIds) {
+        log.debug("Starting to synchronize {} {} entities on notification", objectIds.size(), objectType);
+        final LocalDateTime syncStart = LocalDateTime.now(Clock.systemUTC());
+        synchronizeEvents(() -> pipelineEventDao.loadPipelineEventsByObjectIds(objectType, objectIds, syncStart),
+                syncStart);
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private synchronized void synchronizeEvents(final Supplier<List<PipelineEvent>> eventsLoader,
+                                                final LocalDateTime syncStart) {
         try {
-            log.debug("Starting to synchronize {} entities", objectType);
-            final List<PipelineEvent> pipelineEvents = pipelineEventDao
-                .loadPipelineEventsByObjectType(objectType, syncStart, chunkSize);
+            final List<PipelineEvent> pipelineEvents = eventsLoader.get();
             log.debug("Loaded {} events for {}", pipelineEvents.size(), objectType);
             final List<PipelineEvent> mergeEvents = EventProcessorUtils.mergeEvents(pipelineEvents);
             if (mergeEvents.isEmpty()) {
@@ -138,7 +138,7 @@ public class GsBucketFileManager implements ObjectStorageFileManager {
         file.setName(FilenameUtils.getName(blob.getName()));
         file.setPath(blob.getName());
         file.setSize(blob.getSize());
-        file.setChanged(ESConstants.FILE_DATE_FORMAT.format(Date.from(Instant.ofEpochMilli(blob.getUpdateTime()))));
+        file.setChanged(ESConstants.formatFileDate(Date.from(Instant.ofEpochMilli(blob.getUpdateTime()))));
         file.setVersion(null);
         file.setDeleteMarker(null);
         final Map<String, String> labels = new HashMap<>(MapUtils.emptyIfNull(blob.getMetadata()));
@@ -151,7 +151,7 @@ public class GsBucketFileManager implements ObjectStorageFileManager {
         file.setName(FilenameUtils.getName(blob.getName()));
         file.setPath(blob.getName());
         file.setSize(blob.getSize());
-        file.setChanged(ESConstants.FILE_DATE_FORMAT.format(Date.from(Instant.ofEpochMilli(blob.getUpdateTime()))));
+        file.setChanged(ESConstants.formatFileDate(Date.from(Instant.ofEpochMilli(blob.getUpdateTime()))));
         file.setVersion(blob.getGeneration().toString());
         file.setDeleteMarker(false);
         file.setTags(blob.getMetadata());
@@ -0,0 +1,319 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.elasticsearchagent.service.impl;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Walks a mounted file share with a work-stealing pool where each directory is listed by a separate task.
+ *
+ * Every directory is reported as an entry with {@link #DIRECTORY_SUFFIX} appended to its relative path
+ * and its modification time used as a fingerprint. If {@code skipUnchangedDirectories} is enabled and
+ * a directory modification time equals the previous checkpoint, the directory is not listed again:
+ * its files are reported with the previous fingerprints and only its subdirectories are visited.
+ * Directory modification time doesn't change when a file is modified in place, so this mode is suitable
+ * for shares where files are written once.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class NFSDirectoryWalker {
+
+    public static final String DIRECTORY_SUFFIX = "/";
+
+    private static final int QUEUE_CAPACITY = 10000;
+    private static final Entry END_OF_WALK = new Entry(StringUtils.EMPTY, 0L, 0L, 0L, true, false);
+
+    private final int threads;
+    private final boolean skipUnchangedDirectories;
+
+    /**
+     * Starts a walk of the root folder, the returned stream shall be closed to release the walk resources.
+     *
+     * @param root folder to walk
+     * @param previous file and directory fingerprints of the previous walk
+     * @param statistics accumulates statistics of the walk
+     */
+    public Stream<Entry> walk(final Path root, final Map<String, Long> previous, final Statistics statistics) {
+        final Walk walk = new Walk(root, buildCheckpoints(previous), statistics);
+        walk.start();
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(walk,
+                Spliterator.NONNULL | Spliterator.IMMUTABLE), false)
+                .onClose(walk::stop);
+    }
+
+    public static String toDirectoryKey(final String relativePath) {
+        return StringUtils.isEmpty(relativePath) ? DIRECTORY_SUFFIX : relativePath + DIRECTORY_SUFFIX;
+    }
+
+    public static boolean isDirectoryKey(final String path) {
+        return path.endsWith(DIRECTORY_SUFFIX);
+    }
+
+    private Map<String, Checkpoint> buildCheckpoints(final Map<String, Long> previous) {
+        if (previous.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        final Map<String, Checkpoint> checkpoints = new HashMap<>();
+        previous.forEach((path, fingerprint) -> {
+            if (isDirectoryKey(path)) {
+                checkpoints.computeIfAbsent(path, key -> new Checkpoint()).setModified(fingerprint);
+            }
+        });
+        previous.forEach((path, fingerprint) -> {
+            if (path.equals(DIRECTORY_SUFFIX)) {
+                return;
+            }
+            final String relativePath = StringUtils.removeEnd(path, DIRECTORY_SUFFIX);
+            final String parent = toDirectoryKey(relativePath.contains(DIRECTORY_SUFFIX)
+                    ? StringUtils.substringBeforeLast(relativePath, DIRECTORY_SUFFIX)
+                    : StringUtils.EMPTY);
+            final Checkpoint checkpoint = checkpoints.get(parent);
+            if (checkpoint == null) {
+                return;
+            }
+            if (isDirectoryKey(path)) {
+                checkpoint.getDirectories().add(relativePath);
+            } else {
+                checkpoint.getFiles().put(path, fingerprint);
+            }
+        });
+        return checkpoints;
+    }
+
+    /**
+     * A file or a directory found during a walk. Directory fingerprint is its modification time.
+     * Files reported from a directory checkpoint have the previous fingerprint and no attributes,
+     * fingerprints of the other files are not calculated by the walker.
+     */
+    @Value
+    public static class Entry {
+        String path;
+        long fingerprint;
+        long size;
+        long modified;
+        boolean directory;
+        boolean attributesLoaded;
+    }
+
+    @Getter
+    public static class Statistics {
+        private final AtomicLong listedDirectories = new AtomicLong();
+        private final AtomicLong skippedDirectories = new AtomicLong();
+        private final AtomicLong failedDirectories = new AtomicLong();
+        private final AtomicLong files = new AtomicLong();
+    }
+
+    @Getter
+    private static class Checkpoint {
+        private long modified;
+        private final Map<String, Long> files = new HashMap<>();
+        private final List<String> directories = new ArrayList<>();
+
+        void setModified(final long modified) {
+            this.modified = modified;
+        }
+    }
+
+    private final class Walk implements Iterator<Entry> {
+
+        private final Path root;
+        private final Map<String, Checkpoint> checkpoints;
+        private final Statistics statistics;
+        private final BlockingQueue<Entry> queue = new LinkedBlockingQueue<>(QUEUE_CAPACITY);
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private final ForkJoinPool pool = new ForkJoinPool(Math.max(1, threads));
+        private Entry next;
+
+        private Walk(final Path root, final Map<String, Checkpoint> checkpoints, final Statistics statistics) {
+            this.root = root;
+            this.checkpoints = checkpoints;
+            this.statistics = statistics;
+        }
+
+        void start() {
+            pool.execute(() -> {
+                try {
+                    new DirectoryTask(this, StringUtils.EMPTY).invoke();
+                } catch (RuntimeException | Error e) {
+                    failure.set(e);
+                } finally {
+                    emit(END_OF_WALK);
+                }
+            });
+        }
+
+        void stop() {
+            pool.shutdownNow();
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                try {
+                    next = queue.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while walking " + root, e);
+                }
+            }
+            if (next == END_OF_WALK) {
+                final Throwable e = failure.get();
+                if (e != null) {
+                    throw new IllegalStateException("Failed to walk " + root, e);
+                }
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public Entry next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final Entry entry = next;
+            next = null;
+            return entry;
+        }
+
+        private void emit(final Entry entry) {
+            try {
+                queue.put(entry);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Walk of " + root + " was interrupted", e);
+            }
+        }
+    }
+
+    private final class DirectoryTask extends RecursiveAction {
+
+        private final Walk walk;
+        private final String relativePath;
+
+        private DirectoryTask(final Walk walk, final String relativePath) {
+            this.walk = walk;
+            this.relativePath = relativePath;
+        }
+
+        @Override
+        protected void compute() {
+            final String key = toDirectoryKey(relativePath);
+            final Checkpoint checkpoint = walk.checkpoints.get(key);
+            final Path directory = walk.root.resolve(relativePath);
+            final List<String> directories;
+            try {
+                final long modified = Files.getLastModifiedTime(directory).toMillis();
+                walk.emit(new Entry(key, modified, 0L, modified, true, true));
+                directories = skipUnchangedDirectories && checkpoint != null && checkpoint.getModified() == modified
+                        ? reuse(checkpoint)
+                        : list(directory);
+            } catch (IOException e) {
+                log.warn("Failed to list directory {}: {}.", directory, e.getMessage());
+                walk.statistics.getFailedDirectories().incrementAndGet();
+                // previous content of an unavailable directory is kept to avoid reporting it as deleted
+                if (checkpoint != null) {
+                    walk.emit(new Entry(key, checkpoint.getModified(), 0L, 0L, true, false));
+                    reuse(checkpoint);
+                    invokeAll(checkpoint.getDirectories().stream()
+                            .map(child -> new DirectoryTask(walk, child))
+                            .collect(Collectors.toList()));
+                }
+                return;
+            }
+            invokeAll(directories.stream()
+                    .map(child -> new DirectoryTask(walk, child))
+                    .collect(Collectors.toList()));
+        }
+
+        private List<String> reuse(final Checkpoint checkpoint) {
+            walk.statistics.getSkippedDirectories().incrementAndGet();
+            checkpoint.getFiles().forEach((path, fingerprint) -> {
+                walk.statistics.getFiles().incrementAndGet();
+                walk.emit(new Entry(path, fingerprint, 0L, 0L, false, false));
+            });
+            return checkpoint.getDirectories();
+        }
+
+        private List<String> list(final Path directory) throws IOException {
+            walk.statistics.getListedDirectories().incrementAndGet();
+            final List<String> directories = new ArrayList<>();
+            try (DirectoryStream<Path> children = Files.newDirectoryStream(directory)) {
+                for (final Path child : children) {
+                    final String childPath = walk.root.relativize(child).toString();
+                    final BasicFileAttributes attributes = readAttributes(child);
+                    if (attributes == null) {
+                        continue;
+                    }
+                    if (attributes.isDirectory()) {
+                        directories.add(childPath);
+                    } else if (attributes.isRegularFile()) {
+                        walk.statistics.getFiles().incrementAndGet();
+                        final long modified = attributes.lastModifiedTime().toMillis();
+                        walk.emit(new Entry(childPath, 0L, attributes.size(), modified, false, true));
+                    }
+                }
+            }
+            return directories;
+        }
+
+        private BasicFileAttributes readAttributes(final Path path) {
+            try {
+                final BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class,
+                        LinkOption.NOFOLLOW_LINKS);
+                // symbolic links to files are indexed as files, links to directories are not followed
+                if (attributes.isSymbolicLink()) {
+                    final BasicFileAttributes target = Files.readAttributes(path, BasicFileAttributes.class);
+                    return target.isRegularFile() ? target : null;
+                }
+                return attributes;
+            } catch (IOException e) {
+                log.warn("Failed to read attributes of {}: {}.", path, e.getMessage());
+                return null;
+            }
+        }
+    }
+}
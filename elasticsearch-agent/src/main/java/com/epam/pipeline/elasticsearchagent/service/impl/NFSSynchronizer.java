@@ -35,12 +35,16 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.ListUtils;
+import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.mutable.MutableInt;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
+import org.elasticsearch.action.delete.DeleteRequest;
 import org.elasticsearch.action.index.IndexRequest;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
@@ -51,10 +55,13 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -85,6 +92,15 @@ public class NFSSynchronizer implements ElasticsearchSynchronizer {
     private final StorageFileMapper fileMapper = new StorageFileMapper();
     protected final Map<Long, AbstractCloudRegion> cloudRegions;
 
+    @Value("${sync.nfs-file.walk.threads:1}")
+    private int walkThreads;
+    @Value("${sync.nfs-file.index.skip.unchanged.dirs:false}")
+    private boolean skipUnchangedDirectories;
+    @Value("${sync.nfs-file.index.full.rebuild:false}")
+    private boolean forceFullRebuild;
+    private StorageIndexStateManager stateManager;
+    private StorageSyncMetrics syncMetrics;
+
 
     public NFSSynchronizer(@Value("${sync.nfs-file.index.mapping}") String indexSettingsPath,
                            @Value("${sync.nfs-file.root.mount.point}") String rootMountPoint,
@@ -113,6 +129,16 @@ public class NFSSynchronizer implements ElasticsearchSynchronizer {
                 .collect(Collectors.toMap(Pair::getKey, Pair::getValue));
     }
 
+    @Autowired(required = false)
+    public void setStateManager(final StorageIndexStateManager stateManager) {
+        this.stateManager = stateManager;
+    }
+
+    @Autowired(required = false)
+    public void setSyncMetrics(final StorageSyncMetrics syncMetrics) {
+        this.syncMetrics = syncMetrics;
+    }
+
     @Override
     public void synchronize(final LocalDateTime lastSyncTime, final LocalDateTime syncStart) {
         log.debug("Started NFS synchronization");
@@ -137,6 +163,35 @@ public class NFSSynchronizer implements ElasticsearchSynchronizer {
         }
 
         String alias = indexPrefix + indexName + String.format("-%d", dataStorage.getId());
+        if (stateManager == null || forceFullRebuild) {
+            rebuildIndex(alias, dataStorage, regionCode, permissionsContainer);
+            return;
+        }
+        final long schemaFingerprint;
+        final String currentIndexName;
+        final Optional<StorageIndexState> state;
+        try {
+            schemaFingerprint = getSchemaFingerprint(dataStorage, regionCode, permissionsContainer);
+            currentIndexName = elasticsearchServiceClient.getIndexNameByAlias(alias);
+            state = stateManager.load(alias)
+                    .filter(previous -> StringUtils.isNotBlank(currentIndexName)
+                            && previous.isCompatible(schemaFingerprint, currentIndexName));
+        } catch (Exception e) {
+            log.error(e.getMessage(), e);
+            return;
+        }
+        if (state.isPresent()) {
+            updateIndex(alias, currentIndexName, state.get(), dataStorage, regionCode, permissionsContainer);
+        } else {
+            log.info("Storage {} index state is missing or outdated, the index will be rebuilt.",
+                    dataStorage.getId());
+            rebuildIndex(alias, dataStorage, regionCode, permissionsContainer);
+        }
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void rebuildIndex(final String alias, final AbstractDataStorage dataStorage, final String regionCode,
+                              final PermissionsContainer permissionsContainer) {
         String indexName = generateRandomString(5).toLowerCase() + "-" + alias;
         try {
             String currentIndexName = elasticsearchServiceClient.getIndexNameByAlias(alias);
@@ -150,11 +205,19 @@ public class NFSSynchronizer implements ElasticsearchSynchronizer {
                 return;
             }
 
-            createDocuments(indexName, mountFolder, dataStorage, regionCode, permissionsContainer);
-
-            elasticsearchServiceClient.createIndexAlias(indexName, alias);
-            if (StringUtils.isNotBlank(currentIndexName)) {
-                elasticsearchServiceClient.deleteIndex(currentIndexName);
+            if (stateManager == null) {
+                createDocuments(indexName, mountFolder, dataStorage, regionCode, permissionsContainer,
+                        StorageIndexState.empty(0L, indexName), null);
+                swapIndex(alias, indexName, currentIndexName);
+                return;
+            }
+            final long schemaFingerprint = getSchemaFingerprint(dataStorage, regionCode, permissionsContainer);
+            try (StorageIndexStateManager.Writer stateWriter = stateManager.writer(alias, schemaFingerprint,
+                    indexName)) {
+                createDocuments(indexName, mountFolder, dataStorage, regionCode, permissionsContainer,
+                        StorageIndexState.empty(schemaFingerprint, indexName), stateWriter);
+                swapIndex(alias, indexName, currentIndexName);
+                stateWriter.commit();
             }
         } catch (Exception e) {
             log.error(e.getMessage(), e);
@@ -164,6 +227,52 @@ public class NFSSynchronizer implements ElasticsearchSynchronizer {
         }
     }
 
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void updateIndex(final String alias, final String indexName, final StorageIndexState state,
+                             final AbstractDataStorage dataStorage, final String regionCode,
+                             final PermissionsContainer permissionsContainer) {
+        log.debug("Updating storage {} index {} incrementally against {} previously indexed entries.",
+                dataStorage.getId(), indexName, state.size());
+        try {
+            final Path mountFolder = mountStorageToRootIfNecessary(dataStorage);
+            if (mountFolder == null) {
+                log.warn("Unable to retrieve mount for [{}],  skipping...", dataStorage.getName());
+                return;
+            }
+            try (StorageIndexStateManager.Writer stateWriter = stateManager.writer(alias,
+                    state.getSchemaFingerprint(), indexName)) {
+                createDocuments(indexName, mountFolder, dataStorage, regionCode, permissionsContainer,
+                        state, stateWriter);
+                stateWriter.commit();
+            }
+        } catch (Exception e) {
+            log.error(e.getMessage(), e);
+        }
+    }
+
+    private void swapIndex(final String alias, final String indexName, final String currentIndexName) {
+        elasticsearchServiceClient.createIndexAlias(indexName, alias);
+        if (StringUtils.isNotBlank(currentIndexName)) {
+            elasticsearchServiceClient.deleteIndex(currentIndexName);
+        }
+    }
+
+    /**
+     * Fingerprint of everything that affects storage file documents apart from the files themselves.
+     * Any change of it requires a full index rebuild.
+     */
+    private long getSchemaFingerprint(final AbstractDataStorage dataStorage, final String regionCode,
+                                      final PermissionsContainer permissionsContainer) {
+        return StorageIndexState.fingerprint(Arrays.asList(
+                elasticIndexService.getIndexMappingFingerprint(indexSettingsPath),
+                tagDelimiter, regionCode, dataStorage.getName(), dataStorage.getPath(),
+                new TreeSet<>(permissionsContainer.getAllowedUsers()),
+                new TreeSet<>(permissionsContainer.getDeniedUsers()),
+                new TreeSet<>(permissionsContainer.getAllowedGroups()),
+                new TreeSet<>(permissionsContainer.getDeniedGroups()),
+                fileMapper.getSearchMasksFingerprint(dataStorage.getName())));
+    }
+
     protected String getRegionCode(DataStorageWithShareMount storageWithShareMount) {
         return Optional.ofNullable(storageWithShareMount.getShareMount())
                 .flatMap(mount -> Optional.ofNullable(cloudRegions.get(mount.getRegionId()))
@@ -174,22 +283,75 @@ public class NFSSynchronizer implements ElasticsearchSynchronizer {
     private void createDocuments(final String indexName, final Path mountFolder,
                                  final AbstractDataStorage dataStorage,
                                  final String regionCode,
-                                 final PermissionsContainer permissionsContainer) {
-        try (IndexRequestContainer walker = new IndexRequestContainer(requests ->
+                                 final PermissionsContainer permissionsContainer,
+                                 final StorageIndexState state,
+                                 final StorageIndexStateManager.Writer stateWriter) {
+        final long start = System.currentTimeMillis();
+        final NFSDirectoryWalker.Statistics statistics = new NFSDirectoryWalker.Statistics();
+        final MutableInt changed = new MutableInt();
+        final NFSDirectoryWalker walker = new NFSDirectoryWalker(walkThreads, skipUnchangedDirectories);
+        try (IndexRequestContainer requestContainer = new IndexRequestContainer(requests ->
                 elasticsearchServiceClient.sendRequests(indexName, requests), bulkInsertSize);
-             Stream<Path> paths = Files.walk(mountFolder)) {
-            final Stream<DataStorageFile> files = paths
-                    .filter(path -> path.toFile().isFile())
-                    .map(path -> convertToStorageFile(path, mountFolder));
+             Stream<NFSDirectoryWalker.Entry> entries = walker.walk(mountFolder, state.getFingerprints(),
+                     statistics)) {
+            final Stream<DataStorageFile> files = entries
+                    .filter(entry -> isLoadedFile(entry, state, stateWriter))
+                    .map(this::convertToStorageFile);
             processFilesTagsInChunks(dataStorage, files)
+                    .filter(file -> isChanged(file, state, stateWriter))
+                    .peek(file -> changed.increment())
                     .map(file -> createIndexRequest(file, indexName, dataStorage, regionCode, permissionsContainer,
                             findFileContent(dataStorage.getName(), file.getPath(), mountFolder.toString())))
-                    .forEach(walker::add);
-        } catch (IOException e) {
-            throw new IllegalArgumentException("An error occurred during creating document.", e);
+                    .forEach(requestContainer::add);
+            final List<String> deleted = state.getDeletedFiles().stream()
+                    .filter(path -> !NFSDirectoryWalker.isDirectoryKey(path))
+                    .collect(Collectors.toList());
+            deleted.stream()
+                    .map(path -> new DeleteRequest(indexName, DOC_MAPPING_TYPE, path))
+                    .forEach(requestContainer::add);
+            final long duration = System.currentTimeMillis() - start;
+            log.info("Storage {} pass: {} directories listed, {} unchanged directories skipped, "
+                            + "{} directories failed, {} files found, {} new or changed files, "
+                            + "{} deleted files in {} ms.",
+                    dataStorage.getId(), statistics.getListedDirectories().get(),
+                    statistics.getSkippedDirectories().get(), statistics.getFailedDirectories().get(),
+                    statistics.getFiles().get(), changed.intValue(), deleted.size(), duration);
+            if (syncMetrics != null) {
+                syncMetrics.record(DataStorageType.NFS.name(), dataStorage.getId(),
+                        changed.longValue() + deleted.size(), duration);
+            }
         }
     }
 
+    /**
+     * Records directories and files reused from unchanged directories to the new state.
+     *
+     * @return true if the entry is a file which attributes were loaded during the walk
+     */
+    private boolean isLoadedFile(final NFSDirectoryWalker.Entry entry,
+                                 final StorageIndexState state,
+                                 final StorageIndexStateManager.Writer stateWriter) {
+        if (entry.isDirectory() || !entry.isAttributesLoaded()) {
+            state.isChanged(entry.getPath(), entry.getFingerprint());
+            if (stateWriter != null) {
+                stateWriter.add(entry.getPath(), entry.getFingerprint());
+            }
+            return false;
+        }
+        return true;
+    }
+
+    private boolean isChanged(final DataStorageFile file,
+                              final StorageIndexState state,
+                              final StorageIndexStateManager.Writer stateWriter) {
+        final long fingerprint = StorageIndexState.fingerprint(Arrays.asList(file.getPath(), file.getSize(),
+                file.getChanged(), new TreeMap<>(MapUtils.emptyIfNull(file.getTags()))));
+        if (stateWriter != null) {
+            stateWriter.add(file.getPath(), fingerprint);
+        }
+        return state.isChanged(file.getPath(), fingerprint);
+    }
+
     protected Path getMountFolder(final AbstractDataStorage dataStorage) {
         if (dataStorage.isMountExactPath()) {
             final String flatStoragePath = dataStorage.getPath()
@@ -230,13 +392,22 @@ public class NFSSynchronizer implements ElasticsearchSynchronizer {
         return file;
     }
 
+    private DataStorageFile convertToStorageFile(final NFSDirectoryWalker.Entry entry) {
+        final DataStorageFile file = new DataStorageFile();
+        file.setPath(entry.getPath());
+        file.setName(FilenameUtils.getName(file.getPath()));
+        file.setChanged(ESConstants.formatFileDate(new Date(entry.getModified())));
+        file.setSize(entry.getSize());
+        return file;
+    }
+
     private String getRelativePath(final Path mountFolder, final Path path) {
         return mountFolder.relativize(path).toString();
     }
 
     private String getLastModified(final Path path) {
         try {
-            return ESConstants.FILE_DATE_FORMAT.format(Date.from(Files.getLastModifiedTime(path).toInstant()));
+            return ESConstants.formatFileDate(Date.from(Files.getLastModifiedTime(path).toInstant()));
         } catch (IOException e) {
             log.error("Cannot get last modified time for file {}. Error: {}.", path.toAbsolutePath(), e.getMessage());
             return null;
@@ -302,9 +473,8 @@ public class NFSSynchronizer implements ElasticsearchSynchronizer {
                                               final String regionCode,
                                               final PermissionsContainer permissionsContainer,
                                               final String content) {
-        // TODO maybe we can use file path as _id instead of generating it
-        //  on ES side to perform both create and update using this method
-        return new IndexRequest(indexName, DOC_MAPPING_TYPE)
+        // file path is used as a document id to perform both create and update using this method
+        return new IndexRequest(indexName, DOC_MAPPING_TYPE, file.getPath())
                 .source(fileMapper.fileToDocument(file, dataStorage, regionCode, permissionsContainer,
                         SearchDocumentType.NFS_FILE, tagDelimiter, content));
     }
@@ -18,6 +18,7 @@ package com.epam.pipeline.elasticsearchagent.service.impl;
 
 import com.epam.pipeline.elasticsearchagent.exception.ElasticClientException;
 import com.epam.pipeline.elasticsearchagent.model.PermissionsContainer;
+import com.epam.pipeline.elasticsearchagent.service.BulkRequestCreator;
 import com.epam.pipeline.elasticsearchagent.service.ElasticsearchServiceClient;
 import com.epam.pipeline.elasticsearchagent.service.ObjectStorageFileManager;
 import com.epam.pipeline.elasticsearchagent.service.ObjectStorageIndex;
@@ -33,9 +34,7 @@ import com.epam.pipeline.entity.datastorage.DataStorageType;
 import com.epam.pipeline.entity.datastorage.TemporaryCredentials;
 import com.epam.pipeline.entity.datastorage.lifecycle.restore.StorageRestoreAction;
 import com.epam.pipeline.entity.datastorage.lifecycle.restore.StorageRestorePathType;
-import com.epam.pipeline.entity.datastorage.lifecycle.restore.StorageRestoreStatus;
 import com.epam.pipeline.entity.security.acl.AclClass;
-import com.epam.pipeline.entity.utils.DateUtils;
 import com.epam.pipeline.utils.StreamUtils;
 import com.epam.pipeline.entity.search.SearchDocumentType;
 import com.epam.pipeline.vo.EntityPermissionVO;
@@ -52,8 +51,10 @@ import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.mutable.MutableInt;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
+import org.elasticsearch.action.delete.DeleteRequest;
 import org.elasticsearch.action.index.IndexRequest;
 
 import java.io.IOException;
@@ -61,6 +62,8 @@ import java.io.InputStream;
 import java.net.URL;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -69,6 +72,11 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -105,6 +113,10 @@ public class ObjectStorageIndexImpl implements ObjectStorageIndex {
 
     private Set<Long> storageIds;
     private Set<Long> skipStorageIds;
+    private StorageIndexStateManager stateManager;
+    private boolean forceFullRebuild;
+    private StorageSyncSettings syncSettings = StorageSyncSettings.sequential();
+    private StorageSyncMetrics syncMetrics;
 
     private final StorageFileMapper fileMapper = new StorageFileMapper();
 
@@ -114,7 +126,7 @@ public class ObjectStorageIndexImpl implements ObjectStorageIndex {
         fileMapper.updateSearchMasks(cloudPipelineAPIClient, log);
         final Set<Long> excludeStorageIds = loadExcludedStorageIds();
         final List<AbstractDataStorage> allStorages = cloudPipelineAPIClient.loadAllDataStorages();
-        allStorages
+        final List<AbstractDataStorage> storages = allStorages
                 .stream()
                 .filter(dataStorage -> CollectionUtils.isEmpty(excludeStorageIds)
                         || !excludeStorageIds.contains(dataStorage.getId()))
@@ -124,7 +136,26 @@ public class ObjectStorageIndexImpl implements ObjectStorageIndex {
                         || storageIds.contains(dataStorage.getId()))
                 .filter(dataStorage -> dataStorage.getType() == getStorageType())
                 .filter(dataStorage -> isNotSharedOrChild(dataStorage, allStorages))
-                .forEach(this::indexStorage);
+                .collect(Collectors.toList());
+        if (syncSettings.getStorageThreads() <= 1 || storages.size() <= 1) {
+            storages.forEach(this::indexStorage);
+            return;
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(
+                Math.min(syncSettings.getStorageThreads(), storages.size()));
+        try {
+            final CompletableFuture<?>[] tasks = storages.stream()
+                    .map(dataStorage -> CompletableFuture.runAsync(() -> indexStorage(dataStorage), executor)
+                            .exceptionally(e -> {
+                                log.error("An error occurred during storage {} indexing: {}",
+                                        dataStorage.getId(), e.getMessage());
+                                return null;
+                            }))
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(tasks).join();
+        } finally {
+            executor.shutdown();
+        }
     }
 
     private Set<Long> loadExcludedStorageIds() {
@@ -145,35 +176,190 @@ public class ObjectStorageIndexImpl implements ObjectStorageIndex {
                 .map(EntityPermissionVO::getPermissions)
                 .orElse(Collections.emptySet()), dataStorage.getOwner());
         final String alias = indexPrefix + String.format("-%d", dataStorage.getId());
+        final Supplier<TemporaryCredentials> credentialsSupplier = () -> getTemporaryCredentials(dataStorage);
+        if (stateManager == null || forceFullRebuild) {
+            rebuildIndex(dataStorage, permissionsContainer, alias, credentialsSupplier);
+            return;
+        }
+        final TemporaryCredentials credentials;
+        final String currentIndexName;
+        final Optional<StorageIndexState> state;
+        try {
+            credentials = credentialsSupplier.get();
+            final long schemaFingerprint = getSchemaFingerprint(dataStorage, permissionsContainer,
+                    credentials.getRegion());
+            currentIndexName = elasticsearchServiceClient.getIndexNameByAlias(alias);
+            state = stateManager.load(alias)
+                    .filter(previous -> StringUtils.isNotBlank(currentIndexName)
+                            && previous.isCompatible(schemaFingerprint, currentIndexName));
+        } catch (Exception e) {
+            log.error(e.getMessage(), e);
+            return;
+        }
+        if (state.isPresent()) {
+            updateIndex(dataStorage, permissionsContainer, alias, credentialsSupplier, credentials,
+                    currentIndexName, state.get());
+        } else {
+            log.info("Storage {} index state is missing or outdated, the index will be rebuilt.",
+                    dataStorage.getId());
+            rebuildIndex(dataStorage, permissionsContainer, alias, credentialsSupplier);
+        }
+    }
+
+    /**
+     * Writes all storage files into a new index and swaps the storage alias to it.
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void rebuildIndex(final AbstractDataStorage dataStorage,
+                              final PermissionsContainer permissionsContainer,
+                              final String alias,
+                              final Supplier<TemporaryCredentials> credentialsSupplier) {
         final String indexName = generateRandomString(5).toLowerCase() + "-" + alias;
         try {
             final String currentIndexName = initIndex(alias, indexName, dataStorage.getId());
-            final Supplier<TemporaryCredentials> credentialsSupplier = () -> getTemporaryCredentials(dataStorage);
             final TemporaryCredentials credentials = credentialsSupplier.get();
-            try (IndexRequestContainer requestContainer = getRequestContainer(indexName, bulkInsertSize)) {
-
-                final List<StorageRestoreAction> restoreActions = ListUtils.emptyIfNull(
-                        cloudPipelineAPIClient.loadDataStorageRestoreHierarchy(
-                                dataStorage.getId(), ROOT_PATH, StorageRestorePathType.FOLDER, true)
-                );
-
-                final Stream<DataStorageFile> files = dataStorage.isVersioningEnabled() && includeVersions
-                        ? loadFileWithVersions(dataStorage, credentialsSupplier)
-                        : loadFiles(dataStorage, credentialsSupplier);
-                files.flatMap(file -> countRestored(restoreActions, file).stream())
-                        .map(file -> createIndexRequest(
-                                file, dataStorage, permissionsContainer, indexName, credentials.getRegion(),
-                                findFileContent(dataStorage, file.getPath()))
-                        ).forEach(requestContainer::add);
+            if (stateManager == null) {
+                indexFiles(dataStorage, permissionsContainer, credentialsSupplier, credentials, indexName,
+                        StorageIndexState.empty(0L, indexName), null);
+                finalizeIndex(alias, indexName, currentIndexName, dataStorage.getId());
+                return;
+            }
+            final long schemaFingerprint = getSchemaFingerprint(dataStorage, permissionsContainer,
+                    credentials.getRegion());
+            try (StorageIndexStateManager.Writer stateWriter = stateManager.writer(alias, schemaFingerprint,
+                    indexName)) {
+                indexFiles(dataStorage, permissionsContainer, credentialsSupplier, credentials, indexName,
+                        StorageIndexState.empty(schemaFingerprint, indexName), stateWriter);
+                finalizeIndex(alias, indexName, currentIndexName, dataStorage.getId());
+                stateWriter.commit();
             }
-
-            finalizeIndex(alias, indexName, currentIndexName, dataStorage.getId());
         } catch (Exception e) {
             log.error(e.getMessage(), e);
             deleteIndex(indexName, dataStorage.getId());
         }
     }
 
+    /**
+     * Sends only new, changed and deleted files of a storage to its current index.
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void updateIndex(final AbstractDataStorage dataStorage,
+                             final PermissionsContainer permissionsContainer,
+                             final String alias,
+                             final Supplier<TemporaryCredentials> credentialsSupplier,
+                             final TemporaryCredentials credentials,
+                             final String currentIndexName,
+                             final StorageIndexState state) {
+        log.debug("Updating storage {} index {} incrementally against {} previously indexed files.",
+                dataStorage.getId(), currentIndexName, state.size());
+        try (StorageIndexStateManager.Writer stateWriter = stateManager.writer(alias,
+                state.getSchemaFingerprint(), currentIndexName)) {
+            indexFiles(dataStorage, permissionsContainer, credentialsSupplier, credentials, currentIndexName,
+                    state, stateWriter);
+            stateWriter.commit();
+        } catch (Exception e) {
+            log.error(e.getMessage(), e);
+        }
+    }
+
+    private void indexFiles(final AbstractDataStorage dataStorage,
+                            final PermissionsContainer permissionsContainer,
+                            final Supplier<TemporaryCredentials> credentialsSupplier,
+                            final TemporaryCredentials credentials,
+                            final String indexName,
+                            final StorageIndexState state,
+                            final StorageIndexStateManager.Writer stateWriter) {
+        final long start = System.currentTimeMillis();
+        final MutableInt documents = new MutableInt();
+        try (IndexRequestContainer requestContainer = getRequestContainer(indexName, bulkInsertSize)) {
+
+            final StorageRestoreActionIndex restoreActions = StorageRestoreActionIndex.of(
+                    cloudPipelineAPIClient.loadDataStorageRestoreHierarchy(
+                            dataStorage.getId(), ROOT_PATH, StorageRestorePathType.FOLDER, true)
+            );
+
+            final Stream<DataStorageFile> files = dataStorage.isVersioningEnabled() && includeVersions
+                    ? loadFileWithVersions(dataStorage, credentialsSupplier)
+                    : loadFiles(dataStorage, credentialsSupplier);
+            final MutableInt changed = new MutableInt();
+            files.map(file -> countRestored(restoreActions, file))
+                    .filter(restored -> isChanged(restored, state, stateWriter))
+                    .peek(restored -> changed.increment())
+                    .flatMap(List::stream)
+                    .map(file -> createIndexRequest(
+                            file, dataStorage, permissionsContainer, indexName, credentials.getRegion(),
+                            findFileContent(dataStorage, file.getPath()))
+                    )
+                    .peek(request -> documents.increment())
+                    .forEach(requestContainer::add);
+            final Collection<String> deleted = state.getDeletedFiles();
+            deleted.stream()
+                    .map(path -> new DeleteRequest(indexName, DOC_MAPPING_TYPE, path))
+                    .peek(request -> documents.increment())
+                    .forEach(requestContainer::add);
+            log.debug("Storage {} synchronization: {} new or changed files, {} deleted files.",
+                    dataStorage.getId(), changed.intValue(), deleted.size());
+        }
+        if (syncMetrics != null) {
+            syncMetrics.record(getStorageType().name(), dataStorage.getId(), documents.longValue(),
+                    System.currentTimeMillis() - start);
+        }
+    }
+
+    private boolean isChanged(final List<DataStorageFile> restored,
+                              final StorageIndexState state,
+                              final StorageIndexStateManager.Writer stateWriter) {
+        final String path = restored.get(0).getPath();
+        final long fingerprint = getFileFingerprint(restored);
+        if (stateWriter != null) {
+            stateWriter.add(path, fingerprint);
+        }
+        return state.isChanged(path, fingerprint);
+    }
+
+    private long getFileFingerprint(final List<DataStorageFile> files) {
+        final List<Object> values = new ArrayList<>();
+        files.forEach(file -> {
+            addFileFingerprintValues(values, file);
+            MapUtils.emptyIfNull(file.getVersions()).entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey())
+                    .forEach(version -> {
+                        values.add(version.getKey());
+                        addFileFingerprintValues(values, (DataStorageFile) version.getValue());
+                    });
+        });
+        return StorageIndexState.fingerprint(values);
+    }
+
+    private void addFileFingerprintValues(final List<Object> values, final DataStorageFile file) {
+        values.add(file.getPath());
+        values.add(file.getSize());
+        values.add(file.getChanged());
+        values.add(file.getVersion());
+        values.add(file.getDeleteMarker());
+        values.add(new TreeMap<>(MapUtils.emptyIfNull(file.getLabels())));
+        values.add(new TreeMap<>(MapUtils.emptyIfNull(file.getTags())));
+    }
+
+    /**
+     * Fingerprint of everything that affects storage file documents apart from the files themselves.
+     * Any change of it requires a full index rebuild.
+     */
+    private long getSchemaFingerprint(final AbstractDataStorage dataStorage,
+                                      final PermissionsContainer permissionsContainer,
+                                      final String region) {
+        return StorageIndexState.fingerprint(Arrays.asList(
+                elasticIndexService.getIndexMappingFingerprint(indexMappingFile),
+                getDocumentType(), tagDelimiter, includeVersions, region,
+                dataStorage.getName(), dataStorage.getPath(), dataStorage.getPathMask(),
+                dataStorage.getMountPoint(), dataStorage.getDelimiter(),
+                new TreeSet<>(permissionsContainer.getAllowedUsers()),
+                new TreeSet<>(permissionsContainer.getDeniedUsers()),
+                new TreeSet<>(permissionsContainer.getAllowedGroups()),
+                new TreeSet<>(permissionsContainer.getDeniedGroups()),
+                fileMapper.getSearchMasksFingerprint(dataStorage.getName())));
+    }
+
     private void deleteIndex(final String indexName, final Long storageId) {
         lockService.runWithLock(storageId, () -> {
             if (elasticsearchServiceClient.isIndexExists(indexName))  {
@@ -210,15 +396,14 @@ public class ObjectStorageIndexImpl implements ObjectStorageIndex {
     }
 
 
-    private List<DataStorageFile> countRestored(final List<StorageRestoreAction> actions, final DataStorageFile file) {
+    private List<DataStorageFile> countRestored(final StorageRestoreActionIndex actions,
+                                                final DataStorageFile file) {
         final List<DataStorageFile> filesWithRespectToRestoreStatus = new ArrayList<>();
         filesWithRespectToRestoreStatus.add(file);
-        actions.stream().filter(action -> {
-            final boolean pathsMatches = action.getType() == StorageRestorePathType.FILE
-                    ? action.getPath().equals(file.getAbsolutePath())
-                    : file.getAbsolutePath().startsWith(action.getPath());
-            return pathsMatches && StorageRestoreStatus.SUCCEEDED == action.getStatus();
-        }).findAny().ifPresent(action -> {
+        if (actions.isEmpty()) {
+            return filesWithRespectToRestoreStatus;
+        }
+        actions.find(file.getAbsolutePath()).ifPresent(action -> {
 
             // Create second copy of the file with STANDARD_TIER if it's restored,
             // or use original object to hold restored versions
@@ -251,7 +436,7 @@ public class ObjectStorageIndexImpl implements ObjectStorageIndex {
     }
 
     private boolean fileIsCoveredByAction(final DataStorageFile file, final StorageRestoreAction action) {
-        return action.getStarted().isAfter(DateUtils.parse(ESConstants.FILE_DATE_FORMAT, file.getChanged()))
+        return action.getStarted().isAfter(ESConstants.parseFileDate(file.getChanged()))
                 && !file.getLabels().getOrDefault(ESConstants.STORAGE_CLASS_LABEL, STANDARD_TIER).equals(STANDARD_TIER);
     }
 
@@ -293,8 +478,11 @@ public class ObjectStorageIndexImpl implements ObjectStorageIndex {
     }
 
     IndexRequestContainer getRequestContainer(final String indexName, final int bulkInsertSize) {
-        return new IndexRequestContainer(requests -> elasticsearchServiceClient.sendRequests(indexName, requests),
-                bulkInsertSize);
+        final BulkRequestCreator bulkRequestCreator =
+                requests -> elasticsearchServiceClient.sendRequests(indexName, requests);
+        return syncSettings.isPipelined()
+                ? new PipelinedIndexRequestContainer(bulkRequestCreator, bulkInsertSize, syncSettings)
+                : new IndexRequestContainer(bulkRequestCreator, bulkInsertSize);
     }
 
     private TemporaryCredentials getTemporaryCredentials(final AbstractDataStorage dataStorage) {
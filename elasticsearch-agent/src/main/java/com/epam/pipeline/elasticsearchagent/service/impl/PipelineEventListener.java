@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.elasticsearchagent.service.impl;
+
+import com.epam.pipeline.elasticsearchagent.model.PipelineEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Listens to the database notifications about new pipeline events and immediately synchronizes
+ * the affected entities with the matching {@link EntitySynchronizer}s.
+ *
+ * Each notification payload has {@code <object_type>:<object_id>} format. Notifications received
+ * within {@code batchDelayMs} are merged into a single synchronization per object type.
+ * Notifications may be lost while the connection is being restored, such events are processed
+ * by the regular scheduled synchronization.
+ */
+@Slf4j
+public class PipelineEventListener {
+
+    private static final String PAYLOAD_DELIMITER = ":";
+    private static final int IDLE_TIMEOUT_MS = 10000;
+
+    private final String jdbcUrl;
+    private final String username;
+    private final String password;
+    private final String channel;
+    private final Map<PipelineEvent.ObjectType, List<EntitySynchronizer>> synchronizers;
+    private final int batchDelayMs;
+    private final long reconnectDelayMs;
+    private final Map<PipelineEvent.ObjectType, Set<Long>> pending = new EnumMap<>(PipelineEvent.ObjectType.class);
+
+    private volatile boolean running;
+    private Thread thread;
+
+    public PipelineEventListener(final String jdbcUrl, final String username, final String password,
+                                 final String channel, final Collection<EntitySynchronizer> synchronizers,
+                                 final int batchDelayMs, final long reconnectDelayMs) {
+        this.jdbcUrl = jdbcUrl;
+        this.username = username;
+        this.password = password;
+        this.channel = channel;
+        this.synchronizers = synchronizers.stream()
+                .collect(Collectors.groupingBy(EntitySynchronizer::getObjectType));
+        this.batchDelayMs = Math.max(1, batchDelayMs);
+        this.reconnectDelayMs = reconnectDelayMs;
+    }
+
+    public void start() {
+        if (synchronizers.isEmpty()) {
+            log.debug("No entity synchronizers are enabled, pipeline events listener will not be started.");
+            return;
+        }
+        running = true;
+        thread = new Thread(this::listen, "pipeline-event-listener");
+        thread.setDaemon(true);
+        thread.start();
+        log.info("Started listening to {} database notifications for {}.", channel, synchronizers.keySet());
+    }
+
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(jdbcUrl, username, password)) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                receive(connection.unwrap(PGConnection.class));
+            } catch (SQLException e) {
+                log.warn("Pipeline events listener connection failed: {}", e.getMessage());
+                pause();
+            }
+        }
+    }
+
+    private void receive(final PGConnection connection) throws SQLException {
+        long batchStart = 0;
+        while (running) {
+            // waits for the first notification and then collects the following ones until the batch delay is over
+            final int timeout = pending.isEmpty()
+                    ? IDLE_TIMEOUT_MS
+                    : (int) Math.max(1, batchStart + batchDelayMs - System.currentTimeMillis());
+            final PGNotification[] notifications = connection.getNotifications(timeout);
+            if (notifications != null) {
+                if (pending.isEmpty()) {
+                    batchStart = System.currentTimeMillis();
+                }
+                for (final PGNotification notification : notifications) {
+                    register(notification.getParameter());
+                }
+            }
+            if (!pending.isEmpty() && System.currentTimeMillis() - batchStart >= batchDelayMs) {
+                dispatch();
+            }
+        }
+    }
+
+    private void register(final String payload) {
+        final String type = StringUtils.substringBeforeLast(payload, PAYLOAD_DELIMITER);
+        final String id = StringUtils.substringAfterLast(payload, PAYLOAD_DELIMITER);
+        if (StringUtils.isBlank(type) || !StringUtils.isNumeric(id)) {
+            log.debug("Unexpected pipeline event notification: {}", payload);
+            return;
+        }
+        synchronizers.keySet().stream()
+                .filter(objectType -> objectType.getDbName().equalsIgnoreCase(type))
+                .findFirst()
+                .ifPresent(objectType -> pending.computeIfAbsent(objectType, t -> new HashSet<>())
+                        .add(Long.parseLong(id)));
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void dispatch() {
+        pending.forEach((objectType, ids) -> synchronizers.get(objectType).forEach(synchronizer -> {
+            try {
+                synchronizer.synchronize(ids);
+            } catch (Exception e) {
+                log.error("An error during {} synchronization on notification: {}", objectType, e.getMessage());
+            }
+        }));
+        pending.clear();
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(reconnectDelayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
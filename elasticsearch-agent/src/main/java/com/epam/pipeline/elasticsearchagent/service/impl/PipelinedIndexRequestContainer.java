@@ -0,0 +1,232 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.elasticsearchagent.service.impl;
+
+import com.epam.pipeline.elasticsearchagent.service.BulkRequestCreator;
+import com.epam.pipeline.utils.AdaptiveBulkSizer;
+import lombok.extern.slf4j.Slf4j;
+import org.elasticsearch.ElasticsearchException;
+import org.elasticsearch.action.DocWriteRequest;
+import org.elasticsearch.action.bulk.BulkItemResponse;
+import org.elasticsearch.action.bulk.BulkResponse;
+import org.elasticsearch.action.index.IndexRequest;
+import org.elasticsearch.rest.RestStatus;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@link IndexRequestContainer} which doesn't block the caller while bulk requests are in flight.
+ *
+ * Added requests are grouped into bulks limited both by the number of documents, which is adjusted
+ * by {@link AdaptiveBulkSizer}, and by the estimated size in bytes. Bulks are put into a bounded queue
+ * drained by asynchronous workers, so the caller is suspended only if all workers are busy and the queue
+ * is full. Items rejected by elasticsearch are retried with a delay and reduce the bulk size.
+ */
+@Slf4j
+public class PipelinedIndexRequestContainer extends IndexRequestContainer {
+
+    private static final List<DocWriteRequest> END_OF_STREAM = Collections.emptyList();
+    private static final int DEFAULT_REQUEST_BYTES = 128;
+
+    private final BulkRequestCreator bulkRequestCreator;
+    private final StorageSyncSettings settings;
+    private final AdaptiveBulkSizer sizer;
+    private final BlockingQueue<List<DocWriteRequest>> queue;
+    private final ExecutorService workers;
+    private final List<Future<?>> workerTasks = new ArrayList<>();
+    private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong bulkCount = new AtomicLong();
+
+    private List<DocWriteRequest> bulk = new ArrayList<>();
+    private long bulkBytes;
+
+    public PipelinedIndexRequestContainer(final BulkRequestCreator bulkRequestCreator,
+                                          final Integer bulkSize,
+                                          final StorageSyncSettings settings) {
+        super(bulkRequestCreator, bulkSize);
+        this.bulkRequestCreator = bulkRequestCreator;
+        this.settings = settings;
+        this.sizer = new AdaptiveBulkSizer(bulkSize, settings.getTargetBulkLatencyMs());
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, settings.getBulkQueueSize()));
+        this.workers = Executors.newFixedThreadPool(settings.getBulkWorkers());
+        for (int i = 0; i < settings.getBulkWorkers(); i++) {
+            workerTasks.add(workers.submit(this::drain));
+        }
+    }
+
+    @Override
+    public void add(final DocWriteRequest request) {
+        checkFailure();
+        bulk.add(request);
+        bulkBytes += estimateSize(request);
+        if (bulk.size() >= sizer.getBulkSize() || bulkBytes >= settings.getMaxBulkBytes()) {
+            enqueue(bulk);
+            bulk = new ArrayList<>();
+            bulkBytes = 0;
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (!bulk.isEmpty()) {
+                enqueue(bulk);
+                bulk = new ArrayList<>();
+            }
+            for (int i = 0; i < workerTasks.size(); i++) {
+                enqueue(END_OF_STREAM);
+            }
+            for (final Future<?> task : workerTasks) {
+                task.get();
+            }
+        } catch (ExecutionException e) {
+            failure.compareAndSet(null, new IllegalStateException(e.getCause()));
+        } finally {
+            workers.shutdownNow();
+        }
+        log.info("{} documents have been uploaded and {} documents have not been uploaded in {} bulk requests, "
+                        + "{} rejected items were retried, last bulk size {}.",
+                sentCount.get(), failedCount.get(), bulkCount.get(), rejectedCount.get(), sizer.getBulkSize());
+        final RuntimeException e = failure.get();
+        if (e != null) {
+            throw new IllegalStateException("Failed to upload documents: " + e.getMessage(), e);
+        }
+    }
+
+    private void enqueue(final List<DocWriteRequest> requests) {
+        try {
+            queue.put(requests);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a free bulk worker", e);
+        }
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void drain() {
+        while (true) {
+            final List<DocWriteRequest> requests;
+            try {
+                requests = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (requests == END_OF_STREAM) {
+                return;
+            }
+            // keep draining after a failure so that the producer is never blocked on a full queue
+            if (failure.get() != null) {
+                continue;
+            }
+            try {
+                send(requests);
+            } catch (RuntimeException e) {
+                failure.compareAndSet(null, e);
+            }
+        }
+    }
+
+    private void send(final List<DocWriteRequest> requests) {
+        List<DocWriteRequest> pending = requests;
+        int attempt = 0;
+        while (!pending.isEmpty()) {
+            final long start = System.currentTimeMillis();
+            final BulkResponse response;
+            try {
+                response = bulkRequestCreator.sendRequest(pending);
+            } catch (ElasticsearchException e) {
+                if (!isRejected(e.status()) || attempt >= settings.getMaxBulkRetries()) {
+                    throw e;
+                }
+                log.debug("Bulk request of {} documents was rejected, retrying.", pending.size());
+                rejectedCount.addAndGet(pending.size());
+                sizer.onRejection();
+                waitBeforeRetry(++attempt);
+                continue;
+            }
+            bulkCount.incrementAndGet();
+            final List<DocWriteRequest> rejected = new ArrayList<>();
+            long failed = 0;
+            if (response != null && response.getItems() != null) {
+                for (final BulkItemResponse item : response.getItems()) {
+                    if (!item.isFailed()) {
+                        continue;
+                    }
+                    if (isRejected(item.status()) && attempt < settings.getMaxBulkRetries()) {
+                        rejected.add(pending.get(item.getItemId()));
+                    } else {
+                        failed++;
+                        log.debug("One of the documents has not been uploaded due to: {}",
+                                item.getFailureMessage());
+                    }
+                }
+            }
+            sentCount.addAndGet(pending.size() - rejected.size() - failed);
+            failedCount.addAndGet(failed);
+            if (rejected.isEmpty()) {
+                sizer.onSuccess(pending.size(), System.currentTimeMillis() - start);
+                return;
+            }
+            log.debug("{} of {} bulk items were rejected, retrying.", rejected.size(), pending.size());
+            rejectedCount.addAndGet(rejected.size());
+            sizer.onRejection();
+            waitBeforeRetry(++attempt);
+            pending = rejected;
+        }
+    }
+
+    private boolean isRejected(final RestStatus status) {
+        return status == RestStatus.TOO_MANY_REQUESTS;
+    }
+
+    private void waitBeforeRetry(final int attempt) {
+        try {
+            Thread.sleep(settings.getBulkRetryDelayMs() * attempt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a bulk request retry", e);
+        }
+    }
+
+    private long estimateSize(final DocWriteRequest request) {
+        if (request instanceof IndexRequest && ((IndexRequest) request).source() != null) {
+            return ((IndexRequest) request).source().length();
+        }
+        return DEFAULT_REQUEST_BYTES;
+    }
+
+    private void checkFailure() {
+        final RuntimeException e = failure.get();
+        if (e != null) {
+            throw e;
+        }
+    }
+}
@@ -222,7 +222,7 @@ public class S3FileManager implements ObjectStorageFileManager {
             file.setPath(s3ObjectSummary.getKey());
             file.setSize(s3ObjectSummary.getSize());
             file.setVersion(null);
-            file.setChanged(ESConstants.FILE_DATE_FORMAT.format(s3ObjectSummary.getLastModified()));
+            file.setChanged(ESConstants.formatFileDate(s3ObjectSummary.getLastModified()));
             file.setDeleteMarker(null);
             file.setLabels(Optional.ofNullable(s3ObjectSummary.getStorageClass())
                     .map(it -> Collections.singletonMap(ESConstants.STORAGE_CLASS_LABEL, it))
@@ -281,7 +281,7 @@ public class S3FileManager implements ObjectStorageFileManager {
             if (summary.getVersionId() != null && !summary.getVersionId().equals("null")) {
                 file.setVersion(summary.getVersionId());
             }
-            file.setChanged(ESConstants.FILE_DATE_FORMAT.format(summary.getLastModified()));
+            file.setChanged(ESConstants.formatFileDate(summary.getLastModified()));
             file.setDeleteMarker(summary.isDeleteMarker());
             final Map<String, String> labels = new HashMap<>();
             labels.put("LATEST", BooleanUtils.toStringTrueFalse(summary.isLatest()));
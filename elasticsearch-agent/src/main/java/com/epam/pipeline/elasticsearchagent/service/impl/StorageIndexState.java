@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.elasticsearchagent.service.impl;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.collections4.MapUtils;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Compact state of a storage index produced by the previous synchronization: a storage level
+ * schema fingerprint, the index the documents were written to and a fingerprint of each indexed file.
+ *
+ * The state is used to diff a new storage listing against the previous one, so that only
+ * new, changed and deleted files are sent to the existing index.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class StorageIndexState {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final char SEPARATOR = '\u0000';
+
+    private final long schemaFingerprint;
+    private final String indexName;
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Long> fileFingerprints;
+
+    /**
+     * Creates a state which doesn't contain any file, every file is reported as changed against it.
+     */
+    public static StorageIndexState empty(final long schemaFingerprint, final String indexName) {
+        return new StorageIndexState(schemaFingerprint, indexName, new HashMap<>());
+    }
+
+    public boolean isCompatible(final long schemaFingerprint, final String indexName) {
+        return this.schemaFingerprint == schemaFingerprint && Objects.equals(this.indexName, indexName);
+    }
+
+    /**
+     * Marks the file as present in the current listing.
+     *
+     * @return true if the file is new or its fingerprint differs from the previous one
+     */
+    public boolean isChanged(final String path, final long fingerprint) {
+        final Long previous = fileFingerprints.remove(path);
+        return previous == null || previous != fingerprint;
+    }
+
+    /**
+     * @return files which were present in the previous state but not reported to
+     * {@link #isChanged(String, long)} during the current listing
+     */
+    public Collection<String> getDeletedFiles() {
+        return MapUtils.isEmpty(fileFingerprints)
+                ? Collections.emptyList()
+                : Collections.unmodifiableCollection(fileFingerprints.keySet());
+    }
+
+    /**
+     * @return read only view of the fingerprints which were not yet reported to {@link #isChanged(String, long)}
+     */
+    Map<String, Long> getFingerprints() {
+        return Collections.unmodifiableMap(fileFingerprints);
+    }
+
+    public int size() {
+        return fileFingerprints.size();
+    }
+
+    static long fingerprint(final List<?> values) {
+        long hash = FNV_OFFSET;
+        for (final Object value : values) {
+            final String string = String.valueOf(value);
+            for (int i = 0; i < string.length(); i++) {
+                hash ^= string.charAt(i);
+                hash *= FNV_PRIME;
+            }
+            hash ^= SEPARATOR;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
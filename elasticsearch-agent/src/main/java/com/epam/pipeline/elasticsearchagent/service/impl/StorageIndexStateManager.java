@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.elasticsearchagent.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Stores {@link StorageIndexState} of each synchronized storage as a gzipped binary file
+ * {@code <state directory>/<prefix>-<storage id>.state}.
+ *
+ * A state file is replaced atomically only after the corresponding synchronization succeeds,
+ * a missing, truncated or corrupted file is treated as absent state.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class StorageIndexStateManager {
+
+    private static final int FORMAT_VERSION = 1;
+    private static final String STATE_EXTENSION = ".state";
+    private static final String TMP_EXTENSION = ".tmp";
+
+    private final String stateDirectory;
+
+    public Optional<StorageIndexState> load(final String storageKey) {
+        final Path path = getStatePath(storageKey);
+        if (Files.notExists(path)) {
+            return Optional.empty();
+        }
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(path))))) {
+            if (input.readInt() != FORMAT_VERSION) {
+                log.info("Storage index state {} has unsupported format and will be ignored.", path);
+                return Optional.empty();
+            }
+            final long schemaFingerprint = input.readLong();
+            final String indexName = input.readUTF();
+            final Map<String, Long> files = new HashMap<>();
+            while (input.readBoolean()) {
+                final String filePath = input.readUTF();
+                files.put(filePath, input.readLong());
+            }
+            return Optional.of(new StorageIndexState(schemaFingerprint, indexName, files));
+        } catch (IOException e) {
+            log.warn("Failed to read storage index state {}: {}.", path, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public Writer writer(final String storageKey, final long schemaFingerprint, final String indexName) {
+        try {
+            Files.createDirectories(Paths.get(stateDirectory));
+            return new Writer(getStatePath(storageKey), schemaFingerprint, indexName);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void delete(final String storageKey) {
+        try {
+            Files.deleteIfExists(getStatePath(storageKey));
+        } catch (IOException e) {
+            log.warn("Failed to delete storage index state for {}: {}.", storageKey, e.getMessage());
+        }
+    }
+
+    private Path getStatePath(final String storageKey) {
+        return Paths.get(stateDirectory, storageKey + STATE_EXTENSION);
+    }
+
+    /**
+     * Writes a new storage state to a temporary file which replaces the current state on {@link #commit()}.
+     * Closing a writer without commit discards the written state.
+     */
+    public static final class Writer implements AutoCloseable {
+
+        private final Path target;
+        private final Path temporary;
+        private final DataOutputStream output;
+        private boolean committed;
+
+        private Writer(final Path target, final long schemaFingerprint, final String indexName) throws IOException {
+            this.target = target;
+            this.temporary = target.resolveSibling(target.getFileName() + TMP_EXTENSION);
+            this.output = new DataOutputStream(new BufferedOutputStream(
+                    new GZIPOutputStream(Files.newOutputStream(temporary))));
+            output.writeInt(FORMAT_VERSION);
+            output.writeLong(schemaFingerprint);
+            output.writeUTF(indexName);
+        }
+
+        public void add(final String path, final long fingerprint) {
+            try {
+                output.writeBoolean(true);
+                output.writeUTF(path);
+                output.writeLong(fingerprint);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        public void commit() {
+            try {
+                output.writeBoolean(false);
+                output.close();
+                Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                committed = true;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void close() {
+            if (committed) {
+                return;
+            }
+            try {
+                output.close();
+                Files.deleteIfExists(temporary);
+            } catch (IOException e) {
+                log.warn("Failed to discard storage index state {}: {}.", temporary, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.elasticsearchagent.service.impl;
+
+import com.epam.pipeline.entity.datastorage.lifecycle.restore.StorageRestoreAction;
+import com.epam.pipeline.entity.datastorage.lifecycle.restore.StorageRestorePathType;
+import com.epam.pipeline.entity.datastorage.lifecycle.restore.StorageRestoreStatus;
+import org.apache.commons.collections4.ListUtils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Index of succeeded storage restore actions which resolves an action covering a file in O(path length)
+ * instead of matching the file against every action.
+ *
+ * File actions match the exact file path and folder actions match any path which starts with the action path.
+ * If several actions match a path, the first of them in the original actions order is returned.
+ */
+public final class StorageRestoreActionIndex {
+
+    private final Map<String, IndexedAction> fileActions = new HashMap<>();
+    private final Node folderActions = new Node();
+
+    private StorageRestoreActionIndex(final List<StorageRestoreAction> actions) {
+        for (int i = 0; i < actions.size(); i++) {
+            final StorageRestoreAction action = actions.get(i);
+            if (action.getStatus() != StorageRestoreStatus.SUCCEEDED || action.getPath() == null) {
+                continue;
+            }
+            final IndexedAction indexed = new IndexedAction(i, action);
+            if (action.getType() == StorageRestorePathType.FILE) {
+                fileActions.putIfAbsent(action.getPath(), indexed);
+            } else {
+                folderActions.add(action.getPath(), indexed);
+            }
+        }
+    }
+
+    public static StorageRestoreActionIndex of(final List<StorageRestoreAction> actions) {
+        return new StorageRestoreActionIndex(ListUtils.emptyIfNull(actions));
+    }
+
+    public boolean isEmpty() {
+        return fileActions.isEmpty() && folderActions.isEmpty();
+    }
+
+    public Optional<StorageRestoreAction> find(final String path) {
+        IndexedAction found = fileActions.get(path);
+        Node node = folderActions;
+        int position = 0;
+        while (node != null) {
+            if (node.action != null && (found == null || node.action.order < found.order)) {
+                found = node.action;
+            }
+            if (position == path.length()) {
+                break;
+            }
+            node = node.children.get(path.charAt(position++));
+        }
+        return Optional.ofNullable(found).map(indexed -> indexed.action);
+    }
+
+    private static final class IndexedAction {
+        private final int order;
+        private final StorageRestoreAction action;
+
+        private IndexedAction(final int order, final StorageRestoreAction action) {
+            this.order = order;
+            this.action = action;
+        }
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private IndexedAction action;
+
+        private void add(final String path, final IndexedAction indexed) {
+            Node node = this;
+            for (int i = 0; i < path.length(); i++) {
+                node = node.children.computeIfAbsent(path.charAt(i), c -> new Node());
+            }
+            if (node.action == null) {
+                node.action = indexed;
+            }
+        }
+
+        private boolean isEmpty() {
+            return action == null && children.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.elasticsearchagent.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Exposes per storage synchronization throughput: the number of sent documents,
+ * the synchronization duration and the documents per second rate of the last synchronization.
+ */
+@RequiredArgsConstructor
+public class StorageSyncMetrics {
+
+    private static final String DOCUMENTS = "storage.sync.documents";
+    private static final String DURATION = "storage.sync.duration";
+    private static final String THROUGHPUT = "storage.sync.throughput";
+    private static final String TYPE_TAG = "type";
+    private static final String STORAGE_TAG = "storage_id";
+    private static final long MILLIS_IN_SECOND = 1000L;
+
+    private final MeterRegistry registry;
+    private final Map<Tags, AtomicLong> throughputs = new ConcurrentHashMap<>();
+
+    public void record(final String storageType, final Long storageId, final long documents, final long durationMs) {
+        final Tags tags = Tags.of(TYPE_TAG, storageType, STORAGE_TAG, String.valueOf(storageId));
+        Counter.builder(DOCUMENTS)
+                .description("Documents sent to elasticsearch during storage synchronization")
+                .tags(tags)
+                .register(registry)
+                .increment(documents);
+        Timer.builder(DURATION)
+                .description("Storage synchronization duration")
+                .tags(tags)
+                .register(registry)
+                .record(durationMs, TimeUnit.MILLISECONDS);
+        throughputs.computeIfAbsent(tags, this::registerThroughput)
+                .set(durationMs > 0 ? documents * MILLIS_IN_SECOND / durationMs : documents);
+    }
+
+    private AtomicLong registerThroughput(final Tags tags) {
+        final AtomicLong throughput = new AtomicLong();
+        Gauge.builder(THROUGHPUT, throughput, AtomicLong::get)
+                .description("Documents per second sent during the last storage synchronization")
+                .tags(tags)
+                .baseUnit("documents/s")
+                .register(registry);
+        return throughput;
+    }
+}
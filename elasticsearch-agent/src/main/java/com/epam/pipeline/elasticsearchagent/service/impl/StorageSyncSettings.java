@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.elasticsearchagent.service.impl;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Concurrency settings of object storage files synchronization.
+ */
+@Value
+@Builder
+public class StorageSyncSettings {
+
+    private static final int DEFAULT_MAX_BULK_BYTES = 10 * 1024 * 1024;
+    private static final int DEFAULT_TARGET_BULK_LATENCY_MS = 1000;
+    private static final int DEFAULT_BULK_RETRY_DELAY_MS = 1000;
+
+    /**
+     * Number of storages synchronized concurrently.
+     */
+    @Builder.Default
+    int storageThreads = 1;
+    /**
+     * Number of asynchronous bulk workers per storage, 0 means that bulk requests are sent
+     * synchronously from the listing thread.
+     */
+    @Builder.Default
+    int bulkWorkers = 0;
+    /**
+     * Number of prepared bulk requests which may wait for a free worker before listing is suspended.
+     */
+    @Builder.Default
+    int bulkQueueSize = 1;
+    @Builder.Default
+    long maxBulkBytes = DEFAULT_MAX_BULK_BYTES;
+    /**
+     * Bulk request latency above which bulk size is decreased.
+     */
+    @Builder.Default
+    long targetBulkLatencyMs = DEFAULT_TARGET_BULK_LATENCY_MS;
+    /**
+     * Number of retries of bulk items rejected by elasticsearch.
+     */
+    @Builder.Default
+    int maxBulkRetries = 3;
+    @Builder.Default
+    long bulkRetryDelayMs = DEFAULT_BULK_RETRY_DELAY_MS;
+
+    public static StorageSyncSettings sequential() {
+        return StorageSyncSettings.builder().build();
+    }
+
+    public boolean isPipelined() {
+        return bulkWorkers > 0;
+    }
+}
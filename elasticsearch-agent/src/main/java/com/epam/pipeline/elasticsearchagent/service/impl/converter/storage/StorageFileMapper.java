@@ -179,6 +179,13 @@ public class StorageFileMapper {
         indexContentMasks.putAll(newIndexContentMasks);
     }
 
+    /**
+     * @return hash of hidden and indexed content masks which are applied to the files of the storage
+     */
+    public int getSearchMasksFingerprint(final String storageName) {
+        return Objects.hash(hiddenMasks.get(storageName), indexContentMasks.get(storageName));
+    }
+
     public boolean isSkipContent(final String storageName, final String filePath) {
         return !isMaskMatch(storageName, filePath, indexContentMasks);
     }
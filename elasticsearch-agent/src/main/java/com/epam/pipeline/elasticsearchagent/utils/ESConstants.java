@@ -16,8 +16,12 @@
 
 package com.epam.pipeline.elasticsearchagent.utils;
 
+import com.epam.pipeline.entity.utils.DateUtils;
+
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
+import java.time.LocalDateTime;
+import java.util.Date;
 
 public final class ESConstants {
 
@@ -30,4 +34,20 @@ public final class ESConstants {
     private ESConstants() {
         //
     }
+
+    /**
+     * Formats file modification date with {@link #FILE_DATE_FORMAT}
+     * which may be shared by storages synchronized concurrently.
+     */
+    public static String formatFileDate(final Date date) {
+        synchronized (FILE_DATE_FORMAT) {
+            return FILE_DATE_FORMAT.format(date);
+        }
+    }
+
+    public static LocalDateTime parseFileDate(final String date) {
+        synchronized (FILE_DATE_FORMAT) {
+            return DateUtils.parse(FILE_DATE_FORMAT, date);
+        }
+    }
 }
@@ -24,6 +24,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -72,4 +73,15 @@ class PipelineEventDaoTest extends AbstractSpringApplicationTest {
                 pipelineEventDao.loadPipelineEventsByObjectType(PipelineEvent.ObjectType.PIPELINE, LocalDateTime.now());
         assertEquals(0, actualEvents.size());
     }
+
+    @Test
+    void shouldLoadEventsByObjectIdsTest() {
+        pipelineEventDao.createPipelineEvent(expectedPipelineEvent);
+        expectedPipelineEvent.setObjectId(2L);
+        pipelineEventDao.createPipelineEvent(expectedPipelineEvent);
+        final List<PipelineEvent> pipelineEvents = pipelineEventDao.loadPipelineEventsByObjectIds(
+                PipelineEvent.ObjectType.PIPELINE, Collections.singletonList(2L), LocalDateTime.now());
+        assertEquals(1, pipelineEvents.size());
+        assertEquals(2L, (long) pipelineEvents.get(0).getObjectId());
+    }
 }
\ No newline at end of file
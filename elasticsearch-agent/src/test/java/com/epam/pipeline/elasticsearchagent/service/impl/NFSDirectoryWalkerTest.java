@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.elasticsearchagent.service.impl;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NFSDirectoryWalkerTest {
+
+    private static final String FILE_1 = "file1";
+    private static final String FILE_2 = "dir1/file2";
+    private static final String FILE_3 = "dir1/dir2/file3";
+    private static final String FILE_4 = "dir3/file4";
+    private static final int THREADS = 4;
+
+    private Path root;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        root = Files.createTempDirectory("nfs-walker");
+        for (final String file : new String[]{FILE_1, FILE_2, FILE_3, FILE_4}) {
+            final Path path = root.resolve(file);
+            Files.createDirectories(path.getParent());
+            Files.write(path, file.getBytes());
+        }
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(root.toFile());
+    }
+
+    @Test
+    public void shouldFindAllFilesAndDirectories() {
+        final NFSDirectoryWalker.Statistics statistics = new NFSDirectoryWalker.Statistics();
+        final List<NFSDirectoryWalker.Entry> entries = walk(new NFSDirectoryWalker(THREADS, false),
+                Collections.emptyMap(), statistics);
+
+        assertThat(paths(entries, false), containsInAnyOrder(FILE_1, FILE_2, FILE_3, FILE_4));
+        assertThat(paths(entries, true), containsInAnyOrder("/", "dir1/", "dir1/dir2/", "dir3/"));
+        assertTrue(entries.stream().filter(entry -> !entry.isDirectory())
+                .allMatch(NFSDirectoryWalker.Entry::isAttributesLoaded));
+        assertThat(statistics.getListedDirectories().get(), is(4L));
+        assertThat(statistics.getFiles().get(), is(4L));
+    }
+
+    @Test
+    public void shouldReuseUnchangedDirectories() throws IOException {
+        final Map<String, Long> previous = walk(new NFSDirectoryWalker(THREADS, false),
+                Collections.emptyMap(), new NFSDirectoryWalker.Statistics()).stream()
+                .collect(Collectors.toMap(NFSDirectoryWalker.Entry::getPath,
+                        NFSDirectoryWalker.Entry::getFingerprint));
+        final String newFile = "dir3/file5";
+        Files.write(root.resolve(newFile), newFile.getBytes());
+        Files.setLastModifiedTime(root.resolve("dir3"),
+                Files.getLastModifiedTime(root.resolve("dir3")).toMillis() + 1000L);
+
+        final NFSDirectoryWalker.Statistics statistics = new NFSDirectoryWalker.Statistics();
+        final List<NFSDirectoryWalker.Entry> entries = walk(new NFSDirectoryWalker(THREADS, true),
+                previous, statistics);
+
+        assertThat(paths(entries, false), containsInAnyOrder(FILE_1, FILE_2, FILE_3, FILE_4, newFile));
+        assertThat(statistics.getSkippedDirectories().get(), is(3L));
+        assertThat(statistics.getListedDirectories().get(), is(1L));
+        final Set<String> loaded = entries.stream()
+                .filter(entry -> !entry.isDirectory() && entry.isAttributesLoaded())
+                .map(NFSDirectoryWalker.Entry::getPath)
+                .collect(Collectors.toSet());
+        assertThat(loaded, containsInAnyOrder(FILE_4, newFile));
+        assertFalse(entries.stream()
+                .filter(entry -> entry.getPath().equals(FILE_1))
+                .anyMatch(NFSDirectoryWalker.Entry::isAttributesLoaded));
+    }
+
+    private List<NFSDirectoryWalker.Entry> walk(final NFSDirectoryWalker walker,
+                                                final Map<String, Long> previous,
+                                                final NFSDirectoryWalker.Statistics statistics) {
+        try (Stream<NFSDirectoryWalker.Entry> entries = walker.walk(root, previous, statistics)) {
+            return entries.collect(Collectors.toList());
+        }
+    }
+
+    private List<String> paths(final List<NFSDirectoryWalker.Entry> entries, final boolean directories) {
+        return entries.stream()
+                .filter(entry -> entry.isDirectory() == directories)
+                .map(NFSDirectoryWalker.Entry::getPath)
+                .collect(Collectors.toList());
+    }
+}
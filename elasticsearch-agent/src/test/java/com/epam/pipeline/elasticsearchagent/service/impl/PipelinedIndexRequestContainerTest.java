@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.elasticsearchagent.service.impl;
+
+import com.epam.pipeline.elasticsearchagent.service.BulkRequestCreator;
+import org.elasticsearch.action.DocWriteRequest;
+import org.elasticsearch.action.bulk.BulkItemResponse;
+import org.elasticsearch.action.bulk.BulkResponse;
+import org.elasticsearch.action.index.IndexRequest;
+import org.elasticsearch.action.index.IndexResponse;
+import org.elasticsearch.common.util.concurrent.EsRejectedExecutionException;
+import org.elasticsearch.index.Index;
+import org.elasticsearch.index.shard.ShardId;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PipelinedIndexRequestContainerTest {
+
+    private static final String INDEX_NAME = "index";
+    private static final int DOCUMENTS = 95;
+    private static final int BULK_SIZE = 10;
+
+    private final StorageSyncSettings settings = StorageSyncSettings.builder()
+            .bulkWorkers(2)
+            .bulkQueueSize(1)
+            .bulkRetryDelayMs(0)
+            .build();
+
+    @Test
+    public void shouldSendAllDocuments() {
+        final Set<String> sent = ConcurrentHashMap.newKeySet();
+        final BulkRequestCreator creator = requests -> {
+            final List<BulkItemResponse> items = new ArrayList<>();
+            for (int i = 0; i < requests.size(); i++) {
+                sent.add(requests.get(i).id());
+                items.add(success(i, requests.get(i).id()));
+            }
+            return response(items);
+        };
+
+        indexDocuments(creator);
+
+        assertThat(sent, is(expectedIds()));
+    }
+
+    @Test
+    public void shouldRetryRejectedDocuments() {
+        final Set<String> sent = ConcurrentHashMap.newKeySet();
+        final Set<String> rejectedOnce = ConcurrentHashMap.newKeySet();
+        final AtomicInteger rejections = new AtomicInteger();
+        final BulkRequestCreator creator = requests -> {
+            final List<BulkItemResponse> items = new ArrayList<>();
+            for (int i = 0; i < requests.size(); i++) {
+                final String id = requests.get(i).id();
+                if (Integer.parseInt(id) % 2 == 0 && rejectedOnce.add(id)) {
+                    rejections.incrementAndGet();
+                    items.add(rejection(i, id));
+                } else {
+                    sent.add(id);
+                    items.add(success(i, id));
+                }
+            }
+            return response(items);
+        };
+
+        indexDocuments(creator);
+
+        assertThat(rejections.get(), greaterThan(0));
+        assertThat(sent, is(expectedIds()));
+    }
+
+    @Test
+    public void shouldFailIfBulkRequestFails() {
+        final BulkRequestCreator creator = requests -> {
+            throw new IllegalStateException("Elasticsearch is not available");
+        };
+
+        assertThrows(IllegalStateException.class, () -> indexDocuments(creator));
+    }
+
+    private void indexDocuments(final BulkRequestCreator creator) {
+        try (IndexRequestContainer container = new PipelinedIndexRequestContainer(creator, BULK_SIZE, settings)) {
+            IntStream.range(0, DOCUMENTS)
+                    .mapToObj(i -> new IndexRequest(INDEX_NAME).id(String.valueOf(i))
+                            .source(Collections.singletonMap("name", "file" + i)))
+                    .forEach(container::add);
+        }
+    }
+
+    private Set<String> expectedIds() {
+        return IntStream.range(0, DOCUMENTS).mapToObj(String::valueOf).collect(Collectors.toSet());
+    }
+
+    private BulkItemResponse success(final int item, final String id) {
+        final ShardId shardId = new ShardId(new Index(INDEX_NAME, INDEX_NAME), 1);
+        return new BulkItemResponse(item, DocWriteRequest.OpType.INDEX,
+                new IndexResponse(shardId, INDEX_NAME, id, 1, 1, 1, true));
+    }
+
+    private BulkItemResponse rejection(final int item, final String id) {
+        return new BulkItemResponse(item, DocWriteRequest.OpType.INDEX,
+                new BulkItemResponse.Failure(INDEX_NAME, INDEX_NAME, id,
+                        new EsRejectedExecutionException("rejected execution")));
+    }
+
+    private BulkResponse response(final List<BulkItemResponse> items) {
+        return new BulkResponse(items.toArray(new BulkItemResponse[0]), 1L);
+    }
+}
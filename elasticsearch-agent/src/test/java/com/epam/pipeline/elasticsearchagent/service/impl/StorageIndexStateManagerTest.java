@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.elasticsearchagent.service.impl;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StorageIndexStateManagerTest {
+
+    private static final String STORAGE_KEY = "cp-s3-file-1";
+    private static final String INDEX_NAME = "abcde-cp-s3-file-1";
+    private static final long SCHEMA = 42L;
+    private static final String FILE_1 = "dir/file1";
+    private static final String FILE_2 = "dir/file2";
+    private static final String FILE_3 = "file3";
+
+    private Path stateDirectory;
+    private StorageIndexStateManager stateManager;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        stateDirectory = Files.createTempDirectory("storage-index-state");
+        stateManager = new StorageIndexStateManager(stateDirectory.toString());
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(stateDirectory.toFile());
+    }
+
+    @Test
+    public void shouldReturnEmptyStateIfNothingWasCommitted() {
+        try (StorageIndexStateManager.Writer writer = stateManager.writer(STORAGE_KEY, SCHEMA, INDEX_NAME)) {
+            writer.add(FILE_1, 1L);
+        }
+        assertFalse(stateManager.load(STORAGE_KEY).isPresent());
+    }
+
+    @Test
+    public void shouldDiffListingAgainstCommittedState() {
+        try (StorageIndexStateManager.Writer writer = stateManager.writer(STORAGE_KEY, SCHEMA, INDEX_NAME)) {
+            writer.add(FILE_1, 1L);
+            writer.add(FILE_2, 2L);
+            writer.add(FILE_3, 3L);
+            writer.commit();
+        }
+
+        final Optional<StorageIndexState> loaded = stateManager.load(STORAGE_KEY);
+        assertTrue(loaded.isPresent());
+        final StorageIndexState state = loaded.get();
+        assertTrue(state.isCompatible(SCHEMA, INDEX_NAME));
+        assertFalse(state.isCompatible(SCHEMA + 1, INDEX_NAME));
+        assertThat(state.size(), is(3));
+
+        assertFalse(state.isChanged(FILE_1, 1L));
+        assertTrue(state.isChanged(FILE_2, 5L));
+        assertTrue(state.isChanged("new", 1L));
+        assertThat(state.getDeletedFiles(), contains(FILE_3));
+    }
+
+    @Test
+    public void shouldIgnoreCorruptedState() throws IOException {
+        Files.write(stateDirectory.resolve(STORAGE_KEY + ".state"), Collections.singletonList("corrupted"));
+        assertFalse(stateManager.load(STORAGE_KEY).isPresent());
+    }
+
+    @Test
+    public void shouldCalculateOrderSensitiveFingerprint() {
+        assertThat(StorageIndexState.fingerprint(Arrays.asList("a", 1L)),
+                is(StorageIndexState.fingerprint(Arrays.asList("a", 1L))));
+        assertFalse(StorageIndexState.fingerprint(Arrays.asList("a", "b"))
+                == StorageIndexState.fingerprint(Arrays.asList("ab", "")));
+        assertFalse(StorageIndexState.fingerprint(Arrays.asList("a", "b"))
+                == StorageIndexState.fingerprint(Arrays.asList("b", "a")));
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.elasticsearchagent.service.impl;
+
+import com.epam.pipeline.entity.datastorage.lifecycle.restore.StorageRestoreAction;
+import com.epam.pipeline.entity.datastorage.lifecycle.restore.StorageRestorePathType;
+import com.epam.pipeline.entity.datastorage.lifecycle.restore.StorageRestoreStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StorageRestoreActionIndexTest {
+
+    private static final int ACTIONS = 200;
+    private static final int FILES = 5000;
+
+    @Test
+    public void shouldMatchFileAndFolderActions() {
+        final StorageRestoreAction file = action(1L, "/dir/file.txt", StorageRestorePathType.FILE,
+                StorageRestoreStatus.SUCCEEDED);
+        final StorageRestoreAction folder = action(2L, "/other/", StorageRestorePathType.FOLDER,
+                StorageRestoreStatus.SUCCEEDED);
+        final StorageRestoreAction running = action(3L, "/dir/", StorageRestorePathType.FOLDER,
+                StorageRestoreStatus.RUNNING);
+        final StorageRestoreActionIndex index = StorageRestoreActionIndex.of(Arrays.asList(file, folder, running));
+
+        assertThat(index.find("/dir/file.txt"), is(Optional.of(file)));
+        assertThat(index.find("/other/nested/file.txt"), is(Optional.of(folder)));
+        assertFalse(index.find("/dir/file.txt.bak").isPresent());
+        assertFalse(index.find("/dir/another.txt").isPresent());
+    }
+
+    @Test
+    public void shouldBeEmptyWithoutSucceededActions() {
+        assertTrue(StorageRestoreActionIndex.of(null).isEmpty());
+        assertTrue(StorageRestoreActionIndex.of(Collections.singletonList(action(1L, "/",
+                StorageRestorePathType.FOLDER, StorageRestoreStatus.FAILED))).isEmpty());
+    }
+
+    @Test
+    public void shouldResolveSameActionsAsLinearMatching() {
+        final Random random = new Random(42);
+        final List<StorageRestoreAction> actions = new ArrayList<>();
+        for (int i = 0; i < ACTIONS; i++) {
+            final StorageRestorePathType type = random.nextBoolean()
+                    ? StorageRestorePathType.FILE
+                    : StorageRestorePathType.FOLDER;
+            final StorageRestoreStatus status = random.nextInt(4) == 0
+                    ? StorageRestoreStatus.FAILED
+                    : StorageRestoreStatus.SUCCEEDED;
+            actions.add(action((long) i, randomPath(random), type, status));
+        }
+        final StorageRestoreActionIndex index = StorageRestoreActionIndex.of(actions);
+
+        for (int i = 0; i < FILES; i++) {
+            final String path = randomPath(random);
+            assertThat(path, index.find(path), is(findLinear(actions, path)));
+        }
+    }
+
+    private Optional<StorageRestoreAction> findLinear(final List<StorageRestoreAction> actions, final String path) {
+        return actions.stream()
+                .filter(action -> action.getType() == StorageRestorePathType.FILE
+                        ? action.getPath().equals(path)
+                        : path.startsWith(action.getPath()))
+                .filter(action -> action.getStatus() == StorageRestoreStatus.SUCCEEDED)
+                .findFirst();
+    }
+
+    private String randomPath(final Random random) {
+        final StringBuilder path = new StringBuilder();
+        final int depth = 1 + random.nextInt(3);
+        for (int i = 0; i < depth; i++) {
+            path.append('/').append("d").append(random.nextInt(3));
+        }
+        if (random.nextBoolean()) {
+            path.append("/f").append(random.nextInt(3));
+        }
+        return path.toString();
+    }
+
+    private StorageRestoreAction action(final Long id, final String path, final StorageRestorePathType type,
+                                        final StorageRestoreStatus status) {
+        return StorageRestoreAction.builder()
+                .id(id)
+                .path(path)
+                .type(type)
+                .status(status)
+                .build();
+    }
+}
@@ -27,6 +27,7 @@ import com.epam.pipeline.monitor.service.elasticsearch.MonitoringElasticsearchSe
 import com.epam.pipeline.monitor.service.reporter.NodeReporterService;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.ListUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -46,18 +47,21 @@ public class GpuUsageMonitoringService implements MonitoringService {
     private final NodeReporterService nodeReporterService;
     private final MonitoringElasticsearchService monitoringElasticsearchService;
     private final InstanceTypesLoader instanceTypesLoader;
+    private final int batchSize;
 
     public GpuUsageMonitoringService(@Value("${preference.name.usage.node.gpu.enable}")
                                          final String monitorEnabledPreferenceName,
                                      final CloudPipelineAPIClient cloudPipelineClient,
                                      final NodeReporterService nodeReporterService,
                                      final MonitoringElasticsearchService monitoringElasticsearchService,
-                                     final InstanceTypesLoader instanceTypesLoader) {
+                                     final InstanceTypesLoader instanceTypesLoader,
+                                     @Value("${monitoring.gpu.usage.batch.size:100}") final int batchSize) {
         this.monitorEnabledPreferenceName = monitorEnabledPreferenceName;
         this.cloudPipelineClient = cloudPipelineClient;
         this.nodeReporterService = nodeReporterService;
         this.monitoringElasticsearchService = monitoringElasticsearchService;
         this.instanceTypesLoader = instanceTypesLoader;
+        this.batchSize = batchSize;
     }
 
     @Override
@@ -78,10 +82,27 @@ public class GpuUsageMonitoringService implements MonitoringService {
                 .map(this::tryFillSummaries)
                 .filter(Objects::nonNull)
                 .collect(Collectors.toList());
-        monitoringElasticsearchService.saveGpuUsages(usagesWithSummaries);
+        saveUsages(usagesWithSummaries);
         log.info("Finishing gpu usages monitoring.");
     }
 
+    private void saveUsages(final List<GpuUsages> usages) {
+        if (usages.size() <= batchSize) {
+            trySaveUsages(usages);
+            return;
+        }
+        ListUtils.partition(usages, batchSize).forEach(this::trySaveUsages);
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void trySaveUsages(final List<GpuUsages> usages) {
+        try {
+            monitoringElasticsearchService.saveGpuUsages(usages);
+        } catch (Exception e) {
+            log.error("Failed to save gpu usages of {} nodes.", usages.size(), e);
+        }
+    }
+
     @SuppressWarnings("PMD.AvoidCatchingGenericException")
     private GpuUsages tryFillSummaries(final GpuUsages usage) {
         try {
@@ -16,8 +16,8 @@
 
 package com.epam.pipeline.monitor.rest;
 
+import com.epam.pipeline.client.AsyncRetrofitExecutor;
 import com.epam.pipeline.client.CommonRetrofitClientBuilder;
-import com.epam.pipeline.client.RetrofitClientBuilder;
 import com.epam.pipeline.client.RetrofitExecutor;
 import com.epam.pipeline.client.SyncRetrofitExecutor;
 import com.epam.pipeline.client.reporter.NodeReporterClient;
@@ -27,12 +27,16 @@ import com.epam.pipeline.entity.reporter.NodeReporterGpuUsages;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.net.Proxy;
 import java.text.SimpleDateFormat;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class NodeReporterAPIExecutor {
@@ -43,21 +47,47 @@ public class NodeReporterAPIExecutor {
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
 
     private final RetrofitExecutor executor = new SyncRetrofitExecutor();
-    private final RetrofitClientBuilder builder = new CommonRetrofitClientBuilder();
+    private final AsyncRetrofitExecutor asyncExecutor = new AsyncRetrofitExecutor();
+    private final CommonRetrofitClientBuilder builder = new CommonRetrofitClientBuilder();
     private final String schema;
     private final int port;
+    private final OkHttpClient httpClient;
 
     public NodeReporterAPIExecutor(@Value("${node.reporter.srv.schema}") final String schema,
-                                   @Value("${node.reporter.srv.port}") final int port) {
+                                   @Value("${node.reporter.srv.port}") final int port,
+                                   @Value("${node.reporter.srv.max.concurrent.requests:20}")
+                                   final int maxConcurrentRequests,
+                                   @Value("${node.reporter.srv.request.timeout:10000}") final long requestTimeout) {
         this.schema = schema;
         this.port = port;
+        this.httpClient = buildHttpClient(maxConcurrentRequests, requestTimeout);
     }
 
     public List<NodeReporterGpuUsages> loadGpuStats(final String host) {
         return executor.execute(getClient(host).loadGpuStats());
     }
 
+    /**
+     * Requests gpu stats without blocking the caller. The number of simultaneous requests is bounded
+     * by the shared http client dispatcher, all the other requests wait in its queue.
+     */
+    public CompletableFuture<List<NodeReporterGpuUsages>> loadGpuStatsAsync(final String host) {
+        return asyncExecutor.execute(getClient(host).loadGpuStats());
+    }
+
     private NodeReporterClient getClient(final String host) {
-        return builder.build(NodeReporterClient.class, schema, host, port, DEFAULT_MAPPER, Proxy.NO_PROXY);
+        return builder.build(NodeReporterClient.class, schema, host, port, DEFAULT_MAPPER, httpClient);
+    }
+
+    private OkHttpClient buildHttpClient(final int maxConcurrentRequests, final long requestTimeout) {
+        final Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(maxConcurrentRequests);
+        dispatcher.setMaxRequestsPerHost(maxConcurrentRequests);
+        return builder.buildHttpClient(Proxy.NO_PROXY).newBuilder()
+                .dispatcher(dispatcher)
+                .connectTimeout(requestTimeout, TimeUnit.MILLISECONDS)
+                .readTimeout(requestTimeout, TimeUnit.MILLISECONDS)
+                .writeTimeout(requestTimeout, TimeUnit.MILLISECONDS)
+                .build();
     }
 }
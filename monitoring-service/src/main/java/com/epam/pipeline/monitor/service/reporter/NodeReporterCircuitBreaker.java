@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.monitor.service.reporter;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stops requesting node reporters which fail constantly. After the configured number of consecutive
+ * failures the node is skipped until the cooldown expires. Then a single trial request is allowed
+ * and its failure opens the circuit again.
+ */
+@Service
+@Slf4j
+public class NodeReporterCircuitBreaker {
+
+    private final int failuresThreshold;
+    private final long cooldown;
+    private final Map<String, NodeState> states = new ConcurrentHashMap<>();
+
+    public NodeReporterCircuitBreaker(@Value("${node.reporter.srv.circuit.breaker.failures:3}")
+                                      final int failuresThreshold,
+                                      @Value("${node.reporter.srv.circuit.breaker.cooldown:300000}")
+                                      final long cooldown) {
+        this.failuresThreshold = failuresThreshold;
+        this.cooldown = cooldown;
+    }
+
+    public boolean isAllowed(final String node) {
+        final NodeState state = states.get(node);
+        return state == null || state.getOpenedUntil() <= System.currentTimeMillis();
+    }
+
+    public void onSuccess(final String node) {
+        states.remove(node);
+    }
+
+    public void onFailure(final String node) {
+        final NodeState state = states.computeIfAbsent(node, key -> new NodeState());
+        final int failures = state.failed();
+        if (failures >= failuresThreshold) {
+            state.open(System.currentTimeMillis() + cooldown);
+            log.warn("Node reporter of {} has failed {} times in a row. It won't be requested for {} ms.",
+                    node, failures, cooldown);
+        }
+    }
+
+    public void retainNodes(final Collection<String> nodes) {
+        final Set<String> active = new HashSet<>(nodes);
+        states.keySet().removeIf(node -> !active.contains(node));
+    }
+
+    private static final class NodeState {
+
+        private int failures;
+        private long openedUntil;
+
+        synchronized int failed() {
+            return ++failures;
+        }
+
+        synchronized void open(final long until) {
+            openedUntil = until;
+        }
+
+        synchronized long getOpenedUntil() {
+            return openedUntil;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.monitor.service.reporter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes node reporters scraping metrics to the meter registry: the duration of collection cycles,
+ * the number of requested, failed and skipped nodes and the number of failed requests per node.
+ */
+@Service
+@Slf4j
+public class NodeReporterMetrics {
+
+    private static final String CYCLE_DURATION = "node.reporter.cycle.duration";
+    private static final String CYCLE_NODES = "node.reporter.cycle.nodes";
+    private static final String NODE_FAILURES = "node.reporter.node.failures";
+    private static final String RESULT_TAG = "result";
+    private static final String NODE_TAG = "node";
+
+    private final MeterRegistry registry;
+    private final Timer cycleDuration;
+    private final Counter requestedNodes;
+    private final Counter failedNodes;
+    private final Counter skippedNodes;
+
+    public NodeReporterMetrics(final MeterRegistry registry) {
+        this.registry = registry;
+        this.cycleDuration = Timer.builder(CYCLE_DURATION)
+                .description("Node reporters scraping cycle duration")
+                .register(registry);
+        this.requestedNodes = cycleNodes("requested");
+        this.failedNodes = cycleNodes("failed");
+        this.skippedNodes = cycleNodes("skipped");
+    }
+
+    public void recordCycle(final long duration, final int requested, final int failed, final int skipped) {
+        cycleDuration.record(duration, TimeUnit.MILLISECONDS);
+        requestedNodes.increment(requested);
+        failedNodes.increment(failed);
+        skippedNodes.increment(skipped);
+        log.info("Node reporters scraping cycle took {} ms [requested: {}, failed: {}, skipped: {}].",
+                duration, requested, failed, skipped);
+    }
+
+    public void recordFailure(final String node) {
+        Counter.builder(NODE_FAILURES)
+                .description("Failed node reporter requests")
+                .tag(NODE_TAG, node)
+                .register(registry)
+                .increment();
+    }
+
+    private Counter cycleNodes(final String result) {
+        return Counter.builder(CYCLE_NODES)
+                .description("Nodes processed by node reporters scraping cycles")
+                .tag(RESULT_TAG, result)
+                .register(registry);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2024 EPAM Systems, Inc. (https://www.epam.com/)
+ * Copyright 2017-2026 EPAM Systems, Inc. (https://www.epam.com/)
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -31,12 +31,11 @@ import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 @Service
@@ -47,27 +46,39 @@ public class NodeReporterService {
 
     private final String reportingPodName;
     private final String namespace;
-    private final Executor executor;
     private final NodeReporterAPIExecutor nodeReporterClient;
+    private final NodeReporterCircuitBreaker circuitBreaker;
+    private final NodeReporterMetrics metrics;
 
     public NodeReporterService(@Value("${node.reporter.srv.pod.name:cp-node-reporter}")
                                final String reportingPodName,
                                @Value("${node.reporter.srv.namespace:default}") final String namespace,
-                               @Value("${monitoring.gpu.usage.pool.size:1}") final int poolSize,
-                               final NodeReporterAPIExecutor nodeReporterClient) {
+                               final NodeReporterAPIExecutor nodeReporterClient,
+                               final NodeReporterCircuitBreaker circuitBreaker,
+                               final NodeReporterMetrics metrics) {
         this.reportingPodName = reportingPodName;
         this.namespace = namespace;
-        this.executor = Executors.newFixedThreadPool(poolSize);
         this.nodeReporterClient = nodeReporterClient;
+        this.circuitBreaker = circuitBreaker;
+        this.metrics = metrics;
     }
 
     public List<GpuUsages> collectGpuUsages(final Set<String> gpuInstanceTypes) {
+        final long start = System.currentTimeMillis();
         try (KubernetesClient client = KubernetesUtils.getKubernetesClient()) {
             final Set<String> nodeNames = getGpuNodeNames(client, gpuInstanceTypes);
-            final List<Pod> pods = getReportingPods(client, nodeNames);
-            return requestUsages(pods).stream()
+            circuitBreaker.retainNodes(nodeNames);
+            final Map<Boolean, List<Pod>> pods = getReportingPods(client, nodeNames).stream()
+                    .collect(Collectors.partitioningBy(pod ->
+                            circuitBreaker.isAllowed(KubernetesUtils.getNodeName(pod))));
+            final AtomicInteger failed = new AtomicInteger();
+            final List<CompletableFuture<GpuUsages>> requests = requestUsages(pods.get(true), failed);
+            final List<GpuUsages> usages = requests.stream()
                     .map(CompletableFuture::join)
                     .collect(Collectors.toList());
+            metrics.recordCycle(System.currentTimeMillis() - start, requests.size(), failed.get(),
+                    pods.get(false).size());
+            return usages;
         } catch (KubernetesClientException e) {
             log.error("An error occurred while sending request to k8s", e);
             return Collections.emptyList();
@@ -89,31 +100,42 @@ public class NodeReporterService {
                 .collect(Collectors.toList());
     }
 
-    private List<CompletableFuture<GpuUsages>> requestUsages(final List<Pod> reporterPods) {
+    private List<CompletableFuture<GpuUsages>> requestUsages(final List<Pod> reporterPods,
+                                                             final AtomicInteger failed) {
         return reporterPods.stream()
                 .map(pod -> requestUsages(pod)
                         .exceptionally(e -> {
+                            final String nodename = KubernetesUtils.getNodeName(pod);
                             log.error("Failed to collect usages from {} for {}.",
-                                    KubernetesUtils.getPodName(pod),
-                                    KubernetesUtils.getNodeName(pod), e);
+                                    KubernetesUtils.getPodName(pod), nodename, e);
+                            failed.incrementAndGet();
+                            metrics.recordFailure(nodename);
+                            circuitBreaker.onFailure(nodename);
                             return GpuUsages.builder().build();
                         }))
                 .collect(Collectors.toList());
     }
 
     private CompletableFuture<GpuUsages> requestUsages(final Pod pod) {
-        return CompletableFuture.supplyAsync(() -> getStats(pod).orElseThrow(IllegalArgumentException::new), executor);
-    }
-
-    private Optional<GpuUsages> getStats(final Pod pod) {
         final String nodename = KubernetesUtils.getNodeName(pod);
         log.info("Retrieving usages from {} for {}...", KubernetesUtils.getPodName(pod), nodename);
         return KubernetesUtils.getPodIp(pod)
-                .map(nodeReporterClient::loadGpuStats)
-                .map(stat -> GpuUsages.builder()
-                        .usages(stat)
-                        .nodename(nodename)
-                        .timestamp(LocalDateTime.now())
-                        .build());
+                .map(nodeReporterClient::loadGpuStatsAsync)
+                .map(request -> request.thenApply(stat -> {
+                    circuitBreaker.onSuccess(nodename);
+                    return GpuUsages.builder()
+                            .usages(stat)
+                            .nodename(nodename)
+                            .timestamp(LocalDateTime.now())
+                            .build();
+                }))
+                .orElseGet(() -> failedRequest(new IllegalArgumentException(
+                        "Node reporter pod ip is not available for " + nodename)));
+    }
+
+    private static <T> CompletableFuture<T> failedRequest(final Throwable e) {
+        final CompletableFuture<T> request = new CompletableFuture<>();
+        request.completeExceptionally(e);
+        return request;
     }
 }
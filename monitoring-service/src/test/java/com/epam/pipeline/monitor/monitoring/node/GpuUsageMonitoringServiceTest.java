@@ -51,6 +51,7 @@ class GpuUsageMonitoringServiceTest {
     private static final int MEMORY_UTILIZATION_1 = 10;
     private static final int TEST_VALUE_1 = 100;
     private static final int TEST_VALUE_2 = 50;
+    private static final int BATCH_SIZE = 100;
 
     private final CloudPipelineAPIClient cloudPipelineClient = mock(CloudPipelineAPIClient.class);
     private final NodeReporterService nodeReporterService = mock(NodeReporterService.class);
@@ -58,7 +59,8 @@ class GpuUsageMonitoringServiceTest {
             mock(MonitoringElasticsearchService.class);
     private final InstanceTypesLoader instanceTypesLoader = mock(InstanceTypesLoader.class);
     private final GpuUsageMonitoringService monitor = new GpuUsageMonitoringService(
-            TEST, cloudPipelineClient, nodeReporterService, monitoringElasticsearchService, instanceTypesLoader);
+            TEST, cloudPipelineClient, nodeReporterService, monitoringElasticsearchService, instanceTypesLoader,
+            BATCH_SIZE);
 
     @Test
     void shouldSkipProcessIfNotRequired() {
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.monitor.service.reporter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NodeReporterCircuitBreakerTest {
+    private static final String NODE = "node";
+    private static final int FAILURES = 2;
+    private static final long LONG_COOLDOWN = 60000;
+
+    @Test
+    void shouldAllowNodeUntilFailuresThresholdIsReached() {
+        final NodeReporterCircuitBreaker breaker = new NodeReporterCircuitBreaker(FAILURES, LONG_COOLDOWN);
+        breaker.onFailure(NODE);
+        assertTrue(breaker.isAllowed(NODE));
+        breaker.onFailure(NODE);
+        assertFalse(breaker.isAllowed(NODE));
+    }
+
+    @Test
+    void shouldResetFailuresOnSuccess() {
+        final NodeReporterCircuitBreaker breaker = new NodeReporterCircuitBreaker(FAILURES, LONG_COOLDOWN);
+        breaker.onFailure(NODE);
+        breaker.onSuccess(NODE);
+        breaker.onFailure(NODE);
+        assertTrue(breaker.isAllowed(NODE));
+    }
+
+    @Test
+    void shouldAllowTrialRequestAfterCooldown() {
+        final NodeReporterCircuitBreaker breaker = new NodeReporterCircuitBreaker(FAILURES, 0);
+        breaker.onFailure(NODE);
+        breaker.onFailure(NODE);
+        assertTrue(breaker.isAllowed(NODE));
+    }
+
+    @Test
+    void shouldForgetRemovedNodes() {
+        final NodeReporterCircuitBreaker breaker = new NodeReporterCircuitBreaker(FAILURES, LONG_COOLDOWN);
+        breaker.onFailure(NODE);
+        breaker.onFailure(NODE);
+        breaker.retainNodes(Collections.emptyList());
+        assertTrue(breaker.isAllowed(NODE));
+    }
+}
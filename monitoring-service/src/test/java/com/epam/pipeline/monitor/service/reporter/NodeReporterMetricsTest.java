@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.monitor.service.reporter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class NodeReporterMetricsTest {
+    private static final String NODE = "node";
+    private static final String ANOTHER_NODE = "another-node";
+    private static final double DELTA = 0.001;
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final NodeReporterMetrics metrics = new NodeReporterMetrics(registry);
+
+    @Test
+    void shouldRecordCycles() {
+        metrics.recordCycle(100, 5, 1, 2);
+        metrics.recordCycle(300, 4, 0, 1);
+
+        final Timer duration = registry.get("node.reporter.cycle.duration").timer();
+        assertEquals(2, duration.count());
+        assertEquals(400, duration.totalTime(TimeUnit.MILLISECONDS), DELTA);
+        assertEquals(9, cycleNodes("requested"), DELTA);
+        assertEquals(1, cycleNodes("failed"), DELTA);
+        assertEquals(3, cycleNodes("skipped"), DELTA);
+    }
+
+    @Test
+    void shouldRecordFailuresPerNode() {
+        metrics.recordFailure(NODE);
+        metrics.recordFailure(NODE);
+        metrics.recordFailure(ANOTHER_NODE);
+
+        assertEquals(2, nodeFailures(NODE), DELTA);
+        assertEquals(1, nodeFailures(ANOTHER_NODE), DELTA);
+    }
+
+    private double cycleNodes(final String result) {
+        return registry.get("node.reporter.cycle.nodes").tag("result", result).counter().count();
+    }
+
+    private double nodeFailures(final String node) {
+        return registry.get("node.reporter.node.failures").tag("node", node).counter().count();
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2019 EPAM Systems, Inc. (https://www.epam.com/)
+ * Copyright 2017-2026 EPAM Systems, Inc. (https://www.epam.com/)
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,33 +16,88 @@
 
 package com.epam.pipeline.notifier.repository;
 
+import com.epam.pipeline.entity.notification.NotificationDeliveryStatus;
 import com.epam.pipeline.entity.notification.NotificationMessage;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 
 /**
- * {@link NotificationRepository} provides methods to load, delete {@link NotificationMessage} from database.
+ * {@link NotificationRepository} provides methods to claim, update and delete {@link NotificationMessage}.
  */
 public interface NotificationRepository extends JpaRepository<NotificationMessage, Long> {
 
+    String LOCK_READY_NOTIFICATIONS_QUERY = "SELECT * FROM pipeline.notification_queue n "
+            + "WHERE (n.status IN ('NEW', 'FAILED') AND (n.next_attempt_date IS NULL OR n.next_attempt_date <= :now)) "
+            + "OR (n.status = 'CLAIMED' AND n.claimed_date < :staleBefore) "
+            + "ORDER BY n.id LIMIT :limit FOR UPDATE SKIP LOCKED";
+
     /**
-     * Load limited number of {@link NotificationMessage} ordered by @{@link NotificationMessage#id}
-     * @param pageable   object to limit number of returned messages
-     * @return list of {@link NotificationMessage}
+     * Locks limited number of {@link NotificationMessage} which are ready to be delivered: new messages,
+     * failed messages which retry time has come and messages which claim has expired.
+     * Rows locked by concurrent transactions are skipped, so several notifier instances never load the same message.
+     * @param now           current time
+     * @param staleBefore   claims made before this time are considered as expired
+     * @param limit         max number of messages to be loaded
+     * @return list of locked {@link NotificationMessage}
      */
-    @Query("select n from NotificationMessage n order by n.id")
-    List<NotificationMessage> loadNotification(Pageable pageable);
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Query(nativeQuery = true, value = LOCK_READY_NOTIFICATIONS_QUERY)
+    List<NotificationMessage> lockReadyNotifications(@Param("now") LocalDateTime now,
+                                                     @Param("staleBefore") LocalDateTime staleBefore,
+                                                     @Param("limit") int limit);
 
     /**
-     * Delete {@link NotificationMessage} by id
-     * @param id   id of {@link NotificationMessage} to be deleted
+     * Updates status of {@link NotificationMessage} if it is still claimed by the specified owner
+     * @param id            id of {@link NotificationMessage}
+     * @param owner         owner of the claim
+     * @param status        new status
+     * @param nextAttempt   time of the next delivery attempt
+     * @param error         delivery error
+     * @return number of updated messages
      */
-    @Transactional(propagation = Propagation.MANDATORY)
-    int deleteById(Long id);
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("update NotificationMessage n set n.status = :status, n.nextAttemptDate = :nextAttempt, "
+            + "n.lastError = :error where n.id = :id and n.claimedBy = :owner "
+            + "and n.status = com.epam.pipeline.entity.notification.NotificationDeliveryStatus.CLAIMED")
+    int updateClaimedStatus(@Param("id") Long id,
+                            @Param("owner") String owner,
+                            @Param("status") NotificationDeliveryStatus status,
+                            @Param("nextAttempt") LocalDateTime nextAttempt,
+                            @Param("error") String error);
+
+    /**
+     * Updates delivered channels of {@link NotificationMessage} if it is still claimed by the specified owner
+     * @param id        id of {@link NotificationMessage}
+     * @param owner     owner of the claim
+     * @param channels  comma separated channels which have delivered the message
+     * @return number of updated messages
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query(nativeQuery = true, value = "UPDATE pipeline.notification_queue SET delivered_channels = :channels "
+            + "WHERE id = :id AND claimed_by = :owner AND status = 'CLAIMED'")
+    int updateClaimedChannels(@Param("id") Long id,
+                              @Param("owner") String owner,
+                              @Param("channels") String channels);
+
+    /**
+     * Deletes {@link NotificationMessage} with the specified status claimed before the specified time
+     * @param status    status of messages to be deleted
+     * @param before    max claim time of messages to be deleted
+     * @return number of deleted messages
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("delete from NotificationMessage n where n.status = :status and n.claimedDate < :before")
+    int deleteByStatusClaimedBefore(@Param("status") NotificationDeliveryStatus status,
+                                    @Param("before") LocalDateTime before);
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.notifier.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.endpoint.PublicMetrics;
+import org.springframework.boot.actuate.metrics.Metric;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects notification delivery metrics: the number of sent and failed messages and send latency.
+ * Metrics of the last period are logged on a scheduled basis, total values and metrics of the last
+ * logged period are exposed via actuator metrics endpoint.
+ */
+@Component
+public class NotificationDeliveryMetrics implements PublicMetrics {
+
+    private static final String METRIC_PREFIX = "notification.delivery.";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(NotificationDeliveryMetrics.class);
+
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder latency = new LongAdder();
+    private final LongAdder periodSent = new LongAdder();
+    private final LongAdder periodFailed = new LongAdder();
+    private final LongAdder periodLatency = new LongAdder();
+    private final AtomicLong periodMaxLatency = new AtomicLong();
+    private final AtomicLong periodStart = new AtomicLong(System.nanoTime());
+    private volatile double lastPeriodThroughput;
+    private volatile long lastPeriodAvgLatency;
+    private volatile long lastPeriodMaxLatency;
+
+    public void recordSent(final long latencyMs) {
+        sent.increment();
+        latency.add(latencyMs);
+        periodSent.increment();
+        periodLatency.add(latencyMs);
+        periodMaxLatency.accumulateAndGet(latencyMs, Math::max);
+    }
+
+    public void recordFailed() {
+        failed.increment();
+        periodFailed.increment();
+    }
+
+    public long getSent() {
+        return sent.sum();
+    }
+
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    @Override
+    public Collection<Metric<?>> metrics() {
+        return Arrays.<Metric<?>>asList(
+                new Metric<>(METRIC_PREFIX + "sent", getSent()),
+                new Metric<>(METRIC_PREFIX + "failed", getFailed()),
+                new Metric<>(METRIC_PREFIX + "latency.total.ms", latency.sum()),
+                new Metric<>(METRIC_PREFIX + "period.throughput", lastPeriodThroughput),
+                new Metric<>(METRIC_PREFIX + "period.latency.avg.ms", lastPeriodAvgLatency),
+                new Metric<>(METRIC_PREFIX + "period.latency.max.ms", lastPeriodMaxLatency));
+    }
+
+    @Scheduled(fixedDelayString = "${notification.metrics.log.delay:60000}")
+    public void logMetrics() {
+        final long now = System.nanoTime();
+        final long periodSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(now - periodStart.getAndSet(now)));
+        final long sentInPeriod = periodSent.sumThenReset();
+        final long failedInPeriod = periodFailed.sumThenReset();
+        final long latencyInPeriod = periodLatency.sumThenReset();
+        lastPeriodMaxLatency = periodMaxLatency.getAndSet(0);
+        lastPeriodThroughput = (double) sentInPeriod / periodSeconds;
+        lastPeriodAvgLatency = sentInPeriod == 0 ? 0 : latencyInPeriod / sentInPeriod;
+        if (sentInPeriod == 0 && failedInPeriod == 0) {
+            return;
+        }
+        LOGGER.info("Notifications delivery: {} sent, {} failed in {} s ({} msg/s), latency avg {} ms, max {} ms. "
+                        + "Total: {} sent, {} failed.",
+                sentInPeriod, failedInPeriod, periodSeconds, String.format("%.2f", lastPeriodThroughput),
+                lastPeriodAvgLatency, lastPeriodMaxLatency, getSent(), getFailed());
+    }
+}
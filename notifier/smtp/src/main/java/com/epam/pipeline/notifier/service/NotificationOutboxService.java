@@ -0,0 +1,184 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.notifier.service;
+
+import com.epam.pipeline.entity.notification.NotificationDeliveryStatus;
+import com.epam.pipeline.entity.notification.NotificationMessage;
+import com.epam.pipeline.notifier.repository.NotificationRepository;
+import org.apache.commons.collections4.SetUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Manages delivery state of {@link NotificationMessage} in the notification queue.
+ *
+ * Messages are claimed by the current notifier instance in batches. Rows are locked with {@code SKIP LOCKED},
+ * so concurrent notifier instances claim disjoint batches. Claimed messages are marked as sent once delivered,
+ * failed messages are retried with an exponential backoff until the max number of attempts is reached,
+ * after that they are dead-lettered. Claims which are not completed in time (e.g. because of the instance crash)
+ * expire and the messages are claimed again. Channels which have already delivered a message are saved
+ * for the message, so that retries deliver it only via the channels which have failed.
+ */
+@Service
+public class NotificationOutboxService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(NotificationOutboxService.class);
+    private static final int MAX_ERROR_LENGTH = 4000;
+    private static final int MAX_BACKOFF_SHIFT = 30;
+
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName() + ":" + UUID.randomUUID();
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Value(value = "${notification.outbox.max.attempts:5}")
+    private int maxAttempts;
+
+    @Value(value = "${notification.outbox.backoff.initial:60000}")
+    private long initialBackoff;
+
+    @Value(value = "${notification.outbox.backoff.max:3600000}")
+    private long maxBackoff;
+
+    @Value(value = "${notification.outbox.claim.timeout:600000}")
+    private long claimTimeout;
+
+    @Value(value = "${notification.outbox.sent.retention:86400000}")
+    private long sentRetention;
+
+    @Value(value = "${notification.outbox.dead.retention:604800000}")
+    private long deadRetention;
+
+    /**
+     * Claims a batch of messages which are ready to be delivered by the current notifier instance.
+     * @param limit max number of messages to be claimed
+     * @return list of claimed {@link NotificationMessage}
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<NotificationMessage> claim(final int limit) {
+        final LocalDateTime now = LocalDateTime.now();
+        final List<NotificationMessage> ready = notificationRepository.lockReadyNotifications(
+                now, now.minus(claimTimeout, ChronoUnit.MILLIS), limit);
+        final List<NotificationMessage> claimed = new ArrayList<>(ready.size());
+        for (NotificationMessage message : ready) {
+            if (message.getAttempts() >= maxAttempts) {
+                LOGGER.error("Message with id: {} was not delivered in {} attempts and will not be sent.",
+                        message.getId(), message.getAttempts());
+                message.setStatus(NotificationDeliveryStatus.DEAD);
+                if (StringUtils.isBlank(message.getLastError())) {
+                    message.setLastError("Delivery has not been completed in time by " + message.getClaimedBy());
+                }
+                continue;
+            }
+            message.setStatus(NotificationDeliveryStatus.CLAIMED);
+            message.setClaimedBy(owner);
+            message.setClaimedDate(now);
+            message.setAttempts(message.getAttempts() + 1);
+            claimed.add(message);
+        }
+        if (!claimed.isEmpty()) {
+            LOGGER.debug("{} message(s) were claimed by {}", claimed.size(), owner);
+        }
+        return claimed;
+    }
+
+    public void markSent(final NotificationMessage message) {
+        updateStatus(message, NotificationDeliveryStatus.SENT, null, null);
+    }
+
+    /**
+     * Saves that the message was delivered via the specified channel, so the channel is skipped on retries.
+     * @param message   claimed {@link NotificationMessage}
+     * @param channel   channel which has delivered the message
+     */
+    public void markDelivered(final NotificationMessage message, final String channel) {
+        final Set<String> channels = new LinkedHashSet<>(SetUtils.emptyIfNull(message.getDeliveredChannels()));
+        channels.add(channel);
+        message.setDeliveredChannels(channels);
+        final int updated = notificationRepository.updateClaimedChannels(message.getId(), owner,
+                new NotificationMessage.ChannelsConverter().convertToDatabaseColumn(channels));
+        if (updated == 0) {
+            LOGGER.warn("Claim of message with id: {} has expired, delivery via {} will not be saved.",
+                    message.getId(), channel);
+        }
+    }
+
+    public void markFailed(final NotificationMessage message, final Throwable error) {
+        final String errorMessage = StringUtils.abbreviate(
+                StringUtils.defaultIfBlank(error.getMessage(), error.getClass().getName()), MAX_ERROR_LENGTH);
+        if (message.getAttempts() >= maxAttempts) {
+            LOGGER.error("All attempts are failed. Message with id: {} will not be sent.", message.getId());
+            updateStatus(message, NotificationDeliveryStatus.DEAD, null, errorMessage);
+            return;
+        }
+        final long backoff = getBackoff(message.getAttempts());
+        LOGGER.warn("Message with id: {} was not delivered. Attempt {}/{}, next attempt in {} ms.",
+                message.getId(), message.getAttempts(), maxAttempts, backoff);
+        updateStatus(message, NotificationDeliveryStatus.FAILED,
+                LocalDateTime.now().plus(backoff, ChronoUnit.MILLIS), errorMessage);
+    }
+
+    /**
+     * Scheduled task to remove delivered and dead-lettered messages from the notification queue.
+     * Dead-lettered messages are kept longer, so that their delivery errors can be investigated.
+     */
+    @Scheduled(fixedDelayString = "${notification.outbox.cleanup.delay:3600000}")
+    public void removeCompleted() {
+        final LocalDateTime now = LocalDateTime.now();
+        final int sent = notificationRepository.deleteByStatusClaimedBefore(NotificationDeliveryStatus.SENT,
+                now.minus(sentRetention, ChronoUnit.MILLIS));
+        if (sent > 0) {
+            LOGGER.debug("{} delivered message(s) were removed from the notification queue", sent);
+        }
+        final int dead = notificationRepository.deleteByStatusClaimedBefore(NotificationDeliveryStatus.DEAD,
+                now.minus(deadRetention, ChronoUnit.MILLIS));
+        if (dead > 0) {
+            LOGGER.debug("{} dead-lettered message(s) were removed from the notification queue", dead);
+        }
+    }
+
+    private void updateStatus(final NotificationMessage message, final NotificationDeliveryStatus status,
+                              final LocalDateTime nextAttempt, final String error) {
+        final int updated = notificationRepository.updateClaimedStatus(message.getId(), owner, status,
+                nextAttempt, error);
+        if (updated == 0) {
+            LOGGER.warn("Claim of message with id: {} has expired, {} status will not be saved.",
+                    message.getId(), status);
+        }
+    }
+
+    private long getBackoff(final int attempts) {
+        final int shift = Math.min(Math.max(attempts - 1, 0), MAX_BACKOFF_SHIFT);
+        return Math.min(maxBackoff, initialBackoff << shift);
+    }
+}
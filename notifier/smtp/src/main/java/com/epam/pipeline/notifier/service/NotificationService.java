@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2019 EPAM Systems, Inc. (https://www.epam.com/)
+ * Copyright 2017-2026 EPAM Systems, Inc. (https://www.epam.com/)
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,22 +17,20 @@
 package com.epam.pipeline.notifier.service;
 
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
 
 import com.epam.pipeline.entity.notification.NotificationMessage;
-import com.epam.pipeline.notifier.repository.NotificationRepository;
 import com.epam.pipeline.notifier.service.task.NotificationManager;
+import org.apache.commons.collections4.SetUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class NotificationService {
@@ -42,39 +40,76 @@ public class NotificationService {
     @Autowired
     private ExecutorService notificationThreadPool;
 
-    @Value(value = "${notification.at.time:5}")
+    @Value(value = "${notification.at.time:50}")
     private int notificationAtTime;
 
     @Autowired
-    private NotificationRepository notificationRepository;
+    private NotificationOutboxService outboxService;
 
     @Autowired
     private List<NotificationManager> notificationManagers;
 
     /**
-     * Scheduled task to load batch of {@link NotificationMessage} from database
-     * and delegate it to all realizations of {@link NotificationManager}
+     * Scheduled task to claim batches of {@link NotificationMessage} from database
+     * and delegate them to all realizations of {@link NotificationManager}.
+     *
+     * Batches are claimed one by one until there are no more messages ready to be delivered.
+     * Each message is marked as sent or failed only after all {@link NotificationManager} have processed it.
+     * Channels which have already delivered the message are skipped, so a failure of one channel
+     * does not lead to duplicated deliveries via the other channels on retry.
      */
     @Scheduled(fixedDelayString = "${notification.scheduler.delay}")
-    @Transactional(propagation = Propagation.REQUIRED)
     public void sendNotification() {
         LOGGER.debug("Start scheduled notification loop...");
-        Pageable limit = new PageRequest(0, notificationAtTime);
-        List<NotificationMessage> result = notificationRepository.loadNotification(limit);
-        result.forEach(message -> {
-            notificationRepository.deleteById(message.getId());
-
-            for (NotificationManager notificationManager : notificationManagers) {
-                CompletableFuture.runAsync(
-                    () -> notificationManager.notifySubscribers(message),
-                    notificationThreadPool)
-                    .exceptionally(throwable -> {
-                        LOGGER.warn("Exception while trying to send email", throwable);
-                        return null;
-                    });
-            }
-        });
+        List<NotificationMessage> claimed;
+        do {
+            claimed = outboxService.claim(notificationAtTime);
+            CompletableFuture.allOf(claimed.stream()
+                    .map(this::deliverAsync)
+                    .toArray(CompletableFuture[]::new))
+                    .join();
+        } while (claimed.size() >= notificationAtTime);
         LOGGER.debug("End scheduled notification loop...");
     }
 
+    private CompletableFuture<Void> deliverAsync(final NotificationMessage message) {
+        return CompletableFuture.runAsync(() -> deliver(message), notificationThreadPool)
+                .handle((result, throwable) -> {
+                    if (throwable == null) {
+                        outboxService.markSent(message);
+                    } else {
+                        final Throwable cause = throwable instanceof CompletionException
+                                && throwable.getCause() != null ? throwable.getCause() : throwable;
+                        LOGGER.warn("Exception while trying to send message with id " + message.getId(), cause);
+                        outboxService.markFailed(message, cause);
+                    }
+                    return null;
+                });
+    }
+
+    private void deliver(final NotificationMessage message) {
+        final Set<String> delivered = SetUtils.emptyIfNull(message.getDeliveredChannels());
+        RuntimeException failure = null;
+        for (NotificationManager notificationManager : notificationManagers) {
+            final String channel = notificationManager.getChannel();
+            if (delivered.contains(channel)) {
+                LOGGER.debug("Message with id: {} has already been delivered via {}", message.getId(), channel);
+                continue;
+            }
+            try {
+                notificationManager.notifySubscribers(message);
+                outboxService.markDelivered(message, channel);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Message with id: {} was not delivered via {}", message.getId(), channel);
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
 }
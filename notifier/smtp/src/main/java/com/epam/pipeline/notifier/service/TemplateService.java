@@ -19,22 +19,52 @@ package com.epam.pipeline.notifier.service;
 import com.epam.pipeline.entity.notification.NotificationMessage;
 import com.epam.pipeline.entity.notification.NotificationTemplate;
 import com.epam.pipeline.notifier.entity.message.MessageText;
+import org.apache.velocity.Template;
 import org.apache.velocity.VelocityContext;
-import org.apache.velocity.app.Velocity;
+import org.apache.velocity.exception.VelocityException;
+import org.apache.velocity.runtime.RuntimeInstance;
+import org.apache.velocity.runtime.parser.ParseException;
 import org.apache.velocity.tools.generic.NumberTool;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.io.StringReader;
 import java.io.StringWriter;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.TimeZone;
 
+/**
+ * Builds message texts with velocity. Subjects and bodies of notification templates are parsed once
+ * and cached by template id and text hash, so the same template is not re-parsed for each message.
+ */
 @Service
 public class TemplateService {
 
     public static final String MESSAGE_TAG = "message";
+    private static final String SUBJECT = "subject";
+    private static final String BODY = "body";
+
+    private final RuntimeInstance runtime;
+    private final Map<String, CompiledTemplate> templates;
+
+    public TemplateService(@Value("${notification.template.cache.size:256}") final int cacheSize) {
+        this.runtime = new RuntimeInstance();
+        this.runtime.init();
+        this.templates = Collections.synchronizedMap(new LinkedHashMap<String, CompiledTemplate>(
+                cacheSize, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, CompiledTemplate> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
 
     public MessageText buildMessageText(final NotificationMessage message) {
         final Optional<NotificationTemplate> template = Optional.ofNullable(message.getTemplate());
@@ -47,8 +77,14 @@ public class TemplateService {
         final StringWriter subjectOut = new StringWriter();
         final StringWriter bodyOut = new StringWriter();
 
-        Velocity.evaluate(velocityContext, subjectOut, MESSAGE_TAG + message.hashCode(), subject);
-        Velocity.evaluate(velocityContext, bodyOut, MESSAGE_TAG + message.hashCode(), body);
+        if (template.isPresent() && subject != null && body != null) {
+            final Long templateId = template.get().getId();
+            getTemplate(templateId, SUBJECT, subject).merge(velocityContext, subjectOut);
+            getTemplate(templateId, BODY, body).merge(velocityContext, bodyOut);
+        } else {
+            runtime.evaluate(velocityContext, subjectOut, MESSAGE_TAG + message.hashCode(), subject);
+            runtime.evaluate(velocityContext, bodyOut, MESSAGE_TAG + message.hashCode(), body);
+        }
 
         return MessageText.builder()
                 .subject(subjectOut.toString())
@@ -56,6 +92,30 @@ public class TemplateService {
                 .build();
     }
 
+    private Template getTemplate(final Long templateId, final String part, final String text) {
+        final String key = templateId + ":" + part + ":" + text.hashCode();
+        final CompiledTemplate cached = templates.get(key);
+        if (cached != null && Objects.equals(cached.getSource(), text)) {
+            return cached.getTemplate();
+        }
+        final Template compiled = compile(key, text);
+        templates.put(key, new CompiledTemplate(text, compiled));
+        return compiled;
+    }
+
+    private Template compile(final String name, final String text) {
+        try {
+            final Template compiled = new Template();
+            compiled.setName(MESSAGE_TAG + name);
+            compiled.setRuntimeServices(runtime);
+            compiled.setData(runtime.parse(new StringReader(text), compiled.getName()));
+            compiled.initDocument();
+            return compiled;
+        } catch (ParseException e) {
+            throw new VelocityException("Failed to parse notification template " + name, e);
+        }
+    }
+
     private VelocityContext getVelocityContext(final NotificationMessage message) {
         final VelocityContext velocityContext = new VelocityContext();
         velocityContext.put("templateParameters", message.getTemplateParameters());
@@ -69,4 +129,23 @@ public class TemplateService {
 
         return velocityContext;
     }
+
+    private static final class CompiledTemplate {
+
+        private final String source;
+        private final Template template;
+
+        private CompiledTemplate(final String source, final Template template) {
+            this.source = source;
+            this.template = template;
+        }
+
+        String getSource() {
+            return source;
+        }
+
+        Template getTemplate() {
+            return template;
+        }
+    }
 }
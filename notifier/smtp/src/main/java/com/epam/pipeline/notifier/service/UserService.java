@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.notifier.service;
+
+import com.epam.pipeline.entity.user.PipelineUser;
+import com.epam.pipeline.notifier.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Loads notification recipients in batches. Loaded users are kept for a short period of time
+ * since the same users usually receive lots of notifications at once.
+ */
+@Service
+public class UserService {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value(value = "${notification.user.cache.ttl:60000}")
+    private long cacheTtl;
+
+    private final Map<Long, CachedUser> users = new ConcurrentHashMap<>();
+
+    /**
+     * Loads users by provided ids with a single query for all the users which are not cached yet.
+     * @param ids   ids of users to be loaded, nulls are ignored
+     * @return map of loaded users by their ids
+     */
+    public Map<Long, PipelineUser> loadUsers(final Collection<Long> ids) {
+        final long now = System.currentTimeMillis();
+        final Map<Long, PipelineUser> result = new HashMap<>();
+        final List<Long> missing = new ArrayList<>();
+        ids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .forEach(id -> {
+                    final CachedUser cached = users.get(id);
+                    if (cached != null && cached.getExpiresAt() > now) {
+                        result.put(id, cached.getUser());
+                    } else {
+                        missing.add(id);
+                    }
+                });
+        if (!missing.isEmpty()) {
+            users.values().removeIf(cached -> cached.getExpiresAt() <= now);
+            userRepository.findByIdIn(missing).forEach(user -> {
+                result.put(user.getId(), user);
+                users.put(user.getId(), new CachedUser(user, now + cacheTtl));
+            });
+        }
+        return result;
+    }
+
+    private static final class CachedUser {
+
+        private final PipelineUser user;
+        private final long expiresAt;
+
+        private CachedUser(final PipelineUser user, final long expiresAt) {
+            this.user = user;
+            this.expiresAt = expiresAt;
+        }
+
+        PipelineUser getUser() {
+            return user;
+        }
+
+        long getExpiresAt() {
+            return expiresAt;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.notifier.service.task;
+
+/**
+ * Thrown by {@link NotificationManager} if a notification cannot be delivered,
+ * so that the delivery of the message is retried later.
+ */
+public class NotificationDeliveryException extends RuntimeException {
+
+    public NotificationDeliveryException(final String message) {
+        super(message);
+    }
+
+    public NotificationDeliveryException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2019 EPAM Systems, Inc. (https://www.epam.com/)
+ * Copyright 2017-2026 EPAM Systems, Inc. (https://www.epam.com/)
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,5 +22,16 @@ import com.epam.pipeline.entity.notification.NotificationMessage;
  * Simple interface of abstract {@link NotificationManager}
  */
 public interface NotificationManager {
+
+    /**
+     * Delivers a message to its recipients. Implementations shall throw an exception if the message
+     * cannot be delivered, in this case the delivery will be retried later.
+     */
     void notifySubscribers(NotificationMessage message);
+
+    /**
+     * @return unique name of the delivery channel, it is used to track which channels have already
+     * delivered a message, so that retries do not deliver the message via the same channel twice
+     */
+    String getChannel();
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2023 EPAM Systems, Inc. (https://www.epam.com/)
+ * Copyright 2017-2026 EPAM Systems, Inc. (https://www.epam.com/)
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,10 +19,9 @@ package com.epam.pipeline.notifier.service.task;
 import com.epam.pipeline.entity.notification.NotificationMessage;
 import com.epam.pipeline.entity.user.PipelineUser;
 import com.epam.pipeline.notifier.entity.message.MessageText;
-import com.epam.pipeline.notifier.repository.UserRepository;
+import com.epam.pipeline.notifier.service.NotificationDeliveryMetrics;
 import com.epam.pipeline.notifier.service.TemplateService;
-import org.apache.commons.mail.DefaultAuthenticator;
-import org.apache.commons.mail.Email;
+import com.epam.pipeline.notifier.service.UserService;
 import org.apache.commons.mail.EmailException;
 import org.apache.commons.mail.HtmlEmail;
 import org.apache.commons.validator.EmailValidator;
@@ -33,10 +32,13 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
-import org.springframework.util.StringUtils;
 
+import javax.mail.MessagingException;
 import javax.mail.internet.InternetAddress;
+import javax.mail.internet.MimeMessage;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -51,31 +53,14 @@ public class SMTPNotificationManager implements NotificationManager {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(SMTPNotificationManager.class);
     public static final String MESSAGE_TAG = "message";
+    public static final String CHANNEL = "SMTP";
 
     @Value(value = "${email.notification.retry.count:3}")
     private int notifyRetryCount;
 
-    @Value(value = "${email.smtp.server.host.name}")
-    private String smtpServerHostName;
-
-    @Value(value = "${email.smtp.port}")
-    private int smtpPort;
-
-    @Value(value = "${email.ssl.on.connect}")
-    private boolean sslOnConnect;
-
-    @Value(value = "${email.start.tls.enabled}")
-    private boolean startTlsEnabled;
-
     @Value(value = "${email.from}")
     private String emailFrom;
 
-    @Value(value = "${email.user:}")
-    private String username;
-
-    @Value(value = "${email.password:}")
-    private String password;
-
     @Value(value = "${email.notification.letter.delay:-1}")
     private long emailDelay;
 
@@ -83,11 +68,17 @@ public class SMTPNotificationManager implements NotificationManager {
     private long retryDelay;
 
     @Autowired
-    private UserRepository userRepository;
+    private UserService userService;
 
     @Autowired
     private TemplateService templateService;
 
+    @Autowired
+    private SMTPTransportPool transportPool;
+
+    @Autowired
+    private NotificationDeliveryMetrics deliveryMetrics;
+
     /**
      * Sends a notification to all specified recipients.
      *
@@ -96,42 +87,44 @@ public class SMTPNotificationManager implements NotificationManager {
      *
      * Both subject and body are filled with {@link NotificationMessage#templateParameters} regardless the way they
      * were retrieved (from template or directly from fields).
+     *
+     * Messages are sent via pooled SMTP connections of {@link SMTPTransportPool}.
+     *
+     * @throws NotificationDeliveryException if all attempts to send the message are failed
      */
+    @Override
+    public String getChannel() {
+        return CHANNEL;
+    }
+
     @Override
     public void notifySubscribers(NotificationMessage message) {
         for (int i = 0; i < notifyRetryCount; i++) {
             try {
-                Optional<Email> email = buildEmail(message);
+                final long start = System.currentTimeMillis();
+                Optional<MimeMessage> email = buildEmail(message);
                 if (email.isPresent()) {
-                    email.get().send();
+                    transportPool.send(email.get());
+                    deliveryMetrics.recordSent(System.currentTimeMillis() - start);
                 }
 
                 LOGGER.info("Message with id: {} was successfully send", message.getId());
                 sleepIfRequired(emailDelay);
                 return;
-            } catch (EmailException e) {
+            } catch (EmailException | MessagingException e) {
                 LOGGER.warn(String.format("Fail to send message with id %d. Attempt %d/%d. %n Cause: %n ",
                         message.getId(), i + 1, notifyRetryCount), e);
                 sleepIfRequired(retryDelay);
             }
         }
-        LOGGER.error(String.format("All attempts are failed. Message with id: %d will not be sent.",
-                message.getId()));
-
+        deliveryMetrics.recordFailed();
+        throw new NotificationDeliveryException(String.format("All %d attempts to send message with id %d are failed.",
+                notifyRetryCount, message.getId()));
     }
 
-    private Optional<Email> buildEmail(NotificationMessage message) throws EmailException {
+    private Optional<MimeMessage> buildEmail(NotificationMessage message) throws EmailException {
         HtmlEmail email = new HtmlEmail();
-        email.setHostName(smtpServerHostName);
-        email.setSmtpPort(smtpPort);
-        email.setSSLOnConnect(sslOnConnect);
-        email.setStartTLSEnabled(startTlsEnabled);
-
-        // check that credentials are provided, otherwise try to proceed without authentication
-        if (!StringUtils.isEmpty(username) && !StringUtils.isEmpty(password)) {
-            email.setAuthenticator(new DefaultAuthenticator(username, password));
-        }
-
+        email.setMailSession(transportPool.getSession());
         email.setFrom(emailFrom);
 
         MessageText messageText = templateService.buildMessageText(message);
@@ -143,17 +136,20 @@ public class SMTPNotificationManager implements NotificationManager {
             return Optional.empty();
         }
 
-        String userEmail = getTargetUserEmail(message);
+        final Map<Long, PipelineUser> users = userService.loadUsers(getRecipientIds(message));
+
+        String userEmail = getTargetUserEmail(message, users);
         if (isValidEmail(userEmail)) {
             email.addTo(userEmail);
         }
 
-        List<PipelineUser> keepInformedUsers = userRepository.findByIdIn(message.getCopyUserIds());
-
-        for (PipelineUser user : keepInformedUsers) {
-            String address = user.getEmail();
-            if (isValidEmail(address)) {
-                email.addBcc(address);
+        if (!CollectionUtils.isEmpty(message.getCopyUserIds())) {
+            for (Long userId : message.getCopyUserIds()) {
+                PipelineUser user = users.get(userId);
+                String address = user == null ? null : user.getEmail();
+                if (isValidEmail(address)) {
+                    email.addBcc(address);
+                }
             }
         }
 
@@ -165,15 +161,27 @@ public class SMTPNotificationManager implements NotificationManager {
                         .collect(Collectors.toList())
         );
 
-        return Optional.of(email);
+        email.buildMimeMessage();
+        return Optional.of(email.getMimeMessage());
+    }
+
+    private List<Long> getRecipientIds(final NotificationMessage message) {
+        final List<Long> ids = new ArrayList<>();
+        if (message.getToUserId() != null) {
+            ids.add(message.getToUserId());
+        }
+        if (!CollectionUtils.isEmpty(message.getCopyUserIds())) {
+            ids.addAll(message.getCopyUserIds());
+        }
+        return ids;
     }
 
-    private String getTargetUserEmail(NotificationMessage message) {
+    private String getTargetUserEmail(NotificationMessage message, Map<Long, PipelineUser> users) {
         if (message.getToUserId() == null) {
             LOGGER.info("toUserId is not set for message {}", message.getId());
             return null;
         }
-        PipelineUser targetUser = userRepository.findOne(message.getToUserId());
+        PipelineUser targetUser = users.get(message.getToUserId());
         if (targetUser == null) {
             LOGGER.info("Cannot find user with id {} for message {}", message.getToUserId(), message.getId());
             return null;
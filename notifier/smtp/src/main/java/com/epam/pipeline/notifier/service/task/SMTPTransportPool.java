@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.notifier.service.task;
+
+import org.apache.commons.mail.DefaultAuthenticator;
+import org.apache.commons.mail.EmailException;
+import org.apache.commons.mail.HtmlEmail;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.mail.MessagingException;
+import javax.mail.Session;
+import javax.mail.Transport;
+import javax.mail.internet.MimeMessage;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Pool of connected SMTP transports. Connections are reused between messages, so that SMTP connection
+ * establishment, TLS handshake and authentication are not performed for each message.
+ * A transport which fails to send a message is closed and replaced with a new one.
+ */
+@Component
+@ConditionalOnProperty(name = "notification.enable.smtp", havingValue = "true")
+public class SMTPTransportPool {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SMTPTransportPool.class);
+
+    @Value(value = "${email.smtp.server.host.name}")
+    private String smtpServerHostName;
+
+    @Value(value = "${email.smtp.port}")
+    private int smtpPort;
+
+    @Value(value = "${email.ssl.on.connect}")
+    private boolean sslOnConnect;
+
+    @Value(value = "${email.start.tls.enabled}")
+    private boolean startTlsEnabled;
+
+    @Value(value = "${email.user:}")
+    private String username;
+
+    @Value(value = "${email.password:}")
+    private String password;
+
+    @Value(value = "${email.smtp.pool.size:${submit.threads:1}}")
+    private int poolSize;
+
+    private Session session;
+    private Semaphore permits;
+    private final BlockingQueue<Transport> transports = new LinkedBlockingQueue<>();
+
+    @PostConstruct
+    public void init() throws EmailException {
+        this.session = buildSession();
+        this.permits = new Semaphore(Math.max(1, poolSize));
+    }
+
+    /**
+     * @return mail session which shall be used to build messages sent via this pool
+     */
+    public Session getSession() {
+        return session;
+    }
+
+    /**
+     * Sends a message to all its recipients via one of the pooled connections.
+     */
+    public void send(final MimeMessage message) throws MessagingException {
+        permits.acquireUninterruptibly();
+        Transport transport = null;
+        try {
+            transport = borrow();
+            message.saveChanges();
+            transport.sendMessage(message, message.getAllRecipients());
+            transports.offer(transport);
+            transport = null;
+        } finally {
+            if (transport != null) {
+                close(transport);
+            }
+            permits.release();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        Transport transport;
+        while ((transport = transports.poll()) != null) {
+            close(transport);
+        }
+    }
+
+    private Transport borrow() throws MessagingException {
+        Transport transport;
+        while ((transport = transports.poll()) != null) {
+            if (transport.isConnected()) {
+                return transport;
+            }
+            close(transport);
+        }
+        transport = session.getTransport();
+        transport.connect();
+        LOGGER.debug("New SMTP connection to {}:{} has been established.", smtpServerHostName, smtpPort);
+        return transport;
+    }
+
+    private void close(final Transport transport) {
+        try {
+            transport.close();
+        } catch (MessagingException e) {
+            LOGGER.debug("Failed to close SMTP connection: {}", e.getMessage());
+        }
+    }
+
+    private Session buildSession() throws EmailException {
+        final HtmlEmail email = new HtmlEmail();
+        email.setHostName(smtpServerHostName);
+        email.setSmtpPort(smtpPort);
+        email.setSSLOnConnect(sslOnConnect);
+        email.setStartTLSEnabled(startTlsEnabled);
+
+        // check that credentials are provided, otherwise try to proceed without authentication
+        if (!StringUtils.isEmpty(username) && !StringUtils.isEmpty(password)) {
+            email.setAuthenticator(new DefaultAuthenticator(username, password));
+        }
+        return email.getMailSession();
+    }
+}
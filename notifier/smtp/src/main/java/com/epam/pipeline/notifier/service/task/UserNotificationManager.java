@@ -1,5 +1,5 @@
 /*
- * Copyright 2023 EPAM Systems, Inc. (https://www.epam.com/)
+ * Copyright 2023-2026 EPAM Systems, Inc. (https://www.epam.com/)
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -51,11 +51,17 @@ import java.util.stream.Collectors;
 public class UserNotificationManager implements NotificationManager {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(UserNotificationManager.class);
+    public static final String CHANNEL = "UI";
 
     private final UserNotificationRepository notificationRepository;
     private final TemplateService templateService;
     private final ObjectMapper mapper = new ObjectMapper();
 
+    @Override
+    public String getChannel() {
+        return CHANNEL;
+    }
+
     @Override
     @Transactional
     public void notifySubscribers(final NotificationMessage message) {
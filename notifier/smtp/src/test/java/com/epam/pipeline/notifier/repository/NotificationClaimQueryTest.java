@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.notifier.repository;
+
+import org.junit.AfterClass;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Runs {@link NotificationRepository#LOCK_READY_NOTIFICATIONS_QUERY} against PostgreSQL,
+ * since {@code FOR UPDATE SKIP LOCKED} is not supported by the in-memory database used by the other tests.
+ * The test is skipped if docker is not available.
+ */
+public class NotificationClaimQueryTest {
+
+    private static final int LIMIT = 3;
+    private static final int TIMEOUT_SECONDS = 30;
+    private static final String INSERT = "INSERT INTO pipeline.notification_queue "
+            + "(id, status, next_attempt_date, claimed_date) VALUES (?, ?, ?, ?)";
+
+    private static PostgreSQLContainer<?> postgres;
+
+    private JdbcTemplate jdbcTemplate;
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @BeforeClass
+    public static void startDatabase() {
+        Assume.assumeTrue("Docker is not available", DockerClientFactory.instance().isDockerAvailable());
+        postgres = new PostgreSQLContainer<>("postgres:12");
+        postgres.start();
+    }
+
+    @AfterClass
+    public static void stopDatabase() {
+        if (postgres != null) {
+            postgres.stop();
+        }
+    }
+
+    @Before
+    public void setUp() {
+        final DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        namedJdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS pipeline");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS pipeline.notification_queue");
+        jdbcTemplate.execute("CREATE TABLE pipeline.notification_queue (id BIGINT PRIMARY KEY, "
+                + "status TEXT NOT NULL DEFAULT 'NEW', attempts INT NOT NULL DEFAULT 0, "
+                + "next_attempt_date TIMESTAMP, claimed_by TEXT, claimed_date TIMESTAMP, last_error TEXT, "
+                + "delivered_channels TEXT)");
+    }
+
+    @Test
+    public void shouldLockOnlyMessagesReadyToBeDelivered() {
+        insert(1L, "NEW", null, null);
+        insert(2L, "FAILED", now.minusMinutes(1), null);
+        insert(3L, "FAILED", now.plusMinutes(1), null);
+        insert(4L, "CLAIMED", null, now.minusHours(1));
+        insert(5L, "CLAIMED", null, now);
+        insert(6L, "SENT", null, now.minusHours(1));
+        insert(7L, "DEAD", null, now.minusHours(1));
+
+        final List<Long> locked = transactionTemplate.execute(status -> lock(Integer.MAX_VALUE));
+
+        assertEquals(Arrays.asList(1L, 2L, 4L), locked);
+    }
+
+    @Test
+    public void shouldNotLockTheSameMessagesByConcurrentClaimers() throws Exception {
+        for (long id = 1; id <= LIMIT * 2 + 1; id++) {
+            insert(id, "NEW", null, null);
+        }
+        final CountDownLatch firstLocked = new CountDownLatch(1);
+        final CountDownLatch secondLocked = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<List<Long>> first = executor.submit(() -> transactionTemplate.execute(status -> {
+                final List<Long> ids = lock(LIMIT);
+                firstLocked.countDown();
+                await(secondLocked);
+                return ids;
+            }));
+            await(firstLocked);
+            final List<Long> second = transactionTemplate.execute(status -> lock(LIMIT));
+            secondLocked.countDown();
+
+            assertEquals(Arrays.asList(1L, 2L, 3L), first.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            assertEquals(Arrays.asList(4L, 5L, 6L), second);
+        } finally {
+            secondLocked.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldLockMessagesAgainOnceTheClaimingTransactionIsCompleted() {
+        insert(1L, "NEW", null, null);
+
+        final List<Long> first = transactionTemplate.execute(status -> lock(LIMIT));
+        final List<Long> second = transactionTemplate.execute(status -> lock(LIMIT));
+
+        assertEquals(Collections.singletonList(1L), first);
+        assertEquals(first, second);
+    }
+
+    private List<Long> lock(final int limit) {
+        final MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("now", now)
+                .addValue("staleBefore", now.minusMinutes(10))
+                .addValue("limit", limit);
+        return new ArrayList<>(namedJdbcTemplate.query(NotificationRepository.LOCK_READY_NOTIFICATIONS_QUERY,
+                params, (rs, rowNum) -> rs.getLong("id")));
+    }
+
+    private void insert(final Long id, final String status, final LocalDateTime nextAttempt,
+                        final LocalDateTime claimed) {
+        jdbcTemplate.update(INSERT, id, status, nextAttempt, claimed);
+    }
+
+    private void await(final CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2019 EPAM Systems, Inc. (https://www.epam.com/)
+ * Copyright 2017-2026 EPAM Systems, Inc. (https://www.epam.com/)
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,16 +16,16 @@
 
 package com.epam.pipeline.notifier.repository;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
-import java.util.List;
 
+import com.epam.pipeline.entity.notification.NotificationDeliveryStatus;
 import com.epam.pipeline.entity.notification.NotificationMessage;
 import com.epam.pipeline.entity.notification.NotificationTemplate;
 import com.epam.pipeline.notifier.AbstractSpringTest;
 import org.junit.Assert;
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,6 +34,8 @@ public class NotificationRepositoryTest extends AbstractSpringTest {
     private static final String SUBJECT = "Hi";
     private static final String BODY_WITH_PARAM = "Hi, from test {testHash}";
     private static final String BODY_WITHOUT_PARAM = "Hi, from test";
+    private static final String OWNER = "owner";
+    private static final String ERROR = "error";
     private static final String PARAM = "testHash";
 
     @Autowired
@@ -42,7 +44,6 @@ public class NotificationRepositoryTest extends AbstractSpringTest {
     @Autowired
     private NotificationTemplateRepository templateRepository;
 
-
     @Test
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void loadTest() {
@@ -55,30 +56,61 @@ public class NotificationRepositoryTest extends AbstractSpringTest {
         message.setTemplateParameters(Collections.singletonMap(PARAM, Integer.toHexString(this.hashCode())));
         message.setToUserId(0L);
         message.setCopyUserIds(Collections.singletonList(0L));
-        notificationRepository.save(message);
-        List<NotificationMessage> messages = notificationRepository.loadNotification(new PageRequest(0, 5));
-        Assert.assertTrue(messages.size() == 1);
-        NotificationMessage loaded = messages.get(0);
+        notificationRepository.saveAndFlush(message);
+        NotificationMessage loaded = notificationRepository.findOne(message.getId());
+        Assert.assertNotNull(loaded);
         Assert.assertEquals(Integer.toHexString(this.hashCode()), loaded.getTemplateParameters().get(PARAM));
         Assert.assertEquals(BODY_WITH_PARAM, loaded.getTemplate().getBody());
         Assert.assertEquals(SUBJECT, loaded.getTemplate().getSubject());
+        Assert.assertEquals(NotificationDeliveryStatus.NEW, loaded.getStatus());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void updateClaimedStatusTest() {
+        final NotificationMessage message = claimedMessage(LocalDateTime.now());
+        final LocalDateTime nextAttempt = LocalDateTime.now().plusMinutes(1).withNano(0);
+
+        Assert.assertEquals(0, notificationRepository.updateClaimedStatus(message.getId(), "another owner",
+                NotificationDeliveryStatus.SENT, null, null));
+        Assert.assertEquals(1, notificationRepository.updateClaimedStatus(message.getId(), OWNER,
+                NotificationDeliveryStatus.FAILED, nextAttempt, ERROR));
+
+        final NotificationMessage loaded = notificationRepository.findOne(message.getId());
+        Assert.assertEquals(NotificationDeliveryStatus.FAILED, loaded.getStatus());
+        Assert.assertEquals(nextAttempt, loaded.getNextAttemptDate());
+        Assert.assertEquals(ERROR, loaded.getLastError());
+        Assert.assertEquals(0, notificationRepository.updateClaimedStatus(message.getId(), OWNER,
+                NotificationDeliveryStatus.SENT, null, null));
     }
 
     @Test
     @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void deleteByIdTest() {
+    public void deleteByStatusClaimedBeforeTest() {
+        final NotificationMessage outdated = claimedMessage(LocalDateTime.now().minusDays(2));
+        final NotificationMessage recent = claimedMessage(LocalDateTime.now());
+        notificationRepository.updateClaimedStatus(outdated.getId(), OWNER, NotificationDeliveryStatus.SENT,
+                null, null);
+        notificationRepository.updateClaimedStatus(recent.getId(), OWNER, NotificationDeliveryStatus.SENT,
+                null, null);
+
+        Assert.assertEquals(1, notificationRepository.deleteByStatusClaimedBefore(NotificationDeliveryStatus.SENT,
+                LocalDateTime.now().minusDays(1)));
+        Assert.assertNull(notificationRepository.findOne(outdated.getId()));
+        Assert.assertNotNull(notificationRepository.findOne(recent.getId()));
+    }
+
+    private NotificationMessage claimedMessage(final LocalDateTime claimedDate) {
         NotificationMessage message = new NotificationMessage();
-        NotificationTemplate template = new NotificationTemplate();
-        template.setSubject(SUBJECT);
-        template.setBody(BODY_WITHOUT_PARAM);
-        templateRepository.save(template);
-        message.setTemplate(template);
+        message.setSubject(SUBJECT);
+        message.setBody(BODY_WITHOUT_PARAM);
         message.setToUserId(0L);
         message.setCopyUserIds(Collections.singletonList(0L));
-        notificationRepository.save(message);
-        Long idToDelete = message.getId();
-        notificationRepository.deleteById(idToDelete);
-        Assert.assertNull(notificationRepository.findOne(idToDelete));
+        message.setStatus(NotificationDeliveryStatus.CLAIMED);
+        message.setClaimedBy(OWNER);
+        message.setClaimedDate(claimedDate);
+        message.setAttempts(1);
+        return notificationRepository.saveAndFlush(message);
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.notifier.service;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.springframework.boot.actuate.metrics.Metric;
+
+public class NotificationDeliveryMetricsTest {
+
+    private static final String PREFIX = "notification.delivery.";
+
+    private final NotificationDeliveryMetrics metrics = new NotificationDeliveryMetrics();
+
+    @Test
+    public void shouldExposeTotals() {
+        metrics.recordSent(10);
+        metrics.recordSent(30);
+        metrics.recordFailed();
+
+        final Map<String, Number> values = values();
+        assertEquals(2L, values.get(PREFIX + "sent"));
+        assertEquals(1L, values.get(PREFIX + "failed"));
+        assertEquals(40L, values.get(PREFIX + "latency.total.ms"));
+    }
+
+    @Test
+    public void shouldExposeLastPeriodLatency() {
+        metrics.recordSent(10);
+        metrics.recordSent(30);
+        metrics.logMetrics();
+        metrics.recordSent(100);
+
+        final Map<String, Number> values = values();
+        assertEquals(20L, values.get(PREFIX + "period.latency.avg.ms"));
+        assertEquals(30L, values.get(PREFIX + "period.latency.max.ms"));
+        assertEquals(3L, values.get(PREFIX + "sent"));
+    }
+
+    private Map<String, Number> values() {
+        return metrics.metrics().stream()
+                .collect(Collectors.toMap(Metric::getName, Metric::getValue));
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.notifier.service;
+
+import com.epam.pipeline.entity.notification.NotificationDeliveryStatus;
+import com.epam.pipeline.entity.notification.NotificationMessage;
+import com.epam.pipeline.notifier.repository.NotificationRepository;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Matchers.isNull;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class NotificationOutboxServiceTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long INITIAL_BACKOFF = 1000;
+    private static final long MAX_BACKOFF = 3000;
+    private static final long CLAIM_TIMEOUT = 600000;
+    private static final long SENT_RETENTION = 86400000;
+    private static final long DEAD_RETENTION = 604800000;
+    private static final int LIMIT = 10;
+    private static final String ERROR = "Connection refused";
+    private static final String PREVIOUS_ERROR = "Mailbox unavailable";
+    private static final String STALE_OWNER = "crashed instance";
+
+    private final NotificationRepository notificationRepository = mock(NotificationRepository.class);
+    private final NotificationOutboxService outboxService = new NotificationOutboxService();
+
+    @Before
+    public void setUp() {
+        ReflectionTestUtils.setField(outboxService, "notificationRepository", notificationRepository);
+        ReflectionTestUtils.setField(outboxService, "maxAttempts", MAX_ATTEMPTS);
+        ReflectionTestUtils.setField(outboxService, "initialBackoff", INITIAL_BACKOFF);
+        ReflectionTestUtils.setField(outboxService, "maxBackoff", MAX_BACKOFF);
+        ReflectionTestUtils.setField(outboxService, "claimTimeout", CLAIM_TIMEOUT);
+        ReflectionTestUtils.setField(outboxService, "sentRetention", SENT_RETENTION);
+        ReflectionTestUtils.setField(outboxService, "deadRetention", DEAD_RETENTION);
+        doReturn(1).when(notificationRepository).updateClaimedStatus(anyLong(), anyString(),
+                any(NotificationDeliveryStatus.class), any(LocalDateTime.class), anyString());
+    }
+
+    @Test
+    public void claimShouldMarkMessagesAsClaimedAndCountAttempts() {
+        final NotificationMessage message = message(1L, NotificationDeliveryStatus.NEW, 0);
+        mockReady(message);
+
+        final LocalDateTime before = LocalDateTime.now();
+        final List<NotificationMessage> claimed = outboxService.claim(LIMIT);
+
+        assertEquals(Collections.singletonList(message), claimed);
+        assertEquals(NotificationDeliveryStatus.CLAIMED, message.getStatus());
+        assertEquals(1, message.getAttempts());
+        assertFalse(message.getClaimedDate().isBefore(before));
+        assertTrue(message.getClaimedBy() != null && !message.getClaimedBy().isEmpty());
+    }
+
+    @Test
+    public void claimShouldLookForClaimsOlderThanClaimTimeout() {
+        mockReady();
+        final LocalDateTime before = LocalDateTime.now();
+
+        outboxService.claim(LIMIT);
+
+        final ArgumentCaptor<LocalDateTime> now = ArgumentCaptor.forClass(LocalDateTime.class);
+        final ArgumentCaptor<LocalDateTime> staleBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(notificationRepository).lockReadyNotifications(now.capture(), staleBefore.capture(), eq(LIMIT));
+        assertFalse(now.getValue().isBefore(before));
+        assertEquals(now.getValue().minus(CLAIM_TIMEOUT, ChronoUnit.MILLIS), staleBefore.getValue());
+    }
+
+    @Test
+    public void claimShouldReclaimStaleMessagesWithAttemptsLeft() {
+        final NotificationMessage stale = message(1L, NotificationDeliveryStatus.CLAIMED, MAX_ATTEMPTS - 1);
+        stale.setClaimedBy(STALE_OWNER);
+        mockReady(stale);
+
+        final List<NotificationMessage> claimed = outboxService.claim(LIMIT);
+
+        assertEquals(Collections.singletonList(stale), claimed);
+        assertEquals(MAX_ATTEMPTS, stale.getAttempts());
+        assertFalse(STALE_OWNER.equals(stale.getClaimedBy()));
+    }
+
+    @Test
+    public void claimShouldDeadLetterStaleMessagesWithoutAttemptsLeft() {
+        final NotificationMessage stale = message(1L, NotificationDeliveryStatus.CLAIMED, MAX_ATTEMPTS);
+        stale.setClaimedBy(STALE_OWNER);
+        final NotificationMessage ready = message(2L, NotificationDeliveryStatus.NEW, 0);
+        mockReady(stale, ready);
+
+        final List<NotificationMessage> claimed = outboxService.claim(LIMIT);
+
+        assertEquals(Collections.singletonList(ready), claimed);
+        assertEquals(NotificationDeliveryStatus.DEAD, stale.getStatus());
+        assertTrue(stale.getLastError().contains(STALE_OWNER));
+    }
+
+    @Test
+    public void claimShouldKeepPreviousDeliveryErrorOfDeadLetteredMessages() {
+        final NotificationMessage stale = message(1L, NotificationDeliveryStatus.CLAIMED, MAX_ATTEMPTS);
+        stale.setClaimedBy(STALE_OWNER);
+        stale.setLastError(PREVIOUS_ERROR);
+        mockReady(stale);
+
+        outboxService.claim(LIMIT);
+
+        assertEquals(NotificationDeliveryStatus.DEAD, stale.getStatus());
+        assertEquals(PREVIOUS_ERROR, stale.getLastError());
+    }
+
+    @Test
+    public void markSentShouldUpdateClaimedStatus() {
+        final NotificationMessage message = message(1L, NotificationDeliveryStatus.CLAIMED, 1);
+
+        outboxService.markSent(message);
+
+        verify(notificationRepository).updateClaimedStatus(eq(1L), anyString(),
+                eq(NotificationDeliveryStatus.SENT), (LocalDateTime) isNull(), (String) isNull());
+    }
+
+    @Test
+    public void markFailedShouldRetryWithExponentialBackoff() {
+        assertBackoff(1, INITIAL_BACKOFF);
+        assertBackoff(2, INITIAL_BACKOFF * 2);
+    }
+
+    @Test
+    public void markFailedShouldNotExceedMaxBackoff() {
+        ReflectionTestUtils.setField(outboxService, "maxAttempts", Integer.MAX_VALUE);
+
+        assertBackoff(3, MAX_BACKOFF);
+        assertBackoff(100, MAX_BACKOFF);
+    }
+
+    @Test
+    public void markFailedShouldDeadLetterMessageAfterMaxAttempts() {
+        final NotificationMessage message = message(1L, NotificationDeliveryStatus.CLAIMED, MAX_ATTEMPTS);
+
+        outboxService.markFailed(message, new IllegalStateException(ERROR));
+
+        verify(notificationRepository).updateClaimedStatus(eq(1L), anyString(),
+                eq(NotificationDeliveryStatus.DEAD), (LocalDateTime) isNull(), eq(ERROR));
+    }
+
+    @Test
+    public void removeCompletedShouldRemoveSentAndDeadMessagesAccordingToRetention() {
+        final LocalDateTime before = LocalDateTime.now();
+
+        outboxService.removeCompleted();
+
+        final LocalDateTime after = LocalDateTime.now();
+        final ArgumentCaptor<LocalDateTime> sentBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        final ArgumentCaptor<LocalDateTime> deadBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(notificationRepository).deleteByStatusClaimedBefore(eq(NotificationDeliveryStatus.SENT),
+                sentBefore.capture());
+        verify(notificationRepository).deleteByStatusClaimedBefore(eq(NotificationDeliveryStatus.DEAD),
+                deadBefore.capture());
+        assertFalse(sentBefore.getValue().isBefore(before.minus(SENT_RETENTION, ChronoUnit.MILLIS)));
+        assertFalse(sentBefore.getValue().isAfter(after.minus(SENT_RETENTION, ChronoUnit.MILLIS)));
+        assertFalse(deadBefore.getValue().isBefore(before.minus(DEAD_RETENTION, ChronoUnit.MILLIS)));
+        assertFalse(deadBefore.getValue().isAfter(after.minus(DEAD_RETENTION, ChronoUnit.MILLIS)));
+    }
+
+    private void assertBackoff(final int attempts, final long expectedBackoff) {
+        final long id = attempts;
+        final NotificationMessage message = message(id, NotificationDeliveryStatus.CLAIMED, attempts);
+        final LocalDateTime before = LocalDateTime.now();
+
+        outboxService.markFailed(message, new IllegalStateException(ERROR));
+
+        final LocalDateTime after = LocalDateTime.now();
+        final ArgumentCaptor<LocalDateTime> nextAttempt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(notificationRepository).updateClaimedStatus(eq(id), anyString(),
+                eq(NotificationDeliveryStatus.FAILED), nextAttempt.capture(), eq(ERROR));
+        assertFalse(nextAttempt.getValue().isBefore(before.plus(expectedBackoff, ChronoUnit.MILLIS)));
+        assertFalse(nextAttempt.getValue().isAfter(after.plus(expectedBackoff, ChronoUnit.MILLIS)));
+    }
+
+    private void mockReady(final NotificationMessage... messages) {
+        doReturn(Arrays.asList(messages)).when(notificationRepository)
+                .lockReadyNotifications(any(LocalDateTime.class), any(LocalDateTime.class), anyInt());
+    }
+
+    private NotificationMessage message(final Long id, final NotificationDeliveryStatus status,
+                                        final int attempts) {
+        final NotificationMessage message = new NotificationMessage();
+        message.setId(id);
+        message.setStatus(status);
+        message.setAttempts(attempts);
+        return message;
+    }
+}
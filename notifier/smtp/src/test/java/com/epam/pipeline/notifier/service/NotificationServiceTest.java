@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.notifier.service;
+
+import com.epam.pipeline.entity.notification.NotificationMessage;
+import com.epam.pipeline.notifier.service.task.NotificationManager;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class NotificationServiceTest {
+
+    private static final int NOTIFICATION_AT_TIME = 10;
+    private static final String EMAIL = "EMAIL";
+    private static final String UI = "UI";
+
+    private final NotificationOutboxService outboxService = mock(NotificationOutboxService.class);
+    private final NotificationManager emailManager = manager(EMAIL);
+    private final NotificationManager uiManager = manager(UI);
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final NotificationService notificationService = new NotificationService();
+    private final NotificationMessage message = new NotificationMessage();
+
+    @Before
+    public void setUp() {
+        ReflectionTestUtils.setField(notificationService, "notificationThreadPool", executor);
+        ReflectionTestUtils.setField(notificationService, "notificationAtTime", NOTIFICATION_AT_TIME);
+        ReflectionTestUtils.setField(notificationService, "outboxService", outboxService);
+        ReflectionTestUtils.setField(notificationService, "notificationManagers",
+                Arrays.asList(emailManager, uiManager));
+        message.setId(1L);
+        doReturn(Collections.singletonList(message)).when(outboxService).claim(anyInt());
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldMarkMessageAsSentOnceAllChannelsHaveDeliveredIt() {
+        notificationService.sendNotification();
+
+        verify(emailManager).notifySubscribers(message);
+        verify(uiManager).notifySubscribers(message);
+        verify(outboxService).markDelivered(message, EMAIL);
+        verify(outboxService).markDelivered(message, UI);
+        verify(outboxService).markSent(message);
+    }
+
+    @Test
+    public void shouldDeliverMessageViaOtherChannelsIfOneChannelFails() {
+        final IllegalStateException error = new IllegalStateException("Connection refused");
+        doThrow(error).when(emailManager).notifySubscribers(message);
+
+        notificationService.sendNotification();
+
+        verify(uiManager).notifySubscribers(message);
+        verify(outboxService, never()).markDelivered(message, EMAIL);
+        verify(outboxService).markDelivered(message, UI);
+        verify(outboxService).markFailed(message, error);
+        verify(outboxService, never()).markSent(any(NotificationMessage.class));
+    }
+
+    @Test
+    public void shouldNotDeliverMessageAgainViaChannelsWhichHaveAlreadyDeliveredIt() {
+        message.setDeliveredChannels(new LinkedHashSet<>(Collections.singletonList(UI)));
+
+        notificationService.sendNotification();
+
+        verify(emailManager).notifySubscribers(message);
+        verify(uiManager, never()).notifySubscribers(any(NotificationMessage.class));
+        verify(outboxService).markDelivered(message, EMAIL);
+        verify(outboxService, never()).markDelivered(any(NotificationMessage.class), eq(UI));
+        verify(outboxService).markSent(message);
+    }
+
+    private static NotificationManager manager(final String channel) {
+        final NotificationManager manager = mock(NotificationManager.class);
+        doReturn(channel).when(manager).getChannel();
+        return manager;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.notifier.service;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.epam.pipeline.entity.notification.NotificationMessage;
+import com.epam.pipeline.entity.notification.NotificationTemplate;
+import com.epam.pipeline.notifier.entity.message.MessageText;
+
+public class TemplateServiceTest {
+
+    private static final Long TEMPLATE_ID = 1L;
+    private static final String SUBJECT = "Run $templateParameters.get(\"id\")";
+    private static final String BODY = "Run $templateParameters.get(\"id\") is $templateParameters.get(\"status\")";
+    private static final String UPDATED_BODY = "Run $templateParameters.get(\"id\") has been updated";
+
+    private final TemplateService templateService = new TemplateService(2);
+
+    @Test
+    public void shouldReuseCompiledTemplateWithDifferentParameters() {
+        final NotificationTemplate template = template(BODY);
+
+        final MessageText first = templateService.buildMessageText(message(template, "1", "RUNNING"));
+        final MessageText second = templateService.buildMessageText(message(template, "2", "STOPPED"));
+
+        assertEquals("Run 1", first.getSubject());
+        assertEquals("Run 1 is RUNNING", first.getBody());
+        assertEquals("Run 2", second.getSubject());
+        assertEquals("Run 2 is STOPPED", second.getBody());
+    }
+
+    @Test
+    public void shouldRecompileUpdatedTemplate() {
+        templateService.buildMessageText(message(template(BODY), "1", "RUNNING"));
+
+        final MessageText updated = templateService.buildMessageText(message(template(UPDATED_BODY), "1", "RUNNING"));
+
+        assertEquals("Run 1 has been updated", updated.getBody());
+    }
+
+    @Test
+    public void shouldEvaluateMessageWithoutTemplate() {
+        final NotificationMessage message = message(null, "3", "FAILURE");
+        message.setSubject(SUBJECT);
+        message.setBody(BODY);
+
+        final MessageText text = templateService.buildMessageText(message);
+
+        assertEquals("Run 3", text.getSubject());
+        assertEquals("Run 3 is FAILURE", text.getBody());
+    }
+
+    private NotificationTemplate template(final String body) {
+        final NotificationTemplate template = new NotificationTemplate();
+        template.setId(TEMPLATE_ID);
+        template.setSubject(SUBJECT);
+        template.setBody(body);
+        return template;
+    }
+
+    private NotificationMessage message(final NotificationTemplate template, final String id, final String status) {
+        final NotificationMessage message = new NotificationMessage();
+        message.setTemplate(template);
+        final Map<String, Object> parameters = new HashMap<>();
+        parameters.put("id", id);
+        parameters.put("status", status);
+        message.setTemplateParameters(parameters);
+        return message;
+    }
+}
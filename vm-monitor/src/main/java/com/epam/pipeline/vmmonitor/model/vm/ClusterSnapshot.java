@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 EPAM Systems, Inc. (https://www.epam.com/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.pipeline.vmmonitor.model.vm;
+
+import com.epam.pipeline.entity.cluster.NodeInstance;
+import com.epam.pipeline.entity.cluster.NodeInstanceAddress;
+import com.epam.pipeline.entity.cluster.pool.NodePool;
+import com.epam.pipeline.entity.pipeline.PipelineRun;
+import org.apache.commons.collections4.ListUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Snapshot of cluster nodes, active runs and node pools loaded once per monitoring cycle.
+ * Cloud instances are matched with cluster nodes in memory by instance id and private ip.
+ */
+public class ClusterSnapshot {
+
+    private final List<NodeInstance> nodes;
+    private final Map<String, List<NodeInstance>> nodesByAddress = new HashMap<>();
+    private final Map<String, List<NodeInstance>> nodesByName = new HashMap<>();
+    private final Map<Long, PipelineRun> activeRuns;
+    private final Set<Long> nodePools;
+
+    public ClusterSnapshot(final List<NodeInstance> nodes,
+                           final List<PipelineRun> activeRuns,
+                           final List<NodePool> nodePools) {
+        this.nodes = ListUtils.emptyIfNull(nodes);
+        this.nodes.forEach(this::index);
+        this.activeRuns = ListUtils.emptyIfNull(activeRuns).stream()
+                .filter(run -> Objects.nonNull(run.getId()))
+                .collect(Collectors.toMap(PipelineRun::getId, run -> run, (first, second) -> first));
+        this.nodePools = ListUtils.emptyIfNull(nodePools).stream()
+                .map(NodePool::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+
+    public List<NodeInstance> findNodes(final VirtualMachine vm) {
+        final Set<NodeInstance> matching = newIdentitySet();
+        final List<NodeInstance> result = new ArrayList<>();
+        Optional.ofNullable(vm.getPrivateIp())
+                .map(String::toLowerCase)
+                .map(nodesByAddress::get)
+                .ifPresent(result::addAll);
+        Optional.ofNullable(vm.getInstanceId())
+                .map(nodesByName::get)
+                .ifPresent(result::addAll);
+        result.removeIf(node -> !matching.add(node));
+        return result;
+    }
+
+    public Optional<PipelineRun> findActiveRun(final long runId) {
+        return Optional.ofNullable(activeRuns.get(runId));
+    }
+
+    public boolean isNodePoolExists(final long poolId) {
+        return nodePools.contains(poolId);
+    }
+
+    /**
+     * Returns run nodes which do not match any of the given cloud instances.
+     */
+    public List<NodeInstance> findLostNodes(final List<VirtualMachine> vms) {
+        final Set<NodeInstance> matched = newIdentitySet();
+        vms.forEach(vm -> matched.addAll(findNodes(vm)));
+        return nodes.stream()
+                .filter(node -> StringUtils.isNotBlank(node.getRunId()))
+                .filter(node -> !matched.contains(node))
+                .collect(Collectors.toList());
+    }
+
+    private static Set<NodeInstance> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    private void index(final NodeInstance node) {
+        ListUtils.emptyIfNull(node.getAddresses()).stream()
+                .map(NodeInstanceAddress::getAddress)
+                .filter(StringUtils::isNotBlank)
+                .collect(Collectors.toCollection(HashSet::new))
+                .forEach(address -> nodesByAddress.computeIfAbsent(address.toLowerCase(), key -> new ArrayList<>())
+                        .add(node));
+        if (StringUtils.isNotBlank(node.getName())) {
+            nodesByName.computeIfAbsent(node.getName(), key -> new ArrayList<>()).add(node);
+        }
+    }
+}
@@ -18,12 +18,12 @@
 package com.epam.pipeline.vmmonitor.service.vm;
 
 import com.epam.pipeline.entity.cluster.NodeInstance;
-import com.epam.pipeline.entity.cluster.pool.NodePool;
 import com.epam.pipeline.entity.pipeline.PipelineRun;
 import com.epam.pipeline.entity.pipeline.run.RunStatus;
 import com.epam.pipeline.entity.region.AbstractCloudRegion;
 import com.epam.pipeline.entity.region.CloudProvider;
 import com.epam.pipeline.exception.PipelineResponseException;
+import com.epam.pipeline.vmmonitor.model.vm.ClusterSnapshot;
 import com.epam.pipeline.vmmonitor.model.vm.VirtualMachine;
 import com.epam.pipeline.vmmonitor.service.Monitor;
 import com.epam.pipeline.vmmonitor.service.pipeline.CloudPipelineAPIClient;
@@ -44,11 +44,16 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
- * Main monitoring service class, checks VM status on a scheduled basis
+ * Main monitoring service class, checks VM status on a scheduled basis.
+ * Running VMs of all regions are fetched concurrently and reconciled in memory
+ * with a single snapshot of cluster nodes, active runs and node pools.
  */
 @Slf4j
 @Service
@@ -65,6 +70,7 @@ public class VMMonitor implements Monitor {
     private final String runIdLabel;
     private final String poolIdLabel;
     private final long vmMaxLiveMinutes;
+    private final int regionsParallelism;
 
     public VMMonitor(final CloudPipelineAPIClient apiClient,
                      final VMNotifier notifier,
@@ -72,7 +78,8 @@ public class VMMonitor implements Monitor {
                      @Value("${monitor.required.labels:}") final String requiredLabels,
                      @Value("${monitor.runid.label:}") final String runIdLabel,
                      @Value("${monitor.poolid.label:}") final String poolIdLabel,
-                     @Value("${monitor.vm.max.live.minutes:60}") final long vmMaxLiveMinutes) {
+                     @Value("${monitor.vm.max.live.minutes:60}") final long vmMaxLiveMinutes,
+                     @Value("${monitor.vm.regions.parallelism:4}") final int regionsParallelism) {
         this.apiClient = apiClient;
         this.notifier = notifier;
         this.services = ListUtils.emptyIfNull(services).stream()
@@ -81,35 +88,76 @@ public class VMMonitor implements Monitor {
         this.runIdLabel = runIdLabel;
         this.poolIdLabel = poolIdLabel;
         this.vmMaxLiveMinutes = vmMaxLiveMinutes;
+        this.regionsParallelism = Math.max(1, regionsParallelism);
     }
 
     @Override
     public void monitor() {
         try {
-            ListUtils.emptyIfNull(apiClient.loadRegions())
-                    .forEach(this::checkVMs);
+            final List<? extends AbstractCloudRegion> regions = ListUtils.emptyIfNull(apiClient.loadRegions());
+            final List<Optional<List<VirtualMachine>>> inventory = fetchRunningVms(regions);
+            final ClusterSnapshot snapshot = loadClusterSnapshot();
+            final List<VirtualMachine> vms = inventory.stream()
+                    .filter(Optional::isPresent)
+                    .map(Optional::get)
+                    .flatMap(List::stream)
+                    .collect(Collectors.toList());
+            vms.forEach(vm -> checkVmState(vm, snapshot));
+            if (inventory.stream().allMatch(Optional::isPresent)) {
+                checkLostNodes(vms, snapshot);
+            }
         } finally {
             notifier.sendNotifications();
         }
     }
 
+    private List<Optional<List<VirtualMachine>>> fetchRunningVms(final List<? extends AbstractCloudRegion> regions) {
+        if (regions.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(regionsParallelism, regions.size()));
+        try {
+            final List<CompletableFuture<Optional<List<VirtualMachine>>>> requests = regions.stream()
+                    .map(region -> CompletableFuture.supplyAsync(() -> fetchRunningVms(region), executor))
+                    .collect(Collectors.toList());
+            return requests.stream()
+                    .map(CompletableFuture::join)
+                    .collect(Collectors.toList());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Returns running VMs of a region, an empty list for unsupported providers
+     * or nothing if VMs could not be fetched.
+     */
     @SuppressWarnings("unchecked")
-    private void checkVMs(final AbstractCloudRegion region) {
+    private Optional<List<VirtualMachine>> fetchRunningVms(final AbstractCloudRegion region) {
         try {
             log.debug("Checking VMs in region {} {}", region.getRegionCode(), region.getProvider());
-            getVmService(region)
-                    .ifPresent(service -> {
-                        final List<VirtualMachine> vms = ListUtils.emptyIfNull(service.fetchRunningVms(region));
-                        log.debug("Found {} running VM(s) in {} {}", vms.size(),
-                                region.getRegionCode(), region.getProvider());
-                        vms.forEach(this::checkVmState);
-                    });
+            final List<VirtualMachine> vms = getVmService(region)
+                    .map(service -> ListUtils.emptyIfNull((List<VirtualMachine>) service.fetchRunningVms(region)))
+                    .orElseGet(Collections::emptyList);
+            log.debug("Found {} running VM(s) in {} {}", vms.size(), region.getRegionCode(), region.getProvider());
+            return Optional.of(vms);
         } catch (Exception e) {
             log.error("An error during region {} {} check.", region.getRegionCode(), region.getProvider());
             log.error(e.getMessage(), e);
+            return Optional.empty();
         }
     }
 
+    private ClusterSnapshot loadClusterSnapshot() {
+        return new ClusterSnapshot(apiClient.loadNodes(), apiClient.loadActiveRuns(), apiClient.loadNodePools());
+    }
+
+    private void checkLostNodes(final List<VirtualMachine> vms, final ClusterSnapshot snapshot) {
+        snapshot.findLostNodes(vms).forEach(node ->
+                log.warn("Node {} of run {} does not match any running VM in the cloud.",
+                        node.getName(), node.getRunId()));
+    }
+
     private Optional<VMMonitorService> getVmService(final AbstractCloudRegion region) {
         final CloudProvider provider = region.getProvider();
         if (!services.containsKey(provider)) {
@@ -119,19 +167,19 @@ public class VMMonitor implements Monitor {
         return Optional.of(services.get(provider));
     }
 
-    private void checkVmState(final VirtualMachine vm) {
+    private void checkVmState(final VirtualMachine vm, final ClusterSnapshot snapshot) {
         try {
-            final List<NodeInstance> nodes = apiClient.findNodes(vm.getPrivateIp());
+            final List<NodeInstance> nodes = snapshot.findNodes(vm);
             if (CollectionUtils.isNotEmpty(nodes)) {
                 log.debug("Found {} node(s) matching VM {} {}", nodes.size(),
                         vm.getInstanceId(), vm.getCloudProvider());
-                checkMatchingNodes(nodes, vm);
+                checkMatchingNodes(nodes, vm, snapshot);
             } else {
                 log.debug("No matching nodes were found for VM {} {}.", vm.getInstanceId(), vm.getCloudProvider());
-                if (!matchingRunExists(vm) && !checkVMPoolNode(vm)) {
+                if (!matchingRunExists(vm, snapshot) && !checkVMPoolNode(vm)) {
                     final Map<String, String> vmTags = MapUtils.emptyIfNull(vm.getTags());
                     final List<PipelineRun> matchingRuns = findLongValueInMap(vmTags, runIdLabel)
-                        .map(runId -> loadPipelineRun(runId).orElseGet(() -> new PipelineRun(runId, null)))
+                        .map(runId -> findRun(runId, snapshot).orElseGet(() -> new PipelineRun(runId, null)))
                         .map(Collections::singletonList)
                         .orElseGet(() -> apiClient.searchRunsByInstanceId(vm.getInstanceId()));
                     final Long matchingPoolId = findLongValueInMap(vmTags, poolIdLabel).orElse(null);
@@ -144,26 +192,26 @@ public class VMMonitor implements Monitor {
         }
     }
 
-    private boolean matchingRunExists(final VirtualMachine vm) {
+    private boolean matchingRunExists(final VirtualMachine vm, final ClusterSnapshot snapshot) {
         log.debug("Checking whether a run exists matching instance.");
         final String runIdValue = MapUtils.emptyIfNull(vm.getTags()).get(runIdLabel);
         if (StringUtils.isNotBlank(runIdValue) && NumberUtils.isDigits(runIdValue)) {
             final long runId = Long.parseLong(runIdValue);
             log.debug("VM {} {} is associated with run id {}. Checking run status.",
                     vm.getInstanceId(), vm.getCloudProvider(), runId);
-            return isRunActive(vm, runId);
+            return isRunActive(vm, runId, snapshot);
         }
         return false;
     }
 
-    private boolean poolIdExists(final VirtualMachine vm, final NodeInstance node) {
+    private boolean poolIdExists(final VirtualMachine vm, final NodeInstance node, final ClusterSnapshot snapshot) {
         log.debug("Checking whether a node pool with corresponding pool id exists.");
         final String poolIdValue = MapUtils.emptyIfNull(node.getLabels()).get(poolIdLabel);
         if (StringUtils.isNotBlank(poolIdValue) && NumberUtils.isDigits(poolIdValue)) {
             final long poolId = Long.parseLong(poolIdValue);
             log.debug("NodeInstance {} {} is associated with pool id {}. Checking node pool existence.",
                     node.getUid(), node.getClusterName(), poolId);
-            return isNodePoolExists(poolId);
+            return snapshot.isNodePoolExists(poolId);
         }
         return checkVMPoolNode(vm);
     }
@@ -187,22 +235,17 @@ public class VMMonitor implements Monitor {
         return false;
     }
 
-    private boolean isNodePoolExists(final long poolId) {
-        final List<NodePool> nodePools = apiClient.loadNodePools();
-        return nodePools.stream().map(NodePool::getId).collect(Collectors.toList()).contains(poolId);
+    private boolean isRunActive(final VirtualMachine vm, final long runId, final ClusterSnapshot snapshot) {
+        if (snapshot.findActiveRun(runId).isPresent()) {
+            return true;
+        }
+        log.debug("Run {} is not active, but VM {} is still up.", runId, vm.getInstanceId());
+        return false;
     }
 
-    private boolean isRunActive(final VirtualMachine vm, final long runId) {
-        return loadPipelineRun(runId)
-            .map(PipelineRun::getStatus)
-            .map(status -> {
-                if (status.isFinal()) {
-                    log.debug("Run {} is in final status, but VM {} is still up.", runId, vm.getInstanceId());
-                    return false;
-                }
-                return true;
-            })
-            .orElse(false);
+    private Optional<PipelineRun> findRun(final long runId, final ClusterSnapshot snapshot) {
+        final Optional<PipelineRun> activeRun = snapshot.findActiveRun(runId);
+        return activeRun.isPresent() ? activeRun : loadPipelineRun(runId);
     }
 
     private Optional<PipelineRun> loadPipelineRun(final long runId) {
@@ -215,13 +258,14 @@ public class VMMonitor implements Monitor {
     }
 
     private void checkMatchingNodes(final List<NodeInstance> nodes,
-                                    final VirtualMachine vm) {
-        nodes.forEach(node -> checkLabels(node, vm));
+                                    final VirtualMachine vm,
+                                    final ClusterSnapshot snapshot) {
+        nodes.forEach(node -> checkLabels(node, vm, snapshot));
     }
 
-    private void checkLabels(final NodeInstance node, final VirtualMachine vm) {
+    private void checkLabels(final NodeInstance node, final VirtualMachine vm, final ClusterSnapshot snapshot) {
         log.debug("Checking status of node {} for VM {} {}", node.getName(), vm.getInstanceId(), vm.getCloudProvider());
-        if (matchingRunExists(vm) || poolIdExists(vm, node)) {
+        if (matchingRunExists(vm, snapshot) || poolIdExists(vm, node, snapshot)) {
             return;
         }
         log.debug("Checking whether node {} is labeled with required tags.", node.getName());
@@ -232,7 +276,7 @@ public class VMMonitor implements Monitor {
             final Optional<Long> runIdFromAttributes = findLongValueInMaps(nodeTags, vmTags, runIdLabel);
             final RunStatus matchingRunStatus = runIdFromAttributes
                 .map(runId -> new RunStatus(runId,
-                                            loadPipelineRun(runId).map(PipelineRun::getStatus).orElse(null),
+                                            findRun(runId, snapshot).map(PipelineRun::getStatus).orElse(null),
                                             null))
                 .orElse(null);
             final Long poolIdFromAttributes = findLongValueInMaps(nodeTags, vmTags, poolIdLabel).orElse(null);
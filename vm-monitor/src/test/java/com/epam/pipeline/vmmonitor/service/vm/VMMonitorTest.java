@@ -17,6 +17,7 @@
 package com.epam.pipeline.vmmonitor.service.vm;
 
 import com.epam.pipeline.entity.cluster.NodeInstance;
+import com.epam.pipeline.entity.cluster.NodeInstanceAddress;
 import com.epam.pipeline.entity.cluster.pool.NodePool;
 import com.epam.pipeline.entity.pipeline.PipelineRun;
 import com.epam.pipeline.entity.pipeline.TaskStatus;
@@ -27,12 +28,15 @@ import com.epam.pipeline.vmmonitor.service.pipeline.CloudPipelineAPIClient;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 public class VMMonitorTest {
@@ -44,6 +48,8 @@ public class VMMonitorTest {
     private static final String POOL_ID_VALUE = "123";
     private static final Long POOL_ID = 123L;
     private static final int VM_MAX_LIVE_MINUTES = 60;
+    private static final int REGIONS_PARALLELISM = 2;
+    private static final String PRIVATE_IP = "10.0.0.1";
     private final Map<String, String> vmTags = Collections.singletonMap(RUN_ID_LABEL, RUN_ID_VALUE);
     private final Map<String, String> nodeLabels = Collections.singletonMap(POOL_ID_LABEL, POOL_ID_VALUE);
     private final AwsRegion region = new AwsRegion(CloudProvider.AWS, TEST_STRING, TEST_STRING, TEST_STRING,
@@ -59,9 +65,9 @@ public class VMMonitorTest {
     @BeforeEach
     public void setUp() {
         doReturn(CloudProvider.AWS).when(mockService).provider();
-        vm = VirtualMachine.builder().tags(vmTags).build();
+        vm = VirtualMachine.builder().tags(vmTags).privateIp(PRIVATE_IP).build();
         monitor = new VMMonitor(mockApiClient, notifier, Collections.singletonList(mockService),
-                RUN_ID_LABEL, RUN_ID_LABEL, POOL_ID_LABEL, VM_MAX_LIVE_MINUTES);
+                RUN_ID_LABEL, RUN_ID_LABEL, POOL_ID_LABEL, VM_MAX_LIVE_MINUTES, REGIONS_PARALLELISM);
 
     }
 
@@ -70,14 +76,17 @@ public class VMMonitorTest {
         final NodeInstance nodeInstance = new NodeInstance();
         nodeInstance.setRunId(RUN_ID_VALUE);
         nodeInstance.setLabels(nodeLabels);
+        final NodeInstanceAddress address = new NodeInstanceAddress();
+        address.setAddress(PRIVATE_IP);
+        nodeInstance.setAddresses(Collections.singletonList(address));
         final PipelineRun pipelineRun = new PipelineRun();
         pipelineRun.setStatus(TaskStatus.RUNNING);
         final NodePool nodePool = new NodePool();
         nodePool.setId(POOL_ID);
         doReturn(Collections.singletonList(region)).when(mockApiClient).loadRegions();
         doReturn(Collections.singletonList(vm)).when(mockService).fetchRunningVms(region);
-        doReturn(Collections.singletonList(nodeInstance)).when(mockApiClient).findNodes(vm.getPrivateIp());
-        doReturn(pipelineRun).when(mockApiClient).loadRun(POOL_ID);
+        doReturn(Collections.singletonList(nodeInstance)).when(mockApiClient).loadNodes();
+        doReturn(Collections.singletonList(pipelineRun)).when(mockApiClient).loadActiveRuns();
         doReturn(Collections.singletonList(nodePool)).when(mockApiClient).loadNodePools();
         monitor.monitor();
 
@@ -92,4 +101,24 @@ public class VMMonitorTest {
 
         verify(notifier).queueMissingNodeNotification(vm, Collections.emptyList(), null);
     }
+
+    @Test
+    public void shouldMatchNodesOfAllRegionsWithSingleSnapshot() {
+        final NodeInstance nodeInstance = new NodeInstance();
+        nodeInstance.setName(TEST_STRING);
+        nodeInstance.setLabels(nodeLabels);
+        final NodePool nodePool = new NodePool();
+        nodePool.setId(POOL_ID);
+        final VirtualMachine otherVm = VirtualMachine.builder().instanceId(TEST_STRING).tags(vmTags).build();
+        doReturn(Arrays.asList(region, region)).when(mockApiClient).loadRegions();
+        doReturn(Collections.singletonList(otherVm)).when(mockService).fetchRunningVms(region);
+        doReturn(Collections.singletonList(nodeInstance)).when(mockApiClient).loadNodes();
+        doReturn(Collections.singletonList(nodePool)).when(mockApiClient).loadNodePools();
+        monitor.monitor();
+
+        verify(mockApiClient, times(1)).loadNodes();
+        verify(mockApiClient, times(1)).loadActiveRuns();
+        verify(mockApiClient, never()).findNodes(any());
+        verify(notifier, never()).queueMissingNodeNotification(any(), any(), any());
+    }
 }